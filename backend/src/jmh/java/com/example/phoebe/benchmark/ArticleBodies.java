@@ -0,0 +1,75 @@
+package com.example.phoebe.benchmark;
+
+import java.util.Random;
+
+/**
+ * Deterministic generator of article-like HTML used by the benchmarks.
+ * Mixes Latin and Cyrillic prose with inline formatting. Rich bodies also contain headings,
+ * lists, links and occasional YouTube links; plain bodies stay within the header/footer allowlist.
+ */
+final class ArticleBodies {
+
+    private static final String[] WORDS = {
+        "parliament", "budget", "council", "river", "harbour", "election", "report", "market",
+        "парламент", "бюджет", "совет", "река", "выборы", "отчёт", "рынок", "город",
+        "the", "and", "of", "in", "to", "with", "on", "for"
+    };
+    private static final String VIDEO_ID_CHARS =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789_-";
+
+    private ArticleBodies() {
+    }
+
+    static String generate(int targetChars, boolean rich, Random random) {
+        StringBuilder sb = new StringBuilder(targetChars + 512);
+        while (sb.length() < targetChars) {
+            int kind = rich ? random.nextInt(20) : 3;
+            if (kind == 0) {
+                sb.append("<h2>").append(sentence(random, 6)).append("</h2>");
+            } else if (kind == 1) {
+                sb.append("<ul>");
+                for (int i = 0; i < 3; i++) {
+                    sb.append("<li>").append(sentence(random, 8)).append("</li>");
+                }
+                sb.append("</ul>");
+            } else if (kind == 2) {
+                sb.append("<p>Video: https://www.youtube.com/watch?v=").append(videoId(random)).append("</p>");
+            } else {
+                sb.append("<p>");
+                for (int s = 0; s < 4; s++) {
+                    int decoration = random.nextInt(10);
+                    if (decoration == 0) {
+                        sb.append("<b>").append(sentence(random, 4)).append("</b> ");
+                    } else if (decoration == 1 && rich) {
+                        sb.append("<a href=\"https://example.com/node/").append(random.nextInt(100_000))
+                                .append("\">").append(sentence(random, 3)).append("</a> ");
+                    } else if (decoration == 2) {
+                        sb.append("<em>").append(sentence(random, 5)).append("</em> ");
+                    }
+                    sb.append(sentence(random, 18)).append(". ");
+                }
+                sb.append("</p><br>");
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+
+    private static String videoId(Random random) {
+        char[] id = new char[11];
+        for (int i = 0; i < id.length; i++) {
+            id[i] = VIDEO_ID_CHARS.charAt(random.nextInt(VIDEO_ID_CHARS.length()));
+        }
+        return new String(id);
+    }
+}
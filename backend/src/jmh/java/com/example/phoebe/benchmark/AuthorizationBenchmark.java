@@ -0,0 +1,86 @@
+package com.example.phoebe.benchmark;
+
+import com.example.phoebe.entity.User;
+import com.example.phoebe.mapper.NewsMapper;
+import com.example.phoebe.repository.NewsRepository;
+import com.example.phoebe.repository.TermRepository;
+import com.example.phoebe.repository.UserRepository;
+import com.example.phoebe.service.impl.NewsServiceImpl;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Authorization helpers of {@link NewsServiceImpl} as called on every admin request.
+ * Repositories are in-memory stubs, so the numbers show the helpers' own cost
+ * (authority scans, user lookups, allocation) without database time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthorizationBenchmark {
+
+    private NewsServiceImpl newsService;
+    private Authentication admin;
+    private Authentication editor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        User editorUser = new User("editor", "secret", "editor@example.com", true);
+        editorUser.setId(2L);
+
+        UserRepository userRepository = Services.stub(UserRepository.class, (method, args) -> switch (method) {
+            case "findByUsername" -> Optional.of(editorUser);
+            case "findIdByUsername" -> Optional.of(editorUser.getId());
+            default -> null;
+        });
+        NewsRepository newsRepository = Services.stub(NewsRepository.class, (method, args) ->
+                "existsByIdAndAuthorId".equals(method) ? Boolean.TRUE : null);
+        TermRepository termRepository = Services.stub(TermRepository.class, (method, args) -> null);
+
+        newsService = Services.create(NewsServiceImpl.class, newsRepository, userRepository, termRepository,
+                Mappers.getMapper(NewsMapper.class));
+        admin = new UsernamePasswordAuthenticationToken("admin", null,
+                AuthorityUtils.createAuthorityList("ROLE_ADMIN", "ROLE_EDITOR"));
+        editor = new UsernamePasswordAuthenticationToken("editor", null,
+                AuthorityUtils.createAuthorityList("ROLE_EDITOR"));
+    }
+
+    @Benchmark
+    public boolean hasAdminRoleForAdmin() {
+        return newsService.hasAdminRole(admin);
+    }
+
+    @Benchmark
+    public boolean hasAdminRoleForEditor() {
+        return newsService.hasAdminRole(editor);
+    }
+
+    @Benchmark
+    public boolean canAccessNewsAsAdmin() {
+        return newsService.canAccessNews(42L, admin);
+    }
+
+    @Benchmark
+    public boolean canAccessNewsAsAuthor() {
+        return newsService.canAccessNews(42L, editor);
+    }
+}
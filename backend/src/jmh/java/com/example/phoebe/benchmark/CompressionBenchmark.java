@@ -0,0 +1,112 @@
+package com.example.phoebe.benchmark;
+
+import com.example.phoebe.compression.CompressedVariantCache;
+import com.example.phoebe.compression.ContentEncoding;
+import com.example.phoebe.compression.ResponseCompressor;
+import com.example.phoebe.config.CompressionProperties;
+import com.example.phoebe.dto.response.NewsDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares per-request (on-the-fly) compression with precompressed variants served from
+ * {@link CompressedVariantCache}, for JSON article responses of 50-500 KB.
+ *
+ * CPU: the average time per response. Bandwidth: the {@code bytesIn}/{@code bytesOut} secondary
+ * results (uncompressed vs sent bytes per iteration), whose ratio is the compression ratio.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompressionBenchmark {
+
+    private static final String JSON = "application/json";
+
+    @Param({"50", "500"})
+    private int sizeKb;
+
+    @Param({"GZIP", "BROTLI"})
+    private ContentEncoding encoding;
+
+    private NewsDto article;
+    private byte[] responseBody;
+    private ResponseCompressor compressor;
+    private CompressedVariantCache variantCache;
+
+    /**
+     * Bytes before and after compression, reported as JMH secondary results.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Bandwidth {
+        public long bytesIn;
+        public long bytesOut;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytesIn = 0;
+            bytesOut = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        CompressionProperties properties = CompressionProperties.defaults();
+        compressor = new ResponseCompressor(properties);
+        if (encoding == ContentEncoding.BROTLI && !compressor.isBrotliAvailable()) {
+            throw new IllegalStateException("Brotli native library is not available on this platform");
+        }
+        variantCache = new CompressedVariantCache(compressor, properties);
+
+        String body = ArticleBodies.generate(sizeKb * 1024, true, new Random(7));
+        article = new NewsDto(1L, "Benchmark article", body, "Teaser", LocalDateTime.of(2024, 1, 1, 12, 0),
+                true, 1L, "editor", Set.of("Politics", "Economy"));
+        responseBody = new ObjectMapper().registerModule(new JavaTimeModule()).writeValueAsBytes(article);
+        // Prime the variant cache as a hot article would be.
+        variantCache.getOrCompress(article, JSON, responseBody, encoding);
+    }
+
+    @Benchmark
+    public byte[] onTheFly(Bandwidth bandwidth) {
+        byte[] compressed = compressor.compress(responseBody, encoding);
+        bandwidth.bytesIn += responseBody.length;
+        bandwidth.bytesOut += compressed.length;
+        return compressed;
+    }
+
+    @Benchmark
+    public byte[] precompressedVariant(Bandwidth bandwidth) {
+        byte[] compressed = variantCache.getOrCompress(article, JSON, responseBody, encoding);
+        bandwidth.bytesIn += responseBody.length;
+        bandwidth.bytesOut += compressed.length;
+        return compressed;
+    }
+
+    @Benchmark
+    public byte[] uncompressed(Bandwidth bandwidth) {
+        bandwidth.bytesIn += responseBody.length;
+        bandwidth.bytesOut += responseBody.length;
+        return responseBody;
+    }
+}
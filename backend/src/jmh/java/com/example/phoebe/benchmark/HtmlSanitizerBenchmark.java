@@ -0,0 +1,117 @@
+package com.example.phoebe.benchmark;
+
+import com.example.phoebe.validation.HtmlSanitizer;
+import com.example.phoebe.validation.SafeHtmlValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the single-pass {@link HtmlSanitizer} with the former two-pass regex validator
+ * on realistic article bodies of 50-500 KB.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HtmlSanitizerBenchmark {
+
+    private static final Set<String> HEADER_TAGS = Set.of("b", "i", "u", "strong", "em", "p", "br");
+
+    private static final Pattern HTML_TAG_PATTERN = Pattern.compile("</?([a-zA-Z][a-zA-Z0-9]*)[^>]*>");
+    private static final Pattern YOUTUBE_URL_PATTERN = Pattern.compile(
+            "https?://(?:www\\.)?(?:youtube\\.com/watch\\?v=|youtu\\.be/)([a-zA-Z0-9_-]{11})");
+
+    @Param({"50", "200", "500"})
+    private int sizeKb;
+
+    /** Header/footer-safe markup, so validation scans the whole body instead of failing early. */
+    private String plainBody;
+    /** Article markup with lists, links and YouTube links. */
+    private String body;
+    private SafeHtmlValidator validator;
+    private HtmlSanitizer articleSanitizer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        plainBody = ArticleBodies.generate(sizeKb * 1024, false, new Random(42));
+        body = ArticleBodies.generate(sizeKb * 1024, true, new Random(42));
+        validator = new SafeHtmlValidator();
+        articleSanitizer = HtmlSanitizer.builder()
+                .allowTags(HEADER_TAGS)
+                .allowTags("a", "ul", "ol", "li", "h2", "h3", "blockquote", "div", "iframe")
+                .allowAttributes("a", "href", "title")
+                .convertYouTubeLinks()
+                .build();
+    }
+
+    @Benchmark
+    public boolean validateSinglePass() {
+        return validator.isValid(plainBody, null);
+    }
+
+    @Benchmark
+    public boolean validateLegacyRegex() {
+        return legacyIsValid(plainBody);
+    }
+
+    @Benchmark
+    public HtmlSanitizer.Result sanitizeArticle() {
+        return articleSanitizer.sanitize(body);
+    }
+
+    @Benchmark
+    public String convertLinksSinglePass() {
+        return SafeHtmlValidator.convertYouTubeLinks(body);
+    }
+
+    @Benchmark
+    public String convertLinksLegacyRegex() {
+        return legacyConvertYouTubeLinks(body);
+    }
+
+    // Former implementation, kept here as the baseline.
+
+    private static boolean legacyIsValid(String value) {
+        Matcher matcher = HTML_TAG_PATTERN.matcher(legacyConvertYouTubeLinks(value));
+        while (matcher.find()) {
+            if (!HEADER_TAGS.contains(matcher.group(1).toLowerCase())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String legacyConvertYouTubeLinks(String content) {
+        Matcher matcher = YOUTUBE_URL_PATTERN.matcher(content);
+        StringBuffer result = new StringBuffer();
+        while (matcher.find()) {
+            String embedCode = String.format(
+                    "<div style=\"position: relative; padding-bottom: 56.25%%; height: 0; overflow: hidden;\">"
+                            + "<iframe src=\"https://www.youtube.com/embed/%s\" "
+                            + "style=\"position: absolute; top: 0; left: 0; width: 100%%; height: 100%%;\" "
+                            + "frameborder=\"0\" allowfullscreen></iframe></div>",
+                    matcher.group(1));
+            matcher.appendReplacement(result, embedCode);
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.phoebe.benchmark;
+
+import com.example.phoebe.entity.News;
+import com.example.phoebe.entity.Term;
+import com.example.phoebe.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Deterministic News entities shaped like a real listing page: rendered bodies of a few KB,
+ * 2-5 terms per article and a shared pool of authors.
+ */
+final class NewsFixtures {
+
+    private static final String[] VOCABULARIES = {"category", "tag"};
+
+    private NewsFixtures() {
+    }
+
+    static List<News> page(int size, int bodyChars, Random random) {
+        List<User> authors = new ArrayList<>();
+        for (long i = 1; i <= 5; i++) {
+            User author = new User("author" + i, "secret", "author" + i + "@example.com", true);
+            author.setId(i);
+            authors.add(author);
+        }
+        List<Term> terms = new ArrayList<>();
+        for (long i = 1; i <= 30; i++) {
+            terms.add(new Term(i, "Term " + i, VOCABULARIES[(int) (i % 2)]));
+        }
+
+        List<News> page = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            News news = new News();
+            news.setId((long) i + 1);
+            news.setTitle("Article " + (i + 1));
+            String body = ArticleBodies.generate(bodyChars, false, random);
+            news.setBody(body);
+            news.setRenderedBody(body);
+            news.setTeaser("Teaser for article " + (i + 1));
+            news.setRenderedTeaser(news.getTeaser());
+            news.setRenderVersion(1);
+            news.setPublished(true);
+            news.setPublicationDate(LocalDateTime.of(2024, 1, 1, 0, 0).plusHours(i));
+            news.setAuthor(authors.get(random.nextInt(authors.size())));
+            Set<Term> articleTerms = new HashSet<>();
+            int termCount = 2 + random.nextInt(4);
+            while (articleTerms.size() < termCount) {
+                articleTerms.add(terms.get(random.nextInt(terms.size())));
+            }
+            news.setTerms(articleTerms);
+            page.add(news);
+        }
+        return page;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.phoebe.benchmark;
+
+import com.example.phoebe.dto.response.NewsDto;
+import com.example.phoebe.entity.News;
+import com.example.phoebe.mapper.NewsMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping of realistic article listing pages with {@link NewsMapper}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NewsMapperBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private NewsMapper newsMapper;
+    private List<News> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        newsMapper = Mappers.getMapper(NewsMapper.class);
+        page = NewsFixtures.page(pageSize, 4 * 1024, new Random(11));
+    }
+
+    @Benchmark
+    public List<NewsDto> mapAdminPage() {
+        List<NewsDto> result = new ArrayList<>(page.size());
+        for (News news : page) {
+            result.add(newsMapper.toDto(news));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<NewsDto> mapPublicPage() {
+        List<NewsDto> result = new ArrayList<>(page.size());
+        for (News news : page) {
+            result.add(newsMapper.toPublicDto(news));
+        }
+        return result;
+    }
+}
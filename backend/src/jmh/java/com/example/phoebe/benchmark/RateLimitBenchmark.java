@@ -0,0 +1,60 @@
+package com.example.phoebe.benchmark;
+
+import com.example.phoebe.config.RateLimitConfig;
+import io.github.bucket4j.ConsumptionProbe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bucket lookup and token consumption in {@link RateLimitConfig} under contention (8 threads):
+ * all threads on one client IP (hot bucket, e.g. a proxy without X-Forwarded-For) versus
+ * requests spread over many IPs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class RateLimitBenchmark {
+
+    private static final int CLIENTS = 10_000;
+
+    private RateLimitConfig rateLimitConfig;
+    private String[] clientIps;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        rateLimitConfig = new RateLimitConfig();
+        clientIps = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            clientIps[i] = "10." + (i >> 16 & 0xFF) + "." + (i >> 8 & 0xFF) + "." + (i & 0xFF);
+            rateLimitConfig.getPublicBucket(clientIps[i]);
+        }
+    }
+
+    @Benchmark
+    public ConsumptionProbe sameClient() {
+        return rateLimitConfig.getPublicBucket(clientIps[0]).tryConsumeAndReturnRemaining(1);
+    }
+
+    @Benchmark
+    public ConsumptionProbe manyClients() {
+        String ip = clientIps[ThreadLocalRandom.current().nextInt(CLIENTS)];
+        return rateLimitConfig.getPublicBucket(ip).tryConsumeAndReturnRemaining(1);
+    }
+}
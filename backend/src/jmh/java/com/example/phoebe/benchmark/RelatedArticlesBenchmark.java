@@ -0,0 +1,75 @@
+package com.example.phoebe.benchmark;
+
+import com.example.phoebe.related.ArticlePostings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Computing the related articles of one article with {@link ArticlePostings}, over articles tagged with one of
+ * a few large categories and several tags of skewed popularity, and re-indexing one article after a change.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RelatedArticlesBenchmark {
+
+    private static final int CATEGORIES = 20;
+    private static final int TAGS = 5000;
+    private static final LocalDateTime START = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    @Param({"10000", "100000"})
+    private int articles;
+
+    private ArticlePostings postings;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = new Random(42);
+        postings = new ArticlePostings(Duration.ofDays(30));
+        for (int id = 1; id <= articles; id++) {
+            postings.put(id, terms(random), START.plusMinutes(id * 30L));
+        }
+    }
+
+    @Benchmark
+    public List<ArticlePostings.Match> related() {
+        return postings.related(1 + random.nextInt(articles), 10);
+    }
+
+    @Benchmark
+    public void reindex() {
+        int id = 1 + random.nextInt(articles);
+        postings.put(id, terms(random), START.plusMinutes(id * 30L));
+    }
+
+    /**
+     * One category and two to five tags; tag popularity falls off quadratically.
+     */
+    private static List<Long> terms(Random random) {
+        long category = random.nextInt(CATEGORIES);
+        LongStream tags = random.doubles(2 + random.nextInt(4))
+                .mapToLong(value -> CATEGORIES + (long) (TAGS * value * value));
+        return LongStream.concat(LongStream.of(category), tags).boxed().toList();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.phoebe.benchmark;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+
+/**
+ * Services wired for a benchmark without Spring: collaborators are matched to the constructor by type,
+ * so a collaborator added to a service later does not require changing the benchmarks that do not use it.
+ */
+final class Services {
+
+    private Services() {
+    }
+
+    /**
+     * Answers a call on a stub by method name.
+     */
+    @FunctionalInterface
+    interface Answer {
+        Object answer(String method, Object[] args);
+    }
+
+    /**
+     * Calls the public constructor of the service with the given collaborators, and null for the parameters
+     * none of them fits.
+     */
+    static <T> T create(Class<T> type, Object... collaborators) {
+        Constructor<?>[] constructors = type.getConstructors();
+        if (constructors.length != 1) {
+            throw new IllegalArgumentException(type.getName() + " must have exactly one public constructor");
+        }
+        Constructor<?> constructor = constructors[0];
+        Object[] args = Arrays.stream(constructor.getParameterTypes())
+                .map(parameter -> Arrays.stream(collaborators).filter(parameter::isInstance).findFirst().orElse(null))
+                .toArray();
+        try {
+            return type.cast(constructor.newInstance(args));
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Could not create " + type.getName(), e);
+        }
+    }
+
+    /**
+     * An in-memory implementation of an interface, typically a repository.
+     */
+    static <T> T stub(Class<T> type, Answer answer) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> answer.answer(method.getName(), args)));
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.phoebe.benchmark;
+
+import com.example.phoebe.dto.response.TermSuggestionDto;
+import com.example.phoebe.taxonomy.TermSuggestionTrie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Autocomplete lookups in {@link TermSuggestionTrie} over a vocabulary of generated tags, for a one-letter
+ * prefix (many matches) and a longer one, and the cost of rebuilding the trie after a term write.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TermSuggestionBenchmark {
+
+    private static final String[] SYLLABLES = {
+        "ka", "lo", "mi", "ne", "ra", "to", "vi", "sa", "dé", "pè", "ру", "ба", "ко", "ли"
+    };
+
+    @Param({"1000", "50000"})
+    private int terms;
+
+    private List<TermSuggestionDto> tags;
+    private TermSuggestionTrie trie;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        tags = IntStream.range(0, terms)
+                .mapToObj(i -> new TermSuggestionDto((long) i, name(random), "tag", random.nextInt(1000)))
+                .toList();
+        trie = TermSuggestionTrie.of(tags, 20);
+    }
+
+    @Benchmark
+    public List<TermSuggestionDto> shortPrefix() {
+        return trie.suggest("K", 10);
+    }
+
+    @Benchmark
+    public List<TermSuggestionDto> longPrefix() {
+        return trie.suggest("kalo mi", 10);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public TermSuggestionTrie rebuild() {
+        return TermSuggestionTrie.of(tags, 20);
+    }
+
+    private static String name(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int words = 1 + random.nextInt(3);
+        for (int w = 0; w < words; w++) {
+            if (w > 0) {
+                sb.append(' ');
+            }
+            int syllables = 2 + random.nextInt(3);
+            for (int s = 0; s < syllables; s++) {
+                sb.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.phoebe.benchmark;
+
+import com.example.phoebe.tracing.RequestTrace;
+import com.example.phoebe.tracing.Tracing;
+import com.example.phoebe.tracing.TracingAspect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.interceptor.ExposeInvocationInterceptor;
+import org.springframework.data.repository.Repository;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the tracing aspect on a repository call: an AOP proxy without the aspect (every repository
+ * is proxied anyway), with the aspect and the request not sampled, and with a sampled request.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TracingBenchmark {
+
+    /**
+     * Stand-in for a Spring Data repository.
+     */
+    public interface TitleRepository extends Repository<Object, Long> {
+        String findTitle(long id);
+    }
+
+    private TitleRepository plain;
+    private TitleRepository traced;
+    private long id;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        TitleRepository target = articleId -> articleId % 2 == 0 ? "even" : "odd";
+        ProxyFactory plainFactory = new ProxyFactory(target);
+        plainFactory.addInterface(TitleRepository.class);
+        plainFactory.addAdvice(ExposeInvocationInterceptor.INSTANCE);
+        plain = (TitleRepository) plainFactory.getProxy();
+
+        AspectJProxyFactory tracedFactory = new AspectJProxyFactory(target);
+        tracedFactory.addInterface(TitleRepository.class);
+        tracedFactory.addAspect(new TracingAspect());
+        traced = tracedFactory.getProxy();
+    }
+
+    @Benchmark
+    public String proxyOnly() {
+        return plain.findTitle(id++);
+    }
+
+    @Benchmark
+    public String notSampled() {
+        return traced.findTitle(id++);
+    }
+
+    @Benchmark
+    public String sampled(SampledRequest request) {
+        return traced.findTitle(id++);
+    }
+
+    /**
+     * Keeps a trace bound to the benchmark thread; restarted per iteration so its span list stays small.
+     */
+    @State(Scope.Thread)
+    public static class SampledRequest {
+
+        @Setup(Level.Iteration)
+        public void begin() {
+            Tracing.begin(new RequestTrace("GET", "/api/public/news/1"));
+        }
+
+        @TearDown(Level.Iteration)
+        public void end() {
+            Tracing.end();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.phoebe.cdn;
+
+import com.example.phoebe.config.CdnProperties;
+import com.example.phoebe.util.AfterCommit;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends CDN purges by surrogate key.
+ * Keys are queued after the writing transaction commits (a purge before the commit would let the CDN refetch
+ * the old version) and sent once per flush interval, so a key changed many times within an interval is purged
+ * once, in requests of up to {@code batch-size} keys. A batch leaves the queue when it is taken, so a key
+ * queued again while the request is in flight is purged again afterwards. Failed batches are queued again
+ * and retried with exponential backoff; a key is dropped after {@code max-attempts}, and the CDN TTL then
+ * bounds staleness.
+ */
+@Component
+public class CdnPurgeDispatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CdnPurgeDispatcher.class);
+
+    private final CdnProperties properties;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+
+    /** Pending keys with the number of failed attempts so far, in arrival order. Guarded by this. */
+    private final Map<String, Integer> pending = new LinkedHashMap<>();
+    private int consecutiveFailures;
+    private Instant retryAt = Instant.MIN;
+
+    public CdnPurgeDispatcher(CdnProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(properties.requestTimeout()).build();
+    }
+
+    /**
+     * Queues keys for purging, after the current transaction commits if there is one.
+     * Does nothing when no purge endpoint is configured.
+     */
+    public void purge(Collection<String> keys) {
+        if (!properties.purgeEnabled() || keys.isEmpty()) {
+            return;
+        }
+        List<String> copy = List.copyOf(keys);
+        AfterCommit.run(() -> enqueue(copy));
+    }
+
+    /**
+     * Number of keys waiting to be sent.
+     */
+    public synchronized int pendingCount() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.cdn.flush-interval:PT1S}")
+    public void flush() {
+        if (!properties.purgeEnabled()) {
+            return;
+        }
+        Map<String, Integer> batch;
+        while (!(batch = nextBatch()).isEmpty()) {
+            if (!send(List.copyOf(batch.keySet()))) {
+                failed(batch);
+                return;
+            }
+            succeeded();
+        }
+    }
+
+    private synchronized void enqueue(Collection<String> keys) {
+        keys.forEach(key -> pending.putIfAbsent(key, 0));
+    }
+
+    /**
+     * Takes the oldest keys off the queue, with their failed attempts.
+     */
+    private synchronized Map<String, Integer> nextBatch() {
+        if (Instant.now().isBefore(retryAt)) {
+            return Map.of();
+        }
+        Map<String, Integer> batch = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, Integer>> entries = pending.entrySet().iterator();
+        while (entries.hasNext() && batch.size() < properties.batchSize()) {
+            Map.Entry<String, Integer> entry = entries.next();
+            batch.put(entry.getKey(), entry.getValue());
+            entries.remove();
+        }
+        return batch;
+    }
+
+    private synchronized void succeeded() {
+        consecutiveFailures = 0;
+    }
+
+    /**
+     * Queues the keys of a failed batch again. A key queued anew during the request is already pending and
+     * keeps that entry.
+     */
+    private synchronized void failed(Map<String, Integer> batch) {
+        batch.forEach((key, previousAttempts) -> {
+            int attempts = previousAttempts + 1;
+            if (attempts >= properties.maxAttempts()) {
+                LOGGER.warn("Dropping CDN purge of '{}' after {} attempts", key, attempts);
+            } else {
+                pending.putIfAbsent(key, attempts);
+            }
+        });
+        consecutiveFailures++;
+        long factor = 1L << Math.min(consecutiveFailures - 1, 20);
+        Duration backoff = properties.retryBackoff().multipliedBy(factor);
+        retryAt = Instant.now().plus(backoff.compareTo(properties.maxBackoff()) > 0 ? properties.maxBackoff() : backoff);
+    }
+
+    private boolean send(List<String> keys) {
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(properties.purgeUrl()))
+                    .timeout(properties.requestTimeout())
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            objectMapper.writeValueAsString(Map.of("surrogate_keys", keys))));
+            if (!properties.authHeader().isBlank()) {
+                request.header(properties.authHeader(), properties.authToken());
+            }
+            HttpResponse<Void> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() / 100 == 2) {
+                return true;
+            }
+            LOGGER.warn("CDN purge of {} keys failed with status {}", keys.size(), response.statusCode());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize purge request", e);
+        } catch (IOException e) {
+            LOGGER.warn("CDN purge of {} keys failed: {}", keys.size(), e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+}
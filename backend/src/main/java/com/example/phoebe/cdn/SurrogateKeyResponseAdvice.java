@@ -0,0 +1,73 @@
+package com.example.phoebe.cdn;
+
+import com.example.phoebe.config.CdnProperties;
+import com.example.phoebe.dto.response.NewsDto;
+import com.example.phoebe.dto.response.RelatedArticleDto;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tags public news responses with their surrogate keys, in the Surrogate-Key (space-separated, e.g. Fastly)
+ * and Cache-Tag (comma-separated, e.g. Cloudflare) headers. A listing is tagged with "front-page" and with
+ * the keys of every article on the page, so purging an article also purges the listings that show it.
+ */
+@ControllerAdvice
+public class SurrogateKeyResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String SURROGATE_KEY = "Surrogate-Key";
+    public static final String CACHE_TAG = "Cache-Tag";
+
+    private final CdnProperties properties;
+
+    public SurrogateKeyResponseAdvice(CdnProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return properties.surrogateKeys();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!request.getURI().getPath().startsWith("/api/public/")) {
+            return body;
+        }
+        Set<String> keys = keysOf(body);
+        if (!keys.isEmpty()) {
+            response.getHeaders().set(SURROGATE_KEY, String.join(" ", keys));
+            response.getHeaders().set(CACHE_TAG, String.join(",", keys));
+        }
+        return body;
+    }
+
+    private static Set<String> keysOf(Object body) {
+        if (body instanceof NewsDto news) {
+            return SurrogateKeys.of(news);
+        }
+        Set<String> keys = new LinkedHashSet<>();
+        if (body instanceof Page<?> page && page.getContent().stream().allMatch(NewsDto.class::isInstance)) {
+            keys.add(SurrogateKeys.FRONT_PAGE);
+            page.getContent().forEach(item -> keys.addAll(SurrogateKeys.of((NewsDto) item)));
+        }
+        if (body instanceof List<?> list && !list.isEmpty()
+                && list.stream().allMatch(RelatedArticleDto.class::isInstance)) {
+            // Any publication can change a related list; the front-page key is purged on every one.
+            keys.add(SurrogateKeys.FRONT_PAGE);
+            list.forEach(item -> keys.add(SurrogateKeys.article(((RelatedArticleDto) item).id())));
+        }
+        return keys;
+    }
+}
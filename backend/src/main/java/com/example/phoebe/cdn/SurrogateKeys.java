@@ -0,0 +1,46 @@
+package com.example.phoebe.cdn;
+
+import com.example.phoebe.dto.response.NewsDto;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Surrogate keys (cache tags) of public responses. A CDN purge by key removes every cached response
+ * tagged with it, whatever its URL.
+ */
+public final class SurrogateKeys {
+
+    /** Tag of the published-news listing, which changes whenever an article is published or removed. */
+    public static final String FRONT_PAGE = "front-page";
+
+    private SurrogateKeys() {
+    }
+
+    public static String article(Long id) {
+        return "article-" + id;
+    }
+
+    public static String term(Long id) {
+        return "term-" + id;
+    }
+
+    public static String author(Long id) {
+        return "author-" + id;
+    }
+
+    /**
+     * Keys of an article response: the article, its author and its terms.
+     */
+    public static Set<String> of(NewsDto news) {
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(article(news.getId()));
+        if (news.getAuthorId() != null) {
+            keys.add(author(news.getAuthorId()));
+        }
+        if (news.getTermIds() != null) {
+            news.getTermIds().forEach(termId -> keys.add(term(termId)));
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.phoebe.compression;
+
+import com.example.phoebe.config.CompressionProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.ServletRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Precompressed response variants of cached resources.
+ *
+ * A controller that answers from a cache entry (e.g. the NewsDto held in news-by-id) marks the request with
+ * {@link #markCacheable}; its response is compressed once per encoding and the variant is kept next to that
+ * entry: keyed by the entry's identity and held weakly, so it lives exactly as long as the entry, and a
+ * refreshed or evicted article takes its variants with it. Unmarked responses (listings, paged queries) are
+ * compressed per request and never stored, so they cannot evict hot articles. The cache is bounded by total
+ * compressed bytes.
+ */
+@Component
+public class CompressedVariantCache {
+
+    /** Request attribute holding the cached object the response is rendered from. */
+    public static final String RESOURCE_ATTRIBUTE = CompressedVariantCache.class.getName() + ".resource";
+
+    private final ResponseCompressor compressor;
+    private final Map<ContentEncoding, Cache<Object, Variant>> variants = new EnumMap<>(ContentEncoding.class);
+
+    public CompressedVariantCache(ResponseCompressor compressor, CompressionProperties properties) {
+        this.compressor = compressor;
+        long maxBytesPerEncoding = properties.variantCacheMaxBytes() / ContentEncoding.values().length;
+        for (ContentEncoding encoding : ContentEncoding.values()) {
+            variants.put(encoding, Caffeine.newBuilder()
+                    .weakKeys()
+                    .maximumWeight(maxBytesPerEncoding)
+                    .weigher((Object resource, Variant variant) -> variant.bytes().length)
+                    .recordStats()
+                    .build());
+        }
+    }
+
+    /**
+     * Marks the response to the request as rendered from the given cached object, whose variants may be reused.
+     * The object must not change while it is cached.
+     */
+    public static void markCacheable(ServletRequest request, Object resource) {
+        request.setAttribute(RESOURCE_ATTRIBUTE, resource);
+    }
+
+    /**
+     * Returns the compressed variant of the body rendered from the resource, compressing and storing it on
+     * first use. A body of another content type (a different representation of the same resource) is
+     * compressed without being stored.
+     */
+    public byte[] getOrCompress(Object resource, String contentType, byte[] body, ContentEncoding encoding) {
+        Variant variant = variants.get(encoding)
+                .get(resource, r -> new Variant(contentType, compressor.compress(body, encoding)));
+        return variant.contentType().equals(contentType) ? variant.bytes() : compressor.compress(body, encoding);
+    }
+
+    public long size() {
+        return variants.values().stream().mapToLong(cache -> {
+            cache.cleanUp();
+            return cache.estimatedSize();
+        }).sum();
+    }
+
+    private record Variant(String contentType, byte[] bytes) {}
+}
@@ -0,0 +1,22 @@
+package com.example.phoebe.compression;
+
+/**
+ * Content encodings supported for responses, in order of preference.
+ */
+public enum ContentEncoding {
+    BROTLI("br"),
+    GZIP("gzip");
+
+    private final String token;
+
+    ContentEncoding(String token) {
+        this.token = token;
+    }
+
+    /**
+     * Token used in Accept-Encoding and Content-Encoding headers.
+     */
+    public String token() {
+        return token;
+    }
+}
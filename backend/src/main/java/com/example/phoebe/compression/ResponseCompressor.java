@@ -0,0 +1,128 @@
+package com.example.phoebe.compression;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import com.example.phoebe.config.CompressionProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresses response bodies with gzip (JDK) or brotli (native, via brotli4j).
+ * Brotli is used only when its native library loads on this platform; otherwise gzip is the only option.
+ */
+@Component
+public class ResponseCompressor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResponseCompressor.class);
+
+    private final int gzipLevel;
+    private final Encoder.Parameters brotliParameters;
+    private final boolean brotliAvailable;
+
+    public ResponseCompressor(CompressionProperties properties) {
+        this.gzipLevel = properties.gzipLevel();
+        this.brotliAvailable = loadBrotli();
+        this.brotliParameters = brotliAvailable
+                ? new Encoder.Parameters().setQuality(properties.brotliQuality())
+                : null;
+    }
+
+    public boolean isBrotliAvailable() {
+        return brotliAvailable;
+    }
+
+    /**
+     * Picks the preferred supported encoding accepted by the client, or null if none is acceptable.
+     * Honours q-values (q=0 excludes an encoding) and the "*" wildcard.
+     */
+    public ContentEncoding negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return null;
+        }
+        double brotliQ = -1;
+        double gzipQ = -1;
+        double wildcardQ = -1;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String coding = tokens[0].trim().toLowerCase(Locale.ROOT);
+            double q = parseQuality(tokens);
+            switch (coding) {
+                case "br" -> brotliQ = q;
+                case "gzip", "x-gzip" -> gzipQ = Math.max(gzipQ, q);
+                case "*" -> wildcardQ = q;
+                default -> {
+                    // Unsupported coding
+                }
+            }
+        }
+        if (brotliQ < 0) {
+            brotliQ = wildcardQ;
+        }
+        if (gzipQ < 0) {
+            gzipQ = wildcardQ;
+        }
+        if (brotliAvailable && brotliQ > 0 && brotliQ >= gzipQ) {
+            return ContentEncoding.BROTLI;
+        }
+        return gzipQ > 0 ? ContentEncoding.GZIP : null;
+    }
+
+    public byte[] compress(byte[] data, ContentEncoding encoding) {
+        try {
+            return switch (encoding) {
+                case BROTLI -> Encoder.compress(data, brotliParameters);
+                case GZIP -> gzip(data);
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress response body with " + encoding.token(), e);
+        }
+    }
+
+    private byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream gzip = new LevelGzipOutputStream(out, gzipLevel)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    private static double parseQuality(String[] tokens) {
+        for (int i = 1; i < tokens.length; i++) {
+            String param = tokens[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static boolean loadBrotli() {
+        try {
+            Brotli4jLoader.ensureAvailability();
+            return true;
+        } catch (Throwable e) {
+            // UnsatisfiedLinkError or missing native artifact: fall back to gzip only.
+            LOGGER.warn("Brotli native library unavailable, responses will use gzip only: {}", e.toString());
+            return false;
+        }
+    }
+
+    /** GZIPOutputStream with a configurable deflate level. */
+    private static final class LevelGzipOutputStream extends GZIPOutputStream {
+        LevelGzipOutputStream(ByteArrayOutputStream out, int level) throws IOException {
+            super(out, 8192);
+            def.setLevel(level);
+        }
+    }
+}
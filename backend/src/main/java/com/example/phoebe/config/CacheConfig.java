@@ -1,6 +1,11 @@
 package com.example.phoebe.config;
 
+import com.example.phoebe.profiling.FlightRecorderCaffeineCache;
+import com.example.phoebe.service.NewsService;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
@@ -15,6 +20,7 @@ import java.time.Duration;
  */
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties({NewsCacheProperties.class, CacheInvalidationProperties.class})
 public class CacheConfig {
 
     /**
@@ -24,22 +30,60 @@ public class CacheConfig {
      * - Terms: Long TTL (1 hour) - rarely change, frequently accessed
      * - Published News: Medium TTL (15 min) - balance freshness vs performance  
      * - Search Results: Short TTL (5 min) - dynamic content, frequent updates
+     * - News by ID: loading cache for hot articles (see {@link #newsByIdCache})
+     * - News not found: ids of missing or unpublished articles, so repeated requests for them skip the
+     *   database; short TTL (2 min) covers articles published by other instances or directly in the database
+     * - Term tree: one immutable snapshot of the term hierarchy, replaced whenever a term is added, moved or deleted
+     *
+     * Caches emit a JFR event per lookup (hit or miss) while a flight recording is running.
      * 
      * @return configured cache manager
      */
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    public CacheManager cacheManager(NewsCacheProperties newsCacheProperties, ObjectProvider<NewsService> newsService) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name,
+                                               com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new FlightRecorderCaffeineCache(name, cache, isAllowNullValues());
+            }
+        };
         
         // Default cache configuration for most use cases
         cacheManager.setCaffeine(Caffeine.newBuilder()
                 .maximumSize(1000)                    // Max 1000 entries per cache
                 .expireAfterWrite(Duration.ofMinutes(15))  // Default 15 min TTL
                 .recordStats());                      // Enable metrics for monitoring
+        cacheManager.registerCustomCache("news-by-id", newsByIdCache(newsCacheProperties, newsService));
+        cacheManager.registerCustomCache("news-not-found", Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofMinutes(2))
+                .recordStats()
+                .build());
         
         return cacheManager;
     }
 
+    /**
+     * Cache for published articles, which see sharp bursts of reads (breaking news):
+     * - single-flight loading: with {@code @Cacheable(sync = true)} concurrent misses for one id wait for a
+     *   single query instead of each running it;
+     * - refresh-ahead: a read of an entry older than {@code refresh-after} reloads it in the background while
+     *   the cached copy is still served; an article that is no longer published is dropped on refresh;
+     * - jittered lifetimes, so articles loaded at the same time do not all expire at once.
+     * {@code @CacheEvict} still removes entries immediately; a refresh running at that moment is discarded.
+     * The service is resolved lazily because its caching proxy itself depends on this cache manager.
+     */
+    private static com.github.benmanes.caffeine.cache.Cache<Object, Object> newsByIdCache(
+            NewsCacheProperties properties, ObjectProvider<NewsService> newsService) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfter(new JitteredExpiry(properties.timeToLive(), properties.jitter()))
+                .refreshAfterWrite(properties.refreshAfter())
+                .recordStats()
+                .build(id -> newsService.getObject().loadPublishedById((Long) id).orElse(null));
+    }
+
     /**
      * Specialized cache for taxonomy terms (categories/tags).
      * Longer TTL since terms change infrequently.
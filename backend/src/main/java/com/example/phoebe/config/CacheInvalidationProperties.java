@@ -0,0 +1,37 @@
+package com.example.phoebe.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the cross-replica cache invalidation log (table cache_invalidation_events).
+ *
+ * @param enabled            Whether this instance tails the log; events are written regardless.
+ * @param pollInterval       Delay between two reads of the log; bounds how long other replicas serve stale entries.
+ * @param batchSize          Maximum number of events read per query.
+ * @param gapTimeout         How long a missing event id is awaited. Ids are assigned at insert but become visible at
+ *                           commit, so a gap can be an event of a transaction still running; must exceed the
+ *                           longest write transaction. Rolled-back inserts leave gaps that never fill.
+ * @param retention          Age after which events are deleted; must be well above poll interval and gap timeout.
+ * @param compactionInterval Delay between two deletions of expired events.
+ */
+@ConfigurationProperties(prefix = "app.cache.invalidation")
+public record CacheInvalidationProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("PT1S") Duration pollInterval,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("PT30S") Duration gapTimeout,
+        @DefaultValue("PT1H") Duration retention,
+        @DefaultValue("PT10M") Duration compactionInterval
+) {
+
+    /**
+     * Default settings, for use outside a Spring context.
+     */
+    public static CacheInvalidationProperties defaults() {
+        return new CacheInvalidationProperties(true, Duration.ofSeconds(1), 500, Duration.ofSeconds(30),
+                Duration.ofHours(1), Duration.ofMinutes(10));
+    }
+}
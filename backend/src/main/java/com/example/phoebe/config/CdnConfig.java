@@ -0,0 +1,12 @@
+package com.example.phoebe.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for CDN surrogate keys and purging.
+ */
+@Configuration
+@EnableConfigurationProperties(CdnProperties.class)
+public class CdnConfig {
+}
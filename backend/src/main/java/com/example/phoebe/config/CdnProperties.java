@@ -0,0 +1,47 @@
+package com.example.phoebe.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * CDN integration: surrogate keys on public responses and purging by key after writes.
+ *
+ * @param surrogateKeys  Whether public responses carry Surrogate-Key and Cache-Tag headers.
+ * @param purgeUrl       Endpoint that accepts {"surrogate_keys": [...]} by POST; empty disables purging.
+ * @param authHeader     Name of the header carrying the purge API token (e.g., "Fastly-Key"); empty for none.
+ * @param authToken      Purge API token.
+ * @param batchSize      Maximum number of keys per purge request.
+ * @param flushInterval  Delay between two purge rounds; keys changed within one interval are sent once.
+ * @param requestTimeout Timeout of a purge request.
+ * @param maxAttempts    Attempts per key before it is dropped (the CDN TTL then bounds staleness).
+ * @param retryBackoff   Delay before the first retry; doubled after each further failure.
+ * @param maxBackoff     Upper limit of the retry delay.
+ */
+@ConfigurationProperties(prefix = "app.cdn")
+public record CdnProperties(
+        @DefaultValue("true") boolean surrogateKeys,
+        @DefaultValue("") String purgeUrl,
+        @DefaultValue("") String authHeader,
+        @DefaultValue("") String authToken,
+        @DefaultValue("256") int batchSize,
+        @DefaultValue("PT1S") Duration flushInterval,
+        @DefaultValue("PT5S") Duration requestTimeout,
+        @DefaultValue("5") int maxAttempts,
+        @DefaultValue("PT2S") Duration retryBackoff,
+        @DefaultValue("PT1M") Duration maxBackoff
+) {
+
+    /**
+     * Default settings, for use outside a Spring context.
+     */
+    public static CdnProperties defaults() {
+        return new CdnProperties(true, "", "", "", 256, Duration.ofSeconds(1), Duration.ofSeconds(5), 5,
+                Duration.ofSeconds(2), Duration.ofMinutes(1));
+    }
+
+    public boolean purgeEnabled() {
+        return !purgeUrl.isBlank();
+    }
+}
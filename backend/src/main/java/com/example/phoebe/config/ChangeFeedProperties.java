@@ -0,0 +1,36 @@
+package com.example.phoebe.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the public change feed (GET /api/public/changes).
+ *
+ * @param gapTimeout         How long a missing id holds back the events after it. Ids are assigned at insert but
+ *                           become visible at commit, so a newer event can be visible before an older one; the feed
+ *                           stops before a missing id until it appears or the event after it is this old (a
+ *                           rolled-back insert leaves a gap that never fills). Must exceed the longest write
+ *                           transaction.
+ * @param defaultLimit       Page size when the request does not set one.
+ * @param maxLimit           Largest page size a request may ask for.
+ * @param retention          Age after which events are deleted; consumers that fall further behind must resync.
+ * @param compactionInterval Delay between two deletions of expired events.
+ */
+@ConfigurationProperties(prefix = "app.changes")
+public record ChangeFeedProperties(
+        @DefaultValue("PT1M") Duration gapTimeout,
+        @DefaultValue("100") int defaultLimit,
+        @DefaultValue("500") int maxLimit,
+        @DefaultValue("P30D") Duration retention,
+        @DefaultValue("PT1H") Duration compactionInterval
+) {
+
+    /**
+     * Default settings, for use outside a Spring context.
+     */
+    public static ChangeFeedProperties defaults() {
+        return new ChangeFeedProperties(Duration.ofMinutes(1), 100, 500, Duration.ofDays(30), Duration.ofHours(1));
+    }
+}
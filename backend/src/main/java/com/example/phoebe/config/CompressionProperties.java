@@ -0,0 +1,33 @@
+package com.example.phoebe.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * Response compression configuration properties.
+ */
+@ConfigurationProperties(prefix = "app.compression")
+public record CompressionProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue({"/api/public/**", "/feeds/**"}) List<String> paths,
+        @DefaultValue({"application/json", "text/html", "text/plain", "application/xml",
+                "application/rss+xml", "application/atom+xml"}) List<String> mimeTypes,
+        @DefaultValue("2048") int minResponseSize,
+        @DefaultValue("6") int gzipLevel,
+        @DefaultValue("5") int brotliQuality,
+        @DefaultValue("true") boolean cacheVariants,
+        @DefaultValue("67108864") long variantCacheMaxBytes
+) {
+
+    /**
+     * Default settings, for use outside a Spring context.
+     */
+    public static CompressionProperties defaults() {
+        return new CompressionProperties(true, List.of("/api/public/**", "/feeds/**"),
+                List.of("application/json", "text/html", "text/plain", "application/xml",
+                        "application/rss+xml", "application/atom+xml"),
+                2048, 6, 5, true, 64L * 1024 * 1024);
+    }
+}
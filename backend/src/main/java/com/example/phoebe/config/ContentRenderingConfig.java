@@ -0,0 +1,14 @@
+package com.example.phoebe.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration for write-time content rendering and its background re-render job.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ContentRenderingProperties.class)
+public class ContentRenderingConfig {
+}
@@ -0,0 +1,26 @@
+package com.example.phoebe.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Content rendering configuration properties.
+ * Bump {@code version} whenever the rendering rules or these settings change;
+ * stored articles rendered with an older version are then re-rendered in the background.
+ */
+@ConfigurationProperties(prefix = "app.content.rendering")
+public record ContentRenderingProperties(
+        @DefaultValue("1") int version,
+        @DefaultValue("false") boolean generateExcerpt,
+        @DefaultValue("200") int excerptLength,
+        @DefaultValue("true") boolean rerenderEnabled,
+        @DefaultValue("100") int rerenderBatchSize
+) {
+
+    /**
+     * Default settings, for use outside a Spring context.
+     */
+    public static ContentRenderingProperties defaults() {
+        return new ContentRenderingProperties(1, false, 200, true, 100);
+    }
+}
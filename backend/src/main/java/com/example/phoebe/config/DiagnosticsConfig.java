@@ -0,0 +1,29 @@
+package com.example.phoebe.config;
+
+import com.example.phoebe.diagnostics.QueryCountingStatementInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Development diagnostics: per-request SQL statement counting and query budgets.
+ */
+@Configuration
+@EnableConfigurationProperties(QueryDiagnosticsProperties.class)
+public class DiagnosticsConfig {
+
+    /**
+     * Registers the counting inspector only when diagnostics are enabled, so production sessions
+     * run without it.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer queryCountingCustomizer(QueryDiagnosticsProperties properties) {
+        return hibernateProperties -> {
+            if (properties.enabled()) {
+                hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountingStatementInspector());
+            }
+        };
+    }
+}
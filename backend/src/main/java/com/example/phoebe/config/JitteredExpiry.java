@@ -0,0 +1,47 @@
+package com.example.phoebe.config;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Caffeine expiry that gives every written entry its own lifetime, drawn uniformly from
+ * {@code timeToLive * (1 +/- jitter)}. Reads do not extend the lifetime.
+ */
+public final class JitteredExpiry implements Expiry<Object, Object> {
+
+    private final long timeToLiveNanos;
+    private final long jitterNanos;
+
+    public JitteredExpiry(Duration timeToLive, double jitter) {
+        if (jitter < 0 || jitter >= 1) {
+            throw new IllegalArgumentException("Jitter must be in [0, 1): " + jitter);
+        }
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.jitterNanos = (long) (timeToLiveNanos * jitter);
+    }
+
+    @Override
+    public long expireAfterCreate(Object key, Object value, long currentTime) {
+        return nextLifetime();
+    }
+
+    @Override
+    public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+        // A put or a completed refresh stores a fresh copy.
+        return nextLifetime();
+    }
+
+    @Override
+    public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+
+    private long nextLifetime() {
+        if (jitterNanos == 0) {
+            return timeToLiveNanos;
+        }
+        return timeToLiveNanos + ThreadLocalRandom.current().nextLong(-jitterNanos, jitterNanos + 1);
+    }
+}
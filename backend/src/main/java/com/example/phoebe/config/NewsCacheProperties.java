@@ -0,0 +1,32 @@
+package com.example.phoebe.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the "news-by-id" loading cache.
+ *
+ * @param maximumSize  Maximum number of cached articles.
+ * @param timeToLive   Average lifetime of an entry after it was loaded or refreshed.
+ * @param jitter       Fraction by which each entry's lifetime is varied at random (0.1 = +/-10%), so articles
+ *                     loaded together (warm-up, a burst of traffic) do not expire together.
+ * @param refreshAfter Age after which the next read reloads the entry in the background while the cached copy
+ *                     is still served; must be shorter than the lifetime to refresh hot articles ahead of expiry.
+ */
+@ConfigurationProperties(prefix = "app.cache.news-by-id")
+public record NewsCacheProperties(
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("PT15M") Duration timeToLive,
+        @DefaultValue("0.1") double jitter,
+        @DefaultValue("PT10M") Duration refreshAfter
+) {
+
+    /**
+     * Default settings, for use outside a Spring context.
+     */
+    public static NewsCacheProperties defaults() {
+        return new NewsCacheProperties(10_000, Duration.ofMinutes(15), 0.1, Duration.ofMinutes(10));
+    }
+}
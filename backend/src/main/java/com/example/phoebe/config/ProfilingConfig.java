@@ -0,0 +1,22 @@
+package com.example.phoebe.config;
+
+import com.example.phoebe.profiling.FlightRecorderEndpoint;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for on-demand flight recordings. The JFR events of the application are emitted
+ * by the profiling aspect and the rate limiter regardless of this configuration.
+ */
+@Configuration
+@EnableConfigurationProperties(ProfilingProperties.class)
+public class ProfilingConfig {
+
+    @Bean
+    @ConditionalOnAvailableEndpoint
+    public FlightRecorderEndpoint flightRecorderEndpoint(ProfilingProperties properties) {
+        return new FlightRecorderEndpoint(properties);
+    }
+}
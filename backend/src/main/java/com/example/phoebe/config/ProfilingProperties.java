@@ -0,0 +1,38 @@
+package com.example.phoebe.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * On-demand Java Flight Recorder configuration properties.
+ *
+ * @param templates       JDK recording templates that may be started.
+ * @param defaultTemplate Template used when the start request names none.
+ * @param defaultDuration Duration used when the start request gives none.
+ * @param maxDuration     Longest duration a recording may be started with.
+ * @param maxSize         Size at which a recording drops its oldest data.
+ * @param directory       Where downloaded recordings are dumped before they are streamed.
+ */
+@ConfigurationProperties(prefix = "app.profiling")
+public record ProfilingProperties(
+        @DefaultValue({"default", "profile"}) List<String> templates,
+        @DefaultValue("profile") String defaultTemplate,
+        @DefaultValue("PT2M") Duration defaultDuration,
+        @DefaultValue("PT30M") Duration maxDuration,
+        @DefaultValue("256MB") DataSize maxSize,
+        @DefaultValue("${java.io.tmpdir}/phoebe-jfr") String directory
+) {
+
+    /**
+     * Default settings, for use outside a Spring context.
+     */
+    public static ProfilingProperties defaults() {
+        return new ProfilingProperties(List.of("default", "profile"), "profile", Duration.ofMinutes(2),
+                Duration.ofMinutes(30), DataSize.ofMegabytes(256),
+                System.getProperty("java.io.tmpdir") + "/phoebe-jfr");
+    }
+}
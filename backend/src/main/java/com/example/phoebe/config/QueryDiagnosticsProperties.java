@@ -0,0 +1,29 @@
+package com.example.phoebe.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Per-request SQL statement counting, for development and integration tests.
+ *
+ * @param enabled               Count the statements of each request; required by the other settings.
+ * @param responseHeader        Report the count in the X-Query-Count response header (buffers the response).
+ * @param repeatThreshold       Executions of the same statement shape in one request that are logged
+ *                              as a possible N+1.
+ * @param failOnBudgetExceeded  Fail requests that exceed their endpoint's query budget instead of only logging.
+ */
+@ConfigurationProperties(prefix = "app.diagnostics.queries")
+public record QueryDiagnosticsProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("false") boolean responseHeader,
+        @DefaultValue("5") int repeatThreshold,
+        @DefaultValue("false") boolean failOnBudgetExceeded
+) {
+
+    /**
+     * Default settings, for use outside a Spring context.
+     */
+    public static QueryDiagnosticsProperties defaults() {
+        return new QueryDiagnosticsProperties(false, false, 5, false);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.phoebe.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the related-articles index.
+ *
+ * @param maxResults      Related articles kept per article, and the upper limit of a request's {@code limit}.
+ * @param cacheSize       Number of articles whose related lists are kept in memory.
+ * @param recencyHalfLife Publication age difference that halves a candidate's score at equal term overlap.
+ * @param refreshInterval Delay between two applications of the article changes committed in the meantime.
+ * @param rebuildInterval Delay between two rebuilds from the database, which also refresh the term weights.
+ * @param maxAdjustedChanges Changed articles per refresh up to which the cached lists are adjusted in place;
+ *                           above it they are dropped and recomputed when next read.
+ */
+@ConfigurationProperties(prefix = "app.related-articles")
+public record RelatedArticlesProperties(
+        @DefaultValue("10") int maxResults,
+        @DefaultValue("10000") int cacheSize,
+        @DefaultValue("P30D") Duration recencyHalfLife,
+        @DefaultValue("PT1S") Duration refreshInterval,
+        @DefaultValue("PT6H") Duration rebuildInterval,
+        @DefaultValue("50") int maxAdjustedChanges
+) {
+
+    /**
+     * Default settings, for use outside a Spring context.
+     */
+    public static RelatedArticlesProperties defaults() {
+        return new RelatedArticlesProperties(10, 10_000, Duration.ofDays(30), Duration.ofSeconds(1),
+                Duration.ofHours(6), 50);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.phoebe.config;
 
+import com.example.phoebe.filter.SecurityTracingFilter;
 import com.example.phoebe.security.DatabaseUserDetailsService;
 import com.example.phoebe.security.RoleConstants;
 import org.springframework.context.annotation.Bean;
@@ -12,6 +13,7 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 
 @Configuration
 @EnableWebSecurity
@@ -28,8 +30,12 @@ public class SecurityConfig {
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         return http
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/flightrecorder", "/actuator/flightrecorder/**")
+                        .hasRole(RoleConstants.ADMIN)
+                        .requestMatchers("/actuator/metrics", "/actuator/metrics/**").hasRole(RoleConstants.ADMIN)
                         .requestMatchers("/api/public/**").permitAll()
+                        .requestMatchers("/sitemap.xml", "/sitemap-*.xml", "/feeds/**").permitAll()
                         .requestMatchers("/api/admin/**").hasAnyRole(RoleConstants.ADMIN, RoleConstants.EDITOR)
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
                         .anyRequest().authenticated()
@@ -37,6 +43,7 @@ public class SecurityConfig {
                 .httpBasic(Customizer.withDefaults())
                 .csrf(AbstractHttpConfigurer::disable)
                 .userDetailsService(userDetailsService) // ✅ Use DB-based auth
+                .addFilterAfter(new SecurityTracingFilter.EndOfChain(), AuthorizationFilter.class)
                 .build();
     }
 
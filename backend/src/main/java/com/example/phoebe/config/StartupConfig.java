@@ -0,0 +1,43 @@
+package com.example.phoebe.config;
+
+import com.example.phoebe.startup.SchemaMarker;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Startup configuration: schema checks that can be skipped by the schema marker,
+ * the database-free bootstrap used by the class data sharing training run, and the warm-up.
+ */
+@Configuration
+@EnableConfigurationProperties({StartupProperties.class, WarmUpProperties.class})
+public class StartupConfig {
+
+    /** Hibernate 6.3 switch for bootstrapping from the configured dialect without a JDBC connection. */
+    private static final String USE_JDBC_METADATA_DEFAULTS = "hibernate.temp.use_jdbc_metadata_defaults";
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(SchemaMarker schemaMarker) {
+        return schemaMarker::migrate;
+    }
+
+    /**
+     * Runs after Flyway (the entity manager factory depends on it), so the marker decision is already made.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer schemaValidationCustomizer(SchemaMarker schemaMarker,
+                                                                    StartupProperties properties) {
+        return hibernateProperties -> {
+            if (properties.trainingRun()) {
+                hibernateProperties.put(AvailableSettings.HBM2DDL_AUTO, "none");
+                hibernateProperties.put(USE_JDBC_METADATA_DEFAULTS, false);
+            } else if (schemaMarker.isSchemaVerified()
+                    && "validate".equals(hibernateProperties.get(AvailableSettings.HBM2DDL_AUTO))) {
+                hibernateProperties.put(AvailableSettings.HBM2DDL_AUTO, "none");
+            }
+        };
+    }
+}
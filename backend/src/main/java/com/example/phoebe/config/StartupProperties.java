@@ -0,0 +1,26 @@
+package com.example.phoebe.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Startup configuration properties.
+ *
+ * @param schemaMarker Skip Flyway validation and Hibernate schema validation when the schema marker stored
+ *                     in the database matches the fingerprint of the migrations and entities in this build.
+ * @param trainingRun  The context is started only to record a class data sharing archive (Docker image build):
+ *                     no migrations and no database access while Hibernate bootstraps.
+ */
+@ConfigurationProperties(prefix = "app.startup")
+public record StartupProperties(
+        @DefaultValue("false") boolean schemaMarker,
+        @DefaultValue("false") boolean trainingRun
+) {
+
+    /**
+     * Default settings, for use outside a Spring context.
+     */
+    public static StartupProperties defaults() {
+        return new StartupProperties(false, false);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.phoebe.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the sitemap and RSS/Atom feeds.
+ *
+ * @param baseUrl Base of the absolute links when ChannelSettings.siteUrl is not set. Never taken from the
+ *                request: the output is cached and served publicly, so a Host header must not end up in it.
+ */
+@ConfigurationProperties(prefix = "app.syndication")
+public record SyndicationProperties(
+        @DefaultValue("") String baseUrl
+) {
+
+    /**
+     * Default settings, for use outside a Spring context.
+     */
+    public static SyndicationProperties defaults() {
+        return new SyndicationProperties("");
+    }
+}
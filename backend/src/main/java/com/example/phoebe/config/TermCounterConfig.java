@@ -0,0 +1,12 @@
+package com.example.phoebe.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the per-term article counters.
+ */
+@Configuration
+@EnableConfigurationProperties(TermCounterProperties.class)
+public class TermCounterConfig {
+}
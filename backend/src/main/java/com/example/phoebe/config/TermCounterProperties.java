@@ -0,0 +1,28 @@
+package com.example.phoebe.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the reconciliation of the per-term article counters.
+ *
+ * @param reconcileEnabled   Whether counters are periodically recomputed from content_terms.
+ * @param reconcileBatchSize Counters recomputed per transaction; they stay locked until it commits.
+ * @param reconcileInterval  Delay between two passes over all counters.
+ */
+@ConfigurationProperties(prefix = "app.term-counters")
+public record TermCounterProperties(
+        @DefaultValue("true") boolean reconcileEnabled,
+        @DefaultValue("200") int reconcileBatchSize,
+        @DefaultValue("PT1H") Duration reconcileInterval
+) {
+
+    /**
+     * Default settings, for use outside a Spring context.
+     */
+    public static TermCounterProperties defaults() {
+        return new TermCounterProperties(true, 200, Duration.ofHours(1));
+    }
+}
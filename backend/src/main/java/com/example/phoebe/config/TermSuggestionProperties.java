@@ -0,0 +1,27 @@
+package com.example.phoebe.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the term autocomplete index.
+ *
+ * @param maxResults      Most suggestions kept per prefix, and the upper limit of a request's {@code limit}.
+ * @param rebuildInterval Delay between two rebuilds from the database, which update the usage ranking and pick
+ *                        up terms changed by other instances.
+ */
+@ConfigurationProperties(prefix = "app.term-suggestions")
+public record TermSuggestionProperties(
+        @DefaultValue("20") int maxResults,
+        @DefaultValue("PT5M") Duration rebuildInterval
+) {
+
+    /**
+     * Default settings, for use outside a Spring context.
+     */
+    public static TermSuggestionProperties defaults() {
+        return new TermSuggestionProperties(20, Duration.ofMinutes(5));
+    }
+}
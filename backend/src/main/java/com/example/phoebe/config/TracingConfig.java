@@ -0,0 +1,46 @@
+package com.example.phoebe.config;
+
+import com.example.phoebe.tracing.FileTraceExporter;
+import com.example.phoebe.tracing.InMemoryTraceExporter;
+import com.example.phoebe.tracing.TraceExporter;
+import com.example.phoebe.tracing.TracesEndpoint;
+import com.example.phoebe.tracing.TracingJackson2HttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.nio.file.Path;
+
+/**
+ * Configuration for sampled request tracing: the trace exporter and the instrumented JSON converter.
+ */
+@Configuration
+@EnableConfigurationProperties(TracingProperties.class)
+public class TracingConfig {
+
+    @Bean
+    public TraceExporter traceExporter(TracingProperties properties, ObjectMapper objectMapper) {
+        return switch (properties.exporter()) {
+            case MEMORY -> new InMemoryTraceExporter(properties.memoryCapacity());
+            case FILE -> new FileTraceExporter(objectMapper, Path.of(properties.file()));
+            case NONE -> trace -> { };
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.tracing", name = "exporter", havingValue = "memory")
+    public TracesEndpoint tracesEndpoint(TraceExporter traceExporter) {
+        return new TracesEndpoint((InMemoryTraceExporter) traceExporter);
+    }
+
+    /**
+     * Replaces Spring Boot's Jackson converter, which backs off when this bean is present.
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TracingJackson2HttpMessageConverter(objectMapper);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.phoebe.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Request tracing configuration properties.
+ *
+ * @param enabled            Whether requests can be sampled at all.
+ * @param sampleRate         Share of requests traced, from 0.0 (none) to 1.0 (all).
+ * @param headerSampling     Also trace requests that send "X-Trace: true"; keep off where clients are untrusted.
+ * @param serverTimingHeader Return the span breakdown of sampled requests in the Server-Timing header.
+ * @param exporter           Where finished traces go.
+ * @param memoryCapacity     Traces kept by the in-memory exporter.
+ * @param file               Target of the file exporter, one JSON trace per line.
+ */
+@ConfigurationProperties(prefix = "app.tracing")
+public record TracingProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("0.0") double sampleRate,
+        @DefaultValue("false") boolean headerSampling,
+        @DefaultValue("true") boolean serverTimingHeader,
+        @DefaultValue("none") Exporter exporter,
+        @DefaultValue("200") int memoryCapacity,
+        @DefaultValue("traces.jsonl") String file
+) {
+
+    /**
+     * Trace exporters.
+     */
+    public enum Exporter {
+        /** Traces are only reported in the Server-Timing header. */
+        NONE,
+        /** Recent traces are kept in memory and served by /actuator/traces. */
+        MEMORY,
+        /** Traces are appended to a JSON lines file. */
+        FILE
+    }
+
+    /**
+     * Default settings, for use outside a Spring context.
+     */
+    public static TracingProperties defaults() {
+        return new TracingProperties(true, 0.0, false, true, Exporter.NONE, 200, "traces.jsonl");
+    }
+}
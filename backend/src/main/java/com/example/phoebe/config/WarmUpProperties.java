@@ -0,0 +1,29 @@
+package com.example.phoebe.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Warm-up configuration properties. The warm-up runs after startup and before the readiness
+ * state switches to ACCEPTING_TRAFFIC.
+ *
+ * @param enabled             Whether to run the warm-up at all.
+ * @param recentArticles      Number of most recent published articles preloaded into "news-by-id".
+ * @param iterations          Passes over the public read paths (query, mapping, serialization, compression).
+ * @param openPoolConnections Open the connection pool's minimum idle connections up front.
+ */
+@ConfigurationProperties(prefix = "app.startup.warm-up")
+public record WarmUpProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100") int recentArticles,
+        @DefaultValue("50") int iterations,
+        @DefaultValue("true") boolean openPoolConnections
+) {
+
+    /**
+     * Default settings, for use outside a Spring context.
+     */
+    public static WarmUpProperties defaults() {
+        return new WarmUpProperties(true, 100, 50, true);
+    }
+}
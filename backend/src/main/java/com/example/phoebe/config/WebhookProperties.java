@@ -0,0 +1,48 @@
+package com.example.phoebe.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Outbound webhooks for article changes.
+ *
+ * @param enabled              Whether article changes are queued for delivery.
+ * @param coalesceWindow       Time an article change waits for further changes of the same article, which replace it.
+ * @param flushInterval        Delay between two dispatch rounds.
+ * @param batchSize            Maximum number of events per delivery.
+ * @param maxPending           Maximum number of articles waiting out the coalescing window; changes beyond it are
+ *                             dropped and the next deliveries ask receivers to resync.
+ * @param maxQueuedPerEndpoint Maximum number of events queued for one endpoint; the oldest are dropped beyond it,
+ *                             so a slow endpoint holds back neither memory nor the other endpoints.
+ * @param requestTimeout       Timeout of a delivery, including the connection.
+ * @param maxAttempts          Attempts per delivery before its events are dropped (the receiver is asked to resync).
+ * @param retryBackoff         Delay before the first retry; doubled after each further failure.
+ * @param maxBackoff           Upper limit of the retry delay.
+ * @param subscriptionRefresh  Age after which the active subscriptions are read again (changes made through this
+ *                             instance apply at once).
+ */
+@ConfigurationProperties(prefix = "app.webhooks")
+public record WebhookProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("PT2S") Duration coalesceWindow,
+        @DefaultValue("PT1S") Duration flushInterval,
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("10000") int maxPending,
+        @DefaultValue("1000") int maxQueuedPerEndpoint,
+        @DefaultValue("PT5S") Duration requestTimeout,
+        @DefaultValue("8") int maxAttempts,
+        @DefaultValue("PT2S") Duration retryBackoff,
+        @DefaultValue("PT5M") Duration maxBackoff,
+        @DefaultValue("PT1M") Duration subscriptionRefresh
+) {
+
+    /**
+     * Default settings, for use outside a Spring context.
+     */
+    public static WebhookProperties defaults() {
+        return new WebhookProperties(true, Duration.ofSeconds(2), Duration.ofSeconds(1), 100, 10_000, 1000,
+                Duration.ofSeconds(5), 8, Duration.ofSeconds(2), Duration.ofMinutes(5), Duration.ofMinutes(1));
+    }
+}
@@ -1,10 +1,14 @@
 package com.example.phoebe.controller;
 
 import com.example.phoebe.dto.request.TermCreateRequestDto;
+import com.example.phoebe.dto.request.TermMoveRequestDto;
 import com.example.phoebe.dto.response.TermResponseDto;
+import com.example.phoebe.dto.response.TermSuggestionDto;
 import com.example.phoebe.dto.request.TermUpdateRequestDto;
 import com.example.phoebe.entity.Term;
 import com.example.phoebe.mapper.TermMapper;
+import com.example.phoebe.security.PermissionConstants;
+import com.example.phoebe.security.RequirePermission;
 import com.example.phoebe.service.TermService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -21,11 +25,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 /**
  * Admin controller for term management operations.
- * Requires ADMIN role authentication.
+ * Reads require terms:read, changes terms:create/update/delete (by default only ADMIN holds those).
  */
 @RestController
 @RequestMapping("/api/admin/terms")
@@ -43,14 +50,27 @@ public class AdminTermController {
 
     @GetMapping
     @Operation(summary = "Get all terms with pagination")
+    @RequirePermission(PermissionConstants.TERMS_READ)
     public ResponseEntity<Page<TermResponseDto>> getAllTerms(Pageable pageable) {
         Page<Term> terms = termService.findAll(pageable);
         Page<TermResponseDto> response = terms.map(termMapper::toResponse);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/suggest")
+    @Operation(summary = "Suggest terms for autocomplete",
+               description = "Terms with a word starting with q, ignoring case and accents, most used first")
+    @RequirePermission(PermissionConstants.TERMS_READ)
+    public ResponseEntity<List<TermSuggestionDto>> suggestTerms(
+            @RequestParam(name = "q", defaultValue = "") String query,
+            @RequestParam(required = false) String vocabulary,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(termService.suggest(query, vocabulary, limit));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get term by ID")
+    @RequirePermission(PermissionConstants.TERMS_READ)
     public ResponseEntity<TermResponseDto> getTermById(@PathVariable Long id) {
         Term term = termService.findById(id);
         return ResponseEntity.ok(termMapper.toResponse(term));
@@ -58,6 +78,7 @@ public class AdminTermController {
 
     @PostMapping
     @Operation(summary = "Create new term")
+    @RequirePermission(PermissionConstants.TERMS_CREATE)
     public ResponseEntity<TermResponseDto> createTerm(@Valid @RequestBody TermCreateRequestDto request) {
         Term term = termMapper.toEntity(request);
         Term savedTerm = termService.save(term);
@@ -67,6 +88,7 @@ public class AdminTermController {
 
     @PutMapping("/{id}")
     @Operation(summary = "Update existing term")
+    @RequirePermission(PermissionConstants.TERMS_UPDATE)
     public ResponseEntity<TermResponseDto> updateTerm(
             @PathVariable Long id,
             @Valid @RequestBody TermUpdateRequestDto request) {
@@ -76,8 +98,20 @@ public class AdminTermController {
         return ResponseEntity.ok(termMapper.toResponse(updatedTerm));
     }
 
+    @PutMapping("/{id}/parent")
+    @Operation(summary = "Move term below another parent",
+               description = "Moves the term with its subtree; a null parentId makes it top-level")
+    @RequirePermission(PermissionConstants.TERMS_UPDATE)
+    public ResponseEntity<TermResponseDto> moveTerm(
+            @PathVariable Long id,
+            @RequestBody TermMoveRequestDto request) {
+        Term movedTerm = termService.move(id, request.parentId());
+        return ResponseEntity.ok(termMapper.toResponse(movedTerm));
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete term by ID")
+    @RequirePermission(PermissionConstants.TERMS_DELETE)
     public ResponseEntity<Void> deleteTerm(@PathVariable Long id) {
         termService.deleteById(id);
         return ResponseEntity.noContent().build();
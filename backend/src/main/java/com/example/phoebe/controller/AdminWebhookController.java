@@ -0,0 +1,71 @@
+package com.example.phoebe.controller;
+
+import com.example.phoebe.dto.request.WebhookSubscriptionRequestDto;
+import com.example.phoebe.dto.response.WebhookSubscriptionDto;
+import com.example.phoebe.service.WebhookSubscriptionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Admin controller for webhook subscriptions.
+ */
+@RestController
+@RequestMapping("/api/admin/webhooks")
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "Admin Webhooks", description = "Webhook subscriptions for article changes (Admin only)")
+public class AdminWebhookController {
+
+    private final WebhookSubscriptionService webhookSubscriptionService;
+
+    public AdminWebhookController(WebhookSubscriptionService webhookSubscriptionService) {
+        this.webhookSubscriptionService = webhookSubscriptionService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Get all webhook subscriptions")
+    public ResponseEntity<List<WebhookSubscriptionDto>> getSubscriptions() {
+        return ResponseEntity.ok(webhookSubscriptionService.findAll());
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get webhook subscription by ID")
+    public ResponseEntity<WebhookSubscriptionDto> getSubscription(@PathVariable Long id) {
+        return ResponseEntity.ok(webhookSubscriptionService.findById(id));
+    }
+
+    @PostMapping
+    @Operation(summary = "Create webhook subscription",
+               description = "The endpoint receives the article changes committed from then on")
+    public ResponseEntity<WebhookSubscriptionDto> createSubscription(
+            @Valid @RequestBody WebhookSubscriptionRequestDto request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(webhookSubscriptionService.create(request));
+    }
+
+    @PutMapping("/{id}")
+    @Operation(summary = "Update webhook subscription")
+    public ResponseEntity<WebhookSubscriptionDto> updateSubscription(
+            @PathVariable Long id, @Valid @RequestBody WebhookSubscriptionRequestDto request) {
+        return ResponseEntity.ok(webhookSubscriptionService.update(id, request));
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete webhook subscription")
+    public ResponseEntity<Void> deleteSubscription(@PathVariable Long id) {
+        webhookSubscriptionService.delete(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.phoebe.controller;
+
+import com.example.phoebe.diagnostics.QueryBudget;
+import com.example.phoebe.dto.response.ChangeFeedDto;
+import com.example.phoebe.service.ChangeFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Public controller for the change feed, which lets consumers sync incrementally instead of re-reading listings.
+ */
+@RestController
+@RequestMapping("/api/public/changes")
+@Tag(name = "Public Change Feed", description = "Ordered changes of published articles and terms")
+public class PublicChangeFeedController {
+
+    private final ChangeFeedService changeFeedService;
+
+    public PublicChangeFeedController(ChangeFeedService changeFeedService) {
+        this.changeFeedService = changeFeedService;
+    }
+
+    @GetMapping
+    @QueryBudget(2)
+    @Operation(summary = "Get changes after a cursor",
+               description = "Returns up to 'limit' events after 'since', oldest first, and the cursor for the "
+                       + "next request. Start with since=0; events of the last seconds are returned on a later call")
+    public ChangeFeedDto getChanges(@RequestParam(defaultValue = "0") long since,
+                                    @RequestParam(required = false) Integer limit) {
+        return changeFeedService.getChanges(since, limit);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.phoebe.controller;
 
+import com.example.phoebe.diagnostics.QueryBudget;
 import com.example.phoebe.dto.response.ChannelSettingsDto;
 import com.example.phoebe.service.ChannelSettingsService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -24,6 +25,7 @@ public class PublicChannelSettingsController {
     }
 
     @GetMapping("/channel-settings")
+    @QueryBudget(2)
     @Operation(summary = "Get current channel settings", 
                description = "Returns site-wide configuration like title, meta tags, and HTML snippets")
     public ResponseEntity<ChannelSettingsDto> getChannelSettings() {
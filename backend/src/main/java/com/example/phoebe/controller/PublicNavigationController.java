@@ -0,0 +1,37 @@
+package com.example.phoebe.controller;
+
+import com.example.phoebe.diagnostics.QueryBudget;
+import com.example.phoebe.dto.response.MenuItemDto;
+import com.example.phoebe.service.NavigationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Public controller for site navigation.
+ */
+@RestController
+@RequestMapping("/api/public/navigation")
+@Tag(name = "Public Navigation", description = "Resolved site navigation for public clients")
+public class PublicNavigationController {
+
+    private final NavigationService navigationService;
+
+    public PublicNavigationController(NavigationService navigationService) {
+        this.navigationService = navigationService;
+    }
+
+    @GetMapping("/main-menu")
+    @QueryBudget(2)
+    @Operation(summary = "Get the resolved main menu",
+               description = "Returns the main-menu terms in configured order with names, vocabulary "
+                       + "and published-article counts")
+    public ResponseEntity<List<MenuItemDto>> getMainMenu() {
+        return ResponseEntity.ok(navigationService.getMainMenu());
+    }
+}
@@ -1,25 +1,35 @@
 package com.example.phoebe.controller;
 
+import com.example.phoebe.compression.CompressedVariantCache;
+import com.example.phoebe.diagnostics.QueryBudget;
 import com.example.phoebe.dto.response.NewsDto;
+import com.example.phoebe.dto.response.RelatedArticleDto;
 import com.example.phoebe.service.NewsService;
+import com.example.phoebe.service.RelatedArticleService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/public/news")
 @Tag(name = "Public News API", description = "Endpoints for public access to news content")
 public class PublicNewsController {
 
     private final NewsService newsService;
+    private final RelatedArticleService relatedArticleService;
 
-    public PublicNewsController(NewsService newsService) {
+    public PublicNewsController(NewsService newsService, RelatedArticleService relatedArticleService) {
         this.newsService = newsService;
+        this.relatedArticleService = relatedArticleService;
     }
 
     @GetMapping
@@ -28,9 +38,34 @@ public class PublicNewsController {
         return newsService.findAllPublished(pageable);
     }
 
+    @GetMapping("/term/{termId}")
+    @Operation(summary = "Find published news of a term",
+               description = "Includes the news of all descendants of the term (e.g., \"World\" includes \"Europe\")")
+    public Page<NewsDto> findByTerm(@PathVariable Long termId, Pageable pageable) {
+        return newsService.findByTermId(termId, pageable);
+    }
+
+    @GetMapping("/terms")
+    @Operation(summary = "Find published news of any of several terms, including their descendants")
+    public Page<NewsDto> findByTerms(@RequestParam List<Long> termIds, Pageable pageable) {
+        return newsService.findByTermIds(termIds, pageable);
+    }
+
     @GetMapping("/{id}")
+    @QueryBudget(3)
     @Operation(summary = "Find a published news article by ID")
-    public NewsDto findPublishedById(@PathVariable Long id) {
-        return newsService.findPublishedById(id);
+    public NewsDto findPublishedById(@PathVariable Long id, HttpServletRequest request) {
+        NewsDto article = newsService.findPublishedById(id);
+        // The DTO is the news-by-id cache entry; its compressed variants are kept with it.
+        CompressedVariantCache.markCacheable(request, article);
+        return article;
+    }
+
+    @GetMapping("/{id}/related")
+    @QueryBudget(4)
+    @Operation(summary = "Find published news related to an article",
+               description = "Ranked by shared terms, rarer terms weighing more, then by recency")
+    public List<RelatedArticleDto> findRelated(@PathVariable Long id, @RequestParam(defaultValue = "5") int limit) {
+        return relatedArticleService.findRelated(id, limit);
     }
-}
\ No newline at end of file
+}
@@ -3,6 +3,8 @@ package com.example.phoebe.controller;
 import com.example.phoebe.dto.request.RoleCreateRequestDto;
 import com.example.phoebe.dto.request.RoleUpdateRequestDto;
 import com.example.phoebe.dto.response.RoleDto;
+import com.example.phoebe.security.PermissionConstants;
+import com.example.phoebe.security.RequirePermission;
 import com.example.phoebe.service.RoleService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -24,7 +26,7 @@ import java.util.Set;
 
 /**
  * REST controller for managing user roles.
- * Endpoints are secured and require ADMIN privileges.
+ * Endpoints are secured and require the roles:* permissions, which only ADMIN holds by default.
  */
 @RestController
 @RequestMapping("/api/admin/roles")
@@ -46,6 +48,7 @@ public class RoleController {
      */
     @GetMapping
     @Operation(summary = "Get all roles")
+    @RequirePermission(PermissionConstants.ROLES_READ)
     public ResponseEntity<List<RoleDto>> getAllRoles() {
         List<RoleDto> roles = roleService.getAllRoles();
         return ResponseEntity.ok(roles);
@@ -59,6 +62,7 @@ public class RoleController {
      */
     @GetMapping("/{id}")
     @Operation(summary = "Get role by ID")
+    @RequirePermission(PermissionConstants.ROLES_READ)
     public ResponseEntity<RoleDto> getRoleById(@PathVariable Long id) {
         RoleDto role = roleService.getRoleById(id);
         return ResponseEntity.ok(role);
@@ -72,6 +76,7 @@ public class RoleController {
      */
     @PostMapping
     @Operation(summary = "Create a new role")
+    @RequirePermission(PermissionConstants.ROLES_CREATE)
     public ResponseEntity<RoleDto> createRole(@RequestBody @Valid RoleCreateRequestDto createRequest) {
         RoleDto savedRole = roleService.createRole(createRequest);
         return ResponseEntity.status(HttpStatus.CREATED).body(savedRole);
@@ -86,6 +91,7 @@ public class RoleController {
      */
     @PutMapping("/{id}")
     @Operation(summary = "Update an existing role")
+    @RequirePermission(PermissionConstants.ROLES_UPDATE)
     public ResponseEntity<RoleDto> updateRole(@PathVariable Long id,
                                               @RequestBody @Valid RoleUpdateRequestDto updateRequest) {
         RoleDto updatedRole = roleService.updateRole(id, updateRequest);
@@ -100,6 +106,7 @@ public class RoleController {
      */
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete a role")
+    @RequirePermission(PermissionConstants.ROLES_DELETE)
     public ResponseEntity<Void> deleteRole(@PathVariable Long id) {
         roleService.deleteRole(id);
         return ResponseEntity.noContent().build();
@@ -113,6 +120,7 @@ public class RoleController {
      */
     @GetMapping("/user/{userId}")
     @Operation(summary = "Get roles for a specific user")
+    @RequirePermission(PermissionConstants.ROLES_READ)
     public ResponseEntity<Set<RoleDto>> getRolesByUserId(@PathVariable Long userId) {
         Set<RoleDto> roles = roleService.findRolesByUserId(userId);
         return ResponseEntity.ok(roles);
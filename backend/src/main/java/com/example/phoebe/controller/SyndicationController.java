@@ -0,0 +1,94 @@
+package com.example.phoebe.controller;
+
+import com.example.phoebe.compression.ContentEncoding;
+import com.example.phoebe.compression.ResponseCompressor;
+import com.example.phoebe.config.CompressionProperties;
+import com.example.phoebe.service.SyndicationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+/**
+ * Public controller for the sitemap and RSS/Atom feeds.
+ * Served from the site root, where crawlers and feed readers expect them.
+ * Sitemap shards are compressed by the service, which caches the compressed shards; feeds go
+ * through CompressionFilter like other responses.
+ */
+@RestController
+@Tag(name = "Syndication", description = "Sitemap and RSS/Atom feeds for crawlers and feed readers")
+public class SyndicationController {
+
+    private static final MediaType RSS = MediaType.parseMediaType("application/rss+xml;charset=UTF-8");
+    private static final MediaType ATOM = MediaType.parseMediaType("application/atom+xml;charset=UTF-8");
+    private static final MediaType XML = MediaType.parseMediaType("application/xml;charset=UTF-8");
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(10)).cachePublic();
+
+    private final SyndicationService syndicationService;
+    private final ResponseCompressor compressor;
+    private final CompressionProperties compressionProperties;
+
+    public SyndicationController(SyndicationService syndicationService, ResponseCompressor compressor,
+                                 CompressionProperties compressionProperties) {
+        this.syndicationService = syndicationService;
+        this.compressor = compressor;
+        this.compressionProperties = compressionProperties;
+    }
+
+    @GetMapping("/sitemap.xml")
+    @Operation(summary = "Get the sitemap index", description = "Lists sitemap shards of up to 50,000 articles each")
+    public ResponseEntity<byte[]> getSitemapIndex() {
+        return xml(XML, syndicationService.getSitemapIndex());
+    }
+
+    @GetMapping("/sitemap-{shard:\\d+}.xml")
+    @Operation(summary = "Get a sitemap shard")
+    public ResponseEntity<byte[]> getSitemapShard(
+            @PathVariable int shard,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ContentEncoding encoding = compressionProperties.enabled() ? compressor.negotiate(acceptEncoding) : null;
+        byte[] body = syndicationService.getSitemapShard(shard, encoding);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(XML).cacheControl(CACHE_CONTROL)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (encoding != null) {
+            response.header(HttpHeaders.CONTENT_ENCODING, encoding.token());
+        }
+        return response.body(body);
+    }
+
+    @GetMapping("/feeds/rss.xml")
+    @Operation(summary = "Get the RSS feed of the latest articles")
+    public ResponseEntity<byte[]> getRssFeed() {
+        return xml(RSS, syndicationService.getRssFeed(null));
+    }
+
+    @GetMapping("/feeds/atom.xml")
+    @Operation(summary = "Get the Atom feed of the latest articles")
+    public ResponseEntity<byte[]> getAtomFeed() {
+        return xml(ATOM, syndicationService.getAtomFeed(null));
+    }
+
+    @GetMapping("/feeds/terms/{termId}/rss.xml")
+    @Operation(summary = "Get the RSS feed of the latest articles with a term")
+    public ResponseEntity<byte[]> getTermRssFeed(@PathVariable Long termId) {
+        return xml(RSS, syndicationService.getRssFeed(termId));
+    }
+
+    @GetMapping("/feeds/terms/{termId}/atom.xml")
+    @Operation(summary = "Get the Atom feed of the latest articles with a term")
+    public ResponseEntity<byte[]> getTermAtomFeed(@PathVariable Long termId) {
+        return xml(ATOM, syndicationService.getAtomFeed(termId));
+    }
+
+    private static ResponseEntity<byte[]> xml(MediaType type, byte[] body) {
+        return ResponseEntity.ok().contentType(type).cacheControl(CACHE_CONTROL).body(body);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.phoebe.diagnostics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of SQL statements a request to the annotated endpoint may execute.
+ *
+ * Checked by {@link com.example.phoebe.filter.QueryCountFilter} when query diagnostics are enabled:
+ * an exceeded budget is logged, and fails the request when app.diagnostics.queries.fail-on-budget-exceeded
+ * is set (as in the integration-test profile). On a controller class it applies to every endpoint
+ * that does not declare its own budget.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface QueryBudget {
+
+    /**
+     * Statements allowed per request, counted on a cold cache.
+     */
+    int value();
+}
@@ -0,0 +1,12 @@
+package com.example.phoebe.diagnostics;
+
+/**
+ * Thrown when a request executes more SQL statements than its endpoint's {@link QueryBudget},
+ * and failing on exceeded budgets is enabled.
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(String endpoint, int executed, int budget) {
+        super(String.format("%s executed %d SQL statements, budget is %d", endpoint, executed, budget));
+    }
+}
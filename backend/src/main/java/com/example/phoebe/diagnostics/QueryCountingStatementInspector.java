@@ -0,0 +1,19 @@
+package com.example.phoebe.diagnostics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Records every statement Hibernate prepares into the current request's {@link QueryStatistics}.
+ * The SQL is passed through unchanged.
+ */
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryStatistics statistics = QueryStatistics.current();
+        if (statistics != null) {
+            statistics.record(sql);
+        }
+        return sql;
+    }
+}
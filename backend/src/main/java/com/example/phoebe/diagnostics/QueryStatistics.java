@@ -0,0 +1,74 @@
+package com.example.phoebe.diagnostics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * SQL statements executed by the current request, grouped by statement shape.
+ *
+ * The shape is the SQL text with whitespace collapsed and IN lists of bind parameters reduced to one,
+ * so the same query issued for different rows (the N+1 pattern) maps to the same key. Statistics are
+ * bound to the request thread between {@link #begin()} and {@link #end()}; statements executed on
+ * other threads (jobs, the warm-up) are not recorded.
+ */
+public final class QueryStatistics {
+
+    private static final ThreadLocal<QueryStatistics> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+
+    private final Map<String, Integer> shapes = new LinkedHashMap<>();
+    private int total;
+
+    /**
+     * Starts recording for the current thread.
+     */
+    public static QueryStatistics begin() {
+        QueryStatistics statistics = new QueryStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * Statistics of the current thread, or null when nothing is being recorded.
+     */
+    public static QueryStatistics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Stops recording for the current thread.
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public void record(String sql) {
+        total++;
+        shapes.merge(shapeOf(sql), 1, Integer::sum);
+    }
+
+    public int total() {
+        return total;
+    }
+
+    /**
+     * Shapes executed at least {@code threshold} times, in the order they were first seen.
+     */
+    public Map<String, Integer> repeatedShapes(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        shapes.forEach((shape, count) -> {
+            if (count >= threshold) {
+                repeated.put(shape, count);
+            }
+        });
+        return repeated;
+    }
+
+    static String shapeOf(String sql) {
+        String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        return PARAMETER_LIST.matcher(shape).replaceAll("(?)");
+    }
+}
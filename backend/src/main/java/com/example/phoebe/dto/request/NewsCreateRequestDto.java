@@ -1,5 +1,6 @@
 package com.example.phoebe.dto.request;
 
+import com.example.phoebe.validation.HtmlSanitizer;
 import com.example.phoebe.validation.SafeHtml;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -16,6 +17,7 @@ public class NewsCreateRequestDto {
     private String title;
 
     @NotBlank(message = "Content is required")
+    @Size(max = HtmlSanitizer.MAX_INPUT_LENGTH, message = "Content must not exceed 524288 characters")
     private String content;
 
     @Size(max = 250, message = "Teaser must not exceed 250 characters")
@@ -1,5 +1,6 @@
 package com.example.phoebe.dto.request;
 
+import com.example.phoebe.validation.HtmlSanitizer;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
@@ -14,6 +15,7 @@ public record NewsUpdateRequestDto(
         String title,
 
         // This field maps to the 'body' of the News entity
+        @Size(max = HtmlSanitizer.MAX_INPUT_LENGTH, message = "Content must not exceed 524288 characters")
         String content,
 
         // This field maps to the 'teaser' of the News entity
@@ -5,6 +5,7 @@ import jakarta.validation.constraints.Size;
 
 /**
  * DTO for creating a new Term (category or tag).
+ * The term is created below the term {@code parentId}, or at the top level if it is null.
  */
 public record TermCreateRequestDto(
         @NotBlank(message = "Term name is required")
@@ -12,5 +13,7 @@ public record TermCreateRequestDto(
         String name,
 
         @Size(max = 100, message = "Vocabulary must not exceed 100 characters")
-        String vocabulary
+        String vocabulary,
+
+        Long parentId
 ) {}
\ No newline at end of file
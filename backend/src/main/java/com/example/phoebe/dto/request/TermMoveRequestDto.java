@@ -0,0 +1,8 @@
+package com.example.phoebe.dto.request;
+
+/**
+ * DTO for moving a term, with its whole subtree, below another parent.
+ *
+ * @param parentId The id of the new parent term, or null to make the term top-level.
+ */
+public record TermMoveRequestDto(Long parentId) {}
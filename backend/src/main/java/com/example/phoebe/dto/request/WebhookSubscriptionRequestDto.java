@@ -0,0 +1,29 @@
+package com.example.phoebe.dto.request;
+
+import com.example.phoebe.validation.ValidUrl;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO for creating or replacing a webhook subscription.
+ *
+ * @param name   A label for administrators.
+ * @param url    The endpoint that receives the deliveries by POST.
+ * @param secret Key for the X-Webhook-Signature header; no signature if empty.
+ * @param active Whether deliveries are sent; true if omitted.
+ */
+public record WebhookSubscriptionRequestDto(
+        @NotBlank(message = "Name is required")
+        @Size(max = 100, message = "Name must not exceed 100 characters")
+        String name,
+
+        @NotBlank(message = "URL is required")
+        @Size(max = 500, message = "URL must not exceed 500 characters")
+        @ValidUrl(message = "URL must be a valid HTTP/HTTPS URL")
+        String url,
+
+        @Size(max = 255, message = "Secret must not exceed 255 characters")
+        String secret,
+
+        Boolean active
+) {}
@@ -0,0 +1,12 @@
+package com.example.phoebe.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * One term of a published article, with the article's publication date; rows of the related-articles index.
+ *
+ * @param newsId          The article id.
+ * @param termId          The term id.
+ * @param publicationDate The publication date of the article.
+ */
+public record ArticleTermDto(Long newsId, Long termId, LocalDateTime publicationDate) {}
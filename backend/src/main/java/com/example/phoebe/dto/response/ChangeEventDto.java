@@ -0,0 +1,17 @@
+package com.example.phoebe.dto.response;
+
+import com.example.phoebe.entity.ChangeEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the public change feed.
+ *
+ * @param id         The event id; pass the last one seen as {@code since} to continue after it.
+ * @param entityType The kind of the changed entity (ARTICLE or TERM).
+ * @param entityId   The id of the changed article or term.
+ * @param change     What happened (CREATED, UPDATED, PUBLISHED, UNPUBLISHED or DELETED).
+ * @param occurredAt The time of the change.
+ */
+public record ChangeEventDto(Long id, ChangeEvent.EntityType entityType, Long entityId,
+                             ChangeEvent.ChangeType change, LocalDateTime occurredAt) {}
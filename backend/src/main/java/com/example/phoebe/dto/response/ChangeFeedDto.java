@@ -0,0 +1,16 @@
+package com.example.phoebe.dto.response;
+
+import java.util.List;
+
+/**
+ * A page of the public change feed.
+ *
+ * @param events         The events after the requested cursor, oldest first.
+ * @param nextCursor     The cursor for the next request: the id of the last event, or the requested cursor if
+ *                       there were none.
+ * @param hasMore        Whether more events are available right away.
+ * @param resyncRequired Whether events after the requested cursor have already been deleted; the consumer must
+ *                       then re-read the full listings once and continue from {@code nextCursor}.
+ */
+public record ChangeFeedDto(List<ChangeEventDto> events, long nextCursor, boolean hasMore,
+                            boolean resyncRequired) {}
@@ -0,0 +1,12 @@
+package com.example.phoebe.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cheap fingerprint of the published content set, used as a cache key for generated output.
+ * Any publish, edit or delete changes the count or the latest update time.
+ *
+ * @param count       The number of published articles.
+ * @param lastUpdated The latest updated_at among published articles, or null if there are none.
+ */
+public record ContentFingerprintDto(long count, LocalDateTime lastUpdated) {}
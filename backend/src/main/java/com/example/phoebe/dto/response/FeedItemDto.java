@@ -0,0 +1,25 @@
+package com.example.phoebe.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a published article for RSS/Atom feeds. The body is never loaded.
+ *
+ * @param id              The unique identifier of the article.
+ * @param title           The article title.
+ * @param summary         The public teaser (rendered if available), or null.
+ * @param publicationDate The publication date.
+ * @param updatedAt       The last modification time.
+ * @param authorName      The author's username.
+ */
+public record FeedItemDto(Long id, String title, String summary, LocalDateTime publicationDate,
+                          LocalDateTime updatedAt, String authorName) {
+
+    /**
+     * Query constructor: picks the rendered teaser for rendered rows, the raw one otherwise.
+     */
+    public FeedItemDto(Long id, String title, String renderedTeaser, String teaser, int renderVersion,
+                       LocalDateTime publicationDate, LocalDateTime updatedAt, String authorName) {
+        this(id, title, renderVersion > 0 ? renderedTeaser : teaser, publicationDate, updatedAt, authorName);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.phoebe.dto.response;
+
+/**
+ * DTO for a resolved main-menu entry in API responses.
+ *
+ * @param id             The unique identifier of the term.
+ * @param name           The display name of the term (e.g., "Technology").
+ * @param vocabulary     The group the term belongs to (e.g., "category").
+ * @param publishedCount The number of published articles tagged with the term.
+ */
+public record MenuItemDto(Long id, String name, String vocabulary, long publishedCount) {}
@@ -1,5 +1,6 @@
 package com.example.phoebe.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import java.time.LocalDateTime;
 import java.util.Set;
@@ -19,6 +20,9 @@ public class NewsDto {
     private Long authorId;
     private String authorName;
     private Set<String> termNames;
+    /** Not serialized; used for the Surrogate-Key header of public responses. */
+    @JsonIgnore
+    private Set<Long> termIds;
 
     //<editor-fold desc="Constructors, Getters, Setters">
     public NewsDto() {}
@@ -108,5 +112,13 @@ public class NewsDto {
     public void setTermNames(Set<String> termNames) {
         this.termNames = termNames;
     }
+
+    public Set<Long> getTermIds() {
+        return termIds;
+    }
+
+    public void setTermIds(Set<Long> termIds) {
+        this.termIds = termIds;
+    }
     //</editor-fold>
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.example.phoebe.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a published article for the "related stories" box. The body is never loaded.
+ *
+ * @param id              The unique identifier of the article.
+ * @param title           The article title.
+ * @param teaser          The public teaser (rendered if available), or null.
+ * @param publicationDate The publication date.
+ */
+public record RelatedArticleDto(Long id, String title, String teaser, LocalDateTime publicationDate) {
+
+    /**
+     * Query constructor: picks the rendered teaser for rendered rows, the raw one otherwise.
+     */
+    public RelatedArticleDto(Long id, String title, String renderedTeaser, String teaser, int renderVersion,
+                             LocalDateTime publicationDate) {
+        this(id, title, renderVersion > 0 ? renderedTeaser : teaser, publicationDate);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.phoebe.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * Position of a published article in sitemap order, (publication_date, id); the last one of a shard is
+ * where the next shard starts.
+ *
+ * @param publicationDate The publication date of the article.
+ * @param id              The unique identifier of the article.
+ */
+public record SitemapKeyDto(LocalDateTime publicationDate, Long id) {}
@@ -0,0 +1,12 @@
+package com.example.phoebe.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a published article for sitemap generation.
+ *
+ * @param id              The unique identifier of the article.
+ * @param publicationDate The publication date, the sitemap sort key the next page starts after.
+ * @param updatedAt       The last modification time, used as the sitemap lastmod.
+ */
+public record SitemapUrlDto(Long id, LocalDateTime publicationDate, LocalDateTime updatedAt) {}
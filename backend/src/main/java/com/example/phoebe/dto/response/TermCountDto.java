@@ -0,0 +1,9 @@
+package com.example.phoebe.dto.response;
+
+/**
+ * A number of articles per term, as returned by aggregate queries.
+ *
+ * @param termId The term id.
+ * @param count  The number of articles.
+ */
+public record TermCountDto(Long termId, long count) {}
@@ -7,6 +7,7 @@ package com.example.phoebe.dto.response;
  * @param id The unique identifier of the term.
  * @param name The display name of the term (e.g., "Technology").
  * @param vocabulary The group the term belongs to (e.g., "category").
+ * @param parentId The id of the parent term, or null for a top-level term.
  */
-public record TermResponseDto(Long id, String name, String vocabulary) {
+public record TermResponseDto(Long id, String name, String vocabulary, Long parentId) {
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.example.phoebe.dto.response;
+
+/**
+ * DTO for a term suggested by the autocomplete of the admin taxonomy picker.
+ *
+ * @param id         The unique identifier of the term.
+ * @param name       The display name of the term (e.g., "Europe").
+ * @param vocabulary The group the term belongs to (e.g., "category").
+ * @param usage      The number of articles, published or not, tagged with the term.
+ */
+public record TermSuggestionDto(Long id, String name, String vocabulary, long usage) {}
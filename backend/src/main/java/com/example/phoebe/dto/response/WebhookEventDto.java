@@ -0,0 +1,15 @@
+package com.example.phoebe.dto.response;
+
+import com.example.phoebe.entity.ChangeEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * One article change in a webhook delivery. Repeated changes of an article within the coalescing window
+ * are delivered as one event with the latest change.
+ *
+ * @param articleId  The id of the changed article.
+ * @param change     The latest change (CREATED, UPDATED, PUBLISHED, UNPUBLISHED or DELETED).
+ * @param occurredAt The time of the latest change.
+ */
+public record WebhookEventDto(Long articleId, ChangeEvent.ChangeType change, LocalDateTime occurredAt) {}
@@ -0,0 +1,12 @@
+package com.example.phoebe.dto.response;
+
+import java.util.List;
+
+/**
+ * Body of a webhook delivery.
+ *
+ * @param events         The article changes, oldest first.
+ * @param resyncRequired True if changes for this endpoint were dropped (queue overflow or failed deliveries);
+ *                       the receiver should then catch up from GET /api/public/changes or revalidate everything.
+ */
+public record WebhookPayloadDto(List<WebhookEventDto> events, boolean resyncRequired) {}
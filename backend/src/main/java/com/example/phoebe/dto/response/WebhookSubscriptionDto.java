@@ -0,0 +1,16 @@
+package com.example.phoebe.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * A webhook subscription; the secret is write-only and is not returned.
+ *
+ * @param id        The subscription id.
+ * @param name      A label for administrators.
+ * @param url       The endpoint that receives the deliveries.
+ * @param signed    Whether deliveries carry an X-Webhook-Signature header.
+ * @param active    Whether deliveries are sent.
+ * @param createdAt The time the subscription was created.
+ */
+public record WebhookSubscriptionDto(Long id, String name, String url, boolean signed, boolean active,
+                                     LocalDateTime createdAt) {}
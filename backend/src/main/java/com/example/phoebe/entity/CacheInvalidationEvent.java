@@ -0,0 +1,70 @@
+package com.example.phoebe.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entry of the cache invalidation log: one cache entry (or, with a null key, a whole cache) to evict on
+ * every replica. Written in the transaction of the change that made the entry stale.
+ */
+@Entity
+@Table(name = "cache_invalidation_events",
+        indexes = @Index(name = "idx_cache_invalidation_events_created", columnList = "created_at"))
+public class CacheInvalidationEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "cache_name", nullable = false, length = 64)
+    private String cacheName;
+
+    @Column(name = "cache_key")
+    private Long cacheKey;
+
+    /**
+     * Instance that wrote the event; it has evicted its own caches already.
+     */
+    @Column(name = "origin", nullable = false, length = 36)
+    private String origin;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    protected CacheInvalidationEvent() {
+    }
+
+    public CacheInvalidationEvent(String cacheName, Long cacheKey, String origin, LocalDateTime createdAt) {
+        this.cacheName = cacheName;
+        this.cacheKey = cacheKey;
+        this.origin = origin;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public Long getCacheKey() {
+        return cacheKey;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.phoebe.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entry of the public change feed: one change of a published article or of a term.
+ * Written in the transaction of the change; the id is the consumers' cursor.
+ */
+@Entity
+@Table(name = "change_events",
+        indexes = @Index(name = "idx_change_events_created", columnList = "created_at"))
+public class ChangeEvent {
+
+    /**
+     * Kind of the changed entity.
+     */
+    public enum EntityType {
+        ARTICLE,
+        TERM
+    }
+
+    /**
+     * What happened to the entity, as seen by public clients.
+     */
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        PUBLISHED,
+        UNPUBLISHED,
+        DELETED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 16)
+    private EntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 16)
+    private ChangeType changeType;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    protected ChangeEvent() {
+    }
+
+    public ChangeEvent(EntityType entityType, Long entityId, ChangeType changeType, LocalDateTime createdAt) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.changeType = changeType;
+        this.createdAt = createdAt;
+    }
+
+    public ChangeEvent(EntityType entityType, Long entityId, ChangeType changeType) {
+        this(entityType, entityId, changeType, null);
+    }
+
+    /**
+     * Sets createdAt at the insert, which the IDENTITY id makes immediate, if not provided: the feed times out
+     * an id gap by the creation time of the event after it, so the time must be as close to the id as possible.
+     */
+    @PrePersist
+    private void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public EntityType getEntityType() {
+        return entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
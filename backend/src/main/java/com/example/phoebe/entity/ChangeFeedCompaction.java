@@ -0,0 +1,34 @@
+package com.example.phoebe.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Single row holding the highest change feed id removed by compaction.
+ * Cursors below it point into deleted history, whether or not any events are retained.
+ */
+@Entity
+@Table(name = "change_feed_compaction")
+public class ChangeFeedCompaction {
+
+    public static final int SINGLETON_ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(name = "compacted_through_id", nullable = false)
+    private long compactedThroughId;
+
+    protected ChangeFeedCompaction() {
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public long getCompactedThroughId() {
+        return compactedThroughId;
+    }
+}
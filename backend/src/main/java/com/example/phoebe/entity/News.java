@@ -38,7 +38,9 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
                 @Index(name = "idx_news_published", columnList = "published"),
                 @Index(name = "idx_news_publication_date", columnList = "publication_date"),
                 @Index(name = "idx_news_author", columnList = "author_id"),
-                @Index(name = "idx_news_published_pubdate", columnList = "published, publication_date")
+                @Index(name = "idx_news_published_pubdate", columnList = "published, publication_date"),
+                @Index(name = "idx_news_render_version", columnList = "render_version"),
+                @Index(name = "idx_news_published_updated", columnList = "published, updated_at")
         }
 )
 public class News {
@@ -65,6 +67,22 @@ public class News {
     @Basic(fetch = FetchType.LAZY)
     private String teaser;
 
+    /** Body as served to public readers: sanitized, embeds converted. Produced at write time. */
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @Column(name = "rendered_body")
+    private String renderedBody;
+
+    /** Teaser as served to public readers: sanitized teaser or generated excerpt. */
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @Column(name = "rendered_teaser")
+    private String renderedTeaser;
+
+    /** Version of the rendering rules the rendered fields were produced with; 0 = not rendered yet. */
+    @Column(name = "render_version", nullable = false)
+    private int renderVersion;
+
     /** Scheduled or actual publication date. */
     @Column(name = "publication_date", nullable = false)
     private LocalDateTime publicationDate;
@@ -127,6 +145,18 @@ public class News {
         return teaser;
     }
 
+    public String getRenderedBody() {
+        return renderedBody;
+    }
+
+    public String getRenderedTeaser() {
+        return renderedTeaser;
+    }
+
+    public int getRenderVersion() {
+        return renderVersion;
+    }
+
     public LocalDateTime getPublicationDate() {
         return publicationDate;
     }
@@ -173,6 +203,18 @@ public class News {
         this.teaser = teaser;
     }
 
+    public void setRenderedBody(String renderedBody) {
+        this.renderedBody = renderedBody;
+    }
+
+    public void setRenderedTeaser(String renderedTeaser) {
+        this.renderedTeaser = renderedTeaser;
+    }
+
+    public void setRenderVersion(int renderVersion) {
+        this.renderVersion = renderVersion;
+    }
+
     public void setPublicationDate(LocalDateTime publicationDate) {
         this.publicationDate = publicationDate;
     }
@@ -1,5 +1,6 @@
 package com.example.phoebe.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -15,6 +16,8 @@ import java.util.HashSet;
 
 import java.util.Objects;
 import java.util.Set;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Represents a specific permission in the system (e.g., "news:create", "users:delete").
@@ -25,6 +28,8 @@ import java.util.Set;
  * - Equality is based on id when available, otherwise on name.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "permissions")
 @Table(name = "permissions")
 public class Permission {
 
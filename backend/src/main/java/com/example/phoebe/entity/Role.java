@@ -1,5 +1,6 @@
 package com.example.phoebe.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -18,6 +19,8 @@ import java.util.HashSet;
 
 import java.util.Objects;
 import java.util.Set;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Represents a user role (e.g., ADMIN, EDITOR) used for authorization in the system.
@@ -28,6 +31,8 @@ import java.util.Set;
  * - Consider adding DB indexes on role_permissions(role_id) and role_permissions(permission_id) in migrations.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "roles")
 @Table(name = "roles")
 public class Role {
 
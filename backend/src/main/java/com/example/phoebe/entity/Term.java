@@ -1,5 +1,6 @@
 package com.example.phoebe.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -16,6 +17,8 @@ import jakarta.validation.constraints.Size;
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Set;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Entity representing a taxonomy term used to classify news content.
@@ -28,10 +31,13 @@ import java.util.Set;
  *   LOWER(name), LOWER(vocabulary) via DB migration (not expressible with JPA annotations).
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "terms")
 @Table(
         name = "terms",
         indexes = {
-                @Index(name = "idx_term_vocabulary", columnList = "vocabulary")
+                @Index(name = "idx_term_vocabulary", columnList = "vocabulary"),
+                @Index(name = "idx_term_parent", columnList = "parent_id")
         },
         uniqueConstraints = {
                 @UniqueConstraint(columnNames = {"name", "vocabulary"})
@@ -56,6 +62,13 @@ public class Term {
     @Column(nullable = false, length = 100)
     private final String vocabulary;
 
+    /**
+     * Parent term, or null for a top-level term. Changed only through the term hierarchy service, which keeps
+     * the closure table in step.
+     */
+    @Column(name = "parent_id")
+    private Long parentId;
+
     /** Articles associated with this term (inverse side). */
     @ManyToMany(mappedBy = "terms", fetch = FetchType.LAZY)
     private Set<News> newsArticles = new HashSet<>();
@@ -107,6 +120,14 @@ public class Term {
         return vocabulary;
     }
 
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public void setParentId(Long parentId) {
+        this.parentId = parentId;
+    }
+
     public Set<News> getNewsArticles() {
         return newsArticles;
     }
@@ -0,0 +1,90 @@
+package com.example.phoebe.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Row of the term closure table: {@code ancestorId} is {@code depth} levels above {@code descendantId}.
+ * Every term has a row with itself at depth 0, so the subtree of a term is one indexed lookup by ancestor
+ * and its ancestors one lookup by descendant. Maintained by the term hierarchy service only.
+ */
+@Entity
+@IdClass(TermClosure.Key.class)
+@Table(name = "term_closure",
+        indexes = @Index(name = "idx_term_closure_descendant", columnList = "descendant_id, ancestor_id"))
+public class TermClosure {
+
+    @Id
+    @Column(name = "ancestor_id", nullable = false)
+    private Long ancestorId;
+
+    @Id
+    @Column(name = "descendant_id", nullable = false)
+    private Long descendantId;
+
+    @Column(nullable = false)
+    private int depth;
+
+    protected TermClosure() {
+    }
+
+    public TermClosure(Long ancestorId, Long descendantId, int depth) {
+        this.ancestorId = ancestorId;
+        this.descendantId = descendantId;
+        this.depth = depth;
+    }
+
+    public Long getAncestorId() {
+        return ancestorId;
+    }
+
+    public Long getDescendantId() {
+        return descendantId;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Composite primary key (ancestor_id, descendant_id).
+     */
+    public static class Key implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private Long ancestorId;
+        private Long descendantId;
+
+        public Key() {
+        }
+
+        public Key(Long ancestorId, Long descendantId) {
+            this.ancestorId = ancestorId;
+            this.descendantId = descendantId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key key)) {
+                return false;
+            }
+            return Objects.equals(ancestorId, key.ancestorId) && Objects.equals(descendantId, key.descendantId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(ancestorId, descendantId);
+        }
+    }
+}
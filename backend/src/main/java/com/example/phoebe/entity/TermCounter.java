@@ -0,0 +1,72 @@
+package com.example.phoebe.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Denormalized article counts of a term, maintained in the transactions that change them.
+ * Kept out of {@code terms}, which is in the second-level cache, so counter updates do not invalidate it.
+ */
+@Entity
+@Table(name = "term_counters")
+public class TermCounter {
+
+    @Id
+    @Column(name = "term_id")
+    private Long termId;
+
+    /**
+     * Number of distinct published articles tagged with the term or any of its descendants.
+     */
+    @Column(name = "subtree_published", nullable = false)
+    private long subtreePublished;
+
+    /**
+     * Number of published articles tagged with the term itself.
+     */
+    @Column(name = "published_count", nullable = false)
+    private long publishedCount;
+
+    /**
+     * Number of articles, published or not, tagged with the term itself.
+     */
+    @Column(name = "total_count", nullable = false)
+    private long totalCount;
+
+    protected TermCounter() {
+    }
+
+    public TermCounter(Long termId) {
+        this.termId = termId;
+    }
+
+    public Long getTermId() {
+        return termId;
+    }
+
+    public long getSubtreePublished() {
+        return subtreePublished;
+    }
+
+    public void setSubtreePublished(long subtreePublished) {
+        this.subtreePublished = subtreePublished;
+    }
+
+    public long getPublishedCount() {
+        return publishedCount;
+    }
+
+    public void setPublishedCount(long publishedCount) {
+        this.publishedCount = publishedCount;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(long totalCount) {
+        this.totalCount = totalCount;
+    }
+}
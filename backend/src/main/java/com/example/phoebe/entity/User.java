@@ -81,6 +81,7 @@ public class User {
      * Roles assigned to the user.
      * LAZY to avoid fetching roles everywhere by default.
      * Unique constraint prevents duplicate links in the join table.
+     * Not in the second-level cache: it decides authorization and must not lag behind on other replicas.
      */
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
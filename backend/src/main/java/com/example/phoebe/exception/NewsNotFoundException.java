@@ -0,0 +1,13 @@
+package com.example.phoebe.exception;
+
+/**
+ * Thrown when a public article does not exist or is not published.
+ * Bots and stale links request such ids in bulk, and the outcome is an ordinary 404, so the exception
+ * carries no stack trace. Handled like any {@link ResourceNotFoundException}.
+ */
+public class NewsNotFoundException extends ResourceNotFoundException {
+
+    public NewsNotFoundException(Long id) {
+        super("News not found with id : '" + id + "'", false);
+    }
+}
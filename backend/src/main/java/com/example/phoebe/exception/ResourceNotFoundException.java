@@ -17,4 +17,11 @@ public class ResourceNotFoundException extends RuntimeException {
     public ResourceNotFoundException(String resourceName, String fieldName, Object fieldValue) {
         super(String.format("%s not found with %s : '%s'", resourceName, fieldName, fieldValue));
     }
+
+    /**
+     * For subclasses thrown on hot paths, where the stack trace would cost more than the lookup itself.
+     */
+    protected ResourceNotFoundException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
@@ -0,0 +1,111 @@
+package com.example.phoebe.filter;
+
+import com.example.phoebe.compression.CompressedVariantCache;
+import com.example.phoebe.compression.ContentEncoding;
+import com.example.phoebe.compression.ResponseCompressor;
+import com.example.phoebe.config.CompressionProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Content-negotiated gzip/brotli compression for configured paths (default /api/public/**).
+ *
+ * The response is buffered, and compressed only if it is a successful response of a compressible
+ * type at least app.compression.min-response-size bytes long. GET responses that the controller marked as
+ * rendered from a cache entry take their compressed bytes from {@link CompressedVariantCache}, so hot
+ * articles are compressed once, not per request; all others are compressed on the fly.
+ * Runs before the security chain so it sees the final response body.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class CompressionFilter extends OncePerRequestFilter {
+
+    private final CompressionProperties properties;
+    private final ResponseCompressor compressor;
+    private final CompressedVariantCache variantCache;
+    private final List<MediaType> compressibleTypes;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public CompressionFilter(CompressionProperties properties, ResponseCompressor compressor,
+                             CompressedVariantCache variantCache) {
+        this.properties = properties;
+        this.compressor = compressor;
+        this.variantCache = variantCache;
+        this.compressibleTypes = properties.mimeTypes().stream().map(MediaType::parseMediaType).toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!properties.enabled()) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return properties.paths().stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        ContentEncoding encoding = compressor.negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (encoding == null || "HEAD".equals(request.getMethod())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            writeResponse(request, wrapper, encoding);
+        }
+    }
+
+    private void writeResponse(HttpServletRequest request, ContentCachingResponseWrapper wrapper,
+                               ContentEncoding encoding) throws IOException {
+        byte[] body = wrapper.getContentAsByteArray();
+        if (!isCompressible(wrapper, body)) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        Object resource = request.getAttribute(CompressedVariantCache.RESOURCE_ATTRIBUTE);
+        byte[] compressed = properties.cacheVariants() && resource != null && "GET".equals(request.getMethod())
+                ? variantCache.getOrCompress(resource, wrapper.getContentType(), body, encoding)
+                : compressor.compress(body, encoding);
+
+        HttpServletResponse response = (HttpServletResponse) wrapper.getResponse();
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding.token());
+        response.setContentLength(compressed.length);
+        response.getOutputStream().write(compressed);
+    }
+
+    private boolean isCompressible(HttpServletResponse response, byte[] body) {
+        if (response.getStatus() != HttpServletResponse.SC_OK
+                || body.length < properties.minResponseSize()
+                || response.getHeader(HttpHeaders.CONTENT_ENCODING) != null
+                || response.getContentType() == null) {
+            return false;
+        }
+        try {
+            MediaType contentType = MediaType.parseMediaType(response.getContentType());
+            return compressibleTypes.stream().anyMatch(type -> type.includes(contentType));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+}
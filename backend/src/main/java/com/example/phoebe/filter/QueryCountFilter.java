@@ -0,0 +1,106 @@
+package com.example.phoebe.filter;
+
+import com.example.phoebe.config.QueryDiagnosticsProperties;
+import com.example.phoebe.diagnostics.QueryBudget;
+import com.example.phoebe.diagnostics.QueryBudgetExceededException;
+import com.example.phoebe.diagnostics.QueryStatistics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * Counts the SQL statements each request executes (app.diagnostics.queries, off by default).
+ *
+ * Statement shapes repeated at least repeat-threshold times are logged with the endpoint as a possible
+ * N+1, and so are requests over their endpoint's {@link QueryBudget}. With response-header the count is
+ * returned in X-Query-Count; with fail-on-budget-exceeded an exceeded budget turns the response into an
+ * error. Both need the response buffered, so the filter runs before compression and sees the whole request.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(QueryCountFilter.class);
+    private static final int MAX_LOGGED_SQL_LENGTH = 300;
+
+    private final QueryDiagnosticsProperties properties;
+
+    public QueryCountFilter(QueryDiagnosticsProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.enabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean buffered = properties.responseHeader() || properties.failOnBudgetExceeded();
+        ContentCachingResponseWrapper wrapper = buffered ? new ContentCachingResponseWrapper(response) : null;
+        QueryStatistics statistics = QueryStatistics.begin();
+        try {
+            filterChain.doFilter(request, buffered ? wrapper : response);
+        } finally {
+            QueryStatistics.end();
+        }
+
+        String endpoint = endpointOf(request);
+        statistics.repeatedShapes(properties.repeatThreshold()).forEach((shape, count) ->
+                LOGGER.warn("Possible N+1 in {}: {} executions of [{}]", endpoint, count, abbreviate(shape)));
+
+        QueryBudget budget = budgetOf(request);
+        boolean exceeded = budget != null && statistics.total() > budget.value();
+        if (exceeded) {
+            LOGGER.warn("{} executed {} SQL statements, budget is {}", endpoint, statistics.total(), budget.value());
+        }
+        if (!buffered) {
+            return;
+        }
+        if (exceeded && properties.failOnBudgetExceeded()) {
+            // The buffered body is dropped; the response is not committed yet, so the error still reaches the client.
+            throw new QueryBudgetExceededException(endpoint, statistics.total(), budget.value());
+        }
+        if (properties.responseHeader()) {
+            wrapper.setHeader(QUERY_COUNT_HEADER, String.valueOf(statistics.total()));
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    /**
+     * The matched mapping pattern (e.g. /api/public/news/{id}), so logs group by endpoint, not by URL.
+     */
+    private static String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+
+    private static QueryBudget budgetOf(HttpServletRequest request) {
+        if (!(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler)) {
+            return null;
+        }
+        QueryBudget budget = handler.getMethodAnnotation(QueryBudget.class);
+        return budget != null ? budget : AnnotatedElementUtils.findMergedAnnotation(handler.getBeanType(),
+                QueryBudget.class);
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= MAX_LOGGED_SQL_LENGTH ? sql : sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+}
@@ -1,6 +1,9 @@
 package com.example.phoebe.filter;
 
 import com.example.phoebe.config.RateLimitConfig;
+import com.example.phoebe.profiling.RateLimitEvent;
+import com.example.phoebe.tracing.Span;
+import com.example.phoebe.tracing.Tracing;
 import io.github.bucket4j.Bucket;
 import io.github.bucket4j.ConsumptionProbe;
 import jakarta.servlet.FilterChain;
@@ -35,8 +38,15 @@ public class RateLimitFilter extends OncePerRequestFilter {
         String ipAddress = getClientIpAddress(request);
         String requestPath = request.getRequestURI();
         
-        Bucket bucket = getBucketForRequest(ipAddress, requestPath);
-        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+        ConsumptionProbe probe;
+        try (Span span = Tracing.start("ratelimit")) {
+            RateLimitEvent event = new RateLimitEvent();
+            event.begin();
+            Bucket bucket = getBucketForRequest(ipAddress, requestPath);
+            probe = bucket.tryConsumeAndReturnRemaining(1);
+            event.complete(requestPath.startsWith("/api/admin/") ? "admin" : "public", ipAddress,
+                    probe.isConsumed(), probe.getRemainingTokens());
+        }
         
         if (probe.isConsumed()) {
             // Add rate limit headers
@@ -0,0 +1,60 @@
+package com.example.phoebe.filter;
+
+import com.example.phoebe.tracing.Span;
+import com.example.phoebe.tracing.Tracing;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Times the Spring Security filter chain of sampled requests as a "security" span.
+ *
+ * The span opens right before the chain and is closed by {@link EndOfChain}, which SecurityConfig adds
+ * after the authorization filter. Requests the chain rejects never reach it; their span closes on the way out.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+public class SecurityTracingFilter extends OncePerRequestFilter {
+
+    private static final String SPAN_ATTRIBUTE = SecurityTracingFilter.class.getName() + ".span";
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !Tracing.isActive();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Span span = Tracing.start("security");
+        request.setAttribute(SPAN_ATTRIBUTE, span);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            span.close();
+            request.removeAttribute(SPAN_ATTRIBUTE);
+        }
+    }
+
+    /**
+     * Last filter of the security chain: closes the "security" span.
+     */
+    public static class EndOfChain extends OncePerRequestFilter {
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                        FilterChain filterChain) throws ServletException, IOException {
+            if (request.getAttribute(SPAN_ATTRIBUTE) instanceof Span span) {
+                span.close();
+            }
+            filterChain.doFilter(request, response);
+        }
+    }
+}
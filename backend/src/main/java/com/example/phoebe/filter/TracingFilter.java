@@ -0,0 +1,73 @@
+package com.example.phoebe.filter;
+
+import com.example.phoebe.config.TracingProperties;
+import com.example.phoebe.tracing.RequestTrace;
+import com.example.phoebe.tracing.TraceExporter;
+import com.example.phoebe.tracing.Tracing;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Samples requests for tracing (app.tracing) and reports their spans.
+ *
+ * Runs first, so a trace covers compression, the security chain and everything after it. Sampled
+ * responses are buffered to add the Server-Timing and X-Trace-Id headers once the spans are known;
+ * unsampled requests pass straight through.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class TracingFilter extends OncePerRequestFilter {
+
+    public static final String SAMPLE_HEADER = "X-Trace";
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final TracingProperties properties;
+    private final TraceExporter exporter;
+
+    public TracingFilter(TracingProperties properties, TraceExporter exporter) {
+        this.properties = properties;
+        this.exporter = exporter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.enabled() || !isSampled(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestTrace trace = new RequestTrace(request.getMethod(), request.getRequestURI());
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        Tracing.begin(trace);
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            Tracing.end();
+            wrapper.setHeader(TRACE_ID_HEADER, trace.traceId());
+            if (properties.serverTimingHeader()) {
+                wrapper.setHeader(SERVER_TIMING_HEADER, trace.serverTiming());
+            }
+            exporter.export(trace.toRecord(wrapper.getStatus()));
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private boolean isSampled(HttpServletRequest request) {
+        if (properties.headerSampling() && "true".equalsIgnoreCase(request.getHeader(SAMPLE_HEADER))) {
+            return true;
+        }
+        return properties.sampleRate() > 0 && ThreadLocalRandom.current().nextDouble() < properties.sampleRate();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.phoebe.job;
+
+import com.example.phoebe.config.CacheInvalidationProperties;
+import com.example.phoebe.service.CacheInvalidationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background job that applies cache invalidations written by other replicas and deletes expired ones.
+ * Every replica runs both tasks; deleting the same expired rows twice is harmless.
+ */
+@Component
+public class CacheInvalidationJob {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CacheInvalidationJob.class);
+
+    private final CacheInvalidationService cacheInvalidationService;
+    private final CacheInvalidationProperties properties;
+
+    public CacheInvalidationJob(CacheInvalidationService cacheInvalidationService,
+                                CacheInvalidationProperties properties) {
+        this.cacheInvalidationService = cacheInvalidationService;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.invalidation.poll-interval:PT1S}")
+    public void applyRemoteEvents() {
+        if (!properties.enabled()) {
+            return;
+        }
+        int applied = cacheInvalidationService.applyRemoteEvents();
+        if (applied > 0) {
+            LOGGER.debug("Applied {} cache invalidations from other replicas", applied);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${app.cache.invalidation.compaction-interval:PT10M}",
+               fixedDelayString = "${app.cache.invalidation.compaction-interval:PT10M}")
+    public void deleteExpiredEvents() {
+        int deleted = cacheInvalidationService.deleteExpiredEvents();
+        if (deleted > 0) {
+            LOGGER.info("Deleted {} expired cache invalidation events", deleted);
+        }
+    }
+}
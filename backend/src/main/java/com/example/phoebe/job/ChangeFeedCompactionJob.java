@@ -0,0 +1,32 @@
+package com.example.phoebe.job;
+
+import com.example.phoebe.service.ChangeFeedService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background job that deletes change feed events older than app.changes.retention.
+ * Every replica runs it; deleting the same expired rows twice is harmless.
+ */
+@Component
+public class ChangeFeedCompactionJob {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChangeFeedCompactionJob.class);
+
+    private final ChangeFeedService changeFeedService;
+
+    public ChangeFeedCompactionJob(ChangeFeedService changeFeedService) {
+        this.changeFeedService = changeFeedService;
+    }
+
+    @Scheduled(initialDelayString = "${app.changes.compaction-interval:PT1H}",
+               fixedDelayString = "${app.changes.compaction-interval:PT1H}")
+    public void deleteExpiredEvents() {
+        int deleted = changeFeedService.deleteExpiredEvents();
+        if (deleted > 0) {
+            LOGGER.info("Deleted {} expired change feed events", deleted);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.phoebe.job;
+
+import com.example.phoebe.config.ContentRenderingProperties;
+import com.example.phoebe.service.NewsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Background job that re-renders stored articles after the rendering rules change.
+ * Articles whose render_version is below app.content.rendering.version are processed in
+ * batches (one transaction each); cached public copies are evicted after every batch.
+ */
+@Component
+public class ContentRerenderJob {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContentRerenderJob.class);
+
+    private final NewsService newsService;
+    private final CacheManager cacheManager;
+    private final ContentRenderingProperties properties;
+
+    public ContentRerenderJob(NewsService newsService, CacheManager cacheManager,
+                              ContentRenderingProperties properties) {
+        this.newsService = newsService;
+        this.cacheManager = cacheManager;
+        this.properties = properties;
+    }
+
+    @Scheduled(initialDelayString = "${app.content.rendering.rerender-initial-delay:PT1M}",
+               fixedDelayString = "${app.content.rendering.rerender-interval:PT10M}")
+    public void rerenderOutdated() {
+        if (!properties.rerenderEnabled()) {
+            return;
+        }
+        int batchSize = properties.rerenderBatchSize();
+        Cache newsCache = cacheManager.getCache("news-by-id");
+        int total = 0;
+        List<Long> processed;
+        do {
+            processed = newsService.rerenderOutdated(batchSize);
+            if (newsCache != null) {
+                processed.forEach(newsCache::evict);
+            }
+            total += processed.size();
+        } while (processed.size() == batchSize);
+
+        if (total > 0) {
+            LOGGER.info("Re-rendered {} articles to rendering version {}", total, properties.version());
+        }
+    }
+}
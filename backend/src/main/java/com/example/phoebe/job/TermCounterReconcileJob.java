@@ -0,0 +1,55 @@
+package com.example.phoebe.job;
+
+import com.example.phoebe.config.TermCounterProperties;
+import com.example.phoebe.service.TermHierarchyService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Background job that recomputes the denormalized per-term article counters from content_terms and repairs
+ * drift, for example after articles were tagged or deleted with SQL. Counters are processed in batches (one
+ * transaction each, locking the batch); a failed batch is retried on the next pass.
+ */
+@Component
+public class TermCounterReconcileJob {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TermCounterReconcileJob.class);
+
+    private final TermHierarchyService termHierarchyService;
+    private final TermCounterProperties properties;
+
+    public TermCounterReconcileJob(TermHierarchyService termHierarchyService, TermCounterProperties properties) {
+        this.termHierarchyService = termHierarchyService;
+        this.properties = properties;
+    }
+
+    @Scheduled(initialDelayString = "${app.term-counters.reconcile-interval:PT1H}",
+               fixedDelayString = "${app.term-counters.reconcile-interval:PT1H}")
+    public void reconcile() {
+        if (!properties.reconcileEnabled()) {
+            return;
+        }
+        int batchSize = properties.reconcileBatchSize();
+        long afterTermId = 0;
+        int total = 0;
+        List<Long> checked;
+        try {
+            do {
+                checked = termHierarchyService.reconcileCounters(afterTermId, batchSize);
+                if (!checked.isEmpty()) {
+                    afterTermId = checked.get(checked.size() - 1);
+                }
+                total += checked.size();
+            } while (checked.size() == batchSize);
+        } catch (DataAccessException e) {
+            LOGGER.warn("Term counter reconciliation stopped after term {}: {}", afterTermId, e.getMessage());
+            return;
+        }
+        LOGGER.debug("Reconciled the counters of {} terms", total);
+    }
+}
@@ -30,8 +30,22 @@ public interface NewsMapper {
     @Mapping(source = "author.id", target = "authorId")
     @Mapping(source = "author.username", target = "authorName")
     @Mapping(source = "terms", target = "termNames", qualifiedByName = "termsToNames")
+    @Mapping(source = "terms", target = "termIds", qualifiedByName = "termsToIds")
     NewsDto toDto(News news);
 
+    /**
+     * Maps a News entity to a NewsDto for public responses.
+     * Serves the rendered body and teaser stored at write time, so no text processing happens
+     * on reads. Rows not rendered yet (render version 0) fall back to the raw fields.
+     */
+    @Mapping(source = "author.id", target = "authorId")
+    @Mapping(source = "author.username", target = "authorName")
+    @Mapping(source = "terms", target = "termNames", qualifiedByName = "termsToNames")
+    @Mapping(source = "terms", target = "termIds", qualifiedByName = "termsToIds")
+    @Mapping(target = "body", expression = "java(news.getRenderVersion() > 0 ? news.getRenderedBody() : news.getBody())")
+    @Mapping(target = "teaser", expression = "java(news.getRenderVersion() > 0 ? news.getRenderedTeaser() : news.getTeaser())")
+    NewsDto toPublicDto(News news);
+
     /**
      * Maps a NewsCreateRequestDto to a new News entity.
      * The 'content' from the DTO is mapped to the 'body' of the entity.
@@ -47,6 +61,9 @@ public interface NewsMapper {
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "version", ignore = true)
+    @Mapping(target = "renderedBody", ignore = true)
+    @Mapping(target = "renderedTeaser", ignore = true)
+    @Mapping(target = "renderVersion", ignore = true)
     News toEntity(NewsCreateRequestDto createRequest);
 
     /**
@@ -63,6 +80,9 @@ public interface NewsMapper {
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "version", ignore = true)
+    @Mapping(target = "renderedBody", ignore = true)
+    @Mapping(target = "renderedTeaser", ignore = true)
+    @Mapping(target = "renderVersion", ignore = true)
     void updateEntityFromDto(NewsUpdateRequestDto dto, @MappingTarget News entity);
 
     /**
@@ -78,4 +98,18 @@ public interface NewsMapper {
                 .map(Term::getName)
                 .collect(Collectors.toSet());
     }
-}
\ No newline at end of file
+
+    /**
+     * Converts a Set of Term entities to a Set of their IDs.
+     * Returns empty set if input is null.
+     */
+    @Named("termsToIds")
+    default Set<Long> termsToIds(Set<Term> terms) {
+        if (terms == null) {
+            return Set.of();
+        }
+        return terms.stream()
+                .map(Term::getId)
+                .collect(Collectors.toSet());
+    }
+}
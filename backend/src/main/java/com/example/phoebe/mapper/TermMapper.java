@@ -40,13 +40,14 @@ public interface TermMapper {
     /**
      * Updates an existing Term entity from a TermUpdateRequestDto.
      * Ignores null properties in the request DTO, allowing for partial updates (PATCH).
-     * The 'id' and relationships are never updated from a DTO.
+     * The 'id', the parent and relationships are never updated from a DTO (see TermService#move).
      *
      * @param entity  The Term entity to be updated (loaded from the database).
      * @param request The DTO containing the fields to update.
      */
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "parentId", ignore = true)
     @Mapping(target = "newsArticles", ignore = true)
     void updateEntity(@MappingTarget Term entity, TermUpdateRequestDto request);
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.example.phoebe.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Lookup in a Spring cache. For a miss on a synchronized lookup the duration includes loading the value.
+ */
+@Name("com.example.phoebe.CacheLookup")
+@Label("Cache Lookup")
+@Category({"Phoebe", "Cache"})
+@Description("Lookup in an application cache, with hit or miss")
+@StackTrace(false)
+public class CacheLookupEvent extends Event {
+
+    @Label("Cache")
+    String cache;
+
+    @Label("Key")
+    String key;
+
+    @Label("Hit")
+    boolean hit;
+}
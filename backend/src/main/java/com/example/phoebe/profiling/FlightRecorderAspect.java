@@ -0,0 +1,73 @@
+package com.example.phoebe.profiling;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.JoinPoint;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+/**
+ * Emits JFR events for service and repository calls. When no recording enables the events,
+ * {@code shouldCommit()} is false and nothing but the event allocation is paid.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class FlightRecorderAspect {
+
+    @Around("within(com.example.phoebe.service.impl.NewsServiceImpl)"
+            + " || within(com.example.phoebe.service.impl.TermServiceImpl)")
+    public Object recordService(ProceedingJoinPoint joinPoint) throws Throwable {
+        ServiceMethodEvent event = new ServiceMethodEvent();
+        event.begin();
+        boolean failed = true;
+        try {
+            Object result = joinPoint.proceed();
+            failed = false;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+                event.method = joinPoint.getSignature().getName();
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object recordRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        RepositoryQueryEvent event = new RepositoryQueryEvent();
+        event.begin();
+        boolean failed = true;
+        try {
+            Object result = joinPoint.proceed();
+            failed = false;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.repository = repositoryName(joinPoint);
+                event.method = joinPoint.getSignature().getName();
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * The application's repository interface; inherited methods like findById are declared on CrudRepository.
+     */
+    private static String repositoryName(JoinPoint joinPoint) {
+        for (Class<?> type : joinPoint.getThis().getClass().getInterfaces()) {
+            if (Repository.class.isAssignableFrom(type) && !type.getName().startsWith("org.springframework.")) {
+                return type.getSimpleName();
+            }
+        }
+        return joinPoint.getSignature().getDeclaringType().getSimpleName();
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.phoebe.profiling;
+
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Caffeine-backed Spring cache that emits a {@link CacheLookupEvent} per lookup. It stays a
+ * {@link CaffeineCache}, so cache metrics are bound as before.
+ */
+public class FlightRecorderCaffeineCache extends CaffeineCache {
+
+    public FlightRecorderCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                                       boolean allowNullValues) {
+        super(name, cache, allowNullValues);
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        CacheLookupEvent event = new CacheLookupEvent();
+        event.begin();
+        Object value = super.lookup(key);
+        commit(event, key, value != null);
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        CacheLookupEvent event = new CacheLookupEvent();
+        event.begin();
+        boolean[] loaded = new boolean[1];
+        T value = super.get(key, () -> {
+            loaded[0] = true;
+            return valueLoader.call();
+        });
+        commit(event, key, !loaded[0]);
+        return value;
+    }
+
+    private void commit(CacheLookupEvent event, Object key, boolean hit) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.cache = getName();
+            event.key = String.valueOf(key);
+            event.hit = hit;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.phoebe.profiling;
+
+import com.example.phoebe.config.ProfilingProperties;
+import com.example.phoebe.exception.ResourceNotFoundException;
+import com.example.phoebe.exception.ValidationException;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Actuator endpoint (/actuator/flightrecorder, ADMIN only) for on-demand Java Flight Recorder recordings.
+ *
+ * <ul>
+ *   <li>GET /actuator/flightrecorder - recordings of this JVM</li>
+ *   <li>POST /actuator/flightrecorder {"template": "profile", "duration": "PT2M"} - start a recording</li>
+ *   <li>POST /actuator/flightrecorder/{id} - stop it</li>
+ *   <li>GET /actuator/flightrecorder/{id} - download the .jfr file (a snapshot if still running)</li>
+ *   <li>DELETE /actuator/flightrecorder/{id} - close it and delete its files</li>
+ * </ul>
+ *
+ * Recordings include the application events of this package next to the JDK's GC, lock and I/O events.
+ */
+@Endpoint(id = "flightrecorder")
+public class FlightRecorderEndpoint {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FlightRecorderEndpoint.class);
+
+    private final ProfilingProperties properties;
+
+    public FlightRecorderEndpoint(ProfilingProperties properties) {
+        this.properties = properties;
+    }
+
+    @ReadOperation
+    public List<RecordingDto> recordings() {
+        return FlightRecorder.getFlightRecorder().getRecordings().stream().map(RecordingDto::of).toList();
+    }
+
+    /**
+     * Starts a recording with a JDK template: "default" (continuous, about 1% overhead) or "profile"
+     * (method sampling and more detail, about 2%).
+     */
+    @WriteOperation
+    public RecordingDto start(@Nullable String template, @Nullable Duration duration) {
+        String templateName = template != null ? template : properties.defaultTemplate();
+        if (!properties.templates().contains(templateName)) {
+            throw new ValidationException("Unknown recording template: " + templateName
+                    + "; allowed: " + properties.templates());
+        }
+        Duration recordingDuration = duration != null ? duration : properties.defaultDuration();
+        if (recordingDuration.compareTo(properties.maxDuration()) > 0) {
+            throw new ValidationException("Recording duration exceeds " + properties.maxDuration());
+        }
+        Recording recording;
+        try {
+            recording = new Recording(Configuration.getConfiguration(templateName));
+        } catch (IOException | ParseException e) {
+            throw new ValidationException("Recording template " + templateName + " cannot be loaded");
+        }
+        recording.setName("phoebe-" + templateName);
+        recording.setDuration(recordingDuration);
+        recording.setMaxSize(properties.maxSize().toBytes());
+        recording.setToDisk(true);
+        recording.start();
+        LOGGER.info("Started flight recording {} ({}, {})", recording.getId(), templateName, recordingDuration);
+        return RecordingDto.of(recording);
+    }
+
+    @WriteOperation
+    public RecordingDto stop(@Selector long id) {
+        Recording recording = find(id);
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            LOGGER.info("Stopped flight recording {}", id);
+        }
+        return RecordingDto.of(recording);
+    }
+
+    @ReadOperation
+    public Resource download(@Selector long id) {
+        Recording recording = find(id);
+        Path file = dumpFile(id);
+        try {
+            Files.createDirectories(file.getParent());
+            recording.dump(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write flight recording " + id, e);
+        }
+        return new FileSystemResource(file);
+    }
+
+    @DeleteOperation
+    public void close(@Selector long id) {
+        find(id).close();
+        try {
+            Files.deleteIfExists(dumpFile(id));
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete dump of flight recording {}: {}", id, e.getMessage());
+        }
+        LOGGER.info("Closed flight recording {}", id);
+    }
+
+    private Recording find(long id) {
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .filter(recording -> recording.getId() == id)
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Recording", "id", id));
+    }
+
+    private Path dumpFile(long id) {
+        return Path.of(properties.directory()).resolve("recording-" + id + ".jfr");
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.phoebe.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Rate limit decision for one request: bucket lookup and token consumption.
+ */
+@Name("com.example.phoebe.RateLimit")
+@Label("Rate Limit Decision")
+@Category({"Phoebe", "Web"})
+@Description("Bucket lookup and token consumption of the rate limiter")
+@StackTrace(false)
+public class RateLimitEvent extends Event {
+
+    @Label("Bucket")
+    @Description("public or admin")
+    String bucket;
+
+    @Label("Client Address")
+    String client;
+
+    @Label("Allowed")
+    boolean allowed;
+
+    @Label("Remaining Tokens")
+    long remainingTokens;
+
+    /**
+     * Ends the event and commits it if a recording is interested.
+     */
+    public void complete(String bucket, String client, boolean allowed, long remainingTokens) {
+        end();
+        if (shouldCommit()) {
+            this.bucket = bucket;
+            this.client = client;
+            this.allowed = allowed;
+            this.remainingTokens = remainingTokens;
+            commit();
+        }
+    }
+}
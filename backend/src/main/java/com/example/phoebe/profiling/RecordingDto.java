@@ -0,0 +1,24 @@
+package com.example.phoebe.profiling;
+
+import jdk.jfr.Recording;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Flight recording as listed by the "flightrecorder" actuator endpoint.
+ *
+ * @param id        Recording id, used in /actuator/flightrecorder/{id}.
+ * @param name      Recording name; recordings started by the endpoint are named after their template.
+ * @param state     NEW, DELAYED, RUNNING, STOPPED or CLOSED.
+ * @param startTime Start of the recording, null before it starts.
+ * @param duration  Fixed duration after which the recording stops, null when stopped manually.
+ * @param size      Bytes recorded so far.
+ */
+public record RecordingDto(long id, String name, String state, Instant startTime, Duration duration, long size) {
+
+    static RecordingDto of(Recording recording) {
+        return new RecordingDto(recording.getId(), recording.getName(), recording.getState().name(),
+                recording.getStartTime(), recording.getDuration(), recording.getSize());
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.phoebe.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Call of a Spring Data repository method: the SQL round trips and entity hydration.
+ */
+@Name("com.example.phoebe.RepositoryQuery")
+@Label("Repository Query")
+@Category({"Phoebe", "Database"})
+@Description("Call of a Spring Data repository method")
+@StackTrace(false)
+public class RepositoryQueryEvent extends Event {
+
+    @Label("Repository")
+    String repository;
+
+    @Label("Method")
+    String method;
+
+    @Label("Failed")
+    boolean failed;
+}
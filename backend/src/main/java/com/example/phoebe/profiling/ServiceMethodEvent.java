@@ -0,0 +1,28 @@
+package com.example.phoebe.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Execution of a service method, including its transaction and cache advice.
+ */
+@Name("com.example.phoebe.ServiceMethod")
+@Label("Service Method")
+@Category({"Phoebe", "Service"})
+@Description("Execution of a NewsService or TermService method")
+@StackTrace(false)
+public class ServiceMethodEvent extends Event {
+
+    @Label("Service")
+    String service;
+
+    @Label("Method")
+    String method;
+
+    @Label("Failed")
+    boolean failed;
+}
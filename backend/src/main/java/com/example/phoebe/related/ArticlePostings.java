@@ -0,0 +1,279 @@
+package com.example.phoebe.related;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Term to article posting lists of the published articles, for finding the articles related to one another.
+ *
+ * <p>Every term maps to the ascending ids of its articles in a plain {@code int[]}. The related articles of an
+ * article are found by merging the lists of its terms: each candidate appears once per shared term, so its
+ * overlap is summed in a single pass without a per-candidate map.</p>
+ *
+ * <p>The score of a candidate is {@code ln(overlap) + ln 2 × publication time / half-life}, where the overlap
+ * adds up the inverse document frequency of the shared terms (a rare tag says more than a big category).
+ * This is the logarithm of {@code overlap × 2^(age / half-life)} up to a constant, so it ranks like a decay
+ * by age but does not change with the current time, and stored scores stay comparable.</p>
+ *
+ * <p>Writes are serialized; a list is replaced, never modified, so lookups take no lock. A lookup running
+ * during a write may see the article in some of its lists only.</p>
+ */
+public final class ArticlePostings {
+
+    /** Highest score first; at equal score the newer id. */
+    public static final Comparator<Match> RANKING =
+            Comparator.comparingDouble(Match::score).reversed()
+                    .thenComparing(Match::articleId, Comparator.reverseOrder());
+
+    private static final int[] EMPTY = new int[0];
+
+    private final double recencyPerSecond;
+    private final Map<Long, int[]> postings = new ConcurrentHashMap<>();
+    private final Map<Integer, Article> articles = new ConcurrentHashMap<>();
+    /** Recency by article id, NaN for ids not indexed; read without a lock, so replaced when it grows. */
+    private volatile double[] recencies = new double[0];
+
+    public ArticlePostings(Duration recencyHalfLife) {
+        this.recencyPerSecond = Math.log(2) / recencyHalfLife.toSeconds();
+    }
+
+    /**
+     * A candidate with its score; scores are comparable within one {@code ArticlePostings}.
+     */
+    public record Match(int articleId, double score) {
+    }
+
+    /**
+     * The sorted distinct terms of an indexed article and the recency part of its score.
+     */
+    private record Article(long[] termIds, double recency) {
+    }
+
+    /**
+     * Adds an article or replaces its terms and publication date.
+     */
+    public synchronized void put(int articleId, Collection<Long> termIds, LocalDateTime publicationDate) {
+        remove(articleId);
+        long[] terms = termIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        if (terms.length == 0) {
+            return;
+        }
+        for (long termId : terms) {
+            postings.compute(termId, (key, ids) -> insert(ids, articleId));
+        }
+        double recency = publicationDate.toEpochSecond(ZoneOffset.UTC) * recencyPerSecond;
+        articles.put(articleId, new Article(terms, recency));
+        setRecency(articleId, recency);
+    }
+
+    /**
+     * Removes an article; unknown ids are ignored.
+     */
+    public synchronized void remove(int articleId) {
+        Article previous = articles.remove(articleId);
+        if (previous == null) {
+            return;
+        }
+        setRecency(articleId, Double.NaN);
+        for (long termId : previous.termIds()) {
+            postings.computeIfPresent(termId, (key, ids) -> delete(ids, articleId));
+        }
+    }
+
+    public boolean contains(int articleId) {
+        return articles.containsKey(articleId);
+    }
+
+    public int size() {
+        return articles.size();
+    }
+
+    /**
+     * Ids of the articles with the term, ascending. The array must not be modified.
+     */
+    public int[] articlesOf(long termId) {
+        return postings.getOrDefault(termId, EMPTY);
+    }
+
+    /**
+     * The best-scored articles sharing at least one term with the given one, best first.
+     * @return At most {@code limit} matches; empty for an unknown article
+     */
+    public List<Match> related(int articleId, int limit) {
+        Article source = articles.get(articleId);
+        if (source == null || limit <= 0) {
+            return List.of();
+        }
+        int lists = source.termIds().length;
+        int[][] ids = new int[lists][];
+        double[] weights = new double[lists];
+        int[] cursors = new int[lists];
+        int total = articles.size();
+        for (int i = 0; i < lists; i++) {
+            ids[i] = articlesOf(source.termIds()[i]);
+            weights[i] = weight(ids[i].length, total);
+        }
+
+        double[] known = recencies;
+        double lastOverlap = 0;
+        double lastLog = Double.NEGATIVE_INFINITY;
+        TopMatches top = new TopMatches(limit);
+        while (true) {
+            // The smallest id under the cursors is the next candidate; every list holding it contributes.
+            int candidate = -1;
+            for (int i = 0; i < lists; i++) {
+                if (cursors[i] < ids[i].length && (candidate < 0 || ids[i][cursors[i]] < candidate)) {
+                    candidate = ids[i][cursors[i]];
+                }
+            }
+            if (candidate < 0) {
+                break;
+            }
+            double overlap = 0;
+            for (int i = 0; i < lists; i++) {
+                if (cursors[i] < ids[i].length && ids[i][cursors[i]] == candidate) {
+                    overlap += weights[i];
+                    cursors[i]++;
+                }
+            }
+            double recency = candidate < known.length ? known[candidate] : Double.NaN;
+            if (candidate != articleId && !Double.isNaN(recency)) {
+                // Most candidates share a single term, so consecutive overlaps are usually equal.
+                if (overlap != lastOverlap) {
+                    lastOverlap = overlap;
+                    lastLog = Math.log(overlap);
+                }
+                top.offer(candidate, lastLog + recency);
+            }
+        }
+        return top.toList();
+    }
+
+    /**
+     * The score of a candidate for the given article, as {@link #related} computes it.
+     * @return The score, or negative infinity if the articles share no term or one of them is not indexed
+     */
+    public double score(int articleId, int candidateId) {
+        Article source = articles.get(articleId);
+        Article candidate = articles.get(candidateId);
+        if (source == null || candidate == null || articleId == candidateId) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        long[] left = source.termIds();
+        long[] right = candidate.termIds();
+        int total = articles.size();
+        double overlap = 0;
+        for (int i = 0, j = 0; i < left.length && j < right.length;) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                overlap += weight(articlesOf(left[i]).length, total);
+                i++;
+                j++;
+            }
+        }
+        return overlap == 0 ? Double.NEGATIVE_INFINITY : Math.log(overlap) + candidate.recency();
+    }
+
+    private void setRecency(int articleId, double recency) {
+        double[] current = recencies;
+        if (articleId >= current.length) {
+            if (Double.isNaN(recency)) {
+                return;
+            }
+            current = Arrays.copyOf(current, Math.max(articleId + 1, current.length * 3 / 2));
+            Arrays.fill(current, recencies.length, current.length, Double.NaN);
+        }
+        current[articleId] = recency;
+        recencies = current;
+    }
+
+    /**
+     * Inverse document frequency of a term with {@code frequency} of the {@code total} articles.
+     */
+    private static double weight(int frequency, int total) {
+        return Math.log(1 + (double) total / Math.max(1, frequency));
+    }
+
+    private static int[] insert(int[] ids, int articleId) {
+        if (ids == null) {
+            return new int[] {articleId};
+        }
+        int position = Arrays.binarySearch(ids, articleId);
+        if (position >= 0) {
+            return ids;
+        }
+        int insertAt = -position - 1;
+        int[] grown = new int[ids.length + 1];
+        System.arraycopy(ids, 0, grown, 0, insertAt);
+        grown[insertAt] = articleId;
+        System.arraycopy(ids, insertAt, grown, insertAt + 1, ids.length - insertAt);
+        return grown;
+    }
+
+    /**
+     * The list without the article, or null (removing the term) if nothing is left.
+     */
+    private static int[] delete(int[] ids, int articleId) {
+        int position = Arrays.binarySearch(ids, articleId);
+        if (position < 0) {
+            return ids;
+        }
+        if (ids.length == 1) {
+            return null;
+        }
+        int[] shrunk = new int[ids.length - 1];
+        System.arraycopy(ids, 0, shrunk, 0, position);
+        System.arraycopy(ids, position + 1, shrunk, position, ids.length - position - 1);
+        return shrunk;
+    }
+
+    /**
+     * The best {@code limit} candidates seen so far, kept sorted in two parallel arrays; a candidate that does not
+     * make it costs one comparison and no allocation.
+     */
+    private static final class TopMatches {
+
+        private final int[] ids;
+        private final double[] scores;
+        private int size;
+
+        TopMatches(int limit) {
+            this.ids = new int[limit];
+            this.scores = new double[limit];
+        }
+
+        void offer(int articleId, double score) {
+            if (size == ids.length && !ranksBefore(articleId, score, size - 1)) {
+                return;
+            }
+            int position = Math.min(size, ids.length - 1);
+            while (position > 0 && ranksBefore(articleId, score, position - 1)) {
+                ids[position] = ids[position - 1];
+                scores[position] = scores[position - 1];
+                position--;
+            }
+            ids[position] = articleId;
+            scores[position] = score;
+            size = Math.min(size + 1, ids.length);
+        }
+
+        private boolean ranksBefore(int articleId, double score, int position) {
+            return score > scores[position] || score == scores[position] && articleId > ids[position];
+        }
+
+        List<Match> toList() {
+            return IntStream.range(0, size).mapToObj(i -> new Match(ids[i], scores[i])).toList();
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.phoebe.related;
+
+import com.example.phoebe.config.RelatedArticlesProperties;
+import com.example.phoebe.dto.response.ArticleTermDto;
+import com.example.phoebe.dto.response.ChangeEventDto;
+import com.example.phoebe.dto.response.ChangeFeedDto;
+import com.example.phoebe.entity.ChangeEvent;
+import com.example.phoebe.repository.NewsRepository;
+import com.example.phoebe.service.ChangeFeedService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory related-articles engine: {@link ArticlePostings} over the published articles, and the related list
+ * of each recently viewed article in a bounded cache.
+ *
+ * <p>The postings are built from the database when the application is ready and rebuilt every
+ * {@code rebuild-interval}, which also refreshes the term weights. In between, the index follows the public
+ * change feed every {@code refresh-interval}, so changes made on any instance are applied: the changed articles
+ * are reloaded with one query and each cached list is adjusted in place for them (a changed article enters,
+ * moves or leaves it). Only a list whose changed entry drops in rank is recomputed, on its next read, as an
+ * article outside of it may now rank higher. Adjusting costs one score per cached list and changed article, so
+ * when more than {@code max-adjusted-changes} articles changed at once the cache is cleared instead. Cached
+ * scores keep the term weights they were computed with until the next rebuild.</p>
+ *
+ * <p>Article ids are held as {@code int}.</p>
+ */
+@Component
+public class RelatedArticleIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RelatedArticleIndex.class);
+
+    /** Changed articles reloaded per query. */
+    private static final int RELOAD_BATCH_SIZE = 500;
+
+    private final NewsRepository newsRepository;
+    private final ChangeFeedService changeFeedService;
+    private final RelatedArticlesProperties properties;
+    private final Cache<Integer, List<ArticlePostings.Match>> results;
+
+    private volatile ArticlePostings postings;
+    /** Last change feed event applied, or -1 before the first build. Guarded by this. */
+    private long cursor = -1;
+
+    public RelatedArticleIndex(NewsRepository newsRepository, ChangeFeedService changeFeedService,
+                               RelatedArticlesProperties properties) {
+        this.newsRepository = newsRepository;
+        this.changeFeedService = changeFeedService;
+        this.properties = properties;
+        this.postings = new ArticlePostings(properties.recencyHalfLife());
+        this.results = Caffeine.newBuilder().maximumSize(properties.cacheSize()).build();
+    }
+
+    /**
+     * Replaces the index with the published articles of the database.
+     * On a database error the previous index is kept.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.related-articles.rebuild-interval:PT6H}",
+               initialDelayString = "${app.related-articles.rebuild-interval:PT6H}")
+    public synchronized void rebuild() {
+        try {
+            // Taken first: changes committed while the articles are read are applied again, which is harmless.
+            long start = changeFeedService.currentCursor();
+            ArticlePostings rebuilt = new ArticlePostings(properties.recencyHalfLife());
+            newsRepository.findPublishedArticleTerms().stream()
+                    .collect(Collectors.groupingBy(ArticleTermDto::newsId))
+                    .forEach((newsId, rows) -> index(rebuilt, newsId, rows));
+            postings = rebuilt;
+            cursor = start;
+            results.invalidateAll();
+        } catch (DataAccessException e) {
+            LOGGER.warn("Could not rebuild the related-articles index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Applies the article changes published in the change feed since the last call.
+     */
+    @Scheduled(fixedDelayString = "${app.related-articles.refresh-interval:PT1S}")
+    public synchronized void refresh() {
+        if (cursor < 0) {
+            return;
+        }
+        try {
+            ChangeFeedDto changes;
+            do {
+                changes = changeFeedService.getChanges(cursor, RELOAD_BATCH_SIZE);
+                if (changes.resyncRequired()) {
+                    LOGGER.info("Change feed events were deleted before being applied; rebuilding related articles");
+                    rebuild();
+                    return;
+                }
+                apply(changes.events());
+                cursor = changes.nextCursor();
+            } while (changes.hasMore());
+        } catch (DataAccessException e) {
+            LOGGER.warn("Could not refresh the related-articles index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Ids of the published articles most related to the given one, best first.
+     *
+     * @param articleId Id of a published article
+     * @param limit     Maximum number of ids; capped at {@code max-results}
+     */
+    public List<Long> related(Long articleId, int limit) {
+        if (articleId == null || articleId < 0 || articleId > Integer.MAX_VALUE) {
+            return List.of();
+        }
+        int capped = Math.max(1, Math.min(limit, properties.maxResults()));
+        return results.get(articleId.intValue(), id -> postings.related(id, properties.maxResults())).stream()
+                .limit(capped)
+                .map(match -> (long) match.articleId())
+                .toList();
+    }
+
+    /**
+     * Number of indexed articles.
+     */
+    public int size() {
+        return postings.size();
+    }
+
+    /**
+     * Number of related lists currently cached.
+     */
+    long cachedCount() {
+        return results.estimatedSize();
+    }
+
+    private void apply(List<ChangeEventDto> events) {
+        ArticlePostings current = postings;
+        Set<Long> changed = new LinkedHashSet<>();
+        for (ChangeEventDto event : events) {
+            if (event.entityType() == ChangeEvent.EntityType.ARTICLE) {
+                changed.add(event.entityId());
+            } else if (event.change() == ChangeEvent.ChangeType.DELETED) {
+                // A deleted term is removed from its articles without an article event.
+                for (int articleId : current.articlesOf(event.entityId())) {
+                    changed.add((long) articleId);
+                }
+            }
+        }
+        List<Long> ids = new ArrayList<>(changed);
+        boolean adjust = ids.size() <= properties.maxAdjustedChanges();
+        for (int from = 0; from < ids.size(); from += RELOAD_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + RELOAD_BATCH_SIZE, ids.size()));
+            Map<Long, List<ArticleTermDto>> rows = newsRepository.findPublishedArticleTermsIn(batch).stream()
+                    .collect(Collectors.groupingBy(ArticleTermDto::newsId));
+            batch.forEach(newsId -> {
+                index(current, newsId, rows.getOrDefault(newsId, List.of()));
+                if (adjust) {
+                    adjustCachedResults(current, newsId.intValue());
+                }
+            });
+        }
+        if (!adjust) {
+            results.invalidateAll();
+        }
+    }
+
+    /**
+     * Indexes a published article with its terms; without rows the article is removed.
+     */
+    private static void index(ArticlePostings target, Long newsId, Collection<ArticleTermDto> rows) {
+        if (rows.isEmpty()) {
+            target.remove(newsId.intValue());
+            return;
+        }
+        target.put(newsId.intValue(), rows.stream().map(ArticleTermDto::termId).toList(),
+                rows.iterator().next().publicationDate());
+    }
+
+    private void adjustCachedResults(ArticlePostings current, int changedId) {
+        results.invalidate(changedId);
+        Map<Integer, List<ArticlePostings.Match>> cached = results.asMap();
+        for (Integer articleId : cached.keySet()) {
+            cached.computeIfPresent(articleId, (key, matches) -> adjusted(current, key, matches, changedId));
+        }
+    }
+
+    /**
+     * The list of {@code articleId} after {@code changedId} changed, or null if it must be recomputed.
+     * A list shorter than {@code max-results} holds every candidate, so it can always be adjusted.
+     */
+    private List<ArticlePostings.Match> adjusted(ArticlePostings current, int articleId,
+                                                 List<ArticlePostings.Match> matches, int changedId) {
+        double score = current.score(articleId, changedId);
+        boolean complete = matches.size() < properties.maxResults();
+        int position = -1;
+        for (int i = 0; i < matches.size() && position < 0; i++) {
+            if (matches.get(i).articleId() == changedId) {
+                position = i;
+            }
+        }
+        ArticlePostings.Match match = new ArticlePostings.Match(changedId, score);
+        if (position < 0) {
+            boolean entersList = score != Double.NEGATIVE_INFINITY
+                    && (complete || ArticlePostings.RANKING.compare(match, matches.get(matches.size() - 1)) < 0);
+            return entersList ? ranked(matches, match, -1) : matches;
+        }
+        if (complete || score >= matches.get(position).score()) {
+            return ranked(matches, score == Double.NEGATIVE_INFINITY ? null : match, position);
+        }
+        return null;
+    }
+
+    /**
+     * The list with the entry at {@code replaced} (if not -1) removed and {@code added} (if not null) inserted,
+     * trimmed to {@code max-results}.
+     */
+    private List<ArticlePostings.Match> ranked(List<ArticlePostings.Match> matches, ArticlePostings.Match added,
+                                               int replaced) {
+        List<ArticlePostings.Match> updated = new ArrayList<>(matches);
+        if (replaced >= 0) {
+            updated.remove(replaced);
+        }
+        if (added != null) {
+            updated.add(added);
+        }
+        updated.sort(ArticlePostings.RANKING);
+        return List.copyOf(updated.subList(0, Math.min(updated.size(), properties.maxResults())));
+    }
+}
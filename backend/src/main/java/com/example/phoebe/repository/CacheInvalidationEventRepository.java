@@ -0,0 +1,37 @@
+package com.example.phoebe.repository;
+
+import com.example.phoebe.entity.CacheInvalidationEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for the cache invalidation log, which every replica tails by id.
+ */
+@Repository
+public interface CacheInvalidationEventRepository extends JpaRepository<CacheInvalidationEvent, Long> {
+
+    /**
+     * Returns the next batch of events after the given id, in id order.
+     */
+    List<CacheInvalidationEvent> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * Returns those of the given ids that exist now; used to pick up events committed out of id order.
+     */
+    List<CacheInvalidationEvent> findByIdIn(Collection<Long> ids);
+
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM CacheInvalidationEvent e")
+    long findMaxId();
+
+    @Modifying
+    @Query("DELETE FROM CacheInvalidationEvent e WHERE e.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,34 @@
+package com.example.phoebe.repository;
+
+import com.example.phoebe.entity.ChangeEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for the public change feed.
+ */
+@Repository
+public interface ChangeEventRepository extends JpaRepository<ChangeEvent, Long> {
+
+    /**
+     * Returns the committed events after the given id, in id order.
+     */
+    List<ChangeEvent> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * Id of the newest event created before the given time, or 0 if there is none.
+     */
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM ChangeEvent e WHERE e.createdAt < :before")
+    long findMaxIdCreatedBefore(@Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query("DELETE FROM ChangeEvent e WHERE e.id <= :id")
+    int deleteUpTo(@Param("id") long id);
+}
@@ -0,0 +1,30 @@
+package com.example.phoebe.repository;
+
+import com.example.phoebe.entity.ChangeFeedCompaction;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for the change feed compaction watermark.
+ */
+@Repository
+public interface ChangeFeedCompactionRepository extends JpaRepository<ChangeFeedCompaction, Integer> {
+
+    /**
+     * Highest event id deleted by compaction, or 0 if nothing was deleted yet.
+     */
+    @Query("SELECT COALESCE(MAX(c.compactedThroughId), 0) FROM ChangeFeedCompaction c")
+    long findCompactedThroughId();
+
+    /**
+     * Raises the watermark to the given id; never lowers it, so concurrent compactions on several
+     * replicas keep the highest value.
+     */
+    @Modifying
+    @Query("UPDATE ChangeFeedCompaction c SET c.compactedThroughId = :id "
+            + "WHERE c.id = " + ChangeFeedCompaction.SINGLETON_ID + " AND c.compactedThroughId < :id")
+    int advanceTo(@Param("id") long id);
+}
@@ -1,13 +1,26 @@
 package com.example.phoebe.repository;
 
+import com.example.phoebe.dto.response.ArticleTermDto;
+import com.example.phoebe.dto.response.ContentFingerprintDto;
+import com.example.phoebe.dto.response.FeedItemDto;
+import com.example.phoebe.dto.response.RelatedArticleDto;
+import com.example.phoebe.dto.response.SitemapKeyDto;
+import com.example.phoebe.dto.response.SitemapUrlDto;
 import com.example.phoebe.entity.News;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,40 +47,20 @@ public interface NewsRepository extends JpaRepository<News, Long> {
     Optional<News> findByIdAndPublished(Long id, boolean published);
 
     /**
-     * Find news by term ID and publication status.
-     * Uses DISTINCT to prevent duplicate rows caused by ManyToMany joins.
-     */
-    @Query(
-            value =
-                    "SELECT DISTINCT n FROM News n JOIN n.terms t " +
-                            "WHERE n.published = :published AND t.id = :termId",
-            countQuery =
-                    "SELECT COUNT(DISTINCT n.id) FROM News n JOIN n.terms t " +
-                            "WHERE n.published = :published AND t.id = :termId"
-    )
-    Page<News> findByTermsIdAndPublished(
-            @Param("termId") Long termId,
-            @Param("published") boolean published,
-            Pageable pageable
-    );
+     * Finds published news tagged with any of the given terms (a category expanded to its subtree).
+     * EXISTS over the content_terms index instead of a join, so no DISTINCT is needed; returns a slice
+     * because callers take the total from the term counters.
+     */
+    @Query("SELECT n FROM News n WHERE n.published = true AND EXISTS " +
+            "(SELECT 1 FROM News m JOIN m.terms t WHERE m.id = n.id AND t.id IN :termIds)")
+    Slice<News> findPublishedByTermIds(@Param("termIds") Collection<Long> termIds, Pageable pageable);
 
     /**
-     * Find news by multiple term IDs and publication status.
-     * Uses DISTINCT and a correct count query for stable paging.
-     */
-    @Query(
-            value =
-                    "SELECT DISTINCT n FROM News n JOIN n.terms t " +
-                            "WHERE n.published = :published AND t.id IN :termIds",
-            countQuery =
-                    "SELECT COUNT(DISTINCT n.id) FROM News n JOIN n.terms t " +
-                            "WHERE n.published = :published AND t.id IN :termIds"
-    )
-    Page<News> findByTermsIdInAndPublished(
-            @Param("termIds") List<Long> termIds,
-            @Param("published") boolean published,
-            Pageable pageable
-    );
+     * Counts published news tagged with any of the given terms.
+     */
+    @Query("SELECT COUNT(n) FROM News n WHERE n.published = true AND EXISTS " +
+            "(SELECT 1 FROM News m JOIN m.terms t WHERE m.id = n.id AND t.id IN :termIds)")
+    long countPublishedByTermIds(@Param("termIds") Collection<Long> termIds);
 
     Page<News> findByAuthorId(Long authorId, Pageable pageable);
 
@@ -94,6 +87,24 @@ public interface NewsRepository extends JpaRepository<News, Long> {
     @Query("SELECT n.id FROM News n WHERE n.author.id = :authorId")
     List<Long> findIdsByAuthorId(@Param("authorId") Long authorId);
 
+    /**
+     * Returns those of the given IDs that belong to published news.
+     */
+    @Query("SELECT n.id FROM News n WHERE n.id IN :ids AND n.published = true")
+    List<Long> findPublishedIdsIn(@Param("ids") List<Long> ids);
+
+    /**
+     * Returns the distinct author IDs of the given news, for CDN purges.
+     */
+    @Query("SELECT DISTINCT n.author.id FROM News n WHERE n.id IN :ids")
+    List<Long> findAuthorIdsIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Returns the distinct IDs of the terms attached to the given news, for CDN purges.
+     */
+    @Query("SELECT DISTINCT t.id FROM News n JOIN n.terms t WHERE n.id IN :ids")
+    List<Long> findTermIdsIn(@Param("ids") Collection<Long> ids);
+
     /**
      * Bulk unpublish by IDs.
      * clearAutomatically evicts potentially stale entities from the persistence context.
@@ -103,4 +114,123 @@ public interface NewsRepository extends JpaRepository<News, Long> {
     @Transactional
     @Query("UPDATE News n SET n.published = false WHERE n.id IN :ids AND n.published = true")
     int unpublishByIds(@Param("ids") List<Long> ids);
+
+    // === Sitemap and Feeds ===
+
+    /**
+     * Fingerprint of the published set: COUNT and MAX(updated_at), both served from
+     * idx_news_published_updated.
+     */
+    @Query("SELECT new com.example.phoebe.dto.response.ContentFingerprintDto(COUNT(n), MAX(n.updatedAt)) " +
+            "FROM News n WHERE n.published = true")
+    ContentFingerprintDto findPublishedFingerprint();
+
+    /**
+     * The first page of published articles in (publication_date, id) order. A sitemap shard is read page by
+     * page, each continuing after the last row of the previous one, so no query holds more than a page.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.example.phoebe.dto.response.SitemapUrlDto(n.id, n.publicationDate, n.updatedAt) " +
+            "FROM News n WHERE n.published = true ORDER BY n.publicationDate ASC, n.id ASC")
+    List<SitemapUrlDto> findPublishedForSitemap(Pageable pageable);
+
+    /**
+     * Like {@link #findPublishedForSitemap}, starting after the given position: a range scan of
+     * idx_news_published_date rather than an offset.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.example.phoebe.dto.response.SitemapUrlDto(n.id, n.publicationDate, n.updatedAt) " +
+            "FROM News n WHERE n.published = true AND (n.publicationDate > :date " +
+            "OR (n.publicationDate = :date AND n.id > :id)) ORDER BY n.publicationDate ASC, n.id ASC")
+    List<SitemapUrlDto> findPublishedForSitemapAfter(@Param("date") LocalDateTime date, @Param("id") Long id,
+                                                     Pageable pageable);
+
+    /**
+     * Position of the published article at the offset of the page in sitemap order; read from
+     * idx_news_published_date alone.
+     */
+    @Query("SELECT new com.example.phoebe.dto.response.SitemapKeyDto(n.publicationDate, n.id) " +
+            "FROM News n WHERE n.published = true ORDER BY n.publicationDate ASC, n.id ASC")
+    List<SitemapKeyDto> findPublishedSitemapKeys(Pageable pageable);
+
+    /**
+     * Like {@link #findPublishedSitemapKeys}, with the offset counted from the given position.
+     */
+    @Query("SELECT new com.example.phoebe.dto.response.SitemapKeyDto(n.publicationDate, n.id) " +
+            "FROM News n WHERE n.published = true AND (n.publicationDate > :date " +
+            "OR (n.publicationDate = :date AND n.id > :id)) ORDER BY n.publicationDate ASC, n.id ASC")
+    List<SitemapKeyDto> findPublishedSitemapKeysAfter(@Param("date") LocalDateTime date, @Param("id") Long id,
+                                                      Pageable pageable);
+
+    /**
+     * Streams the latest published articles for a feed, newest first.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.example.phoebe.dto.response.FeedItemDto(n.id, n.title, n.renderedTeaser, n.teaser, " +
+            "n.renderVersion, n.publicationDate, n.updatedAt, a.username) " +
+            "FROM News n JOIN n.author a WHERE n.published = true " +
+            "ORDER BY n.publicationDate DESC, n.id DESC")
+    Stream<FeedItemDto> streamLatestForFeed(Pageable pageable);
+
+    /**
+     * Streams the latest published articles with the given term for a feed, newest first.
+     * Joining a single term cannot duplicate rows, so no DISTINCT is needed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.example.phoebe.dto.response.FeedItemDto(n.id, n.title, n.renderedTeaser, n.teaser, " +
+            "n.renderVersion, n.publicationDate, n.updatedAt, a.username) " +
+            "FROM News n JOIN n.author a JOIN n.terms t WHERE n.published = true AND t.id = :termId " +
+            "ORDER BY n.publicationDate DESC, n.id DESC")
+    Stream<FeedItemDto> streamLatestForTermFeed(@Param("termId") Long termId, Pageable pageable);
+
+    // === Related Articles ===
+
+    /**
+     * Returns one row per term of every published article, for building the related-articles index.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.example.phoebe.dto.response.ArticleTermDto(n.id, t.id, n.publicationDate) " +
+            "FROM News n JOIN n.terms t WHERE n.published = true")
+    List<ArticleTermDto> findPublishedArticleTerms();
+
+    /**
+     * Returns one row per term of the given articles that are published; other articles have no rows.
+     */
+    @Query("SELECT new com.example.phoebe.dto.response.ArticleTermDto(n.id, t.id, n.publicationDate) " +
+            "FROM News n JOIN n.terms t WHERE n.published = true AND n.id IN :ids")
+    List<ArticleTermDto> findPublishedArticleTermsIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Loads the given published articles for a related-articles box; result order is unspecified.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.example.phoebe.dto.response.RelatedArticleDto(n.id, n.title, n.renderedTeaser, " +
+            "n.teaser, n.renderVersion, n.publicationDate) " +
+            "FROM News n WHERE n.published = true AND n.id IN :ids")
+    List<RelatedArticleDto> findRelatedArticles(@Param("ids") Collection<Long> ids);
+
+    // === Content Rendering ===
+
+    /**
+     * Returns a batch of news rendered with an older rules version, oldest id first.
+     */
+    List<News> findByRenderVersionLessThanOrderByIdAsc(int renderVersion, Pageable pageable);
+
+    /**
+     * Stores a re-rendered form without touching updated_at or the optimistic-lock version:
+     * re-rendering is not an edit. The version guard skips rows an editor re-rendered meanwhile.
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Transactional
+    @Query("UPDATE News n SET n.renderedBody = :body, n.renderedTeaser = :teaser, n.renderVersion = :version " +
+            "WHERE n.id = :id AND n.renderVersion < :version")
+    int updateRendered(
+            @Param("id") Long id,
+            @Param("body") String body,
+            @Param("teaser") String teaser,
+            @Param("version") int version
+    );
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package com.example.phoebe.repository;
 
 import com.example.phoebe.entity.Permission;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -14,13 +17,22 @@ import java.util.Set;
 
 /**
  * Repository for Permission entity operations.
+ * The listing and the name lookup are served from the Hibernate query cache.
  */
 @Repository
 public interface PermissionRepository extends JpaRepository<Permission, Long> {
 
+    /**
+     * All permissions, for the permission listing.
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Permission> findAll();
+
     /**
      * Find permission by name.
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Permission> findByName(String name);
 
     /**
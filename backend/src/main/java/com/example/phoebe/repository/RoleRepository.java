@@ -1,20 +1,35 @@
 package com.example.phoebe.repository;
 
 import com.example.phoebe.entity.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 /**
  * Repository for managing {@link Role} entities.
  * Provides standard CRUD operations and custom query methods for finding roles.
+ *
+ * Lookups of roles alone are cacheable queries: results come from the Hibernate query cache and the
+ * cached Role entities, until Hibernate writes to one of the queried tables. Lookups through user_roles or
+ * role_permissions are not cached, as they decide authorization.
  */
 @Repository
 public interface RoleRepository extends JpaRepository<Role, Long> {
 
+    /**
+     * All roles, for the role listing.
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Role> findAll();
+
     /**
      * Finds a role by its unique name.
      * This is a standard lookup and does not eagerly fetch relationships.
@@ -22,6 +37,7 @@ public interface RoleRepository extends JpaRepository<Role, Long> {
      * @param name The name of the role (e.g., "ADMIN").
      * @return An Optional containing the found role, or empty if not found.
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Role> findByName(String name);
 
     /**
@@ -0,0 +1,83 @@
+package com.example.phoebe.repository;
+
+import com.example.phoebe.dto.response.TermCountDto;
+import com.example.phoebe.entity.TermClosure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for the term closure table.
+ * Inserts are native: they copy paths with INSERT ... SELECT from the table itself.
+ */
+@Repository
+public interface TermClosureRepository extends JpaRepository<TermClosure, TermClosure.Key> {
+
+    /**
+     * Ids of the given terms and all their ancestors.
+     */
+    @Query("SELECT DISTINCT c.ancestorId FROM TermClosure c WHERE c.descendantId IN :termIds")
+    List<Long> findAncestorIds(@Param("termIds") Collection<Long> termIds);
+
+    /**
+     * Ids of the term and all its descendants.
+     */
+    @Query("SELECT c.descendantId FROM TermClosure c WHERE c.ancestorId = :termId")
+    List<Long> findSubtreeIds(@Param("termId") Long termId);
+
+    boolean existsByAncestorIdAndDepth(Long ancestorId, int depth);
+
+    /**
+     * Adds the row of a new term with itself.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO term_closure (ancestor_id, descendant_id, depth) VALUES (:termId, :termId, 0)",
+            nativeQuery = true)
+    int insertSelf(@Param("termId") Long termId);
+
+    /**
+     * Detaches a subtree from its ancestors outside of it; the paths within the subtree are kept.
+     */
+    @Modifying
+    @Query("DELETE FROM TermClosure c WHERE c.descendantId IN :subtreeIds AND c.ancestorId NOT IN :subtreeIds")
+    int deleteOuterPaths(@Param("subtreeIds") Collection<Long> subtreeIds);
+
+    /**
+     * Attaches the subtree of a detached term below a new parent: every ancestor of the parent gets a path to
+     * every node of the subtree.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO term_closure (ancestor_id, descendant_id, depth) " +
+            "SELECT p.ancestor_id, s.descendant_id, p.depth + s.depth + 1 " +
+            "FROM term_closure p CROSS JOIN term_closure s " +
+            "WHERE p.descendant_id = :parentId AND s.ancestor_id = :termId", nativeQuery = true)
+    int insertSubtreePaths(@Param("termId") Long termId, @Param("parentId") Long parentId);
+
+    @Modifying
+    @Query("DELETE FROM TermClosure c WHERE c.ancestorId = :termId OR c.descendantId = :termId")
+    int deleteTerm(@Param("termId") Long termId);
+
+    /**
+     * Counts the distinct published articles in the subtree of each given term.
+     * Terms without published articles are not returned.
+     */
+    @Query("SELECT new com.example.phoebe.dto.response.TermCountDto(c.ancestorId, COUNT(DISTINCT n.id)) " +
+            "FROM News n JOIN n.terms t JOIN TermClosure c ON c.descendantId = t.id " +
+            "WHERE n.published = true AND c.ancestorId IN :termIds " +
+            "GROUP BY c.ancestorId")
+    List<TermCountDto> countPublishedInSubtrees(@Param("termIds") Collection<Long> termIds);
+
+    /**
+     * Counts, per term, how many of the given articles are published and tagged within its subtree.
+     */
+    @Query("SELECT new com.example.phoebe.dto.response.TermCountDto(c.ancestorId, COUNT(DISTINCT n.id)) " +
+            "FROM News n JOIN n.terms t JOIN TermClosure c ON c.descendantId = t.id " +
+            "WHERE n.published = true AND n.id IN :newsIds " +
+            "GROUP BY c.ancestorId")
+    List<TermCountDto> countPublishedPerAncestor(@Param("newsIds") Collection<Long> newsIds);
+}
@@ -0,0 +1,103 @@
+package com.example.phoebe.repository;
+
+import com.example.phoebe.dto.response.TermCountDto;
+import com.example.phoebe.entity.TermCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for the denormalized per-term counters.
+ * Increments are single UPDATE statements, so concurrent writers do not lose updates.
+ */
+@Repository
+public interface TermCounterRepository extends JpaRepository<TermCounter, Long> {
+
+    @Query("SELECT c.subtreePublished FROM TermCounter c WHERE c.termId = :termId")
+    Optional<Long> findSubtreePublished(@Param("termId") Long termId);
+
+    @Modifying
+    @Query("UPDATE TermCounter c SET c.subtreePublished = c.subtreePublished + :delta WHERE c.termId IN :termIds")
+    int addSubtreePublished(@Param("termIds") Collection<Long> termIds, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE TermCounter c SET c.publishedCount = c.publishedCount + :delta WHERE c.termId IN :termIds")
+    int addPublished(@Param("termIds") Collection<Long> termIds, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE TermCounter c SET c.totalCount = c.totalCount + :delta WHERE c.termId IN :termIds")
+    int addTotal(@Param("termIds") Collection<Long> termIds, @Param("delta") long delta);
+
+    /**
+     * Ids of terms after the given id that have no counter row, for example because they were inserted in bulk
+     * outside of the services. Their increments would update no row.
+     */
+    @Query("SELECT t.id FROM Term t WHERE t.id > :afterTermId " +
+            "AND NOT EXISTS (SELECT c.termId FROM TermCounter c WHERE c.termId = t.id) ORDER BY t.id")
+    List<Long> findTermIdsWithoutCounterAfter(@Param("afterTermId") long afterTermId, Pageable pageable);
+
+    /**
+     * Locks the next counters in id order, for reconciliation: writers wait until it commits, so the
+     * recomputed values are not overtaken by increments made in between.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM TermCounter c WHERE c.termId > :afterTermId ORDER BY c.termId")
+    List<TermCounter> lockBatchAfter(@Param("afterTermId") long afterTermId, Pageable pageable);
+
+    /**
+     * Locks the given counters in id order, so that writers wait until the recount below commits.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM TermCounter c WHERE c.termId IN :termIds ORDER BY c.termId")
+    List<TermCounter> lockAll(@Param("termIds") Collection<Long> termIds);
+
+    /**
+     * Recomputes the subtree counts of the given terms in the statement that writes them. Unlike a plain SELECT,
+     * the subquery of an UPDATE reads the latest committed rows on MySQL, not the transaction's snapshot, and
+     * on PostgreSQL it gets a snapshot taken after {@link #lockAll} has waited for concurrent writers.
+     */
+    @Modifying
+    @Query(value = "UPDATE term_counters SET subtree_published = (" +
+            "SELECT COUNT(DISTINCT ct.content_id) FROM term_closure c " +
+            "JOIN content_terms ct ON ct.term_id = c.descendant_id JOIN content n ON n.id = ct.content_id " +
+            "WHERE c.ancestor_id = term_counters.term_id AND n.published = TRUE) " +
+            "WHERE term_id IN (:termIds)", nativeQuery = true)
+    int recountSubtreePublished(@Param("termIds") Collection<Long> termIds);
+
+    /**
+     * Counts, per term, how many of the given articles are tagged with it.
+     */
+    @Query("SELECT new com.example.phoebe.dto.response.TermCountDto(t.id, COUNT(n.id)) " +
+            "FROM News n JOIN n.terms t WHERE n.id IN :newsIds GROUP BY t.id")
+    List<TermCountDto> countTaggedPerTerm(@Param("newsIds") Collection<Long> newsIds);
+
+    /**
+     * Counts, per term, how many of the given articles are published and tagged with it.
+     */
+    @Query("SELECT new com.example.phoebe.dto.response.TermCountDto(t.id, COUNT(n.id)) " +
+            "FROM News n JOIN n.terms t WHERE n.published = true AND n.id IN :newsIds GROUP BY t.id")
+    List<TermCountDto> countPublishedPerTerm(@Param("newsIds") Collection<Long> newsIds);
+
+    /**
+     * Recounts the articles tagged with each given term. Terms without articles are not returned.
+     */
+    @Query("SELECT new com.example.phoebe.dto.response.TermCountDto(t.id, COUNT(n.id)) " +
+            "FROM News n JOIN n.terms t WHERE t.id IN :termIds GROUP BY t.id")
+    List<TermCountDto> countTagged(@Param("termIds") Collection<Long> termIds);
+
+    /**
+     * Recounts the published articles tagged with each given term. Terms without any are not returned.
+     */
+    @Query("SELECT new com.example.phoebe.dto.response.TermCountDto(t.id, COUNT(n.id)) " +
+            "FROM News n JOIN n.terms t WHERE n.published = true AND t.id IN :termIds GROUP BY t.id")
+    List<TermCountDto> countPublished(@Param("termIds") Collection<Long> termIds);
+}
@@ -1,9 +1,16 @@
 package com.example.phoebe.repository;
 
+import com.example.phoebe.dto.response.MenuItemDto;
+import com.example.phoebe.dto.response.TermSuggestionDto;
 import com.example.phoebe.entity.Term;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Repository interface for managing Term entities in the database.
  * Provides CRUD operations and custom query methods via Spring Data JPA.
@@ -25,4 +32,22 @@ public interface TermRepository extends JpaRepository<Term, Long> {
 
     // Custom methods can be added here later, e.g.:
     // Optional<Term> findByName(String name);
-}
\ No newline at end of file
+
+    /**
+     * Resolves the given terms together with their published-article counts, read from the maintained
+     * term counters rather than aggregated over content_terms. Result order is unspecified.
+     */
+    @Query("SELECT new com.example.phoebe.dto.response.MenuItemDto(t.id, t.name, t.vocabulary, " +
+            "COALESCE(c.publishedCount, 0L)) " +
+            "FROM Term t LEFT JOIN TermCounter c ON c.termId = t.id " +
+            "WHERE t.id IN :ids")
+    List<MenuItemDto> findMenuItemsByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * All terms with the number of articles, published or not, tagged with each; for the autocomplete index.
+     */
+    @Query("SELECT new com.example.phoebe.dto.response.TermSuggestionDto(t.id, t.name, t.vocabulary, " +
+            "COALESCE(c.totalCount, 0L)) " +
+            "FROM Term t LEFT JOIN TermCounter c ON c.termId = t.id")
+    List<TermSuggestionDto> findSuggestions();
+}
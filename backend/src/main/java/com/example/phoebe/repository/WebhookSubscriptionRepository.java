@@ -0,0 +1,16 @@
+package com.example.phoebe.repository;
+
+import com.example.phoebe.entity.WebhookSubscription;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for webhook subscriptions.
+ */
+@Repository
+public interface WebhookSubscriptionRepository extends JpaRepository<WebhookSubscription, Long> {
+
+    List<WebhookSubscription> findByActiveTrue();
+}
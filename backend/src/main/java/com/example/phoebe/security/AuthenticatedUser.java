@@ -0,0 +1,69 @@
+package com.example.phoebe.security;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Principal produced by {@link DatabaseUserDetailsService}.
+ * Carries what the service and security layers need about the current user, so they do not look the user
+ * up again per request: the user id for ownership checks, the role names, the active flag, and the user's
+ * effective permissions (the union of the permissions of all roles) compiled into a {@link PermissionSet},
+ * so that {@link RequirePermission} checks need neither a database query nor a scan of the authorities.
+ */
+public class AuthenticatedUser extends User {
+
+    private static final long serialVersionUID = 2L;
+
+    private final Long id;
+    private final Set<String> roles;
+    private final PermissionSet permissions;
+
+    public AuthenticatedUser(Long id, String username, String password, boolean active, Set<String> roles,
+                             PermissionSet permissions) {
+        super(username, password, active, true, true, active, roles.stream()
+                .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                .collect(Collectors.toList()));
+        this.id = id;
+        this.roles = Set.copyOf(roles);
+        this.permissions = permissions;
+    }
+
+    /**
+     * Returns the principal of an authentication if it was produced by {@link DatabaseUserDetailsService}.
+     * Other principals (e.g., test users) carry only a name; callers fall back to a lookup by username.
+     */
+    public static Optional<AuthenticatedUser> from(Authentication authentication) {
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return Optional.of(user);
+        }
+        return Optional.empty();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Role names without the "ROLE_" prefix (e.g., "ADMIN").
+     */
+    public Set<String> getRoles() {
+        return roles;
+    }
+
+    public boolean hasRole(String role) {
+        return roles.contains(role);
+    }
+
+    public boolean isActive() {
+        return isEnabled();
+    }
+
+    public PermissionSet getPermissions() {
+        return permissions;
+    }
+}
@@ -1,37 +1,50 @@
 package com.example.phoebe.security;
 
+import com.example.phoebe.entity.Permission;
+import com.example.phoebe.entity.Role;
 import com.example.phoebe.entity.User;
 import com.example.phoebe.repository.UserRepository;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class DatabaseUserDetailsService implements UserDetailsService {
 
-    @Autowired
-    private UserRepository userRepository;
+    private final UserRepository userRepository;
+    private final PermissionDictionary permissionDictionary;
 
+    public DatabaseUserDetailsService(UserRepository userRepository, PermissionDictionary permissionDictionary) {
+        this.userRepository = userRepository;
+        this.permissionDictionary = permissionDictionary;
+    }
+
+    /**
+     * Loads the user as an {@link AuthenticatedUser} with id, roles and compiled effective permissions.
+     * Runs in a transaction so the lazy roles and their permissions can be read; both collections live in the
+     * second-level cache, so only the user row is usually queried.
+     */
     @Override
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         User user = userRepository.findByUsername(username)
             .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
 
-        return org.springframework.security.core.userdetails.User.builder()
-            .username(user.getUsername())
-            .password(user.getPassword()) // Use real password from database
-            .authorities(user.getRoles().stream()
-                .map(role -> new SimpleGrantedAuthority("ROLE_" + role.getName()))
-                .collect(Collectors.toList()))
-            .accountExpired(false)
-            .accountLocked(!user.isActive())
-            .credentialsExpired(false)
-            .disabled(!user.isActive())
-            .build();
+        Set<Role> roles = user.getRoles();
+        Set<String> roleNames = roles.stream()
+            .map(Role::getName)
+            .collect(Collectors.toSet());
+        Set<String> permissions = roles.stream()
+            .flatMap(role -> role.getPermissions().stream())
+            .map(Permission::getName)
+            .collect(Collectors.toSet());
+
+        return new AuthenticatedUser(user.getId(), user.getUsername(), user.getPassword(), user.isActive(),
+                roleNames, permissionDictionary.compile(permissions));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,22 @@
+package com.example.phoebe.security;
+
+/**
+ * Permission constants for the application.
+ * Names follow the "resource:action" scheme of the permissions table (see the V8 migrations).
+ */
+public class PermissionConstants {
+
+    public static final String ROLES_READ = "roles:read";
+    public static final String ROLES_CREATE = "roles:create";
+    public static final String ROLES_UPDATE = "roles:update";
+    public static final String ROLES_DELETE = "roles:delete";
+
+    public static final String TERMS_READ = "terms:read";
+    public static final String TERMS_CREATE = "terms:create";
+    public static final String TERMS_UPDATE = "terms:update";
+    public static final String TERMS_DELETE = "terms:delete";
+
+    private PermissionConstants() {
+        // Utility class - prevent instantiation
+    }
+}
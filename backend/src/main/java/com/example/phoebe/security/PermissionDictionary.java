@@ -0,0 +1,49 @@
+package com.example.phoebe.security;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Assigns each permission name a bit position for {@link PermissionSet}.
+ *
+ * Positions are handed out on first use and never change while the application runs, so a permission
+ * created at runtime simply gets the next free bit. They are not stable across restarts and must not be
+ * persisted.
+ */
+@Component
+public class PermissionDictionary {
+
+    private final Map<String, Integer> bits = new ConcurrentHashMap<>();
+    private final AtomicInteger nextBit = new AtomicInteger();
+
+    /**
+     * Returns the bit position of a permission, assigning one if the name is new.
+     * Names are normalized the same way as {@code Permission.name}.
+     */
+    public int bitOf(String permission) {
+        String name = permission.trim().toLowerCase(Locale.ROOT);
+        Integer bit = bits.get(name);
+        return bit != null ? bit : bits.computeIfAbsent(name, key -> nextBit.getAndIncrement());
+    }
+
+    /**
+     * Compiles permission names into a set.
+     */
+    public PermissionSet compile(Collection<String> permissions) {
+        long[] words = new long[0];
+        for (String permission : permissions) {
+            int bit = bitOf(permission);
+            if (bit >> 6 >= words.length) {
+                words = Arrays.copyOf(words, (bit >> 6) + 1);
+            }
+            words[bit >> 6] |= 1L << bit;
+        }
+        return new PermissionSet(words);
+    }
+}
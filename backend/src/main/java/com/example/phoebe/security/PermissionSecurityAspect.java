@@ -0,0 +1,54 @@
+package com.example.phoebe.security;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Aspect for enforcing permission-based security using {@link RequirePermission}.
+ * The required permissions of each method are compiled into a {@link PermissionSet} on the first call and
+ * tested against the permissions of the {@link AuthenticatedUser} principal, so a check is a few bit
+ * operations. Principals of any other type have no permissions.
+ */
+@Aspect
+@Component
+public class PermissionSecurityAspect {
+
+    private final PermissionDictionary permissionDictionary;
+    private final Map<Method, PermissionSet> requirements = new ConcurrentHashMap<>();
+
+    public PermissionSecurityAspect(PermissionDictionary permissionDictionary) {
+        this.permissionDictionary = permissionDictionary;
+    }
+
+    @Around("@annotation(requirePermission)")
+    public Object checkPermission(ProceedingJoinPoint joinPoint, RequirePermission requirePermission)
+            throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        PermissionSet required = requirements.computeIfAbsent(method,
+                key -> permissionDictionary.compile(Arrays.asList(requirePermission.value())));
+        if (!currentPermissions().containsAll(required)) {
+            throw new AccessDeniedException("Access denied: requires permissions "
+                    + String.join(", ", requirePermission.value()));
+        }
+        return joinPoint.proceed();
+    }
+
+    private PermissionSet currentPermissions() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null) {
+            throw new AccessDeniedException("No authentication found");
+        }
+        return auth.getPrincipal() instanceof AuthenticatedUser user ? user.getPermissions() : PermissionSet.EMPTY;
+    }
+}
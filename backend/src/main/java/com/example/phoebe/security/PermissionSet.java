@@ -0,0 +1,52 @@
+package com.example.phoebe.security;
+
+import java.io.Serializable;
+
+/**
+ * Immutable bitset of permissions, with bit positions from {@link PermissionDictionary}.
+ * A user's effective permissions are compiled once at authentication; each check is then a bit test
+ * (one 64-bit word covers the first 64 permissions).
+ */
+public final class PermissionSet implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final PermissionSet EMPTY = new PermissionSet(new long[0]);
+
+    private final long[] words;
+
+    PermissionSet(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * Whether the permission at the given bit position is in this set.
+     */
+    public boolean contains(int bit) {
+        int word = bit >> 6;
+        return word < words.length && (words[word] & 1L << bit) != 0;
+    }
+
+    /**
+     * Whether every permission of {@code required} is in this set.
+     */
+    public boolean containsAll(PermissionSet required) {
+        long[] requiredWords = required.words;
+        for (int i = 0; i < requiredWords.length; i++) {
+            long present = i < words.length ? words[i] : 0L;
+            if ((present & requiredWords[i]) != requiredWords[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.phoebe.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to enforce that a user must hold all of the specified permissions.
+ * Permissions are specified by their names (e.g., "terms:create") and are granted through roles.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequirePermission {
+    /**
+     * The names of the required permissions (see {@link PermissionConstants}).
+     */
+    String[] value();
+}
@@ -9,11 +9,6 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.List;
-import java.util.stream.Collectors;
-
 /**
  * Aspect for enforcing role-based security using annotations.
  * This implementation uses role names (Strings) and retrieves user roles
@@ -47,28 +42,50 @@ public class RoleSecurityAspect {
         return joinPoint.proceed();
     }
 
-    private List<String> getCurrentUserRoles() {
+    private Authentication getCurrentAuthentication() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth == null) {
             throw new AccessDeniedException("No authentication found");
         }
-        Collection<? extends GrantedAuthority> authorities = auth.getAuthorities();
-        return authorities.stream()
-                .map(GrantedAuthority::getAuthority)
-                // Assuming roles are prefixed with "ROLE_" by Spring Security
-                .map(s -> s.startsWith("ROLE_") ? s.substring(5) : s)
-                .collect(Collectors.toList());
+        return auth;
     }
 
     private boolean hasAnyRole(String... requiredRoles) {
-        List<String> userRoles = getCurrentUserRoles();
-        return Arrays.stream(requiredRoles)
-                .anyMatch(userRoles::contains);
+        Authentication auth = getCurrentAuthentication();
+        for (String role : requiredRoles) {
+            if (hasRole(auth, role)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private boolean hasAllRoles(String... requiredRoles) {
-        List<String> userRoles = getCurrentUserRoles();
-        return Arrays.stream(requiredRoles)
-                .allMatch(userRoles::contains);
+        Authentication auth = getCurrentAuthentication();
+        for (String role : requiredRoles) {
+            if (!hasRole(auth, role)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Uses the role set of an {@link AuthenticatedUser} principal; for other principals compares the
+     * authorities in place instead of collecting the stripped role names first.
+     */
+    private static boolean hasRole(Authentication auth, String role) {
+        if (auth.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.hasRole(role);
+        }
+        for (GrantedAuthority authority : auth.getAuthorities()) {
+            String name = authority.getAuthority();
+            // Assuming roles are prefixed with "ROLE_" by Spring Security
+            if (name.equals(role) || name.length() == role.length() + 5 && name.startsWith("ROLE_")
+                    && name.endsWith(role)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
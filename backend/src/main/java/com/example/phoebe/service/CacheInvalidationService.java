@@ -0,0 +1,47 @@
+package com.example.phoebe.service;
+
+/**
+ * Invalidates cache entries on all replicas.
+ * Caches are local to each instance, so a write records the entries it made stale in a change log
+ * (table cache_invalidation_events), in the transaction of the write; every instance tails the log and evicts
+ * the entries locally. The writing instance evicts its own entries through {@code @CacheEvict} as before.
+ */
+public interface CacheInvalidationService {
+
+    /**
+     * Records that one entry of a cache must be evicted on the other replicas.
+     * Must be called inside the transaction that changes the cached data.
+     * @param cacheName Cache name (e.g., "news-by-id")
+     * @param key Cache key
+     */
+    void evict(String cacheName, Long key);
+
+    /**
+     * Records that a whole cache must be cleared on the other replicas.
+     * Must be called inside the transaction that changes the cached data.
+     * @param cacheName Cache name (e.g., "main-menu")
+     */
+    void clear(String cacheName);
+
+    /**
+     * Records that an entity must be evicted from the Hibernate second-level cache on the other replicas,
+     * together with their cached query results. The writing instance's own cache is kept current by Hibernate.
+     * Must be called inside the transaction that changes the entity.
+     * @param entityClass Cached entity class (e.g., Term)
+     * @param id Entity id
+     */
+    void evictEntity(Class<?> entityClass, Long id);
+
+    /**
+     * Reads the events committed since the last call and evicts the local entries they name.
+     * The first call only positions this instance at the end of the log.
+     * @return Number of events applied
+     */
+    int applyRemoteEvents();
+
+    /**
+     * Deletes events older than the retention period.
+     * @return Number of deleted events
+     */
+    int deleteExpiredEvents();
+}
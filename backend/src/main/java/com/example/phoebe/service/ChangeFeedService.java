@@ -0,0 +1,59 @@
+package com.example.phoebe.service;
+
+import com.example.phoebe.dto.response.ChangeFeedDto;
+import com.example.phoebe.entity.ChangeEvent;
+
+import java.util.Collection;
+
+/**
+ * Service for the public change feed, a transactional outbox of changes visible to public clients.
+ * Only published articles are public, so changes of drafts are not recorded: an article enters the feed
+ * when it is published and leaves it when it is unpublished or deleted.
+ */
+public interface ChangeFeedService {
+
+    /**
+     * Records a change of an article. Must be called inside the transaction of the change.
+     * @param articleId Article ID
+     * @param change What happened to the article
+     */
+    void recordArticle(Long articleId, ChangeEvent.ChangeType change);
+
+    /**
+     * Records the same change of several articles (bulk actions). Must be called inside the transaction
+     * of the change.
+     * @param articleIds Article IDs
+     * @param change What happened to the articles
+     */
+    void recordArticles(Collection<Long> articleIds, ChangeEvent.ChangeType change);
+
+    /**
+     * Records a change of a term. Must be called inside the transaction of the change.
+     * @param termId Term ID
+     * @param change What happened to the term
+     */
+    void recordTerm(Long termId, ChangeEvent.ChangeType change);
+
+    /**
+     * Returns the events after the given cursor, in id order. The page ends before an id that may still be
+     * committing, so a consumer never moves its cursor past an event it has not seen yet.
+     * @param since ID of the last event the consumer has seen; 0 to start at the oldest retained event
+     * @param limit Maximum number of events, or null for the default
+     * @return Page of events with the next cursor
+     */
+    ChangeFeedDto getChanges(long since, Integer limit);
+
+    /**
+     * Returns the cursor of the newest event that {@link #getChanges} can already serve. A consumer that
+     * takes it before reading the current state of the data and then follows the feed from it misses no change.
+     * @return Event id, or 0 if there is none
+     */
+    long currentCursor();
+
+    /**
+     * Deletes events older than the retention period and records the highest deleted id, against which
+     * {@link #getChanges} decides whether a cursor needs a resync.
+     * @return Number of deleted events
+     */
+    int deleteExpiredEvents();
+}
@@ -1,5 +1,8 @@
 package com.example.phoebe.service;
 
+import com.example.phoebe.config.ContentRenderingProperties;
+import com.example.phoebe.entity.News;
+import com.example.phoebe.validation.HtmlSanitizer;
 import com.example.phoebe.validation.SafeHtmlValidator;
 import org.springframework.stereotype.Service;
 
@@ -7,10 +10,43 @@ import org.springframework.stereotype.Service;
  * Service for processing and sanitizing content.
  * Handles YouTube link conversion and HTML sanitization.
  * This is a utility service and does not interact with the database, so it is not transactional.
+ *
+ * Articles are rendered once at write time ({@link #render(News)}); the rendered fields are stored
+ * next to the raw ones and served as-is by public reads.
  */
 @Service
 public class ContentProcessingService {
 
+    /** Maximum teaser length, matching the News.teaser constraint. */
+    private static final int MAX_TEASER_LENGTH = 250;
+
+    private static final HtmlSanitizer BODY_SANITIZER = HtmlSanitizer.builder()
+            .allowTags("p", "br", "b", "strong", "i", "em", "u", "a", "img",
+                    "ul", "ol", "li", "blockquote", "h2", "h3", "h4", "div", "iframe")
+            .allowAttributes("a", "href", "title")
+            .allowAttributes("img", "src", "alt", "title", "width", "height")
+            .convertYouTubeLinks()
+            .build();
+
+    private static final HtmlSanitizer TEASER_SANITIZER = HtmlSanitizer.builder()
+            .allowTags("b", "strong", "i", "em", "u", "br")
+            .build();
+
+    private final ContentRenderingProperties properties;
+
+    public ContentProcessingService(ContentRenderingProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Result of rendering an article.
+     *
+     * @param body    Sanitized body with embeds converted.
+     * @param teaser  Sanitized teaser, generated excerpt, or null.
+     * @param version Rendering rules version the result was produced with.
+     */
+    public record RenderedContent(String body, String teaser, int version) {}
+
     /**
      * Processes content by converting YouTube links to embed code
      * and ensuring HTML safety.
@@ -21,4 +57,71 @@ public class ContentProcessingService {
         }
         return SafeHtmlValidator.convertYouTubeLinks(content);
     }
+
+    /**
+     * Renders raw article fields: sanitize, convert embeds and, if enabled and no teaser
+     * was written, generate an excerpt from the body.
+     */
+    public RenderedContent render(String body, String teaser) {
+        String renderedBody = body == null ? null : BODY_SANITIZER.sanitize(body).html();
+        String renderedTeaser;
+        if (teaser != null && !teaser.isBlank()) {
+            renderedTeaser = TEASER_SANITIZER.sanitize(teaser).html();
+        } else if (properties.generateExcerpt() && renderedBody != null) {
+            renderedTeaser = excerpt(renderedBody);
+        } else {
+            renderedTeaser = null;
+        }
+        return new RenderedContent(renderedBody, renderedTeaser, properties.version());
+    }
+
+    /**
+     * Renders the article and stores the result in its rendered fields.
+     */
+    public void render(News news) {
+        RenderedContent rendered = render(news.getBody(), news.getTeaser());
+        news.setRenderedBody(rendered.body());
+        news.setRenderedTeaser(rendered.teaser());
+        news.setRenderVersion(rendered.version());
+    }
+
+    /**
+     * Current rendering rules version; stored rows below it are outdated.
+     */
+    public int currentVersion() {
+        return properties.version();
+    }
+
+    /**
+     * Plain-text excerpt of sanitized HTML, cut at a word boundary.
+     * Sanitized output escapes stray '<', so every '<' starts a tag.
+     */
+    private String excerpt(String html) {
+        int limit = Math.min(properties.excerptLength(), MAX_TEASER_LENGTH - 1);
+        StringBuilder text = new StringBuilder(limit + 16);
+        boolean inTag = false;
+        boolean pendingSpace = false;
+        for (int i = 0; i < html.length() && text.length() <= limit; i++) {
+            char c = html.charAt(i);
+            if (inTag) {
+                inTag = c != '>';
+            } else if (c == '<') {
+                inTag = true;
+                pendingSpace = true;
+            } else if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+            } else {
+                if (pendingSpace && text.length() > 0) {
+                    text.append(' ');
+                }
+                pendingSpace = false;
+                text.append(c);
+            }
+        }
+        if (text.length() <= limit) {
+            return text.isEmpty() ? null : text.toString();
+        }
+        int cut = text.lastIndexOf(" ", limit);
+        return text.substring(0, cut > 0 ? cut : limit) + "…";
+    }
 }
@@ -0,0 +1,18 @@
+package com.example.phoebe.service;
+
+import com.example.phoebe.dto.response.MenuItemDto;
+
+import java.util.List;
+
+/**
+ * Service interface for site navigation built from channel settings.
+ */
+public interface NavigationService {
+
+    /**
+     * Get the main menu with every term resolved.
+     * Entries follow the order of ChannelSettings.mainMenuTermIds; unknown ids are skipped.
+     * @return Resolved menu items with published-article counts
+     */
+    List<MenuItemDto> getMainMenu();
+}
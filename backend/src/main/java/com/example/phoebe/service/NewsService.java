@@ -9,6 +9,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Service interface for managing news articles.
@@ -20,6 +21,13 @@ public interface NewsService {
 
     NewsDto findPublishedById(Long id);
 
+    /**
+     * Loads a published article bypassing the cache; used by the "news-by-id" cache to refresh entries.
+     * @param id Article ID
+     * @return The article, or empty if it does not exist or is not published
+     */
+    Optional<NewsDto> loadPublishedById(Long id);
+
     Page<NewsDto> findByTermId(Long termId, Pageable pageable);
 
     Page<NewsDto> findByTermIds(List<Long> termIds, Pageable pageable);
@@ -36,4 +44,11 @@ public interface NewsService {
 
     BulkActionRequestDto.BulkActionResult performBulkAction(BulkActionRequestDto request,
                                                             Authentication authentication);
+
+    /**
+     * Re-renders one batch of articles whose stored rendering is older than the current rules.
+     * @param batchSize Maximum number of articles to process
+     * @return IDs of the processed articles, so callers can evict cached copies
+     */
+    List<Long> rerenderOutdated(int batchSize);
 }
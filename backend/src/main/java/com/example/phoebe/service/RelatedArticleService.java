@@ -0,0 +1,21 @@
+package com.example.phoebe.service;
+
+import com.example.phoebe.dto.response.RelatedArticleDto;
+
+import java.util.List;
+
+/**
+ * Service interface for the "related stories" of an article.
+ */
+public interface RelatedArticleService {
+
+    /**
+     * Get the published articles most related to a published article: those sharing the most distinctive
+     * terms with it, newer ones first at equal overlap.
+     * @param newsId Article ID
+     * @param limit Maximum number of articles; capped at app.related-articles.max-results
+     * @return Related articles, best first; empty if none shares a term with the article
+     * @throws com.example.phoebe.exception.NewsNotFoundException if the article does not exist or is not published
+     */
+    List<RelatedArticleDto> findRelated(Long newsId, int limit);
+}
@@ -0,0 +1,39 @@
+package com.example.phoebe.service;
+
+import com.example.phoebe.compression.ContentEncoding;
+
+/**
+ * Service interface for machine-readable site indexes: the sitemap and RSS/Atom feeds.
+ * All output is UTF-8 XML with absolute links built from ChannelSettings.siteUrl, or from
+ * app.syndication.base-url when it is not set; every method throws IllegalStateException when neither is.
+ */
+public interface SyndicationService {
+
+    /**
+     * Get the sitemap index listing all sitemap shards.
+     * @return Sitemap index XML
+     */
+    byte[] getSitemapIndex();
+
+    /**
+     * Get one sitemap shard of up to 50,000 published articles.
+     * @param shard 1-based shard number
+     * @param encoding Encoding of the returned bytes, or null for plain XML
+     * @return Sitemap XML, compressed with the given encoding
+     */
+    byte[] getSitemapShard(int shard, ContentEncoding encoding);
+
+    /**
+     * Get the RSS 2.0 feed of the latest published articles.
+     * @param termId Term to filter by, or null for the global feed
+     * @return RSS XML
+     */
+    byte[] getRssFeed(Long termId);
+
+    /**
+     * Get the Atom feed of the latest published articles.
+     * @param termId Term to filter by, or null for the global feed
+     * @return Atom XML
+     */
+    byte[] getAtomFeed(Long termId);
+}
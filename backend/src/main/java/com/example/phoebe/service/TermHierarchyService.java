@@ -0,0 +1,78 @@
+package com.example.phoebe.service;
+
+import com.example.phoebe.taxonomy.TermTree;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Parent/child structure of the terms, stored in a closure table, and the denormalized per-term article counts:
+ * published and total articles tagged with the term itself, and published articles of its whole subtree
+ * ("World" counts the articles of "Europe" and "Asia" as well, each article once).
+ * Write methods must be called inside the transaction of the change; callers evict "term-tree" after commit.
+ */
+public interface TermHierarchyService {
+
+    /**
+     * Returns the current hierarchy snapshot, cached in "term-tree" until the hierarchy changes.
+     * @return Immutable snapshot
+     */
+    TermTree getTree();
+
+    /**
+     * Adds a new term below a parent.
+     * @param termId Id of the new term
+     * @param parentId Id of the parent, or null for a top-level term
+     */
+    void addTerm(Long termId, Long parentId);
+
+    /**
+     * Moves a term with its whole subtree below another parent and recounts the affected ancestors.
+     * @param termId Id of the term to move
+     * @param parentId Id of the new parent, or null to make it top-level
+     * @throws IllegalArgumentException if the new parent is the term itself or one of its descendants
+     */
+    void moveTerm(Long termId, Long parentId);
+
+    /**
+     * Removes a term without children from the hierarchy and recounts its ancestors.
+     * @param termId Id of the term
+     * @throws com.example.phoebe.exception.BusinessException if the term has children
+     */
+    void removeTerm(Long termId);
+
+    /**
+     * Updates the counts when an article is created, published, unpublished or deleted, or its terms change.
+     * A new article has no old terms and a deleted one no new terms.
+     * @param oldTermIds Terms of the article before the change
+     * @param wasPublished Whether the article was published before the change
+     * @param newTermIds Terms of the article after the change
+     * @param published Whether the article is published after the change
+     */
+    void articleTermsChanged(Collection<Long> oldTermIds, boolean wasPublished,
+                             Collection<Long> newTermIds, boolean published);
+
+    /**
+     * Updates the counts before articles are deleted or unpublished in bulk.
+     * @param newsIds Ids of the articles
+     * @param deleted true if the articles are deleted, false if they are unpublished
+     */
+    void articlesRemoved(Collection<Long> newsIds, boolean deleted);
+
+    /**
+     * Number of distinct published articles tagged with the term or one of its descendants.
+     * @param termId Id of the term
+     * @return The maintained count; 0 for an unknown term
+     */
+    long countPublishedInSubtree(Long termId);
+
+    /**
+     * Recomputes the next batch of counters from content_terms and repairs those that drifted, for example
+     * after articles were tagged or deleted outside of the services; terms without a counter row get one first.
+     * Missing counters are created in one transaction and the batch is recounted in another.
+     * @param afterTermId Resume after this term id; 0 to start from the first term
+     * @param batchSize Maximum number of counters to check
+     * @return Ids of the checked terms in ascending order; fewer than batchSize once all are checked
+     */
+    List<Long> reconcileCounters(long afterTermId, int batchSize);
+}
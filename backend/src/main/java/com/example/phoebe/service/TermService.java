@@ -1,9 +1,12 @@
 package com.example.phoebe.service;
 
+import com.example.phoebe.dto.response.TermSuggestionDto;
 import com.example.phoebe.entity.Term;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 /**
  * Service interface for managing taxonomy terms.
  */
@@ -25,6 +28,16 @@ public interface TermService {
      */
     Term findById(Long id);
 
+    /**
+     * Suggests terms for a typed prefix, most used first, from the in-memory autocomplete index.
+     *
+     * @param prefix     Typed text; matched case- and accent-insensitively against the start of any word.
+     * @param vocabulary Vocabulary to search (e.g., "tag"), or null for all vocabularies.
+     * @param limit      Maximum number of suggestions.
+     * @return The matching terms with their usage counts.
+     */
+    List<TermSuggestionDto> suggest(String prefix, String vocabulary, int limit);
+
     /**
      * Saves a new or existing term.
      *
@@ -34,7 +47,16 @@ public interface TermService {
     Term save(Term term);
 
     /**
-     * Deletes a term by ID.
+     * Moves a term, with its whole subtree, below another parent.
+     *
+     * @param id       The ID of the term to move.
+     * @param parentId The ID of the new parent, or null to make the term top-level.
+     * @return The moved {@link Term}.
+     */
+    Term move(Long id, Long parentId);
+
+    /**
+     * Deletes a term by ID. Terms with child terms cannot be deleted.
      *
      * @param id The ID of the term to delete.
      */
@@ -0,0 +1,49 @@
+package com.example.phoebe.service;
+
+import com.example.phoebe.dto.request.WebhookSubscriptionRequestDto;
+import com.example.phoebe.dto.response.WebhookSubscriptionDto;
+
+import java.util.List;
+
+/**
+ * Service interface for managing webhook subscriptions.
+ */
+public interface WebhookSubscriptionService {
+
+    /**
+     * Returns all subscriptions, active or not.
+     */
+    List<WebhookSubscriptionDto> findAll();
+
+    /**
+     * Finds a subscription by its ID.
+     *
+     * @param id Subscription ID.
+     * @return The found subscription.
+     */
+    WebhookSubscriptionDto findById(Long id);
+
+    /**
+     * Creates a subscription; it receives the changes committed from then on.
+     *
+     * @param request The subscription data.
+     * @return The created subscription.
+     */
+    WebhookSubscriptionDto create(WebhookSubscriptionRequestDto request);
+
+    /**
+     * Replaces a subscription. An omitted secret keeps the current one; an empty one removes it.
+     *
+     * @param id      Subscription ID.
+     * @param request The new subscription data.
+     * @return The updated subscription.
+     */
+    WebhookSubscriptionDto update(Long id, WebhookSubscriptionRequestDto request);
+
+    /**
+     * Deletes a subscription and discards its undelivered events.
+     *
+     * @param id Subscription ID.
+     */
+    void delete(Long id);
+}
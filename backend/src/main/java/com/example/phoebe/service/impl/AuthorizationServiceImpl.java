@@ -5,6 +5,7 @@ import com.example.phoebe.entity.User;
 import com.example.phoebe.exception.ResourceNotFoundException;
 import com.example.phoebe.repository.NewsRepository;
 import com.example.phoebe.repository.UserRepository;
+import com.example.phoebe.security.AuthenticatedUser;
 import com.example.phoebe.security.RoleConstants;
 import com.example.phoebe.service.AuthorizationService;
 import org.springframework.security.core.Authentication;
@@ -30,13 +31,13 @@ public class AuthorizationServiceImpl implements AuthorizationService {
     @Override
     @Transactional(readOnly = true)
     public boolean isAdmin(Authentication authentication) {
-        return hasAuthority(authentication, RoleConstants.ROLE_ADMIN);
+        return hasRole(authentication, RoleConstants.ADMIN);
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean isEditor(Authentication authentication) {
-        return hasAuthority(authentication, RoleConstants.ROLE_EDITOR);
+        return hasRole(authentication, RoleConstants.EDITOR);
     }
 
     @Override
@@ -45,6 +46,9 @@ public class AuthorizationServiceImpl implements AuthorizationService {
         if (authentication == null || !authentication.isAuthenticated()) {
             return null;
         }
+        if (authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.getId();
+        }
         return userRepository.findIdByUsername(authentication.getName()).orElse(null);
     }
 
@@ -54,6 +58,10 @@ public class AuthorizationServiceImpl implements AuthorizationService {
         if (authentication == null || !authentication.isAuthenticated()) {
             throw new IllegalStateException("No authenticated user found");
         }
+        if (authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return userRepository.findById(user.getId())
+                    .orElseThrow(() -> new ResourceNotFoundException("User", "id", user.getId()));
+        }
         String username = authentication.getName();
         return userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
@@ -88,12 +96,19 @@ public class AuthorizationServiceImpl implements AuthorizationService {
         return isAuthorOfNews(authentication, newsId);
     }
 
-    private boolean hasAuthority(Authentication authentication, String authority) {
+    private boolean hasRole(Authentication authentication, String role) {
         if (authentication == null || !authentication.isAuthenticated()) {
             return false;
         }
-        return authentication.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .anyMatch(authority::equals);
+        if (authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.hasRole(role);
+        }
+        String authority = "ROLE_" + role;
+        for (GrantedAuthority granted : authentication.getAuthorities()) {
+            if (authority.equals(granted.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
     }
 }
@@ -0,0 +1,155 @@
+package com.example.phoebe.service.impl;
+
+import com.example.phoebe.config.CacheInvalidationProperties;
+import com.example.phoebe.entity.CacheInvalidationEvent;
+import com.example.phoebe.repository.CacheInvalidationEventRepository;
+import com.example.phoebe.service.CacheInvalidationService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Implementation of CacheInvalidationService.
+ * Replicas follow the log by id. Ids are assigned at insert but become visible at commit, so a reader can see
+ * id 12 before id 11; ids skipped this way are remembered and looked up again on the next polls until they
+ * appear or {@code gap-timeout} passes (a rolled-back insert leaves a gap that never fills).
+ * Events for the Hibernate second-level cache name the entity class, prefixed with {@value #ENTITY_PREFIX}.
+ */
+@Service
+public class CacheInvalidationServiceImpl implements CacheInvalidationService {
+
+    static final String ENTITY_PREFIX = "entity:";
+
+    private final CacheInvalidationEventRepository repository;
+    private final CacheManager cacheManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheInvalidationProperties properties;
+    private final String origin = UUID.randomUUID().toString();
+
+    /** Missing ids below {@link #lastSeenId}, with the time the gap was noticed. Guarded by this. */
+    private final Map<Long, Instant> missingIds = new TreeMap<>();
+    private long lastSeenId = -1;
+
+    public CacheInvalidationServiceImpl(CacheInvalidationEventRepository repository, CacheManager cacheManager,
+                                        EntityManagerFactory entityManagerFactory,
+                                        CacheInvalidationProperties properties) {
+        this.repository = repository;
+        this.cacheManager = cacheManager;
+        this.entityManagerFactory = entityManagerFactory;
+        this.properties = properties;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void evict(String cacheName, Long key) {
+        repository.save(new CacheInvalidationEvent(cacheName, key, origin, LocalDateTime.now()));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void clear(String cacheName) {
+        repository.save(new CacheInvalidationEvent(cacheName, null, origin, LocalDateTime.now()));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void evictEntity(Class<?> entityClass, Long id) {
+        repository.save(new CacheInvalidationEvent(ENTITY_PREFIX + entityClass.getName(), id, origin,
+                LocalDateTime.now()));
+    }
+
+    @Override
+    public synchronized int applyRemoteEvents() {
+        if (lastSeenId < 0) {
+            // Local caches start empty: earlier events are irrelevant.
+            lastSeenId = repository.findMaxId();
+            return 0;
+        }
+        Instant now = Instant.now();
+        int applied = 0;
+        if (!missingIds.isEmpty()) {
+            for (CacheInvalidationEvent event : repository.findByIdIn(missingIds.keySet())) {
+                missingIds.remove(event.getId());
+                applied += apply(event);
+            }
+            Instant expired = now.minus(properties.gapTimeout());
+            missingIds.values().removeIf(noticed -> noticed.isBefore(expired));
+        }
+        List<CacheInvalidationEvent> batch;
+        do {
+            batch = repository.findByIdGreaterThanOrderByIdAsc(lastSeenId,
+                    PageRequest.of(0, properties.batchSize()));
+            for (CacheInvalidationEvent event : batch) {
+                rememberGap(event.getId(), now);
+                lastSeenId = event.getId();
+                applied += apply(event);
+            }
+        } while (batch.size() == properties.batchSize());
+        return applied;
+    }
+
+    @Override
+    @Transactional
+    public int deleteExpiredEvents() {
+        return repository.deleteCreatedBefore(LocalDateTime.now().minus(properties.retention()));
+    }
+
+    /**
+     * Remembers the ids between the last seen id and the given one. A gap wider than a batch is not an
+     * out-of-order commit but, e.g., a sequence jump, and is skipped.
+     */
+    private void rememberGap(long id, Instant now) {
+        if (id - lastSeenId - 1 > properties.batchSize()) {
+            return;
+        }
+        for (long missing = lastSeenId + 1; missing < id; missing++) {
+            missingIds.put(missing, now);
+        }
+    }
+
+    private int apply(CacheInvalidationEvent event) {
+        if (origin.equals(event.getOrigin())) {
+            return 0;
+        }
+        if (event.getCacheName().startsWith(ENTITY_PREFIX)) {
+            evictEntity(event.getCacheName().substring(ENTITY_PREFIX.length()), event.getCacheKey());
+            return 1;
+        }
+        Cache cache = cacheManager.getCache(event.getCacheName());
+        if (cache == null) {
+            return 0;
+        }
+        if (event.getCacheKey() == null) {
+            cache.clear();
+        } else {
+            cache.evict(event.getCacheKey());
+        }
+        return 1;
+    }
+
+    /**
+     * Evicts the entity, and the cached query results, which may list it; update timestamps are per instance,
+     * so they do not tell this instance that the results are stale.
+     */
+    private void evictEntity(String entityName, Long id) {
+        org.hibernate.Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        if (id == null) {
+            cache.evictEntityData(entityName);
+        } else {
+            cache.evictEntityData(entityName, id);
+        }
+        cache.evictQueryRegions();
+    }
+}
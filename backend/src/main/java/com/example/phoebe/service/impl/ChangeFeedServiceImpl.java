@@ -0,0 +1,119 @@
+package com.example.phoebe.service.impl;
+
+import com.example.phoebe.config.ChangeFeedProperties;
+import com.example.phoebe.dto.response.ChangeEventDto;
+import com.example.phoebe.dto.response.ChangeFeedDto;
+import com.example.phoebe.entity.ChangeEvent;
+import com.example.phoebe.repository.ChangeEventRepository;
+import com.example.phoebe.repository.ChangeFeedCompactionRepository;
+import com.example.phoebe.service.ChangeFeedService;
+import com.example.phoebe.webhook.WebhookDispatcher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Implementation of ChangeFeedService.
+ * Consumers follow the feed by id. Ids are assigned at insert but become visible at commit, so a reader can see
+ * id 12 before id 11; a page therefore ends before the first missing id, and the consumer reads past it on a
+ * later call once it is committed. A gap that has not filled when the event after it is {@code gap-timeout}
+ * old is taken as a rolled-back insert and skipped. Ids up to the compaction watermark are deleted, not missing.
+ *
+ * Article changes recorded here also feed the outbound webhooks, once their transaction commits.
+ */
+@Service
+public class ChangeFeedServiceImpl implements ChangeFeedService {
+
+    private final ChangeEventRepository repository;
+    private final ChangeFeedCompactionRepository compactionRepository;
+    private final ChangeFeedProperties properties;
+    private final WebhookDispatcher webhookDispatcher;
+
+    public ChangeFeedServiceImpl(ChangeEventRepository repository, ChangeFeedCompactionRepository compactionRepository,
+                                 ChangeFeedProperties properties, WebhookDispatcher webhookDispatcher) {
+        this.repository = repository;
+        this.compactionRepository = compactionRepository;
+        this.properties = properties;
+        this.webhookDispatcher = webhookDispatcher;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordArticle(Long articleId, ChangeEvent.ChangeType change) {
+        repository.save(new ChangeEvent(ChangeEvent.EntityType.ARTICLE, articleId, change));
+        webhookDispatcher.articlesChanged(List.of(articleId), change);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordArticles(Collection<Long> articleIds, ChangeEvent.ChangeType change) {
+        // Each row is stamped at its own insert: a batch can take longer than the gap timeout
+        repository.saveAll(articleIds.stream()
+                .map(id -> new ChangeEvent(ChangeEvent.EntityType.ARTICLE, id, change))
+                .toList());
+        webhookDispatcher.articlesChanged(articleIds, change);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTerm(Long termId, ChangeEvent.ChangeType change) {
+        repository.save(new ChangeEvent(ChangeEvent.EntityType.TERM, termId, change));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ChangeFeedDto getChanges(long since, Integer limit) {
+        if (since < 0) {
+            throw new IllegalArgumentException("Cursor must not be negative");
+        }
+        int pageSize = limit == null ? properties.defaultLimit() : Math.max(1, Math.min(limit, properties.maxLimit()));
+        // Only the compaction watermark tells deleted history from ids that were never committed.
+        long compactedThroughId = compactionRepository.findCompactedThroughId();
+        boolean resyncRequired = since > 0 && since < compactedThroughId;
+        List<ChangeEvent> committed = repository.findByIdGreaterThanOrderByIdAsc(since, PageRequest.of(0, pageSize));
+        LocalDateTime gapExpiry = LocalDateTime.now().minus(properties.gapTimeout());
+        long expectedId = Math.max(since, compactedThroughId) + 1;
+        List<ChangeEventDto> events = new ArrayList<>(committed.size());
+        for (ChangeEvent event : committed) {
+            if (event.getId() > expectedId && event.getCreatedAt().isAfter(gapExpiry)) {
+                // A lower id may still be committing
+                break;
+            }
+            events.add(toDto(event));
+            expectedId = event.getId() + 1;
+        }
+        long nextCursor = events.isEmpty() ? since : events.get(events.size() - 1).id();
+        return new ChangeFeedDto(events, nextCursor, events.size() == pageSize, resyncRequired);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long currentCursor() {
+        // Any transaction still open that long has its gap skipped by getChanges as well
+        return repository.findMaxIdCreatedBefore(LocalDateTime.now().minus(properties.gapTimeout()));
+    }
+
+    @Override
+    @Transactional
+    public int deleteExpiredEvents() {
+        long boundary = repository.findMaxIdCreatedBefore(LocalDateTime.now().minus(properties.retention()));
+        if (boundary == 0) {
+            return 0;
+        }
+        // Deleting by id rather than by time keeps the watermark exact: a late commit with an old
+        // timestamp above the boundary survives until the next run instead of vanishing unrecorded.
+        compactionRepository.advanceTo(boundary);
+        return repository.deleteUpTo(boundary);
+    }
+
+    private static ChangeEventDto toDto(ChangeEvent event) {
+        return new ChangeEventDto(event.getId(), event.getEntityType(), event.getEntityId(), event.getChangeType(),
+                event.getCreatedAt());
+    }
+}
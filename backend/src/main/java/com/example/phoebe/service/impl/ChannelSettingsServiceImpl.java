@@ -5,26 +5,35 @@ import com.example.phoebe.dto.response.ChannelSettingsDto;
 import com.example.phoebe.entity.ChannelSettings;
 import com.example.phoebe.mapper.ChannelSettingsMapper;
 import com.example.phoebe.repository.ChannelSettingsRepository;
+import com.example.phoebe.service.CacheInvalidationService;
 import com.example.phoebe.service.ChannelSettingsService;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Implementation of ChannelSettingsService.
+ * Settings are read on every public page, so they are cached in "channel-settings" until the next update.
  */
 @Service
 public class ChannelSettingsServiceImpl implements ChannelSettingsService {
 
     private final ChannelSettingsRepository repository;
     private final ChannelSettingsMapper mapper;
+    private final CacheInvalidationService cacheInvalidationService;
 
-    public ChannelSettingsServiceImpl(ChannelSettingsRepository repository, ChannelSettingsMapper mapper) {
+    public ChannelSettingsServiceImpl(ChannelSettingsRepository repository, ChannelSettingsMapper mapper,
+                                      CacheInvalidationService cacheInvalidationService) {
         this.repository = repository;
         this.mapper = mapper;
+        this.cacheInvalidationService = cacheInvalidationService;
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(value = "channel-settings", key = "'current'")
     public ChannelSettingsDto getSettings() {
         ChannelSettings settings = repository.findSingletonSettings()
                 .orElseGet(this::createDefaultSettings);
@@ -33,12 +42,18 @@ public class ChannelSettingsServiceImpl implements ChannelSettingsService {
 
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = "main-menu", allEntries = true),
+            @CacheEvict(value = "channel-settings", allEntries = true)
+    })
     public ChannelSettingsDto updateSettings(ChannelSettingsUpdateDto updateDto) {
         ChannelSettings settings = repository.findSingletonSettings()
                 .orElseGet(this::createDefaultSettings);
         
         mapper.updateEntity(settings, updateDto);
         settings = repository.save(settings);
+        cacheInvalidationService.clear("main-menu");
+        cacheInvalidationService.clear("channel-settings");
         
         return mapper.toDto(settings);
     }
@@ -0,0 +1,99 @@
+package com.example.phoebe.service.impl;
+
+import com.example.phoebe.dto.response.MenuItemDto;
+import com.example.phoebe.entity.ChannelSettings;
+import com.example.phoebe.repository.ChannelSettingsRepository;
+import com.example.phoebe.repository.TermRepository;
+import com.example.phoebe.service.NavigationService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of NavigationService.
+ * The resolved menu is cached in "main-menu" and evicted by every write that can change it:
+ * channel settings updates, term writes and article writes (membership and publication state).
+ */
+@Service
+public class NavigationServiceImpl implements NavigationService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NavigationServiceImpl.class);
+
+    private final ChannelSettingsRepository channelSettingsRepository;
+    private final TermRepository termRepository;
+    private final ObjectMapper objectMapper;
+
+    public NavigationServiceImpl(ChannelSettingsRepository channelSettingsRepository,
+                                 TermRepository termRepository, ObjectMapper objectMapper) {
+        this.channelSettingsRepository = channelSettingsRepository;
+        this.termRepository = termRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "main-menu", key = "'main'")
+    public List<MenuItemDto> getMainMenu() {
+        Set<Long> termIds = channelSettingsRepository.findSingletonSettings()
+                .map(ChannelSettings::getMainMenuTermIds)
+                .map(this::parseTermIds)
+                .orElseGet(Set::of);
+        if (termIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, MenuItemDto> resolved = termRepository.findMenuItemsByIds(termIds).stream()
+                .collect(Collectors.toMap(MenuItemDto::id, Function.identity()));
+
+        // Keep the editor-defined order; the aggregate query does not preserve it.
+        List<MenuItemDto> menu = new ArrayList<>(termIds.size());
+        for (Long termId : termIds) {
+            MenuItemDto item = resolved.get(termId);
+            if (item != null) {
+                menu.add(item);
+            }
+        }
+        return List.copyOf(menu);
+    }
+
+    /**
+     * Parses the stored JSON array of term ids, dropping duplicates and non-numeric entries.
+     * A malformed value yields an empty menu instead of failing the public endpoint.
+     */
+    private Set<Long> parseTermIds(String json) {
+        if (json == null || json.isBlank()) {
+            return Set.of();
+        }
+        try {
+            JsonNode node = objectMapper.readTree(json);
+            if (!node.isArray()) {
+                return Set.of();
+            }
+            Set<Long> ids = new LinkedHashSet<>();
+            for (JsonNode element : node) {
+                if (element.isIntegralNumber() && element.canConvertToLong()) {
+                    ids.add(element.asLong());
+                } else if (element.isTextual() && element.asText().matches("\\d+")) {
+                    ids.add(Long.valueOf(element.asText()));
+                }
+            }
+            return ids;
+        } catch (JsonProcessingException e) {
+            LOGGER.warn("Ignoring malformed mainMenuTermIds value: {}", e.getOriginalMessage());
+            return Set.of();
+        }
+    }
+}
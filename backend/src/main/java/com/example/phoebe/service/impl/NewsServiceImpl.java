@@ -1,29 +1,50 @@
 package com.example.phoebe.service.impl;
 
+import com.example.phoebe.cdn.CdnPurgeDispatcher;
+import com.example.phoebe.cdn.SurrogateKeys;
 import com.example.phoebe.dto.request.BulkActionRequestDto;
 import com.example.phoebe.dto.request.NewsCreateRequestDto;
 import com.example.phoebe.dto.request.NewsUpdateRequestDto;
 import com.example.phoebe.dto.response.NewsDto;
+import com.example.phoebe.entity.ChangeEvent;
 import com.example.phoebe.entity.News;
 import com.example.phoebe.entity.Term;
 import com.example.phoebe.entity.User;
+import com.example.phoebe.exception.NewsNotFoundException;
 import com.example.phoebe.exception.ResourceNotFoundException;
 import com.example.phoebe.mapper.NewsMapper;
 import com.example.phoebe.repository.NewsRepository;
 import com.example.phoebe.repository.TermRepository;
 import com.example.phoebe.repository.UserRepository;
+import com.example.phoebe.security.AuthenticatedUser;
+import com.example.phoebe.service.CacheInvalidationService;
+import com.example.phoebe.service.ChangeFeedService;
+import com.example.phoebe.service.ContentProcessingService;
 import com.example.phoebe.service.NewsService;
+import com.example.phoebe.service.TermHierarchyService;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -35,39 +56,101 @@ public class NewsServiceImpl implements NewsService {
     private final UserRepository userRepository;
     private final TermRepository termRepository;
     private final NewsMapper newsMapper;
+    private final ContentProcessingService contentProcessingService;
+    private final CacheManager cacheManager;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final ChangeFeedService changeFeedService;
+    private final CdnPurgeDispatcher cdnPurgeDispatcher;
+    private final TermHierarchyService termHierarchyService;
+    private final TransactionTemplate readOnlyTransaction;
 
-    public NewsServiceImpl(NewsRepository newsRepository, UserRepository userRepository, TermRepository termRepository, NewsMapper newsMapper) {
+    public NewsServiceImpl(NewsRepository newsRepository, UserRepository userRepository, TermRepository termRepository,
+                           NewsMapper newsMapper, ContentProcessingService contentProcessingService,
+                           CacheManager cacheManager, CacheInvalidationService cacheInvalidationService,
+                           ChangeFeedService changeFeedService, CdnPurgeDispatcher cdnPurgeDispatcher,
+                           TermHierarchyService termHierarchyService, PlatformTransactionManager transactionManager) {
         this.newsRepository = newsRepository;
         this.userRepository = userRepository;
         this.termRepository = termRepository;
         this.newsMapper = newsMapper;
+        this.contentProcessingService = contentProcessingService;
+        this.cacheManager = cacheManager;
+        this.cacheInvalidationService = cacheInvalidationService;
+        this.changeFeedService = changeFeedService;
+        this.cdnPurgeDispatcher = cdnPurgeDispatcher;
+        this.termHierarchyService = termHierarchyService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<NewsDto> findAllPublished(Pageable pageable) {
-        return newsRepository.findByPublished(true, pageable).map(newsMapper::toDto);
+        return newsRepository.findByPublished(true, pageable).map(newsMapper::toPublicDto);
     }
 
+    /**
+     * Ids found missing or unpublished are remembered in "news-not-found", so repeated requests for them
+     * (bots, stale links) are answered without a transaction or query. The transaction is therefore opened
+     * only after that check.
+     */
     @Override
-    @Transactional(readOnly = true)
-    @Cacheable(value = "news-by-id", key = "#id")
+    @Cacheable(value = "news-by-id", key = "#id", sync = true)
     public NewsDto findPublishedById(Long id) {
-        News news = newsRepository.findByIdAndPublished(id, true)
-                .orElseThrow(() -> new ResourceNotFoundException("News", "id", id));
-        return newsMapper.toDto(news);
+        Cache notFound = cacheManager.getCache("news-not-found");
+        if (notFound != null && notFound.get(id) != null) {
+            throw new NewsNotFoundException(id);
+        }
+        Optional<NewsDto> article = readOnlyTransaction.execute(status -> loadPublishedById(id));
+        if (article == null || article.isEmpty()) {
+            if (notFound != null) {
+                notFound.put(id, Boolean.TRUE);
+            }
+            throw new NewsNotFoundException(id);
+        }
+        return article.get();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<NewsDto> loadPublishedById(Long id) {
+        return newsRepository.findByIdAndPublished(id, true).map(newsMapper::toPublicDto);
+    }
+
+    /**
+     * The term is expanded to its subtree from the cached hierarchy snapshot; the total comes from the
+     * maintained subtree counter, so the page needs no count query.
+     */
     @Override
     @Transactional(readOnly = true)
     public Page<NewsDto> findByTermId(Long termId, Pageable pageable) {
-        return newsRepository.findByTermsIdAndPublished(termId, true, pageable).map(newsMapper::toDto);
+        List<Long> subtree = termHierarchyService.getTree().subtreeOf(termId);
+        if (subtree.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        List<NewsDto> content = newsRepository.findPublishedByTermIds(subtree, pageable)
+                .map(newsMapper::toPublicDto)
+                .getContent();
+        return new PageImpl<>(content, pageable, termHierarchyService.countPublishedInSubtree(termId));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<NewsDto> findByTermIds(List<Long> termIds, Pageable pageable) {
-        return newsRepository.findByTermsIdInAndPublished(termIds, true, pageable).map(newsMapper::toDto);
+        if (termIds.stream().distinct().count() == 1) {
+            return findByTermId(termIds.get(0), pageable);
+        }
+        List<Long> subtrees = termHierarchyService.getTree().subtreesOf(termIds);
+        if (subtrees.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        List<NewsDto> content = newsRepository.findPublishedByTermIds(subtrees, pageable)
+                .map(newsMapper::toPublicDto)
+                .getContent();
+        // Subtrees may share articles, so their counters cannot be added up; the count query is skipped
+        // when the page itself shows where the results end.
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> newsRepository.countPublishedByTermIds(subtrees));
     }
 
     @Override
@@ -76,8 +159,7 @@ public class NewsServiceImpl implements NewsService {
         if (hasAdminRole(authentication)) {
             return newsRepository.findAll(pageable).map(newsMapper::toDto);
         } else if (hasEditorRole(authentication)) {
-            User currentUser = getCurrentUser(authentication);
-            return newsRepository.findByAuthorId(currentUser.getId(), pageable).map(newsMapper::toDto);
+            return newsRepository.findByAuthorId(getCurrentUserId(authentication), pageable).map(newsMapper::toDto);
         }
         return Page.empty();
     }
@@ -87,7 +169,8 @@ public class NewsServiceImpl implements NewsService {
     public NewsDto findById(Long id, Authentication authentication) {
         News news = newsRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("News", "id", id));
-        if (!canAccessNews(id, authentication)) {
+        // The article is loaded already, so authorship is an in-memory comparison.
+        if (!hasAdminRole(authentication) && !isAuthorOf(news, authentication)) {
             throw new AccessDeniedException("You do not have permission to view this article.");
         }
         return newsMapper.toDto(news);
@@ -95,8 +178,15 @@ public class NewsServiceImpl implements NewsService {
 
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = "news-not-found", key = "#result.id"),
+            @CacheEvict(value = "main-menu", allEntries = true)
+    })
     public NewsDto create(NewsCreateRequestDto request, Authentication authentication) {
-        User author = getCurrentUser(authentication);
+        // With an AuthenticatedUser principal the author is a reference; it is loaded once, for the DTO.
+        User author = AuthenticatedUser.from(authentication)
+                .map(user -> userRepository.getReferenceById(user.getId()))
+                .orElseGet(() -> getCurrentUser(authentication));
         News news = newsMapper.toEntity(request);
         news.setAuthor(author);
 
@@ -108,34 +198,76 @@ public class NewsServiceImpl implements NewsService {
             news.setTerms(terms);
         }
 
+        contentProcessingService.render(news);
         News savedNews = newsRepository.save(news);
+        cacheInvalidationService.evict("news-not-found", savedNews.getId());
+        cacheInvalidationService.clear("main-menu");
+        termHierarchyService.articleTermsChanged(List.of(), false, termIdsOf(savedNews), savedNews.isPublished());
+        if (savedNews.isPublished()) {
+            changeFeedService.recordArticle(savedNews.getId(), ChangeEvent.ChangeType.CREATED);
+            purgeArticle(savedNews);
+        }
         return newsMapper.toDto(savedNews);
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = "news-by-id", key = "#id")
+    @Caching(evict = {
+            @CacheEvict(value = "news-by-id", key = "#id"),
+            // The update may publish the article.
+            @CacheEvict(value = "news-not-found", key = "#id"),
+            @CacheEvict(value = "main-menu", allEntries = true)
+    })
     public NewsDto update(Long id, NewsUpdateRequestDto request, Authentication authentication) {
         News existingNews = newsRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("News", "id", id));
         verifyOwnershipOrAdmin(authentication, existingNews);
+        boolean wasPublished = existingNews.isPublished();
         newsMapper.updateEntityFromDto(request, existingNews);
+        if (request.content() != null || request.teaser() != null
+                || existingNews.getRenderVersion() < contentProcessingService.currentVersion()) {
+            contentProcessingService.render(existingNews);
+        }
+        cacheInvalidationService.evict("news-by-id", id);
+        cacheInvalidationService.evict("news-not-found", id);
+        cacheInvalidationService.clear("main-menu");
+        if (wasPublished != existingNews.isPublished()) {
+            Set<Long> termIds = termIdsOf(existingNews);
+            termHierarchyService.articleTermsChanged(termIds, wasPublished, termIds, existingNews.isPublished());
+        }
+        recordPublicChange(existingNews, wasPublished);
         // Optimization: No explicit .save() call is needed due to @Transactional and dirty checking.
         return newsMapper.toDto(existingNews);
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = "news-by-id", key = "#id")
+    @Caching(evict = {
+            @CacheEvict(value = "news-by-id", key = "#id"),
+            @CacheEvict(value = "main-menu", allEntries = true)
+    })
     public void delete(Long id, Authentication authentication) {
         News newsToDelete = newsRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("News", "id", id));
         verifyOwnershipOrAdmin(authentication, newsToDelete);
+        termHierarchyService.articleTermsChanged(termIdsOf(newsToDelete), newsToDelete.isPublished(),
+                List.of(), false);
         newsRepository.delete(newsToDelete);
+        cacheInvalidationService.evict("news-by-id", id);
+        cacheInvalidationService.clear("main-menu");
+        if (newsToDelete.isPublished()) {
+            changeFeedService.recordArticle(id, ChangeEvent.ChangeType.DELETED);
+            purgeArticle(newsToDelete);
+        }
     }
 
     @Override
     @Transactional
+    @Caching(evict = {
+            // Deleted or unpublished articles must not stay readable from the cache (or be kept alive by refreshes).
+            @CacheEvict(value = "news-by-id", allEntries = true),
+            @CacheEvict(value = "main-menu", allEntries = true)
+    })
     public BulkActionRequestDto.BulkActionResult performBulkAction(BulkActionRequestDto request, Authentication authentication) {
         if (!hasAdminRole(authentication)) {
             throw new AccessDeniedException("Bulk operations are restricted to ADMIN role only.");
@@ -166,20 +298,57 @@ public class NewsServiceImpl implements NewsService {
             return new BulkActionRequestDto.BulkActionResult(0);
         }
 
+        // Drafts are not in the public change feed; only published targets are recorded.
+        List<Long> publishedIds = newsRepository.findPublishedIdsIn(targetIds);
+        // Before the delete: the purge keys are read from the articles' author and terms.
+        purgeArticles(publishedIds);
         switch (request.getAction()) {
             case DELETE:
+                termHierarchyService.articlesRemoved(targetIds, true);
                 // Optimized for performance: uses a single DELETE statement for multiple entities.
                 newsRepository.deleteAllByIdInBatch(targetIds);
+                changeFeedService.recordArticles(publishedIds, ChangeEvent.ChangeType.DELETED);
                 break;
             case UNPUBLISH:
+                termHierarchyService.articlesRemoved(publishedIds, false);
                 newsRepository.unpublishByIds(targetIds);
+                changeFeedService.recordArticles(publishedIds, ChangeEvent.ChangeType.UNPUBLISHED);
                 break;
             default:
                 throw new IllegalArgumentException("Unsupported bulk action: " + request.getAction());
         }
+        cacheInvalidationService.clear("news-by-id");
+        cacheInvalidationService.clear("main-menu");
         return new BulkActionRequestDto.BulkActionResult(targetIds.size());
     }
 
+    @Override
+    @Transactional
+    public List<Long> rerenderOutdated(int batchSize) {
+        int version = contentProcessingService.currentVersion();
+        List<News> outdated = newsRepository.findByRenderVersionLessThanOrderByIdAsc(
+                version, PageRequest.of(0, batchSize));
+        // Render the whole batch first: each guarded update clears the persistence context.
+        List<ContentProcessingService.RenderedContent> rendered = outdated.stream()
+                .map(news -> contentProcessingService.render(news.getBody(), news.getTeaser()))
+                .toList();
+        List<Long> ids = new ArrayList<>(outdated.size());
+        List<Long> publishedIds = new ArrayList<>();
+        for (int i = 0; i < outdated.size(); i++) {
+            News news = outdated.get(i);
+            ContentProcessingService.RenderedContent content = rendered.get(i);
+            newsRepository.updateRendered(news.getId(), content.body(), content.teaser(), content.version());
+            ids.add(news.getId());
+            if (news.isPublished()) {
+                publishedIds.add(news.getId());
+            }
+        }
+        ids.forEach(id -> cacheInvalidationService.evict("news-by-id", id));
+        changeFeedService.recordArticles(publishedIds, ChangeEvent.ChangeType.UPDATED);
+        purgeArticles(publishedIds);
+        return ids;
+    }
+
 
     public boolean canAccessNews(Long newsId, Authentication authentication) {
         if (hasAdminRole(authentication)) {
@@ -193,8 +362,7 @@ public class NewsServiceImpl implements NewsService {
         if (newsId == null || authentication == null) {
             return false;
         }
-        User currentUser = getCurrentUser(authentication);
-        return newsRepository.existsByIdAndAuthorId(newsId, currentUser.getId());
+        return newsRepository.existsByIdAndAuthorId(newsId, getCurrentUserId(authentication));
     }
 
 
@@ -206,6 +374,17 @@ public class NewsServiceImpl implements NewsService {
         return hasAuthority(authentication, "EDITOR");
     }
 
+    /**
+     * Id of the current user: taken from the {@link AuthenticatedUser} principal, looked up by username only
+     * for other principals.
+     */
+    private Long getCurrentUserId(Authentication authentication) {
+        return AuthenticatedUser.from(authentication)
+                .map(AuthenticatedUser::getId)
+                .orElseGet(() -> userRepository.findIdByUsername(authentication.getName())
+                        .orElseThrow(() -> new ResourceNotFoundException("User", "username", authentication.getName())));
+    }
+
     private User getCurrentUser(Authentication authentication) {
         String username = authentication.getName();
         return userRepository.findByUsername(username)
@@ -216,18 +395,81 @@ public class NewsServiceImpl implements NewsService {
         if (authentication == null) {
             return false;
         }
+        if (authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.hasRole(roleName);
+        }
         String authorityName = ROLE_PREFIX + roleName;
-        return authentication.getAuthorities().stream()
-                .anyMatch(grantedAuthority -> grantedAuthority.getAuthority().equals(authorityName));
+        for (GrantedAuthority grantedAuthority : authentication.getAuthorities()) {
+            if (grantedAuthority.getAuthority().equals(authorityName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Records an update in the public change feed according to the publication state before and after it,
+     * and purges the article from the CDN if it was or is public.
+     */
+    private void recordPublicChange(News news, boolean wasPublished) {
+        Long id = news.getId();
+        boolean isPublished = news.isPublished();
+        if (wasPublished || isPublished) {
+            purgeArticle(news);
+        }
+        if (wasPublished && isPublished) {
+            changeFeedService.recordArticle(id, ChangeEvent.ChangeType.UPDATED);
+        } else if (isPublished) {
+            changeFeedService.recordArticle(id, ChangeEvent.ChangeType.PUBLISHED);
+        } else if (wasPublished) {
+            changeFeedService.recordArticle(id, ChangeEvent.ChangeType.UNPUBLISHED);
+        }
+    }
+
+    /**
+     * Purges the CDN copies of a public article, of the responses tagged with its author and terms,
+     * and of the listings, once the transaction has committed.
+     */
+    private void purgeArticle(News news) {
+        Long authorId = news.getAuthor() == null ? null : news.getAuthor().getId();
+        purge(List.of(news.getId()), authorId == null ? List.of() : List.of(authorId), termIdsOf(news));
+    }
+
+    /**
+     * Same as {@link #purgeArticle} for articles known by id, whose authors and terms are read in two queries.
+     * Drafts were never served publicly, so callers pass only ids that were or are published.
+     */
+    private void purgeArticles(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        purge(ids, newsRepository.findAuthorIdsIn(ids), newsRepository.findTermIdsIn(ids));
+    }
+
+    private void purge(Collection<Long> ids, Collection<Long> authorIds, Collection<Long> termIds) {
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(SurrogateKeys.FRONT_PAGE);
+        ids.forEach(id -> keys.add(SurrogateKeys.article(id)));
+        authorIds.forEach(authorId -> keys.add(SurrogateKeys.author(authorId)));
+        termIds.forEach(termId -> keys.add(SurrogateKeys.term(termId)));
+        cdnPurgeDispatcher.purge(keys);
+    }
+
+    private static Set<Long> termIdsOf(News news) {
+        return news.getTerms().stream().map(Term::getId).collect(Collectors.toSet());
     }
 
     private void verifyOwnershipOrAdmin(Authentication authentication, News news) {
         if (hasAdminRole(authentication)) {
             return;
         }
-        User currentUser = getCurrentUser(authentication);
-        if (news.getAuthor() == null || !news.getAuthor().getId().equals(currentUser.getId())) {
+        if (!isAuthorOf(news, authentication)) {
             throw new AccessDeniedException("Access Denied: You are not the author of this article.");
         }
     }
+
+    private boolean isAuthorOf(News news, Authentication authentication) {
+        // getId() on the lazy author proxy does not initialize it.
+        return news.getAuthor() != null && news.getAuthor().getId().equals(getCurrentUserId(authentication));
+    }
 }
@@ -0,0 +1,48 @@
+package com.example.phoebe.service.impl;
+
+import com.example.phoebe.dto.response.RelatedArticleDto;
+import com.example.phoebe.related.RelatedArticleIndex;
+import com.example.phoebe.repository.NewsRepository;
+import com.example.phoebe.service.NewsService;
+import com.example.phoebe.service.RelatedArticleService;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of RelatedArticleService.
+ * The ranking comes from the in-memory {@link RelatedArticleIndex}; the database is only read for the titles
+ * and teasers of the listed articles, with one query by id.
+ */
+@Service
+public class RelatedArticleServiceImpl implements RelatedArticleService {
+
+    private final NewsService newsService;
+    private final NewsRepository newsRepository;
+    private final RelatedArticleIndex relatedArticleIndex;
+
+    public RelatedArticleServiceImpl(NewsService newsService, NewsRepository newsRepository,
+                                     RelatedArticleIndex relatedArticleIndex) {
+        this.newsService = newsService;
+        this.newsRepository = newsRepository;
+        this.relatedArticleIndex = relatedArticleIndex;
+    }
+
+    @Override
+    public List<RelatedArticleDto> findRelated(Long newsId, int limit) {
+        // Unknown and unpublished ids fail here, usually from the article caches.
+        newsService.findPublishedById(newsId);
+        List<Long> ids = relatedArticleIndex.related(newsId, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, RelatedArticleDto> articles = newsRepository.findRelatedArticles(ids).stream()
+                .collect(Collectors.toMap(RelatedArticleDto::id, Function.identity()));
+        // An article unpublished since the index was refreshed is left out.
+        return ids.stream().map(articles::get).filter(Objects::nonNull).toList();
+    }
+}
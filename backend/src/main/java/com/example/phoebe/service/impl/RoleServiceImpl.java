@@ -9,6 +9,7 @@ import com.example.phoebe.exception.ResourceNotFoundException;
 import com.example.phoebe.mapper.RoleMapper;
 import com.example.phoebe.repository.PermissionRepository;
 import com.example.phoebe.repository.RoleRepository;
+import com.example.phoebe.service.CacheInvalidationService;
 import com.example.phoebe.service.RoleService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,11 +26,14 @@ public class RoleServiceImpl implements RoleService {
     private final RoleRepository roleRepository;
     private final PermissionRepository permissionRepository;
     private final RoleMapper roleMapper;
+    private final CacheInvalidationService cacheInvalidationService;
 
-    public RoleServiceImpl(RoleRepository roleRepository, PermissionRepository permissionRepository, RoleMapper roleMapper) {
+    public RoleServiceImpl(RoleRepository roleRepository, PermissionRepository permissionRepository,
+                           RoleMapper roleMapper, CacheInvalidationService cacheInvalidationService) {
         this.roleRepository = roleRepository;
         this.permissionRepository = permissionRepository;
         this.roleMapper = roleMapper;
+        this.cacheInvalidationService = cacheInvalidationService;
     }
 
     @Override
@@ -54,6 +58,7 @@ public class RoleServiceImpl implements RoleService {
         Role role = new Role(dto.getName(), dto.getDescription());
         role.setPermissions(resolvePermissions(dto.getPermissionIds()));
         Role savedRole = roleRepository.save(role);
+        cacheInvalidationService.evictEntity(Role.class, savedRole.getId());
         return roleMapper.toDto(savedRole);
     }
 
@@ -66,6 +71,7 @@ public class RoleServiceImpl implements RoleService {
         // We only update the mutable fields.
         role.setDescription(dto.getDescription());
         role.setPermissions(resolvePermissions(dto.getPermissionIds()));
+        cacheInvalidationService.evictEntity(Role.class, id);
 
         // No explicit save() needed due to @Transactional and dirty checking.
         return roleMapper.toDto(role);
@@ -77,6 +83,7 @@ public class RoleServiceImpl implements RoleService {
             throw new ResourceNotFoundException("Role", "id", id);
         }
         roleRepository.deleteById(id);
+        cacheInvalidationService.evictEntity(Role.class, id);
     }
 
     @Override
@@ -0,0 +1,363 @@
+package com.example.phoebe.service.impl;
+
+import com.example.phoebe.compression.ContentEncoding;
+import com.example.phoebe.compression.ResponseCompressor;
+import com.example.phoebe.config.SyndicationProperties;
+import com.example.phoebe.dto.response.ContentFingerprintDto;
+import com.example.phoebe.dto.response.FeedItemDto;
+import com.example.phoebe.dto.response.SitemapKeyDto;
+import com.example.phoebe.dto.response.SitemapUrlDto;
+import com.example.phoebe.entity.ChannelSettings;
+import com.example.phoebe.entity.Term;
+import com.example.phoebe.exception.ResourceNotFoundException;
+import com.example.phoebe.repository.ChannelSettingsRepository;
+import com.example.phoebe.repository.NewsRepository;
+import com.example.phoebe.repository.TermRepository;
+import com.example.phoebe.service.SyndicationService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of SyndicationService.
+ *
+ * Sitemap shards are generated by reading id/updated_at projections in keyset pages of 1,000 rows
+ * and writing XML incrementally with StAX, so memory is bounded by one shard regardless of the
+ * total number of articles, without relying on driver-side cursors. Generated shards are cached
+ * under a key that includes the published content fingerprint (count + max updated_at), so any
+ * publish, edit or delete yields a new key.
+ * Links are built from the configured site URL only, never from the request, so a forged Host
+ * header can neither end up in the publicly cached XML nor force shards to be rebuilt.
+ *
+ * A shard starts after the (publication_date, id) position of the last article of the shard before it.
+ * These boundaries are found once per fingerprint, each by skipping 50,000 index entries from the
+ * previous one, so building every shard reads the published articles about twice instead of an
+ * offset scan per shard.
+ *
+ * Compressed shards are cached next to the plain ones, so a shard is compressed once per encoding
+ * rather than buffered and compressed again by the compression filter on every request.
+ */
+@Service
+public class SyndicationServiceImpl implements SyndicationService {
+
+    static final int SHARD_SIZE = 50_000;
+    /** Rows read per query while writing a shard; divides SHARD_SIZE. */
+    static final int SITEMAP_PAGE_SIZE = 1000;
+    static final int FEED_SIZE = 50;
+
+    private static final String SITEMAP_NS = "http://www.sitemaps.org/schemas/sitemap/0.9";
+    private static final String ATOM_NS = "http://www.w3.org/2005/Atom";
+    private static final String DEFAULT_TITLE = "Phoebe CMS";
+
+    private final NewsRepository newsRepository;
+    private final TermRepository termRepository;
+    private final ChannelSettingsRepository channelSettingsRepository;
+    private final ResponseCompressor compressor;
+    private final SyndicationProperties properties;
+    private final XMLOutputFactory xmlOutputFactory = XMLOutputFactory.newFactory();
+    private final Cache<ShardKey, CachedShard> shardCache = Caffeine.newBuilder()
+            .maximumWeight(64L * 1024 * 1024)
+            .weigher((ShardKey key, CachedShard value) -> value.bytes().length)
+            .expireAfterAccess(Duration.ofHours(6))
+            .build();
+    private final Cache<ContentFingerprintDto, List<SitemapKeyDto>> shardEndCache = Caffeine.newBuilder()
+            .maximumSize(4)
+            .expireAfterAccess(Duration.ofHours(6))
+            .build();
+
+    public SyndicationServiceImpl(NewsRepository newsRepository, TermRepository termRepository,
+                                  ChannelSettingsRepository channelSettingsRepository,
+                                  ResponseCompressor compressor, SyndicationProperties properties) {
+        this.newsRepository = newsRepository;
+        this.termRepository = termRepository;
+        this.channelSettingsRepository = channelSettingsRepository;
+        this.compressor = compressor;
+        this.properties = properties;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public byte[] getSitemapIndex() {
+        String baseUrl = resolveBaseUrl(channelSettingsRepository.findSingletonSettings());
+        int shards = shardCount(newsRepository.findPublishedFingerprint());
+        return writeXml(writer -> {
+            writer.writeStartElement("sitemapindex");
+            writer.writeDefaultNamespace(SITEMAP_NS);
+            for (int shard = 1; shard <= shards; shard++) {
+                writer.writeStartElement("sitemap");
+                writeElement(writer, "loc", baseUrl + "/sitemap-" + shard + ".xml");
+                writer.writeEndElement();
+            }
+            writer.writeEndElement();
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public byte[] getSitemapShard(int shard, ContentEncoding encoding) {
+        ContentFingerprintDto fingerprint = newsRepository.findPublishedFingerprint();
+        if (shard < 1 || shard > shardCount(fingerprint)) {
+            throw new ResourceNotFoundException("Sitemap", "shard", shard);
+        }
+        String baseUrl = resolveBaseUrl(channelSettingsRepository.findSingletonSettings());
+        byte[] xml = cachedShard(new ShardKey(shard, fingerprint, null), baseUrl,
+                () -> writeShard(shard, baseUrl, fingerprint));
+        if (encoding == null) {
+            return xml;
+        }
+        return cachedShard(new ShardKey(shard, fingerprint, encoding), baseUrl,
+                () -> compressor.compress(xml, encoding));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public byte[] getRssFeed(Long termId) {
+        Feed feed = describeFeed(termId, "rss.xml");
+        try (Stream<FeedItemDto> items = streamFeedItems(termId)) {
+            Iterator<FeedItemDto> iterator = items.iterator();
+            return writeXml(writer -> {
+                writer.writeStartElement("rss");
+                writer.writeAttribute("version", "2.0");
+                writer.writeNamespace("atom", ATOM_NS);
+                writer.writeStartElement("channel");
+                writeElement(writer, "title", feed.title());
+                writeElement(writer, "link", feed.link());
+                writeElement(writer, "description", feed.description());
+                writer.writeEmptyElement("atom", "link", ATOM_NS);
+                writer.writeAttribute("href", feed.selfLink());
+                writer.writeAttribute("rel", "self");
+                writer.writeAttribute("type", "application/rss+xml");
+                while (iterator.hasNext()) {
+                    FeedItemDto item = iterator.next();
+                    String link = feed.baseUrl() + "/node/" + item.id();
+                    writer.writeStartElement("item");
+                    writeElement(writer, "title", item.title());
+                    writeElement(writer, "link", link);
+                    writer.writeStartElement("guid");
+                    writer.writeAttribute("isPermaLink", "true");
+                    writer.writeCharacters(link);
+                    writer.writeEndElement();
+                    writeElement(writer, "pubDate", format(item.publicationDate(), DateTimeFormatter.RFC_1123_DATE_TIME));
+                    if (item.summary() != null) {
+                        writeElement(writer, "description", item.summary());
+                    }
+                    writer.writeEndElement();
+                }
+                writer.writeEndElement();
+                writer.writeEndElement();
+            });
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public byte[] getAtomFeed(Long termId) {
+        Feed feed = describeFeed(termId, "atom.xml");
+        LocalDateTime feedUpdated = newsRepository.findPublishedFingerprint().lastUpdated();
+        try (Stream<FeedItemDto> items = streamFeedItems(termId)) {
+            Iterator<FeedItemDto> iterator = items.iterator();
+            return writeXml(writer -> {
+                writer.writeStartElement("feed");
+                writer.writeDefaultNamespace(ATOM_NS);
+                writeElement(writer, "title", feed.title());
+                writeElement(writer, "subtitle", feed.description());
+                writeElement(writer, "id", feed.link());
+                writeElement(writer, "updated",
+                        format(feedUpdated != null ? feedUpdated : LocalDateTime.now(), DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+                writer.writeEmptyElement("link");
+                writer.writeAttribute("rel", "self");
+                writer.writeAttribute("href", feed.selfLink());
+                writer.writeEmptyElement("link");
+                writer.writeAttribute("href", feed.link());
+                while (iterator.hasNext()) {
+                    FeedItemDto item = iterator.next();
+                    String link = feed.baseUrl() + "/node/" + item.id();
+                    writer.writeStartElement("entry");
+                    writeElement(writer, "title", item.title());
+                    writeElement(writer, "id", link);
+                    writer.writeEmptyElement("link");
+                    writer.writeAttribute("href", link);
+                    writeElement(writer, "published", format(item.publicationDate(), DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+                    writeElement(writer, "updated", format(item.updatedAt(), DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+                    writer.writeStartElement("author");
+                    writeElement(writer, "name", item.authorName());
+                    writer.writeEndElement();
+                    if (item.summary() != null) {
+                        writer.writeStartElement("summary");
+                        writer.writeAttribute("type", "html");
+                        writer.writeCharacters(item.summary());
+                        writer.writeEndElement();
+                    }
+                    writer.writeEndElement();
+                }
+                writer.writeEndElement();
+            });
+        }
+    }
+
+    private byte[] writeShard(int shard, String baseUrl, ContentFingerprintDto fingerprint) {
+        return writeXml(writer -> {
+            writer.writeStartElement("urlset");
+            writer.writeDefaultNamespace(SITEMAP_NS);
+            int remaining = SHARD_SIZE;
+            List<SitemapUrlDto> page = findFirstPage(shard, fingerprint);
+            while (!page.isEmpty()) {
+                for (SitemapUrlDto url : page) {
+                    writer.writeStartElement("url");
+                    writeElement(writer, "loc", baseUrl + "/node/" + url.id());
+                    if (url.updatedAt() != null) {
+                        writeElement(writer, "lastmod", format(url.updatedAt(), DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+                    }
+                    writer.writeEndElement();
+                }
+                remaining -= page.size();
+                if (remaining == 0 || page.size() < SITEMAP_PAGE_SIZE) {
+                    break;
+                }
+                SitemapUrlDto last = page.get(page.size() - 1);
+                page = newsRepository.findPublishedForSitemapAfter(last.publicationDate(), last.id(),
+                        PageRequest.of(0, SITEMAP_PAGE_SIZE));
+            }
+            writer.writeEndElement();
+        });
+    }
+
+    /**
+     * The first page of the shard; the following ones continue after its last row.
+     */
+    private List<SitemapUrlDto> findFirstPage(int shard, ContentFingerprintDto fingerprint) {
+        PageRequest page = PageRequest.of(0, SITEMAP_PAGE_SIZE);
+        if (shard == 1) {
+            return newsRepository.findPublishedForSitemap(page);
+        }
+        List<SitemapKeyDto> ends = shardEndCache.get(fingerprint, this::findShardEnds);
+        if (ends.size() < shard - 1) {
+            // Articles were unpublished since the fingerprint was read
+            return List.of();
+        }
+        SitemapKeyDto start = ends.get(shard - 2);
+        return newsRepository.findPublishedForSitemapAfter(start.publicationDate(), start.id(), page);
+    }
+
+    /**
+     * The position of the last article of every shard but the last one.
+     */
+    private List<SitemapKeyDto> findShardEnds(ContentFingerprintDto fingerprint) {
+        int shards = shardCount(fingerprint);
+        PageRequest lastOfShard = PageRequest.of(SHARD_SIZE - 1, 1);
+        List<SitemapKeyDto> ends = new ArrayList<>(shards - 1);
+        List<SitemapKeyDto> end = newsRepository.findPublishedSitemapKeys(lastOfShard);
+        while (!end.isEmpty() && ends.size() < shards - 1) {
+            SitemapKeyDto key = end.get(0);
+            ends.add(key);
+            end = newsRepository.findPublishedSitemapKeysAfter(key.publicationDate(), key.id(), lastOfShard);
+        }
+        return ends;
+    }
+
+    private Stream<FeedItemDto> streamFeedItems(Long termId) {
+        PageRequest page = PageRequest.of(0, FEED_SIZE);
+        return termId == null
+                ? newsRepository.streamLatestForFeed(page)
+                : newsRepository.streamLatestForTermFeed(termId, page);
+    }
+
+    private Feed describeFeed(Long termId, String fileName) {
+        Optional<ChannelSettings> settings = channelSettingsRepository.findSingletonSettings();
+        String baseUrl = resolveBaseUrl(settings);
+        String siteTitle = settings.map(ChannelSettings::getSiteTitle)
+                .filter(title -> !title.isBlank())
+                .orElse(DEFAULT_TITLE);
+        String description = settings.map(ChannelSettings::getMetaDescription)
+                .filter(text -> !text.isBlank())
+                .orElse(siteTitle);
+        if (termId == null) {
+            return new Feed(baseUrl, siteTitle, description, baseUrl + "/", baseUrl + "/feeds/" + fileName);
+        }
+        Term term = termRepository.findById(termId)
+                .orElseThrow(() -> new ResourceNotFoundException("Term", "id", termId));
+        return new Feed(baseUrl, siteTitle + " - " + term.getName(), description,
+                baseUrl + "/category/" + termId, baseUrl + "/feeds/terms/" + termId + "/" + fileName);
+    }
+
+    /**
+     * The shard cached under the key if it was written with the given base URL, else a new one; the base URL
+     * only changes with the settings, so it is checked rather than made part of the key.
+     */
+    private byte[] cachedShard(ShardKey key, String baseUrl, Supplier<byte[]> writer) {
+        CachedShard cached = shardCache.getIfPresent(key);
+        if (cached == null || !cached.baseUrl().equals(baseUrl)) {
+            cached = shardCache.asMap().compute(key, (k, current) -> current != null
+                    && current.baseUrl().equals(baseUrl) ? current : new CachedShard(baseUrl, writer.get()));
+        }
+        return cached.bytes();
+    }
+
+    private String resolveBaseUrl(Optional<ChannelSettings> settings) {
+        String url = settings.map(ChannelSettings::getSiteUrl)
+                .filter(siteUrl -> !siteUrl.isBlank())
+                .or(() -> Optional.ofNullable(properties.baseUrl()).filter(baseUrl -> !baseUrl.isBlank()))
+                .orElseThrow(() -> new IllegalStateException(
+                        "No site URL: set siteUrl in the channel settings or app.syndication.base-url"));
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    private static int shardCount(ContentFingerprintDto fingerprint) {
+        return (int) Math.max(1, (fingerprint.count() + SHARD_SIZE - 1) / SHARD_SIZE);
+    }
+
+    private static String format(LocalDateTime time, DateTimeFormatter formatter) {
+        return time.atZone(ZoneId.systemDefault()).format(formatter);
+    }
+
+    private static void writeElement(XMLStreamWriter writer, String name, String text) throws XMLStreamException {
+        writer.writeStartElement(name);
+        writer.writeCharacters(text != null ? text : "");
+        writer.writeEndElement();
+    }
+
+    private byte[] writeXml(XmlBody body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8192);
+        try {
+            XMLStreamWriter writer = xmlOutputFactory.createXMLStreamWriter(out, "UTF-8");
+            writer.writeStartDocument("UTF-8", "1.0");
+            body.write(writer);
+            writer.writeEndDocument();
+            writer.close();
+        } catch (XMLStreamException e) {
+            throw new IllegalStateException("Failed to write XML", e);
+        }
+        return out.toByteArray();
+    }
+
+    @FunctionalInterface
+    private interface XmlBody {
+        void write(XMLStreamWriter writer) throws XMLStreamException;
+    }
+
+    private record Feed(String baseUrl, String title, String description, String link, String selfLink) {}
+
+    /**
+     * A cached shard; {@code encoding} is null for the plain XML.
+     */
+    private record ShardKey(int shard, ContentFingerprintDto fingerprint, ContentEncoding encoding) {}
+
+    private record CachedShard(String baseUrl, byte[] bytes) {}
+}
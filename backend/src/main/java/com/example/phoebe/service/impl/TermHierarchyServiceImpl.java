@@ -0,0 +1,251 @@
+package com.example.phoebe.service.impl;
+
+import com.example.phoebe.dto.response.TermCountDto;
+import com.example.phoebe.entity.TermClosure;
+import com.example.phoebe.entity.TermCounter;
+import com.example.phoebe.exception.BusinessException;
+import com.example.phoebe.exception.ResourceNotFoundException;
+import com.example.phoebe.repository.TermClosureRepository;
+import com.example.phoebe.repository.TermCounterRepository;
+import com.example.phoebe.service.CacheInvalidationService;
+import com.example.phoebe.service.TermHierarchyService;
+import com.example.phoebe.taxonomy.TermTree;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ObjLongConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Counts are adjusted with the set difference of the terms, and for subtrees of their ancestors, before and
+ * after a change, so an article tagged with both "Europe" and "World" is counted once in "World". Ancestors are read from the closure
+ * table in the writing transaction, not from the cached snapshot, which may be older.
+ */
+@Service
+public class TermHierarchyServiceImpl implements TermHierarchyService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TermHierarchyServiceImpl.class);
+
+    private final TermClosureRepository closureRepository;
+    private final TermCounterRepository counterRepository;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final TransactionTemplate transaction;
+
+    public TermHierarchyServiceImpl(TermClosureRepository closureRepository, TermCounterRepository counterRepository,
+                                    CacheInvalidationService cacheInvalidationService,
+                                    PlatformTransactionManager transactionManager) {
+        this.closureRepository = closureRepository;
+        this.counterRepository = counterRepository;
+        this.cacheInvalidationService = cacheInvalidationService;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "term-tree", key = "'snapshot'", sync = true)
+    public TermTree getTree() {
+        return TermTree.of(closureRepository.findAll());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addTerm(Long termId, Long parentId) {
+        if (parentId != null) {
+            requireTerm(parentId);
+        }
+        closureRepository.insertSelf(termId);
+        if (parentId != null) {
+            closureRepository.insertSubtreePaths(termId, parentId);
+        }
+        counterRepository.save(new TermCounter(termId));
+        cacheInvalidationService.clear("term-tree");
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void moveTerm(Long termId, Long parentId) {
+        List<Long> subtree = closureRepository.findSubtreeIds(termId);
+        if (subtree.isEmpty()) {
+            throw new ResourceNotFoundException("Term", "id", termId);
+        }
+        if (parentId != null) {
+            if (subtree.contains(parentId)) {
+                throw new IllegalArgumentException("A term cannot be moved below itself or its descendants");
+            }
+            requireTerm(parentId);
+        }
+        Set<Long> affected = strictAncestors(termId);
+        closureRepository.deleteOuterPaths(subtree);
+        if (parentId != null) {
+            closureRepository.insertSubtreePaths(termId, parentId);
+            affected.addAll(closureRepository.findAncestorIds(List.of(parentId)));
+        }
+        recount(affected);
+        cacheInvalidationService.clear("term-tree");
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeTerm(Long termId) {
+        if (closureRepository.existsByAncestorIdAndDepth(termId, 1)) {
+            throw new BusinessException("Term " + termId + " has child terms; move or delete them first");
+        }
+        Set<Long> ancestors = strictAncestors(termId);
+        closureRepository.deleteTerm(termId);
+        counterRepository.deleteById(termId);
+        // The term's articles no longer reach its ancestors through the closure table.
+        recount(ancestors);
+        cacheInvalidationService.clear("term-tree");
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void articleTermsChanged(Collection<Long> oldTermIds, boolean wasPublished,
+                                    Collection<Long> newTermIds, boolean published) {
+        Set<Long> publishedBefore = wasPublished ? Set.copyOf(oldTermIds) : Set.of();
+        Set<Long> publishedAfter = published ? Set.copyOf(newTermIds) : Set.of();
+        adjust(counterRepository::addTotal, Set.copyOf(oldTermIds), Set.copyOf(newTermIds));
+        adjust(counterRepository::addPublished, publishedBefore, publishedAfter);
+        adjust(counterRepository::addSubtreePublished, ancestorsOf(publishedBefore), ancestorsOf(publishedAfter));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void articlesRemoved(Collection<Long> newsIds, boolean deleted) {
+        if (newsIds.isEmpty()) {
+            return;
+        }
+        if (deleted) {
+            decrement(counterRepository::addTotal, counterRepository.countTaggedPerTerm(newsIds));
+        }
+        decrement(counterRepository::addPublished, counterRepository.countPublishedPerTerm(newsIds));
+        decrement(counterRepository::addSubtreePublished, closureRepository.countPublishedPerAncestor(newsIds));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countPublishedInSubtree(Long termId) {
+        return counterRepository.findSubtreePublished(termId).orElse(0L);
+    }
+
+    @Override
+    public List<Long> reconcileCounters(long afterTermId, int batchSize) {
+        // Separate transactions: on MySQL the first plain SELECT of a transaction fixes the snapshot its later
+        // reads see, so the counts must be the first reads of a transaction that starts by locking.
+        transaction.executeWithoutResult(status -> createMissingCounters(afterTermId, batchSize));
+        return transaction.execute(status -> recountBatch(afterTermId, batchSize));
+    }
+
+    /**
+     * Locks the next counters and repairs them. Locking first also makes the counts see every change committed
+     * before the locks were taken.
+     */
+    private List<Long> recountBatch(long afterTermId, int batchSize) {
+        List<TermCounter> counters = counterRepository.lockBatchAfter(afterTermId, PageRequest.of(0, batchSize));
+        if (counters.isEmpty()) {
+            return List.of();
+        }
+        List<Long> termIds = counters.stream().map(TermCounter::getTermId).toList();
+        Map<Long, Long> published = byTerm(counterRepository.countPublished(termIds));
+        Map<Long, Long> total = byTerm(counterRepository.countTagged(termIds));
+        Map<Long, Long> subtree = byTerm(closureRepository.countPublishedInSubtrees(termIds));
+        counters.forEach(counter -> repair(counter, published.getOrDefault(counter.getTermId(), 0L),
+                total.getOrDefault(counter.getTermId(), 0L), subtree.getOrDefault(counter.getTermId(), 0L)));
+        return termIds;
+    }
+
+    /**
+     * Inserts zeroed counters for terms that have none, so the next batch locks and recounts them too.
+     */
+    private void createMissingCounters(long afterTermId, int batchSize) {
+        List<Long> missing = counterRepository.findTermIdsWithoutCounterAfter(afterTermId,
+                PageRequest.of(0, batchSize));
+        if (missing.isEmpty()) {
+            return;
+        }
+        LOGGER.warn("Creating missing counters of {} terms, starting at term {}", missing.size(), missing.get(0));
+        counterRepository.saveAllAndFlush(missing.stream().map(TermCounter::new).toList());
+    }
+
+    private void requireTerm(Long termId) {
+        if (!closureRepository.existsById(new TermClosure.Key(termId, termId))) {
+            throw new ResourceNotFoundException("Term", "id", termId);
+        }
+    }
+
+    private Set<Long> ancestorsOf(Collection<Long> termIds) {
+        return termIds.isEmpty() ? Set.of() : new HashSet<>(closureRepository.findAncestorIds(termIds));
+    }
+
+    private Set<Long> strictAncestors(Long termId) {
+        Set<Long> ancestors = new HashSet<>(closureRepository.findAncestorIds(List.of(termId)));
+        ancestors.remove(termId);
+        return ancestors;
+    }
+
+    /**
+     * Recomputes the subtree counts of the given terms, for changes that move whole subtrees. The counters are
+     * locked first, so an increment committed meanwhile is either counted or applied after the recount.
+     */
+    private void recount(Set<Long> termIds) {
+        if (termIds.isEmpty()) {
+            return;
+        }
+        counterRepository.lockAll(termIds);
+        counterRepository.recountSubtreePublished(termIds);
+    }
+
+    private static void repair(TermCounter counter, long published, long total, long subtree) {
+        if (counter.getPublishedCount() == published && counter.getTotalCount() == total
+                && counter.getSubtreePublished() == subtree) {
+            return;
+        }
+        LOGGER.warn("Repairing counters of term {}: published {} -> {}, total {} -> {}, subtree published {} -> {}",
+                counter.getTermId(), counter.getPublishedCount(), published, counter.getTotalCount(), total,
+                counter.getSubtreePublished(), subtree);
+        counter.setPublishedCount(published);
+        counter.setTotalCount(total);
+        counter.setSubtreePublished(subtree);
+    }
+
+    /**
+     * Increments the counters of the terms that are only in {@code after} and decrements those only in
+     * {@code before}.
+     */
+    private static void adjust(ObjLongConsumer<Collection<Long>> update, Set<Long> before, Set<Long> after) {
+        Set<Long> entered = after.stream().filter(id -> !before.contains(id)).collect(Collectors.toSet());
+        Set<Long> left = before.stream().filter(id -> !after.contains(id)).collect(Collectors.toSet());
+        if (!entered.isEmpty()) {
+            update.accept(entered, 1);
+        }
+        if (!left.isEmpty()) {
+            update.accept(left, -1);
+        }
+    }
+
+    /**
+     * Subtracts the counts, with one UPDATE per distinct count: terms losing the same number of articles share it.
+     */
+    private static void decrement(ObjLongConsumer<Collection<Long>> update, List<TermCountDto> counts) {
+        counts.stream()
+                .collect(Collectors.groupingBy(TermCountDto::count,
+                        Collectors.mapping(TermCountDto::termId, Collectors.toList())))
+                .forEach((count, termIds) -> update.accept(termIds, -count));
+    }
+
+    private static Map<Long, Long> byTerm(List<TermCountDto> counts) {
+        return counts.stream().collect(Collectors.toMap(TermCountDto::termId, TermCountDto::count));
+    }
+}
@@ -1,21 +1,45 @@
 package com.example.phoebe.service.impl;
 
+import com.example.phoebe.cdn.CdnPurgeDispatcher;
+import com.example.phoebe.cdn.SurrogateKeys;
+import com.example.phoebe.dto.response.TermSuggestionDto;
+import com.example.phoebe.entity.ChangeEvent;
 import com.example.phoebe.entity.Term;
 import com.example.phoebe.exception.ResourceNotFoundException;
 import com.example.phoebe.repository.TermRepository;
+import com.example.phoebe.service.CacheInvalidationService;
+import com.example.phoebe.service.ChangeFeedService;
+import com.example.phoebe.service.TermHierarchyService;
 import com.example.phoebe.service.TermService;
+import com.example.phoebe.taxonomy.TermSuggestionIndex;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 public class TermServiceImpl implements TermService {
 
     private final TermRepository termRepository;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final ChangeFeedService changeFeedService;
+    private final TermHierarchyService termHierarchyService;
+    private final TermSuggestionIndex termSuggestionIndex;
+    private final CdnPurgeDispatcher cdnPurgeDispatcher;
 
-    public TermServiceImpl(TermRepository termRepository) {
+    public TermServiceImpl(TermRepository termRepository, CacheInvalidationService cacheInvalidationService,
+                           ChangeFeedService changeFeedService, TermHierarchyService termHierarchyService,
+                           TermSuggestionIndex termSuggestionIndex, CdnPurgeDispatcher cdnPurgeDispatcher) {
         this.termRepository = termRepository;
+        this.cacheInvalidationService = cacheInvalidationService;
+        this.changeFeedService = changeFeedService;
+        this.termHierarchyService = termHierarchyService;
+        this.termSuggestionIndex = termSuggestionIndex;
+        this.cdnPurgeDispatcher = cdnPurgeDispatcher;
     }
 
     @Override
@@ -31,18 +55,67 @@ public class TermServiceImpl implements TermService {
                 .orElseThrow(() -> new ResourceNotFoundException("Term", "id", id));
     }
 
+    @Override
+    public List<TermSuggestionDto> suggest(String prefix, String vocabulary, int limit) {
+        return termSuggestionIndex.suggest(prefix, vocabulary, limit);
+    }
+
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = "main-menu", allEntries = true),
+            @CacheEvict(value = "term-tree", allEntries = true)
+    })
     public Term save(Term term) {
-        return termRepository.save(term);
+        boolean created = term.getId() == null;
+        ChangeEvent.ChangeType change = created ? ChangeEvent.ChangeType.CREATED : ChangeEvent.ChangeType.UPDATED;
+        if (created && term.getParentId() != null && !termRepository.existsById(term.getParentId())) {
+            throw new ResourceNotFoundException("Term", "id", term.getParentId());
+        }
+        Term saved = termRepository.save(term);
+        if (created) {
+            termHierarchyService.addTerm(saved.getId(), saved.getParentId());
+        }
+        cacheInvalidationService.clear("main-menu");
+        cacheInvalidationService.evictEntity(Term.class, saved.getId());
+        changeFeedService.recordTerm(saved.getId(), change);
+        termSuggestionIndex.termSaved(saved);
+        if (!created) {
+            // Article responses show the term's name and are tagged with it; a new term is on none yet.
+            cdnPurgeDispatcher.purge(List.of(SurrogateKeys.term(saved.getId())));
+        }
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(value = "term-tree", allEntries = true)
+    public Term move(Long id, Long parentId) {
+        Term term = findById(id);
+        termHierarchyService.moveTerm(id, parentId);
+        term.setParentId(parentId);
+        cacheInvalidationService.evictEntity(Term.class, id);
+        changeFeedService.recordTerm(id, ChangeEvent.ChangeType.UPDATED);
+        cdnPurgeDispatcher.purge(List.of(SurrogateKeys.term(id)));
+        return term;
     }
 
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = "main-menu", allEntries = true),
+            @CacheEvict(value = "term-tree", allEntries = true)
+    })
     public void deleteById(Long id) {
         if (!termRepository.existsById(id)) {
             throw new ResourceNotFoundException("Term", "id", id);
         }
+        termHierarchyService.removeTerm(id);
         termRepository.deleteById(id);
+        cacheInvalidationService.clear("main-menu");
+        cacheInvalidationService.evictEntity(Term.class, id);
+        changeFeedService.recordTerm(id, ChangeEvent.ChangeType.DELETED);
+        termSuggestionIndex.termDeleted(id);
+        cdnPurgeDispatcher.purge(List.of(SurrogateKeys.term(id)));
     }
 }
@@ -0,0 +1,84 @@
+package com.example.phoebe.service.impl;
+
+import com.example.phoebe.dto.request.WebhookSubscriptionRequestDto;
+import com.example.phoebe.dto.response.WebhookSubscriptionDto;
+import com.example.phoebe.entity.WebhookSubscription;
+import com.example.phoebe.exception.ResourceNotFoundException;
+import com.example.phoebe.repository.WebhookSubscriptionRepository;
+import com.example.phoebe.service.WebhookSubscriptionService;
+import com.example.phoebe.webhook.WebhookDispatcher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+public class WebhookSubscriptionServiceImpl implements WebhookSubscriptionService {
+
+    private final WebhookSubscriptionRepository repository;
+    private final WebhookDispatcher dispatcher;
+
+    public WebhookSubscriptionServiceImpl(WebhookSubscriptionRepository repository, WebhookDispatcher dispatcher) {
+        this.repository = repository;
+        this.dispatcher = dispatcher;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<WebhookSubscriptionDto> findAll() {
+        return repository.findAll().stream().map(WebhookSubscriptionServiceImpl::toDto).toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public WebhookSubscriptionDto findById(Long id) {
+        return toDto(getSubscription(id));
+    }
+
+    @Override
+    @Transactional
+    public WebhookSubscriptionDto create(WebhookSubscriptionRequestDto request) {
+        WebhookSubscription subscription = repository.save(new WebhookSubscription(request.name(), request.url(),
+                emptyToNull(request.secret()), request.active() == null || request.active(), LocalDateTime.now()));
+        dispatcher.reloadSubscriptions();
+        return toDto(subscription);
+    }
+
+    @Override
+    @Transactional
+    public WebhookSubscriptionDto update(Long id, WebhookSubscriptionRequestDto request) {
+        WebhookSubscription subscription = getSubscription(id);
+        subscription.setName(request.name());
+        subscription.setUrl(request.url());
+        if (request.secret() != null) {
+            subscription.setSecret(emptyToNull(request.secret()));
+        }
+        if (request.active() != null) {
+            subscription.setActive(request.active());
+        }
+        dispatcher.reloadSubscriptions();
+        return toDto(subscription);
+    }
+
+    @Override
+    @Transactional
+    public void delete(Long id) {
+        repository.delete(getSubscription(id));
+        dispatcher.reloadSubscriptions();
+    }
+
+    private WebhookSubscription getSubscription(Long id) {
+        return repository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("WebhookSubscription", "id", id));
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    private static WebhookSubscriptionDto toDto(WebhookSubscription subscription) {
+        return new WebhookSubscriptionDto(subscription.getId(), subscription.getName(), subscription.getUrl(),
+                subscription.getSecret() != null, subscription.isActive(), subscription.getCreatedAt());
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.phoebe.startup;
+
+import com.example.phoebe.config.StartupProperties;
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Lets a new instance skip schema checks that an earlier instance of the same build already passed.
+ *
+ * <p>The build writes a fingerprint of all migration scripts and entity sources to
+ * {@value #FINGERPRINT_RESOURCE}. After a successful start (Flyway migrate/validate and Hibernate
+ * {@code ddl-auto: validate}) the fingerprint is stored in {@code schema_marker}. When the next instance finds
+ * the same fingerprint there, Flyway is not run and Hibernate validation is switched off.</p>
+ *
+ * <p>Builds without a fingerprint resource (IDE runs, tests) always run the full checks.</p>
+ */
+@Component
+public class SchemaMarker {
+
+    static final String FINGERPRINT_RESOURCE = "db/schema-fingerprint.txt";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SchemaMarker.class);
+    private static final int MARKER_ID = 1;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StartupProperties properties;
+    private final String fingerprint;
+    private volatile boolean schemaVerified;
+
+    @Autowired
+    public SchemaMarker(DataSource dataSource, StartupProperties properties) {
+        // Own template: the JdbcTemplate bean itself waits for Flyway, which calls back into this class.
+        this(new JdbcTemplate(dataSource), properties, readFingerprint(new ClassPathResource(FINGERPRINT_RESOURCE)));
+    }
+
+    SchemaMarker(JdbcTemplate jdbcTemplate, StartupProperties properties, String fingerprint) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Flyway migration strategy: migrate unless this build's schema is already verified
+     * or the context is only started for a training run.
+     */
+    public void migrate(Flyway flyway) {
+        if (properties.trainingRun()) {
+            LOGGER.info("Training run: skipping Flyway migrations");
+            return;
+        }
+        if (properties.schemaMarker() && fingerprint != null && fingerprint.equals(storedFingerprint())) {
+            schemaVerified = true;
+            LOGGER.info("Schema marker {} matches: skipping Flyway and Hibernate schema validation", fingerprint);
+            return;
+        }
+        flyway.migrate();
+    }
+
+    /**
+     * Whether the database schema is known to match this build, so Hibernate validation can be skipped.
+     */
+    public boolean isSchemaVerified() {
+        return schemaVerified;
+    }
+
+    /**
+     * Stores the fingerprint once the application has started, i.e. after all schema checks passed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recordVerifiedSchema() {
+        if (!properties.schemaMarker() || properties.trainingRun() || schemaVerified || fingerprint == null) {
+            return;
+        }
+        try {
+            Timestamp now = Timestamp.from(Instant.now());
+            int updated = jdbcTemplate.update(
+                    "UPDATE schema_marker SET fingerprint = ?, verified_at = ? WHERE id = ?", fingerprint, now, MARKER_ID);
+            if (updated == 0) {
+                jdbcTemplate.update("INSERT INTO schema_marker (id, fingerprint, verified_at) VALUES (?, ?, ?)",
+                        MARKER_ID, fingerprint, now);
+            }
+            schemaVerified = true;
+            LOGGER.info("Recorded schema marker {}", fingerprint);
+        } catch (DataAccessException e) {
+            LOGGER.warn("Could not record schema marker: {}", e.getMessage());
+        }
+    }
+
+    private String storedFingerprint() {
+        try {
+            List<String> stored = jdbcTemplate.queryForList(
+                    "SELECT fingerprint FROM schema_marker WHERE id = ?", String.class, MARKER_ID);
+            return stored.isEmpty() ? null : stored.get(0);
+        } catch (DataAccessException e) {
+            // Fresh database: the marker table is created by the migrations.
+            return null;
+        }
+    }
+
+    static String readFingerprint(Resource resource) {
+        if (!resource.exists()) {
+            return null;
+        }
+        try {
+            String value = resource.getContentAsString(StandardCharsets.UTF_8).trim();
+            return value.isEmpty() ? null : value;
+        } catch (IOException e) {
+            LOGGER.warn("Could not read {}: {}", FINGERPRINT_RESOURCE, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.phoebe.startup;
+
+import com.example.phoebe.compression.ContentEncoding;
+import com.example.phoebe.compression.ResponseCompressor;
+import com.example.phoebe.config.WarmUpProperties;
+import com.example.phoebe.dto.response.NewsDto;
+import com.example.phoebe.service.ChannelSettingsService;
+import com.example.phoebe.service.NavigationService;
+import com.example.phoebe.service.NewsService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Warms the application up before it reports ready.
+ *
+ * <p>Spring Boot switches the readiness state to ACCEPTING_TRAFFIC only after all application runners have
+ * finished, so {@code /actuator/health/readiness} stays OUT_OF_SERVICE while this runs. The warm-up opens the
+ * pool's minimum connections, preloads the most recent published articles, the main menu and the channel
+ * settings into their caches, and then runs the public read paths (query, mapping, JSON serialization and
+ * compression) for a number of iterations so the JIT has compiled them before real traffic arrives.</p>
+ *
+ * <p>A failing step is logged and skipped: a cold instance is better than one that never becomes ready.</p>
+ */
+@Component
+@Order
+public class WarmUpRunner implements ApplicationRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WarmUpRunner.class);
+
+    /** The first public listing page, as requested by the front page. */
+    private static final PageRequest FRONT_PAGE =
+            PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "publicationDate"));
+
+    private final WarmUpProperties properties;
+    private final DataSource dataSource;
+    private final NewsService newsService;
+    private final NavigationService navigationService;
+    private final ChannelSettingsService channelSettingsService;
+    private final ObjectMapper objectMapper;
+    private final ResponseCompressor responseCompressor;
+
+    public WarmUpRunner(WarmUpProperties properties, DataSource dataSource, NewsService newsService,
+                        NavigationService navigationService, ChannelSettingsService channelSettingsService,
+                        ObjectMapper objectMapper, ResponseCompressor responseCompressor) {
+        this.properties = properties;
+        this.dataSource = dataSource;
+        this.newsService = newsService;
+        this.navigationService = navigationService;
+        this.channelSettingsService = channelSettingsService;
+        this.objectMapper = objectMapper;
+        this.responseCompressor = responseCompressor;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.enabled()) {
+            return;
+        }
+        long started = System.nanoTime();
+        int connections = properties.openPoolConnections() ? openPoolConnections() : 0;
+        List<Long> articleIds = preloadCaches();
+        int iterations = exerciseReadPaths(articleIds);
+        LOGGER.info("Warm-up finished in {} ms: {} pool connections, {} articles cached, {} iterations",
+                (System.nanoTime() - started) / 1_000_000, connections, articleIds.size(), iterations);
+    }
+
+    /**
+     * Borrows the pool's minimum idle connections at once, so none are opened on the request path.
+     */
+    int openPoolConnections() {
+        if (!(dataSource instanceof HikariDataSource hikari)) {
+            return 0;
+        }
+        int target = Math.min(hikari.getMinimumIdle(), hikari.getMaximumPoolSize());
+        List<Connection> borrowed = new ArrayList<>(target);
+        try {
+            for (int i = 0; i < target; i++) {
+                borrowed.add(hikari.getConnection());
+            }
+        } catch (SQLException e) {
+            LOGGER.warn("Warm-up could not open pool connections: {}", e.getMessage());
+        } finally {
+            for (Connection connection : borrowed) {
+                close(connection);
+            }
+        }
+        return borrowed.size();
+    }
+
+    /**
+     * Loads the most recent published articles through the cached lookup, then the main menu
+     * (which resolves its terms) and the channel settings.
+     */
+    List<Long> preloadCaches() {
+        List<Long> ids = new ArrayList<>();
+        try {
+            PageRequest recent = PageRequest.of(0, Math.max(1, properties.recentArticles()), FRONT_PAGE.getSort());
+            for (NewsDto news : newsService.findAllPublished(recent)) {
+                newsService.findPublishedById(news.getId());
+                ids.add(news.getId());
+            }
+            navigationService.getMainMenu();
+            channelSettingsService.getSettings();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Warm-up could not preload caches: {}", e.getMessage());
+        }
+        return ids;
+    }
+
+    /**
+     * Runs the public read paths; returns the number of completed iterations.
+     */
+    int exerciseReadPaths(List<Long> articleIds) {
+        int iteration = 0;
+        try {
+            for (; iteration < properties.iterations(); iteration++) {
+                serialize(newsService.findAllPublished(FRONT_PAGE));
+                if (!articleIds.isEmpty()) {
+                    serialize(newsService.findPublishedById(articleIds.get(iteration % articleIds.size())));
+                }
+                serialize(navigationService.getMainMenu());
+                serialize(channelSettingsService.getSettings());
+            }
+        } catch (RuntimeException | JsonProcessingException e) {
+            LOGGER.warn("Warm-up stopped after {} iterations: {}", iteration, e.getMessage());
+        }
+        return iteration;
+    }
+
+    private void serialize(Object body) throws JsonProcessingException {
+        ContentEncoding encoding = responseCompressor.isBrotliAvailable() ? ContentEncoding.BROTLI : ContentEncoding.GZIP;
+        responseCompressor.compress(objectMapper.writeValueAsBytes(body), encoding);
+    }
+
+    private static void close(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            LOGGER.debug("Could not return warm-up connection: {}", e.getMessage());
+        }
+    }
+}
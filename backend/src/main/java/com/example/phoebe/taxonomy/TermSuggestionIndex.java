@@ -0,0 +1,150 @@
+package com.example.phoebe.taxonomy;
+
+import com.example.phoebe.config.TermSuggestionProperties;
+import com.example.phoebe.dto.response.TermSuggestionDto;
+import com.example.phoebe.entity.Term;
+import com.example.phoebe.repository.TermRepository;
+import com.example.phoebe.util.AfterCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory autocomplete over term names, one {@link TermSuggestionTrie} per vocabulary.
+ *
+ * <p>The index is built from the term table when the application is ready and rebuilt every
+ * {@code rebuild-interval}, which refreshes the usage ranking (articles are tagged without going through
+ * the term service) and picks up terms changed by other instances. Terms saved or deleted here are applied
+ * after the transaction commits, by rebuilding the trie of their vocabulary only.</p>
+ *
+ * <p>Tries are immutable and replaced as a whole, so lookups take no lock.</p>
+ */
+@Component
+public class TermSuggestionIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TermSuggestionIndex.class);
+
+    private final TermRepository termRepository;
+    private final TermSuggestionProperties properties;
+
+    /** All indexed terms by id. Guarded by this. */
+    private final Map<Long, TermSuggestionDto> terms = new HashMap<>();
+    private volatile Map<String, TermSuggestionTrie> tries = Map.of();
+
+    public TermSuggestionIndex(TermRepository termRepository, TermSuggestionProperties properties) {
+        this.termRepository = termRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * Replaces the index with the current terms and usage counts of the database.
+     * On a database error the previous index is kept.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.term-suggestions.rebuild-interval:PT5M}",
+               initialDelayString = "${app.term-suggestions.rebuild-interval:PT5M}")
+    public void rebuild() {
+        try {
+            replaceAll(termRepository.findSuggestions());
+        } catch (DataAccessException e) {
+            LOGGER.warn("Could not rebuild the term suggestion index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Adds or renames a term, after the current transaction commits if there is one.
+     */
+    public void termSaved(Term term) {
+        AfterCommit.run(() -> apply(term.getId(), term.getName(), term.getVocabulary()));
+    }
+
+    /**
+     * Removes a term, after the current transaction commits if there is one.
+     */
+    public void termDeleted(Long termId) {
+        AfterCommit.run(() -> apply(termId, null, null));
+    }
+
+    /**
+     * The most used terms with a word starting with the prefix.
+     *
+     * @param prefix     Typed text; case and accents are ignored
+     * @param vocabulary Vocabulary to search, or null for all of them
+     * @param limit      Maximum number of suggestions; capped at {@code max-results}
+     */
+    public List<TermSuggestionDto> suggest(String prefix, String vocabulary, int limit) {
+        int capped = Math.max(1, Math.min(limit, properties.maxResults()));
+        Map<String, TermSuggestionTrie> current = tries;
+        if (vocabulary != null && !vocabulary.isBlank()) {
+            TermSuggestionTrie trie = current.get(vocabularyKey(vocabulary));
+            return trie == null ? List.of() : trie.suggest(prefix, capped);
+        }
+        // Each vocabulary's list is ranked already; merging them needs only their heads.
+        return current.values().stream()
+                .flatMap(trie -> trie.suggest(prefix, capped).stream())
+                .sorted(TermSuggestionTrie.RANKING)
+                .limit(capped)
+                .toList();
+    }
+
+    /**
+     * Number of indexed terms.
+     */
+    public synchronized int size() {
+        return terms.size();
+    }
+
+    private synchronized void replaceAll(Collection<TermSuggestionDto> suggestions) {
+        terms.clear();
+        suggestions.forEach(suggestion -> terms.put(suggestion.id(), suggestion));
+        tries = terms.values().stream()
+                .collect(Collectors.groupingBy(suggestion -> vocabularyKey(suggestion.vocabulary())))
+                .entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey,
+                        entry -> TermSuggestionTrie.of(entry.getValue(), properties.maxResults())));
+    }
+
+    private synchronized void apply(Long termId, String name, String vocabulary) {
+        TermSuggestionDto previous = name == null ? terms.remove(termId) : terms.put(termId,
+                new TermSuggestionDto(termId, name, vocabulary, usageOf(termId)));
+        Map<String, TermSuggestionTrie> updated = new HashMap<>(tries);
+        if (previous != null) {
+            reindex(updated, vocabularyKey(previous.vocabulary()));
+        }
+        if (vocabulary != null) {
+            reindex(updated, vocabularyKey(vocabulary));
+        }
+        tries = Map.copyOf(updated);
+    }
+
+    private long usageOf(Long termId) {
+        TermSuggestionDto known = terms.get(termId);
+        return known == null ? 0 : known.usage();
+    }
+
+    private void reindex(Map<String, TermSuggestionTrie> target, String vocabulary) {
+        List<TermSuggestionDto> members = terms.values().stream()
+                .filter(suggestion -> vocabularyKey(suggestion.vocabulary()).equals(vocabulary))
+                .toList();
+        if (members.isEmpty()) {
+            target.remove(vocabulary);
+        } else {
+            target.put(vocabulary, TermSuggestionTrie.of(members, properties.maxResults()));
+        }
+    }
+
+    private static String vocabularyKey(String vocabulary) {
+        return vocabulary.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.phoebe.taxonomy;
+
+import com.example.phoebe.dto.response.TermSuggestionDto;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable prefix index over the names of the terms of one vocabulary.
+ *
+ * <p>Names are matched case- and accent-insensitively ("cote" finds "Côte d'Ivoire") from the start of any of
+ * their words ("york" finds "New York"). Every inner node of the trie holds the best-ranked terms below it, so
+ * a lookup walks the prefix and returns a precomputed list: its cost depends on the length of the prefix, not
+ * on the number of terms.</p>
+ *
+ * <p>A subtree with no more than {@code maxResults} terms is not split further but kept as one leaf listing its
+ * keys in rank order, which a lookup filters by prefix (a burst trie). This keeps the node count, and with it
+ * the time to rebuild the trie after a term write, close to the number of terms rather than of characters.</p>
+ */
+public final class TermSuggestionTrie {
+
+    /** Most used first, then by name and id, so equal usage gives a stable alphabetical order. */
+    public static final Comparator<TermSuggestionDto> RANKING =
+            Comparator.comparingLong(TermSuggestionDto::usage).reversed()
+                    .thenComparing(TermSuggestionDto::name, String.CASE_INSENSITIVE_ORDER)
+                    .thenComparing(TermSuggestionDto::id);
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[\\s\\-_/.,&'’]+");
+
+    private final Node root;
+
+    private TermSuggestionTrie(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Builds the index, keeping up to {@code maxResults} terms per prefix.
+     */
+    public static TermSuggestionTrie of(Collection<TermSuggestionDto> terms, int maxResults) {
+        TermSuggestionDto[] ranked = terms.stream().sorted(RANKING).toArray(TermSuggestionDto[]::new);
+        // One key per word start of each name, sorted so that every prefix covers a contiguous range.
+        List<Key> keys = new ArrayList<>();
+        IntStream.range(0, ranked.length).forEach(rank -> wordStarts(normalize(ranked[rank].name()))
+                .forEach(text -> keys.add(new Key(text, rank))));
+        keys.sort(Comparator.comparing(Key::text).thenComparingInt(Key::rank));
+        return new TermSuggestionTrie(new Builder(keys.toArray(Key[]::new), ranked, maxResults).build());
+    }
+
+    /**
+     * Lower case without diacritics, with runs of separators replaced by a single space.
+     */
+    public static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String stripped = MARKS.matcher(decomposed).replaceAll("");
+        return SEPARATORS.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    /**
+     * The best-ranked terms with a word starting with the prefix, at most {@code limit} of them.
+     * An empty prefix matches every term.
+     */
+    public List<TermSuggestionDto> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        Node node = root;
+        for (int depth = 0; depth < normalized.length() && node instanceof Inner inner; depth++) {
+            int child = Arrays.binarySearch(inner.labels(), normalized.charAt(depth));
+            if (child < 0) {
+                return List.of();
+            }
+            node = inner.children()[child];
+        }
+        return node.suggest(normalized, limit);
+    }
+
+    private static List<String> wordStarts(String name) {
+        List<String> suffixes = new ArrayList<>();
+        suffixes.add(name);
+        for (int i = name.indexOf(' '); i >= 0; i = name.indexOf(' ', i + 1)) {
+            suffixes.add(name.substring(i + 1));
+        }
+        return suffixes;
+    }
+
+    private record Key(String text, int rank) {
+    }
+
+    private sealed interface Node permits Inner, Leaf {
+        List<TermSuggestionDto> suggest(String prefix, int limit);
+    }
+
+    /**
+     * A node whose subtree holds more terms than are kept per prefix; {@code top} are the best of them.
+     */
+    private record Inner(char[] labels, Node[] children, List<TermSuggestionDto> top) implements Node {
+        @Override
+        public List<TermSuggestionDto> suggest(String prefix, int limit) {
+            return top.size() <= limit ? top : top.subList(0, limit);
+        }
+    }
+
+    /**
+     * The keys of a small subtree with their terms, in rank order; a term may appear under several of its words.
+     */
+    private record Leaf(String[] keys, TermSuggestionDto[] terms) implements Node {
+        @Override
+        public List<TermSuggestionDto> suggest(String prefix, int limit) {
+            List<TermSuggestionDto> matches = new ArrayList<>(Math.min(limit, terms.length));
+            for (int i = 0; i < keys.length && matches.size() < limit; i++) {
+                // Keys of one term are adjacent, so a repeated match is always the last one added.
+                if (keys[i].startsWith(prefix) && (matches.isEmpty() || matches.get(matches.size() - 1) != terms[i])) {
+                    matches.add(terms[i]);
+                }
+            }
+            return matches;
+        }
+    }
+
+    private static final class Builder {
+
+        private final Key[] keys;
+        private final TermSuggestionDto[] ranked;
+        private final int maxResults;
+
+        Builder(Key[] keys, TermSuggestionDto[] ranked, int maxResults) {
+            this.keys = keys;
+            this.ranked = ranked;
+            this.maxResults = maxResults;
+        }
+
+        Node build() {
+            return build(0, keys.length, 0);
+        }
+
+        /**
+         * Builds the node of the keys in [from, to), which share their first {@code depth} characters.
+         */
+        private Node build(int from, int to, int depth) {
+            int[] best = bestRanks(from, to);
+            if (best.length <= maxResults) {
+                return leaf(from, to);
+            }
+            List<TermSuggestionDto> top = Arrays.stream(best, 0, maxResults).mapToObj(rank -> ranked[rank]).toList();
+            // Keys ending at this depth sort first and have no child; the others are grouped by their next character.
+            int start = from;
+            while (start < to && keys[start].text().length() == depth) {
+                start++;
+            }
+            StringBuilder labels = new StringBuilder();
+            List<Node> children = new ArrayList<>();
+            while (start < to) {
+                char label = keys[start].text().charAt(depth);
+                int end = start;
+                while (end < to && keys[end].text().charAt(depth) == label) {
+                    end++;
+                }
+                labels.append(label);
+                children.add(build(start, end, depth + 1));
+                start = end;
+            }
+            return new Inner(labels.toString().toCharArray(), children.toArray(Node[]::new), top);
+        }
+
+        /**
+         * The smallest distinct ranks in [from, to), ascending: all of them if there are at most
+         * {@code maxResults}, otherwise {@code maxResults + 1}, which is enough to tell that the range must be split.
+         */
+        private int[] bestRanks(int from, int to) {
+            int[] best = new int[maxResults + 1];
+            int size = 0;
+            for (int i = from; i < to; i++) {
+                int rank = keys[i].rank();
+                if (size == best.length && rank >= best[size - 1]) {
+                    continue;
+                }
+                int position = Arrays.binarySearch(best, 0, size, rank);
+                if (position >= 0) {
+                    continue;
+                }
+                int insertAt = -position - 1;
+                int moved = Math.min(size, best.length - 1) - insertAt;
+                System.arraycopy(best, insertAt, best, insertAt + 1, moved);
+                best[insertAt] = rank;
+                size = Math.min(size + 1, best.length);
+            }
+            return Arrays.copyOf(best, size);
+        }
+
+        private Leaf leaf(int from, int to) {
+            Key[] byRank = Arrays.copyOfRange(keys, from, to);
+            Arrays.sort(byRank, Comparator.comparingInt(Key::rank));
+            return new Leaf(Arrays.stream(byRank).map(Key::text).toArray(String[]::new),
+                    Arrays.stream(byRank).map(key -> ranked[key.rank()]).toArray(TermSuggestionDto[]::new));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.phoebe.taxonomy;
+
+import com.example.phoebe.entity.TermClosure;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable snapshot of the term hierarchy, built from the closure table.
+ * Subtrees are precomputed, so expanding a category to the ids of all its descendants is a map lookup.
+ * A new snapshot replaces the old one whenever the hierarchy changes; readers never see it change.
+ */
+public final class TermTree {
+
+    private static final TermTree EMPTY = new TermTree(Map.of(), Map.of(), Map.of());
+
+    private final Map<Long, Long> parents;
+    private final Map<Long, List<Long>> children;
+    private final Map<Long, List<Long>> subtrees;
+
+    private TermTree(Map<Long, Long> parents, Map<Long, List<Long>> children, Map<Long, List<Long>> subtrees) {
+        this.parents = parents;
+        this.children = children;
+        this.subtrees = subtrees;
+    }
+
+    public static TermTree empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds a snapshot from all rows of the closure table.
+     */
+    public static TermTree of(Collection<TermClosure> rows) {
+        Map<Long, List<Long>> subtrees = rows.stream().collect(Collectors.groupingBy(TermClosure::getAncestorId,
+                Collectors.mapping(TermClosure::getDescendantId, sortedList())));
+        Map<Long, Long> parents = rows.stream()
+                .filter(row -> row.getDepth() == 1)
+                .collect(Collectors.toUnmodifiableMap(TermClosure::getDescendantId, TermClosure::getAncestorId));
+        Map<Long, List<Long>> children = rows.stream()
+                .filter(row -> row.getDepth() == 1)
+                .collect(Collectors.groupingBy(TermClosure::getAncestorId,
+                        Collectors.mapping(TermClosure::getDescendantId, sortedList())));
+        return new TermTree(parents, Map.copyOf(children), Map.copyOf(subtrees));
+    }
+
+    private static Collector<Long, ?, List<Long>> sortedList() {
+        return Collectors.collectingAndThen(Collectors.toList(), ids -> ids.stream().sorted().toList());
+    }
+
+    public boolean contains(Long termId) {
+        return subtrees.containsKey(termId);
+    }
+
+    public int size() {
+        return subtrees.size();
+    }
+
+    public Optional<Long> parentOf(Long termId) {
+        return Optional.ofNullable(parents.get(termId));
+    }
+
+    public List<Long> childrenOf(Long termId) {
+        return children.getOrDefault(termId, List.of());
+    }
+
+    /**
+     * Ids of the term and all its descendants in ascending order, or an empty list for an unknown term.
+     */
+    public List<Long> subtreeOf(Long termId) {
+        return subtrees.getOrDefault(termId, List.of());
+    }
+
+    /**
+     * Ids of the given terms and all their descendants in ascending order, without duplicates.
+     */
+    public List<Long> subtreesOf(Collection<Long> termIds) {
+        return termIds.stream()
+                .flatMap(termId -> subtreeOf(termId).stream())
+                .distinct()
+                .sorted()
+                .toList();
+    }
+}
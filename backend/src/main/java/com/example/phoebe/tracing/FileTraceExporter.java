@@ -0,0 +1,42 @@
+package com.example.phoebe.tracing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends traces to a file, one JSON object per line, for inspection with jq or a log viewer.
+ */
+public class FileTraceExporter implements TraceExporter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileTraceExporter.class);
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+
+    public FileTraceExporter(ObjectMapper objectMapper, Path file) {
+        this.objectMapper = objectMapper;
+        this.file = file;
+    }
+
+    @Override
+    public void export(TraceRecord trace) {
+        try {
+            byte[] line = (objectMapper.writeValueAsString(trace) + "\n").getBytes(StandardCharsets.UTF_8);
+            synchronized (this) {
+                Files.write(file, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+        } catch (JsonProcessingException e) {
+            LOGGER.warn("Could not serialize trace {}", trace.traceId(), e);
+        } catch (IOException e) {
+            LOGGER.warn("Could not write trace {} to {}: {}", trace.traceId(), file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.phoebe.tracing;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Keeps the most recent traces in memory; they are served by the "traces" actuator endpoint.
+ */
+public class InMemoryTraceExporter implements TraceExporter {
+
+    private final int capacity;
+    private final Deque<TraceRecord> traces;
+
+    public InMemoryTraceExporter(int capacity) {
+        this.capacity = capacity;
+        this.traces = new ArrayDeque<>(capacity);
+    }
+
+    @Override
+    public synchronized void export(TraceRecord trace) {
+        if (traces.size() == capacity) {
+            traces.removeLast();
+        }
+        traces.addFirst(trace);
+    }
+
+    /**
+     * Stored traces, newest first.
+     */
+    public synchronized List<TraceRecord> recent() {
+        return new ArrayList<>(traces);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.phoebe.tracing;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Spans of one sampled request. Used only by the request thread, so it is not synchronized.
+ */
+public class RequestTrace {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final String traceId;
+    private final Instant startedAt;
+    private final long startNanos;
+    private final String method;
+    private final String path;
+    private final List<SpanRecord> spans = new ArrayList<>();
+    private int depth;
+
+    public RequestTrace(String method, String path) {
+        this.traceId = Long.toHexString(ThreadLocalRandom.current().nextLong() | Long.MIN_VALUE);
+        this.startedAt = Instant.now();
+        this.startNanos = System.nanoTime();
+        this.method = method;
+        this.path = path;
+    }
+
+    public String traceId() {
+        return traceId;
+    }
+
+    Span start(String name, String detail) {
+        return new Span(this, name, detail, System.nanoTime(), depth++);
+    }
+
+    void finish(Span span, long endNanos) {
+        depth = span.depth();
+        spans.add(new SpanRecord(span.name(), span.detail(), millis(span.startNanos() - startNanos),
+                millis(endNanos - span.startNanos()), span.depth()));
+    }
+
+    /**
+     * Server-Timing header value: the total time of each span name in order of first start, with the number
+     * of spans when there is more than one, followed by the whole request as "total".
+     *
+     * Nested spans are counted in their parent as well, so the values are not meant to add up.
+     */
+    public String serverTiming() {
+        Map<String, double[]> totals = new LinkedHashMap<>();
+        for (SpanRecord span : spans.stream().sorted(Comparator.comparingDouble(SpanRecord::startMs)).toList()) {
+            double[] total = totals.computeIfAbsent(span.name(), name -> new double[2]);
+            total[0] += span.durationMs();
+            total[1]++;
+        }
+        StringBuilder header = new StringBuilder();
+        totals.forEach((name, total) -> {
+            header.append(name);
+            if (total[1] > 1) {
+                header.append(";desc=\"").append((int) total[1]).append(" calls\"");
+            }
+            header.append(";dur=").append(format(total[0])).append(", ");
+        });
+        return header.append("total;dur=").append(format(millis(System.nanoTime() - startNanos))).toString();
+    }
+
+    public TraceRecord toRecord(int status) {
+        return new TraceRecord(traceId, startedAt, method, path, status, millis(System.nanoTime() - startNanos),
+                List.copyOf(spans));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+
+    private static String format(double millis) {
+        return String.format(Locale.ROOT, "%.2f", millis);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.phoebe.tracing;
+
+/**
+ * A timed section of a sampled request, closed with try-with-resources.
+ *
+ * When the current request is not sampled {@link Tracing#start} returns {@link #NOOP}, so instrumented
+ * code pays one thread-local lookup and nothing else.
+ */
+public class Span implements AutoCloseable {
+
+    /** Span of unsampled requests; closing it does nothing. */
+    public static final Span NOOP = new Span(null, null, null, 0, 0);
+
+    private final RequestTrace trace;
+    private final String name;
+    private final String detail;
+    private final long startNanos;
+    private final int depth;
+    private boolean closed;
+
+    Span(RequestTrace trace, String name, String detail, long startNanos, int depth) {
+        this.trace = trace;
+        this.name = name;
+        this.detail = detail;
+        this.startNanos = startNanos;
+        this.depth = depth;
+    }
+
+    /**
+     * Ends the span. Closing a span more than once has no effect.
+     */
+    @Override
+    public void close() {
+        if (trace == null || closed) {
+            return;
+        }
+        closed = true;
+        trace.finish(this, System.nanoTime());
+    }
+
+    String name() {
+        return name;
+    }
+
+    String detail() {
+        return detail;
+    }
+
+    long startNanos() {
+        return startNanos;
+    }
+
+    int depth() {
+        return depth;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.phoebe.tracing;
+
+/**
+ * A finished span as exported.
+ *
+ * @param name       Span category, e.g. "db" or "service"; the Server-Timing metric name.
+ * @param detail     What ran, e.g. the repository method.
+ * @param startMs    Start, in milliseconds since the start of the request.
+ * @param durationMs Duration in milliseconds.
+ * @param depth      Nesting level; 0 for spans opened directly by the request.
+ */
+public record SpanRecord(String name, String detail, double startMs, double durationMs, int depth) {
+}
@@ -0,0 +1,9 @@
+package com.example.phoebe.tracing;
+
+/**
+ * Receives the traces of sampled requests after the response is complete.
+ */
+public interface TraceExporter {
+
+    void export(TraceRecord trace);
+}
@@ -0,0 +1,19 @@
+package com.example.phoebe.tracing;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A finished, sampled request as exported.
+ *
+ * @param traceId    Random id, also returned in the X-Trace-Id response header.
+ * @param startedAt  Wall-clock start of the request.
+ * @param method     HTTP method.
+ * @param path       Request path.
+ * @param status     Response status.
+ * @param durationMs Total time spent in the application, in milliseconds.
+ * @param spans      Spans in the order they finished.
+ */
+public record TraceRecord(String traceId, Instant startedAt, String method, String path, int status,
+                          double durationMs, List<SpanRecord> spans) {
+}
@@ -0,0 +1,24 @@
+package com.example.phoebe.tracing;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint (/actuator/traces) listing the traces kept by the in-memory exporter, newest first.
+ */
+@Endpoint(id = "traces")
+public class TracesEndpoint {
+
+    private final InMemoryTraceExporter exporter;
+
+    public TracesEndpoint(InMemoryTraceExporter exporter) {
+        this.exporter = exporter;
+    }
+
+    @ReadOperation
+    public List<TraceRecord> traces() {
+        return exporter.recent();
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.phoebe.tracing;
+
+/**
+ * Entry point for instrumentation: opens spans in the sampled request of the current thread.
+ *
+ * <pre>
+ * try (Span span = Tracing.start("ratelimit")) {
+ *     ...
+ * }
+ * </pre>
+ */
+public final class Tracing {
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private Tracing() {
+    }
+
+    public static Span start(String name) {
+        return start(name, null);
+    }
+
+    /**
+     * Opens a span, or returns {@link Span#NOOP} when the current request is not sampled.
+     */
+    public static Span start(String name, String detail) {
+        RequestTrace trace = CURRENT.get();
+        return trace == null ? Span.NOOP : trace.start(name, detail);
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    public static void begin(RequestTrace trace) {
+        CURRENT.set(trace);
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.phoebe.tracing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Spans around service, repository and mapper calls of sampled requests.
+ *
+ * Repository spans include the SQL and the entity hydration, mapper spans the MapStruct mapping
+ * (including lazy loads it triggers). The aspect runs outside the transaction and cache advice, so a service
+ * span includes acquiring the connection and cache lookups.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TracingAspect {
+
+    @Around("within(com.example.phoebe.service.impl..*)")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return proceed(joinPoint, "service");
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return proceed(joinPoint, "db");
+    }
+
+    @Around("within(com.example.phoebe.mapper..*)")
+    public Object traceMapper(ProceedingJoinPoint joinPoint) throws Throwable {
+        return proceed(joinPoint, "mapping");
+    }
+
+    private static Object proceed(ProceedingJoinPoint joinPoint, String name) throws Throwable {
+        if (!Tracing.isActive()) {
+            return joinPoint.proceed();
+        }
+        String detail = joinPoint.getSignature().getDeclaringType().getSimpleName() + "."
+                + joinPoint.getSignature().getName();
+        try (Span span = Tracing.start(name, detail)) {
+            return joinPoint.proceed();
+        }
+    }
+}
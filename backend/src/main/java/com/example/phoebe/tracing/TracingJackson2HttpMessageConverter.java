@@ -0,0 +1,27 @@
+package com.example.phoebe.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Jackson converter that records JSON serialization of response bodies as a "serialization" span.
+ */
+public class TracingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public TracingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        try (Span span = Tracing.start("serialization")) {
+            super.writeInternal(object, type, outputMessage);
+        }
+    }
+}
@@ -0,0 +1,532 @@
+package com.example.phoebe.validation;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Allowlist-based HTML sanitizer that works in a single streaming pass.
+ *
+ * The input is tokenized once, left to right. Tags are checked against the allowlist,
+ * plain-text YouTube links are rewritten to responsive embeds, and the sanitized output is
+ * emitted in the same pass. Nothing is compiled per call and no regular expressions are used.
+ *
+ * Rules:
+ * - A tag is {@code <name ...>} or {@code </name ...>} where name starts with an ASCII letter,
+ *   terminated by the first {@code >} (the same shape the old regex validator recognised).
+ * - Disallowed tags are dropped (their text is kept); script and style bodies are dropped too.
+ * - Allowed tags are re-emitted lowercased, keeping only allowlisted attributes. URL attributes
+ *   must be http(s), mailto or relative.
+ * - The generated embed is itself markup ({@code div} + {@code iframe}); it is emitted only when
+ *   the policy allows both tags, otherwise the link counts as a violation and stays plain text.
+ *
+ * Instances are immutable and thread-safe. Output is assembled in a per-thread reusable buffer.
+ */
+public final class HtmlSanitizer {
+
+    private static final String EMBED_PREFIX =
+            "<div style=\"position: relative; padding-bottom: 56.25%; height: 0; overflow: hidden;\">"
+                    + "<iframe src=\"https://www.youtube.com/embed/";
+    private static final String EMBED_SUFFIX =
+            "\" style=\"position: absolute; top: 0; left: 0; width: 100%; height: 100%;\" "
+                    + "frameborder=\"0\" allowfullscreen></iframe></div>";
+    private static final int YOUTUBE_ID_LENGTH = 11;
+
+    private static final Set<String> DROP_CONTENT_TAGS = Set.of("script", "style");
+    private static final Set<String> URL_ATTRIBUTES = Set.of("href", "src");
+
+    /** Largest input accepted for sanitizing, in chars; article bodies are validated against it. */
+    public static final int MAX_INPUT_LENGTH = 512 * 1024;
+
+    /**
+     * Buffers above this capacity (in chars) are not kept for reuse, to bound per-thread memory. Sized for the
+     * largest accepted input plus the slack added in {@link #acquireBuffer}, so the bodies that benefit most
+     * keep their buffer.
+     */
+    private static final int MAX_RETAINED_CAPACITY = MAX_INPUT_LENGTH + (MAX_INPUT_LENGTH >> 3);
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(1024));
+
+    private final Set<String> allowedTags;
+    private final Map<String, Set<String>> allowedAttributes;
+    private final boolean convertYouTubeLinks;
+    private final boolean embedsAllowed;
+
+    private HtmlSanitizer(Builder builder) {
+        this.allowedTags = Set.copyOf(builder.allowedTags);
+        Map<String, Set<String>> attributes = new HashMap<>();
+        builder.allowedAttributes.forEach((tag, names) -> attributes.put(tag, Set.copyOf(names)));
+        this.allowedAttributes = Map.copyOf(attributes);
+        this.convertYouTubeLinks = builder.convertYouTubeLinks;
+        this.embedsAllowed = allowedTags.contains("div") && allowedTags.contains("iframe");
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Result of a sanitizing pass.
+     *
+     * @param html       The sanitized HTML.
+     * @param clean      True if the input needed no removals (every tag was allowlisted).
+     * @param embedCount Number of YouTube links rewritten to embeds.
+     */
+    public record Result(String html, boolean clean, int embedCount) {}
+
+    /**
+     * Sanitizes the input, returning the cleaned markup and whether anything was removed.
+     */
+    public Result sanitize(CharSequence input) {
+        if (input == null) {
+            return new Result(null, true, 0);
+        }
+        StringBuilder out = acquireBuffer(input.length());
+        try {
+            Scan scan = new Scan(input, out, false);
+            scan.run();
+            return new Result(out.toString(), scan.clean, scan.embeds);
+        } finally {
+            releaseBuffer(out);
+        }
+    }
+
+    /**
+     * Validation-only pass: no output is built and scanning stops at the first violation.
+     */
+    public boolean isSafe(CharSequence input) {
+        if (input == null) {
+            return true;
+        }
+        Scan scan = new Scan(input, null, true);
+        scan.run();
+        return scan.clean;
+    }
+
+    /**
+     * Rewrites YouTube links anywhere in the content to embed code, leaving all other markup untouched.
+     * Linear scan equivalent of the former regex {@code appendReplacement} loop.
+     */
+    public static String convertYouTubeLinks(String content) {
+        if (content == null) {
+            return null;
+        }
+        int n = content.length();
+        StringBuilder out = null;
+        int copied = 0;
+        for (int i = content.indexOf("http"); i >= 0 && i < n; i = content.indexOf("http", i + 1)) {
+            int idStart = matchYouTubeLink(content, i);
+            if (idStart < 0) {
+                continue;
+            }
+            if (out == null) {
+                out = acquireBuffer(n + 256);
+            }
+            out.append(content, copied, i);
+            appendEmbed(out, content, idStart);
+            copied = idStart + YOUTUBE_ID_LENGTH;
+            i = copied - 1;
+        }
+        if (out == null) {
+            return content;
+        }
+        try {
+            out.append(content, copied, n);
+            return out.toString();
+        } finally {
+            releaseBuffer(out);
+        }
+    }
+
+    // === Tokenizer ===
+
+    /** Mutable state of one pass; instances never escape the calling thread. */
+    private final class Scan {
+        private final CharSequence in;
+        private final StringBuilder out;
+        private final boolean stopOnViolation;
+        private final int length;
+        private boolean clean = true;
+        private int embeds;
+        /** Cached position of the next '>' so unterminated '<' runs stay linear. */
+        private int nextGt = -1;
+
+        Scan(CharSequence in, StringBuilder out, boolean stopOnViolation) {
+            this.in = in;
+            this.out = out;
+            this.stopOnViolation = stopOnViolation;
+            this.length = in.length();
+        }
+
+        void run() {
+            int textStart = 0;
+            int i = 0;
+            while (i < length) {
+                char c = in.charAt(i);
+                if (c == '<') {
+                    flushText(textStart, i);
+                    i = handleAngle(i);
+                    textStart = i;
+                } else if (c == 'h' && convertYouTubeLinks) {
+                    int idStart = matchYouTubeLink(in, i);
+                    if (idStart < 0) {
+                        i++;
+                        continue;
+                    }
+                    if (!embedsAllowed) {
+                        // The embed markup itself would be outside the allowlist.
+                        violation();
+                        i++;
+                        continue;
+                    }
+                    flushText(textStart, i);
+                    embeds++;
+                    if (out != null) {
+                        appendEmbed(out, in, idStart);
+                    }
+                    i = idStart + YOUTUBE_ID_LENGTH;
+                    textStart = i;
+                } else {
+                    i++;
+                }
+                if (!clean && stopOnViolation) {
+                    return;
+                }
+            }
+            flushText(textStart, length);
+        }
+
+        /** Handles a '<' at position start and returns the index to continue from. */
+        private int handleAngle(int start) {
+            int pos = start + 1;
+            boolean closing = pos < length && in.charAt(pos) == '/';
+            if (closing) {
+                pos++;
+            }
+            int nameStart = pos;
+            if (pos >= length || !isAsciiLetter(in.charAt(pos))) {
+                return strayAngle(start);
+            }
+            while (pos < length && isAsciiLetterOrDigit(in.charAt(pos))) {
+                pos++;
+            }
+            int end = findGt(pos);
+            if (end < 0) {
+                return strayAngle(start);
+            }
+            String name = lowerAscii(in, nameStart, pos);
+            if (!allowedTags.contains(name)) {
+                violation();
+                if (!closing && DROP_CONTENT_TAGS.contains(name)) {
+                    return skipElementBody(name, end + 1);
+                }
+                return end + 1;
+            }
+            if (out != null) {
+                out.append('<');
+                if (closing) {
+                    out.append('/');
+                }
+                out.append(name);
+                if (!closing) {
+                    appendAttributes(name, pos, end);
+                }
+                out.append('>');
+            }
+            return end + 1;
+        }
+
+        /** A '<' that does not open a tag is text; it is escaped in the output. */
+        private int strayAngle(int start) {
+            if (out != null) {
+                out.append("&lt;");
+            }
+            return start + 1;
+        }
+
+        private int findGt(int from) {
+            if (nextGt == Integer.MAX_VALUE) {
+                return -1;
+            }
+            if (nextGt < from) {
+                nextGt = Integer.MAX_VALUE;
+                for (int i = from; i < length; i++) {
+                    if (in.charAt(i) == '>') {
+                        nextGt = i;
+                        break;
+                    }
+                }
+                if (nextGt == Integer.MAX_VALUE) {
+                    return -1;
+                }
+            }
+            return nextGt;
+        }
+
+        /** Skips everything up to and including the matching close tag, e.g. a script body. */
+        private int skipElementBody(String name, int from) {
+            for (int i = from; i + 1 < length; i++) {
+                if (in.charAt(i) == '<' && in.charAt(i + 1) == '/'
+                        && regionMatchesIgnoreCase(in, i + 2, name)) {
+                    int end = findGt(i + 2 + name.length());
+                    return end < 0 ? length : end + 1;
+                }
+            }
+            return length;
+        }
+
+        /** Parses attributes in [from, to) and emits the allowlisted ones with safe values. */
+        private void appendAttributes(String tag, int from, int to) {
+            Set<String> allowed = allowedAttributes.get(tag);
+            if (allowed == null || allowed.isEmpty()) {
+                return;
+            }
+            int i = from;
+            while (i < to) {
+                char c = in.charAt(i);
+                if (!isAsciiLetter(c)) {
+                    i++;
+                    continue;
+                }
+                int nameStart = i;
+                while (i < to && (isAsciiLetterOrDigit(in.charAt(i)) || in.charAt(i) == '-')) {
+                    i++;
+                }
+                String attrName = lowerAscii(in, nameStart, i);
+                while (i < to && in.charAt(i) == ' ') {
+                    i++;
+                }
+                int valueStart = -1;
+                int valueEnd = -1;
+                if (i < to && in.charAt(i) == '=') {
+                    i++;
+                    while (i < to && in.charAt(i) == ' ') {
+                        i++;
+                    }
+                    if (i < to && (in.charAt(i) == '"' || in.charAt(i) == '\'')) {
+                        char quote = in.charAt(i);
+                        valueStart = ++i;
+                        while (i < to && in.charAt(i) != quote) {
+                            i++;
+                        }
+                        valueEnd = i;
+                        i++;
+                    } else {
+                        valueStart = i;
+                        // A '/' ends the value only as the self-closing "/>", so href=http://x stays whole.
+                        while (i < to && !Character.isWhitespace(in.charAt(i))
+                                && !(in.charAt(i) == '/' && i + 1 == to)) {
+                            i++;
+                        }
+                        valueEnd = i;
+                    }
+                }
+                if (!allowed.contains(attrName)) {
+                    continue;
+                }
+                if (URL_ATTRIBUTES.contains(attrName)
+                        && (valueStart < 0 || !isSafeUrl(in, valueStart, valueEnd))) {
+                    continue;
+                }
+                out.append(' ').append(attrName);
+                if (valueStart >= 0) {
+                    out.append("=\"");
+                    appendAttributeValue(valueStart, valueEnd);
+                    out.append('"');
+                }
+            }
+        }
+
+        private void appendAttributeValue(int from, int to) {
+            for (int i = from; i < to; i++) {
+                char c = in.charAt(i);
+                switch (c) {
+                    case '"' -> out.append("&quot;");
+                    case '<' -> out.append("&lt;");
+                    case '>' -> out.append("&gt;");
+                    default -> out.append(c);
+                }
+            }
+        }
+
+        private void flushText(int from, int to) {
+            if (out != null && to > from) {
+                out.append(in, from, to);
+            }
+        }
+
+        private void violation() {
+            clean = false;
+        }
+    }
+
+    // === Helpers ===
+
+    /**
+     * Matches {@code https?://(www.)?(youtube.com/watch?v=|youtu.be/)} followed by an 11-char video id.
+     * Returns the index of the id, or -1 if there is no link at {@code start}.
+     */
+    static int matchYouTubeLink(CharSequence s, int start) {
+        int pos;
+        if (regionMatches(s, start, "https://")) {
+            pos = start + 8;
+        } else if (regionMatches(s, start, "http://")) {
+            pos = start + 7;
+        } else {
+            return -1;
+        }
+        if (regionMatches(s, pos, "www.")) {
+            pos += 4;
+        }
+        if (regionMatches(s, pos, "youtube.com/watch?v=")) {
+            pos += 20;
+        } else if (regionMatches(s, pos, "youtu.be/")) {
+            pos += 9;
+        } else {
+            return -1;
+        }
+        if (pos + YOUTUBE_ID_LENGTH > s.length()) {
+            return -1;
+        }
+        for (int i = pos; i < pos + YOUTUBE_ID_LENGTH; i++) {
+            char c = s.charAt(i);
+            if (!isAsciiLetterOrDigit(c) && c != '_' && c != '-') {
+                return -1;
+            }
+        }
+        return pos;
+    }
+
+    private static void appendEmbed(StringBuilder out, CharSequence s, int idStart) {
+        out.append(EMBED_PREFIX).append(s, idStart, idStart + YOUTUBE_ID_LENGTH).append(EMBED_SUFFIX);
+    }
+
+    private static boolean isSafeUrl(CharSequence s, int from, int to) {
+        // Skip leading whitespace/control characters browsers ignore before the scheme.
+        int i = from;
+        while (i < to && s.charAt(i) <= ' ') {
+            i++;
+        }
+        int colon = -1;
+        for (int j = i; j < to; j++) {
+            char c = s.charAt(j);
+            if (c == ':') {
+                colon = j;
+                break;
+            }
+            if (c == '/' || c == '?' || c == '#') {
+                break;
+            }
+        }
+        if (colon < 0) {
+            return true; // relative URL
+        }
+        String scheme = lowerAscii(s, i, colon);
+        return "http".equals(scheme) || "https".equals(scheme) || "mailto".equals(scheme);
+    }
+
+    private static boolean regionMatches(CharSequence s, int offset, String expected) {
+        int len = expected.length();
+        if (offset + len > s.length()) {
+            return false;
+        }
+        for (int i = 0; i < len; i++) {
+            if (s.charAt(offset + i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean regionMatchesIgnoreCase(CharSequence s, int offset, String lowerExpected) {
+        int len = lowerExpected.length();
+        if (offset + len > s.length()) {
+            return false;
+        }
+        for (int i = 0; i < len; i++) {
+            if (toLowerAscii(s.charAt(offset + i)) != lowerExpected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String lowerAscii(CharSequence s, int from, int to) {
+        char[] chars = new char[to - from];
+        for (int i = from; i < to; i++) {
+            chars[i - from] = toLowerAscii(s.charAt(i));
+        }
+        return new String(chars);
+    }
+
+    private static char toLowerAscii(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return isAsciiLetter(c) || (c >= '0' && c <= '9');
+    }
+
+    private static StringBuilder acquireBuffer(int expectedLength) {
+        StringBuilder buffer = BUFFER.get();
+        int wanted = expectedLength + (expectedLength >> 3);
+        if (buffer.capacity() < wanted) {
+            buffer = new StringBuilder(wanted);
+            if (wanted <= MAX_RETAINED_CAPACITY) {
+                BUFFER.set(buffer);
+            }
+        }
+        buffer.setLength(0);
+        return buffer;
+    }
+
+    private static void releaseBuffer(StringBuilder buffer) {
+        buffer.setLength(0);
+    }
+
+    /**
+     * Builder for sanitizer policies.
+     */
+    public static final class Builder {
+        private final Set<String> allowedTags = new HashSet<>();
+        private final Map<String, Set<String>> allowedAttributes = new HashMap<>();
+        private boolean convertYouTubeLinks;
+
+        private Builder() {
+        }
+
+        public Builder allowTags(Collection<String> tags) {
+            tags.forEach(tag -> allowedTags.add(tag.toLowerCase(Locale.ROOT)));
+            return this;
+        }
+
+        public Builder allowTags(String... tags) {
+            return allowTags(Set.of(tags));
+        }
+
+        /** Allows the given attributes on one (already allowed) tag. */
+        public Builder allowAttributes(String tag, String... attributes) {
+            Set<String> names = allowedAttributes.computeIfAbsent(tag.toLowerCase(Locale.ROOT), t -> new HashSet<>());
+            for (String attribute : attributes) {
+                names.add(attribute.toLowerCase(Locale.ROOT));
+            }
+            return this;
+        }
+
+        /** Rewrites plain-text YouTube links to responsive embeds during the pass. */
+        public Builder convertYouTubeLinks() {
+            this.convertYouTubeLinks = true;
+            return this;
+        }
+
+        public HtmlSanitizer build() {
+            return new HtmlSanitizer(this);
+        }
+    }
+}
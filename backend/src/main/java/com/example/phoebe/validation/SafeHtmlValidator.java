@@ -4,12 +4,12 @@ import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Validator for SafeHtml annotation.
  * Checks that HTML content contains only allowed tags and converts YouTube links to embed code.
+ * Both steps run in a single pass of {@link HtmlSanitizer}; the generated embed markup is checked
+ * against the same allowlist, so a YouTube link in header/footer HTML is still rejected.
  */
 public class SafeHtmlValidator implements ConstraintValidator<SafeHtml, String> {
 
@@ -17,53 +17,23 @@ public class SafeHtmlValidator implements ConstraintValidator<SafeHtml, String>
         "b", "i", "u", "strong", "em", "p", "br"
     );
 
-    private static final Pattern HTML_TAG_PATTERN = Pattern.compile("</?([a-zA-Z][a-zA-Z0-9]*)[^>]*>");
-    private static final Pattern YOUTUBE_URL_PATTERN = Pattern.compile(
-        "https?://(?:www\\.)?(?:youtube\\.com/watch\\?v=|youtu\\.be/)([a-zA-Z0-9_-]{11})"
-    );
+    private static final HtmlSanitizer SANITIZER = HtmlSanitizer.builder()
+            .allowTags(ALLOWED_TAGS)
+            .convertYouTubeLinks()
+            .build();
 
     @Override
     public boolean isValid(String value, ConstraintValidatorContext context) {
         if (value == null || value.trim().isEmpty()) {
             return true;
         }
-
-        String processedValue = convertYouTubeLinks(value);
-        
-        Matcher matcher = HTML_TAG_PATTERN.matcher(processedValue);
-        while (matcher.find()) {
-            String tagName = matcher.group(1).toLowerCase();
-            if (!ALLOWED_TAGS.contains(tagName)) {
-                return false;
-            }
-        }
-        return true;
+        return SANITIZER.isSafe(value);
     }
 
     /**
      * Converts YouTube URLs to responsive embed iframe code
      */
     public static String convertYouTubeLinks(String content) {
-        if (content == null) {
-            return null;
-        }
-
-        Matcher matcher = YOUTUBE_URL_PATTERN.matcher(content);
-        StringBuffer result = new StringBuffer();
-        
-        while (matcher.find()) {
-            String videoId = matcher.group(1);
-            String embedCode = String.format(
-                "<div style=\"position: relative; padding-bottom: 56.25%%; height: 0; overflow: hidden;\">" +
-                "<iframe src=\"https://www.youtube.com/embed/%s\" " +
-                "style=\"position: absolute; top: 0; left: 0; width: 100%%; height: 100%%;\" " +
-                "frameborder=\"0\" allowfullscreen></iframe></div>",
-                videoId
-            );
-            matcher.appendReplacement(result, embedCode);
-        }
-        matcher.appendTail(result);
-        
-        return result.toString();
+        return HtmlSanitizer.convertYouTubeLinks(content);
     }
-}
\ No newline at end of file
+}
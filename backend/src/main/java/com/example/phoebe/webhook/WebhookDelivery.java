@@ -0,0 +1,12 @@
+package com.example.phoebe.webhook;
+
+import com.example.phoebe.dto.response.WebhookEventDto;
+
+import java.util.List;
+
+/**
+ * One POST to an endpoint: a batch of its queued events.
+ */
+record WebhookDelivery(WebhookEndpoint endpoint, String url, String secret, List<WebhookEventDto> events,
+                       boolean resyncRequired) {
+}
@@ -0,0 +1,268 @@
+package com.example.phoebe.webhook;
+
+import com.example.phoebe.config.WebhookProperties;
+import com.example.phoebe.dto.response.WebhookEventDto;
+import com.example.phoebe.dto.response.WebhookPayloadDto;
+import com.example.phoebe.entity.ChangeEvent;
+import com.example.phoebe.entity.WebhookSubscription;
+import com.example.phoebe.repository.WebhookSubscriptionRepository;
+import com.example.phoebe.util.AfterCommit;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Delivers article changes to the webhook subscriptions.
+ * <p>
+ * Changes are queued after their transaction commits, in memory and in O(1), so the editor's request never waits
+ * for a receiver. A change waits out the coalescing window, during which further changes of the same article
+ * are merged into it (see {@link #merge}), and is then copied to the queue of every active endpoint. Each endpoint has one delivery in flight
+ * at most, sent asynchronously with up to {@code batch-size} events, and its own bounded queue and backoff, so a
+ * slow or failing receiver delays only itself. Where events have to be dropped (full queues, exhausted retries),
+ * the next delivery to the endpoint carries {@code resyncRequired}; the durable change feed
+ * (GET /api/public/changes) lets the receiver catch up.
+ * <p>
+ * Every instance delivers the changes written through it, so replicas do not send duplicates; changes still
+ * queued when an instance stops are lost.
+ */
+@Component
+public class WebhookDispatcher {
+
+    public static final String SIGNATURE_HEADER = "X-Webhook-Signature";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebhookDispatcher.class);
+
+    private final WebhookSubscriptionRepository repository;
+    private final WebhookProperties properties;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+
+    /** Changes waiting out the coalescing window, by article, in order of their first change. Guarded by this. */
+    private final Map<Long, PendingChange> pending = new LinkedHashMap<>();
+    /** Delivery state by subscription id. Guarded by this. */
+    private final Map<Long, WebhookEndpoint> endpoints = new HashMap<>();
+    private boolean pendingOverflowed;
+    private Instant subscriptionsLoadedAt;
+
+    public WebhookDispatcher(WebhookSubscriptionRepository repository, WebhookProperties properties,
+                             ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(properties.requestTimeout()).build();
+    }
+
+    /**
+     * Queues changes of articles for delivery, after the current transaction commits if there is one.
+     */
+    public void articlesChanged(Collection<Long> articleIds, ChangeEvent.ChangeType change) {
+        if (!properties.enabled() || articleIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(articleIds);
+        LocalDateTime occurredAt = LocalDateTime.now();
+        AfterCommit.run(() -> offer(ids, change, occurredAt));
+    }
+
+    /**
+     * Makes the next dispatch round read the subscriptions again, after the current transaction commits.
+     */
+    public void reloadSubscriptions() {
+        AfterCommit.run(this::invalidateSubscriptions);
+    }
+
+    /**
+     * Number of events waiting for the coalescing window or for delivery.
+     */
+    public synchronized int pendingCount() {
+        return pending.size() + endpoints.values().stream().mapToInt(WebhookEndpoint::queuedCount).sum();
+    }
+
+    @Scheduled(fixedDelayString = "${app.webhooks.flush-interval:PT1S}")
+    public void flush() {
+        if (!properties.enabled()) {
+            return;
+        }
+        Instant now = Instant.now();
+        if (subscriptionsStale(now)) {
+            updateEndpoints(repository.findByActiveTrue(), now);
+        }
+        distributeDueChanges(now);
+        takeDeliveries(now).forEach(this::send);
+    }
+
+    private synchronized void offer(List<Long> articleIds, ChangeEvent.ChangeType change, LocalDateTime occurredAt) {
+        Instant now = Instant.now();
+        articleIds.forEach(id -> {
+            PendingChange previous = pending.get(id);
+            if (previous != null) {
+                ChangeEvent.ChangeType merged = merge(previous.change(), change);
+                if (merged == null) {
+                    pending.remove(id);
+                } else {
+                    pending.put(id, new PendingChange(merged, occurredAt, previous.firstSeen()));
+                }
+            } else if (pending.size() < properties.maxPending()) {
+                pending.put(id, new PendingChange(change, occurredAt, now));
+            } else if (!pendingOverflowed) {
+                pendingOverflowed = true;
+                LOGGER.warn("Webhook queue is full ({} articles); dropping changes until it drains",
+                        properties.maxPending());
+            }
+        });
+    }
+
+    /**
+     * Net effect of two changes of an article within the coalescing window, as seen by a receiver that knew
+     * the article's state before the first one: an article that went public stays {@code PUBLISHED} (or
+     * {@code CREATED}) through later edits and is never announced if it went away again; an article that was
+     * public before and is again after an unpublish is just {@code UPDATED}. Otherwise the latest change wins.
+     * @return Merged change, or null if the receiver has nothing to learn
+     */
+    static ChangeEvent.ChangeType merge(ChangeEvent.ChangeType previous, ChangeEvent.ChangeType next) {
+        boolean removed = next == ChangeEvent.ChangeType.UNPUBLISHED || next == ChangeEvent.ChangeType.DELETED;
+        if (previous == ChangeEvent.ChangeType.CREATED || previous == ChangeEvent.ChangeType.PUBLISHED) {
+            return removed ? null : previous;
+        }
+        if (previous == ChangeEvent.ChangeType.UNPUBLISHED
+                && (next == ChangeEvent.ChangeType.CREATED || next == ChangeEvent.ChangeType.PUBLISHED)) {
+            return ChangeEvent.ChangeType.UPDATED;
+        }
+        return next;
+    }
+
+    private synchronized void invalidateSubscriptions() {
+        subscriptionsLoadedAt = null;
+    }
+
+    private synchronized boolean subscriptionsStale(Instant now) {
+        return subscriptionsLoadedAt == null
+                || !now.isBefore(subscriptionsLoadedAt.plus(properties.subscriptionRefresh()));
+    }
+
+    private synchronized void updateEndpoints(List<WebhookSubscription> subscriptions, Instant now) {
+        Set<Long> ids = subscriptions.stream().map(WebhookSubscription::getId).collect(Collectors.toSet());
+        endpoints.keySet().retainAll(ids);
+        subscriptions.forEach(subscription -> endpoints.computeIfAbsent(subscription.getId(),
+                        id -> new WebhookEndpoint(id, subscription.getUrl(), subscription.getSecret()))
+                .update(subscription.getUrl(), subscription.getSecret()));
+        subscriptionsLoadedAt = now;
+    }
+
+    private synchronized void distributeDueChanges(Instant now) {
+        Instant firstSeenBefore = now.minus(properties.coalesceWindow());
+        List<WebhookEventDto> due = new ArrayList<>();
+        Iterator<Map.Entry<Long, PendingChange>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, PendingChange> entry = iterator.next();
+            if (entry.getValue().firstSeen().isAfter(firstSeenBefore)) {
+                break;
+            }
+            due.add(entry.getValue().toEvent(entry.getKey()));
+            iterator.remove();
+        }
+        for (WebhookEndpoint endpoint : endpoints.values()) {
+            due.forEach(event -> endpoint.add(event, properties.maxQueuedPerEndpoint()));
+            if (pendingOverflowed) {
+                endpoint.requestResync();
+            }
+        }
+        pendingOverflowed = false;
+    }
+
+    private synchronized List<WebhookDelivery> takeDeliveries(Instant now) {
+        return endpoints.values().stream()
+                .map(endpoint -> endpoint.take(now, properties.batchSize()))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private void send(WebhookDelivery delivery) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(new WebhookPayloadDto(delivery.events(), delivery.resyncRequired()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize webhook payload", e);
+        }
+        HttpRequest.Builder request;
+        try {
+            request = HttpRequest.newBuilder(URI.create(delivery.url()))
+                    .timeout(properties.requestTimeout())
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body));
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Webhook subscription {} has an invalid URL: {}", delivery.endpoint().subscriptionId(),
+                    e.getMessage());
+            completed(delivery, false);
+            return;
+        }
+        if (delivery.secret() != null) {
+            request.header(SIGNATURE_HEADER, "sha256=" + sign(body, delivery.secret()));
+        }
+        httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    boolean delivered = error == null && response.statusCode() / 100 == 2;
+                    if (!delivered) {
+                        LOGGER.warn("Webhook delivery to subscription {} failed: {}",
+                                delivery.endpoint().subscriptionId(),
+                                error != null ? error.getMessage() : "status " + response.statusCode());
+                    }
+                    completed(delivery, delivered);
+                });
+    }
+
+    private synchronized void completed(WebhookDelivery delivery, boolean delivered) {
+        if (delivered) {
+            delivery.endpoint().succeeded();
+        } else if (delivery.endpoint().failed(delivery, Instant.now(), properties.maxAttempts(),
+                properties.maxQueuedPerEndpoint(), properties.retryBackoff(), properties.maxBackoff())) {
+            LOGGER.warn("Dropping {} webhook events for subscription {} after {} attempts",
+                    delivery.events().size(), delivery.endpoint().subscriptionId(), properties.maxAttempts());
+        }
+    }
+
+    /**
+     * Hex-encoded HMAC-SHA256 of the body, so receivers can verify that a delivery comes from this service.
+     */
+    static String sign(byte[] body, String secret) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return HexFormat.of().formatHex(mac.doFinal(body));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    private record PendingChange(ChangeEvent.ChangeType change, LocalDateTime occurredAt, Instant firstSeen) {
+
+        WebhookEventDto toEvent(Long articleId) {
+            return new WebhookEventDto(articleId, change, occurredAt);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.phoebe.webhook;
+
+import com.example.phoebe.dto.response.WebhookEventDto;
+import com.example.phoebe.entity.ChangeEvent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Delivery state of one subscription: its bounded queue of events, merged by article, and its retry state.
+ * At most one delivery per endpoint is in flight, so an endpoint receives its events in order.
+ * Not thread-safe; guarded by the {@link WebhookDispatcher}.
+ */
+final class WebhookEndpoint {
+
+    private final Long subscriptionId;
+    private String url;
+    private String secret;
+    private final Map<Long, WebhookEventDto> queued = new LinkedHashMap<>();
+    private boolean resyncRequired;
+    private boolean inFlight;
+    private int attempts;
+    private int consecutiveFailures;
+    private Instant retryAt = Instant.MIN;
+
+    WebhookEndpoint(Long subscriptionId, String url, String secret) {
+        this.subscriptionId = subscriptionId;
+        this.url = url;
+        this.secret = secret;
+    }
+
+    Long subscriptionId() {
+        return subscriptionId;
+    }
+
+    void update(String newUrl, String newSecret) {
+        this.url = newUrl;
+        this.secret = newSecret;
+    }
+
+    int queuedCount() {
+        return queued.size();
+    }
+
+    /**
+     * Queues an event, merging it into a queued event of the same article; drops the oldest event when full.
+     */
+    void add(WebhookEventDto event, int maxQueued) {
+        WebhookEventDto previous = queued.get(event.articleId());
+        if (previous != null) {
+            putMerged(queued, previous, event);
+            return;
+        }
+        if (queued.size() >= maxQueued) {
+            dropOldest();
+        }
+        queued.put(event.articleId(), event);
+    }
+
+    void requestResync() {
+        resyncRequired = true;
+    }
+
+    /**
+     * Takes the next delivery, or returns null if one is in flight, the endpoint is backing off or there is
+     * nothing to send.
+     */
+    WebhookDelivery take(Instant now, int batchSize) {
+        if (inFlight || now.isBefore(retryAt) || queued.isEmpty() && !resyncRequired) {
+            return null;
+        }
+        List<WebhookEventDto> events = new ArrayList<>(Math.min(batchSize, queued.size()));
+        Iterator<WebhookEventDto> iterator = queued.values().iterator();
+        while (iterator.hasNext() && events.size() < batchSize) {
+            events.add(iterator.next());
+            iterator.remove();
+        }
+        WebhookDelivery delivery = new WebhookDelivery(this, url, secret, events, resyncRequired);
+        resyncRequired = false;
+        inFlight = true;
+        return delivery;
+    }
+
+    void succeeded() {
+        inFlight = false;
+        attempts = 0;
+        consecutiveFailures = 0;
+    }
+
+    /**
+     * Puts the events of a failed delivery back at the head of the queue, merged with newer events of the same
+     * articles that arrived meanwhile, and backs off; after the last attempt they are dropped instead.
+     *
+     * @return true if the events were dropped.
+     */
+    boolean failed(WebhookDelivery delivery, Instant now, int maxAttempts, int maxQueued, Duration retryBackoff,
+                   Duration maxBackoff) {
+        inFlight = false;
+        consecutiveFailures++;
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(consecutiveFailures - 1, 20));
+        retryAt = now.plus(backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff);
+        resyncRequired |= delivery.resyncRequired();
+        if (++attempts >= maxAttempts) {
+            attempts = 0;
+            resyncRequired = true;
+            return true;
+        }
+        Map<Long, WebhookEventDto> restored = new LinkedHashMap<>();
+        for (WebhookEventDto event : delivery.events()) {
+            WebhookEventDto newer = queued.remove(event.articleId());
+            if (newer == null) {
+                restored.put(event.articleId(), event);
+            } else {
+                putMerged(restored, event, newer);
+            }
+        }
+        restored.putAll(queued);
+        queued.clear();
+        queued.putAll(restored);
+        while (queued.size() > maxQueued) {
+            dropOldest();
+        }
+        return false;
+    }
+
+    /**
+     * Puts the net effect of two events of an article under its id, or removes it if there is none (see
+     * {@link WebhookDispatcher#merge}).
+     */
+    private static void putMerged(Map<Long, WebhookEventDto> events, WebhookEventDto previous, WebhookEventDto next) {
+        ChangeEvent.ChangeType merged = WebhookDispatcher.merge(previous.change(), next.change());
+        if (merged == null) {
+            events.remove(next.articleId());
+        } else {
+            events.put(next.articleId(), new WebhookEventDto(next.articleId(), merged, next.occurredAt()));
+        }
+    }
+
+    private void dropOldest() {
+        Iterator<Long> oldest = queued.keySet().iterator();
+        oldest.next();
+        oldest.remove();
+        resyncRequired = true;
+    }
+}
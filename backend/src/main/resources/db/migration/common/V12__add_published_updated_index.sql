@@ -0,0 +1,4 @@
+-- V12: Index for the published-content fingerprint used by sitemap caching
+-- COUNT(*) and MAX(updated_at) over published articles are answered from this index alone.
+
+CREATE INDEX idx_news_published_updated ON content (published, updated_at);
@@ -0,0 +1,10 @@
+-- V13: Schema marker
+-- Stores the fingerprint of the last build that started successfully against this schema,
+-- so later instances of the same build can skip schema validation (app.startup.schema-marker).
+
+CREATE TABLE IF NOT EXISTS schema_marker
+(
+    id          INT         NOT NULL PRIMARY KEY,
+    fingerprint VARCHAR(64) NOT NULL,
+    verified_at TIMESTAMP   NULL
+);
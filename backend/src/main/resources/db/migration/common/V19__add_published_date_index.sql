@@ -0,0 +1,5 @@
+-- V19: Index for sitemap shards in (publication_date, id) order
+-- Shard boundaries are found by skipping entries of this index, and each shard is read as a range scan
+-- starting after the previous boundary, so no query reads past the rows of the shards before it.
+
+CREATE INDEX idx_news_published_date ON content (published, publication_date, id);
@@ -0,0 +1,14 @@
+-- V11: Store the rendered form of article content next to the raw fields
+-- rendered_body / rendered_teaser are produced once at write time (sanitized, YouTube links
+-- converted, optional excerpt) so public reads do no text processing.
+-- render_version records the rendering rules a row was produced with. Rows below the
+-- configured version (existing rows start at 0) are re-rendered by ContentRerenderJob.
+-- MySQL TEXT holds 64 KB: bodies (up to 512K characters) and their rendered form, which embed
+-- expansion makes longer than the body, are MEDIUMTEXT.
+
+ALTER TABLE content MODIFY COLUMN body MEDIUMTEXT;
+ALTER TABLE content ADD COLUMN rendered_body MEDIUMTEXT;
+ALTER TABLE content ADD COLUMN rendered_teaser TEXT;
+ALTER TABLE content ADD COLUMN render_version INT NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_news_render_version ON content (render_version);
@@ -0,0 +1,14 @@
+-- V14: Change log for cross-replica cache invalidation
+-- Writes insert one row per evicted cache entry (cache_key NULL = the whole cache) in the
+-- transaction of the change; every replica tails the table by id and evicts its local caches.
+-- Rows are deleted after the retention period, by created_at.
+
+CREATE TABLE cache_invalidation_events (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    cache_name VARCHAR(64) NOT NULL,
+    cache_key BIGINT NULL,
+    origin VARCHAR(36) NOT NULL,
+    created_at DATETIME(6) NOT NULL
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_cache_invalidation_events_created ON cache_invalidation_events (created_at);
@@ -0,0 +1,16 @@
+-- V18: Per-term article counters
+-- term_counters gets the number of articles tagged with the term itself, published and in total, so tag
+-- clouds and menus read one row per term instead of aggregating content_terms. Maintained by the services
+-- in the writing transaction and periodically reconciled.
+
+ALTER TABLE term_counters ADD COLUMN published_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE term_counters ADD COLUMN total_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE term_counters
+SET published_count = (SELECT COUNT(*)
+                       FROM content_terms ct
+                       JOIN content c ON c.id = ct.content_id
+                       WHERE ct.term_id = term_counters.term_id AND c.published = TRUE),
+    total_count = (SELECT COUNT(*)
+                   FROM content_terms ct
+                   WHERE ct.term_id = term_counters.term_id);
@@ -0,0 +1,13 @@
+-- V15: Outbox of public content changes, served by GET /api/public/changes
+-- One row per change of a published article or of a term, written in the transaction of the change.
+-- Consumers page through it by id; rows are deleted after the retention period, by created_at.
+
+CREATE TABLE change_events (
+    id BIGSERIAL PRIMARY KEY,
+    entity_type VARCHAR(16) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    change_type VARCHAR(16) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_change_events_created ON change_events (created_at);
@@ -0,0 +1,11 @@
+-- V16: Webhook subscriptions, managed through /api/admin/webhooks
+-- Each active subscription receives the changes of published articles by POST; the secret signs the deliveries.
+
+CREATE TABLE webhook_subscriptions (
+    id BIGSERIAL PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    url VARCHAR(500) NOT NULL,
+    secret VARCHAR(255),
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP(6) NOT NULL
+);
@@ -0,0 +1,35 @@
+-- V17: Term hierarchy
+-- terms.parent_id holds the tree; term_closure stores every ancestor/descendant pair (depth 0 for the term
+-- itself) so that a subtree is one indexed lookup; term_counters keeps the number of distinct published
+-- articles in each term's subtree, maintained by the services.
+
+ALTER TABLE terms ADD COLUMN parent_id BIGINT NULL;
+ALTER TABLE terms ADD CONSTRAINT fk_terms_parent FOREIGN KEY (parent_id) REFERENCES terms (id);
+CREATE INDEX idx_term_parent ON terms (parent_id);
+
+CREATE TABLE term_closure (
+    ancestor_id BIGINT NOT NULL,
+    descendant_id BIGINT NOT NULL,
+    depth INT NOT NULL,
+    PRIMARY KEY (ancestor_id, descendant_id),
+    CONSTRAINT fk_term_closure_ancestor FOREIGN KEY (ancestor_id) REFERENCES terms (id) ON DELETE CASCADE,
+    CONSTRAINT fk_term_closure_descendant FOREIGN KEY (descendant_id) REFERENCES terms (id) ON DELETE CASCADE
+);
+CREATE INDEX idx_term_closure_descendant ON term_closure (descendant_id, ancestor_id);
+
+CREATE TABLE term_counters (
+    term_id BIGINT PRIMARY KEY,
+    subtree_published BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT fk_term_counters_term FOREIGN KEY (term_id) REFERENCES terms (id) ON DELETE CASCADE
+);
+
+-- Existing terms start as roots.
+INSERT INTO term_closure (ancestor_id, descendant_id, depth)
+SELECT id, id, 0 FROM terms;
+
+INSERT INTO term_counters (term_id, subtree_published)
+SELECT t.id, COUNT(DISTINCT c.id)
+FROM terms t
+LEFT JOIN content_terms ct ON ct.term_id = t.id
+LEFT JOIN content c ON c.id = ct.content_id AND c.published = TRUE
+GROUP BY t.id;
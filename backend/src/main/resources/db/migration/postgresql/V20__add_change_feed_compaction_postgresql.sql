@@ -0,0 +1,10 @@
+-- V20: Change feed compaction watermark
+-- Highest change_events id deleted by compaction. A consumer whose cursor is below it has missed events and
+-- must resync; comparing against MIN(id) instead misses an emptied table and mistakes id gaps for compaction.
+
+CREATE TABLE change_feed_compaction (
+    id INT NOT NULL PRIMARY KEY,
+    compacted_through_id BIGINT NOT NULL
+);
+
+INSERT INTO change_feed_compaction (id, compacted_through_id) VALUES (1, 0);
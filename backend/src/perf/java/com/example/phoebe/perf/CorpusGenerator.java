@@ -0,0 +1,263 @@
+package com.example.phoebe.perf;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Fills a migrated database with a synthetic corpus of production-like size.
+ *
+ * <p>Run with {@code ./gradlew generateCorpus -Pcorpus.articles=1000000}. The output depends only on the
+ * settings and the seed: ids continue after the current maximum of each table, dates are derived from a fixed
+ * base instead of the clock. Authors and terms are picked with a Zipf distribution, so a few editors and tags
+ * carry most of the articles, as on the live site. Generated terms are roots, each with its own
+ * {@code term_closure} row, and get the {@code term_counters} row the services expect, counted once all
+ * articles are written.</p>
+ *
+ * <p>Settings ({@code -Pcorpus.<name>=value}): jdbcUrl, username, password, articles, terms, categories, users,
+ * seed, batchSize, bodyChars, maxTagsPerArticle, zipfExponent, publishedRatio, renderVersion.</p>
+ */
+public final class CorpusGenerator {
+
+    /** BCrypt hash of "admin", the same as the sample users of V3/V4. */
+    private static final String PASSWORD_HASH = "$2a$10$N.zmdr9k7uOCQb376NoUnuTJ8iAt6Z5EHsM8lE9P8jF4l3q4R4J8C";
+
+    private static final LocalDateTime FIRST_PUBLICATION = LocalDateTime.of(2012, 1, 1, 6, 0);
+    private static final LocalDateTime LAST_PUBLICATION = LocalDateTime.of(2024, 12, 31, 22, 0);
+
+    private static final String[] WORDS = {
+        "Тирасполь", "Бендеры", "Днестр", "правительство", "бюджет", "выборы", "экономика", "школа",
+        "здравоохранение", "дорога", "урожай", "спорт", "культура", "фестиваль", "заседание", "закон",
+        "council", "market", "energy", "border", "report", "season", "project", "citizens", "water",
+        "transport", "prices", "ministry", "agreement", "students", "weather", "history", "museum",
+    };
+
+    private final Random random;
+    private final int articles;
+    private final int terms;
+    private final int categories;
+    private final int users;
+    private final int batchSize;
+    private final int bodyChars;
+    private final int maxTagsPerArticle;
+    private final double publishedRatio;
+    private final int renderVersion;
+    private final ZipfDistribution authorRanks;
+    private final ZipfDistribution categoryRanks;
+    private final ZipfDistribution tagRanks;
+    private final ZipfDistribution tagsPerArticle;
+
+    private CorpusGenerator(PerfSettings settings) {
+        this.random = new Random(settings.longValue("seed", 42));
+        this.articles = settings.integer("articles", 1_000_000);
+        this.terms = settings.integer("terms", 10_000);
+        this.categories = Math.min(settings.integer("categories", 40), terms - 1);
+        this.users = settings.integer("users", 300);
+        this.batchSize = settings.integer("batchSize", 500);
+        this.bodyChars = settings.integer("bodyChars", 2_500);
+        this.maxTagsPerArticle = settings.integer("maxTagsPerArticle", 8);
+        this.publishedRatio = settings.decimal("publishedRatio", 0.92);
+        this.renderVersion = settings.integer("renderVersion", 1);
+        double exponent = settings.decimal("zipfExponent", 1.07);
+        this.authorRanks = new ZipfDistribution(users, exponent);
+        this.categoryRanks = new ZipfDistribution(categories, exponent);
+        this.tagRanks = new ZipfDistribution(terms - categories, exponent);
+        this.tagsPerArticle = new ZipfDistribution(maxTagsPerArticle, 1.6);
+    }
+
+    public static void main(String[] args) throws SQLException {
+        PerfSettings settings = new PerfSettings("corpus");
+        String url = settings.string("jdbcUrl",
+                "jdbc:mysql://localhost:3306/phoebe_db?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=UTC");
+        try (Connection connection = DriverManager.getConnection(url,
+                settings.string("username", "root"), settings.string("password", "root"))) {
+            connection.setAutoCommit(false);
+            new CorpusGenerator(settings).generate(connection);
+        }
+    }
+
+    private void generate(Connection connection) throws SQLException {
+        long firstUserId = nextId(connection, "users");
+        long firstTermId = nextId(connection, "terms");
+        long firstArticleId = nextId(connection, "content");
+        long editorRoleId = roleId(connection, "EDITOR");
+
+        long started = System.nanoTime();
+        insertUsers(connection, firstUserId, editorRoleId);
+        report("users", users, started);
+
+        started = System.nanoTime();
+        insertTerms(connection, firstTermId);
+        report("terms", terms, started);
+
+        started = System.nanoTime();
+        long links = insertArticles(connection, firstArticleId, firstUserId, firstTermId);
+        report("content", articles, started);
+        System.out.printf("content_terms: %,d rows (%.2f per article)%n", links, (double) links / articles);
+
+        started = System.nanoTime();
+        insertCounters(connection, firstTermId);
+        report("term_counters", terms, started);
+        System.out.printf("Article ids: %d-%d, term ids: %d-%d%n", firstArticleId, firstArticleId + articles - 1,
+                firstTermId, firstTermId + terms - 1);
+    }
+
+    private void insertUsers(Connection connection, long firstId, long roleId) throws SQLException {
+        try (MultiRowInsert userRows = new MultiRowInsert(connection, "users", batchSize,
+                "id", "username", "email", "password", "active");
+             MultiRowInsert roleRows = new MultiRowInsert(connection, "user_roles", batchSize,
+                     "user_id", "role_id")) {
+            for (int i = 0; i < users; i++) {
+                long id = firstId + i;
+                userRows.add(id, "editor_" + id, "editor_" + id + "@corpus.local", PASSWORD_HASH, true);
+            }
+            userRows.flush();
+            for (int i = 0; i < users; i++) {
+                roleRows.add(firstId + i, roleId);
+            }
+        }
+    }
+
+    private void insertTerms(Connection connection, long firstId) throws SQLException {
+        try (MultiRowInsert termRows = new MultiRowInsert(connection, "terms", batchSize,
+                "id", "name", "vocabulary");
+             MultiRowInsert closureRows = new MultiRowInsert(connection, "term_closure", batchSize,
+                     "ancestor_id", "descendant_id", "depth")) {
+            for (int i = 0; i < terms; i++) {
+                long id = firstId + i;
+                boolean category = i < categories;
+                termRows.add(id, (category ? "Section " : "Topic ") + id, category ? "category" : "tags");
+            }
+            termRows.flush();
+            for (int i = 0; i < terms; i++) {
+                closureRows.add(firstId + i, firstId + i, 0);
+            }
+        }
+    }
+
+    /**
+     * Counts the articles of every generated term in one statement, as V17 and V18 do for existing terms;
+     * the terms are roots, so a subtree is the term itself.
+     */
+    private void insertCounters(Connection connection, long firstTermId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO term_counters (term_id, subtree_published, published_count, total_count) "
+                        + "SELECT t.id, COUNT(DISTINCT c.id), COUNT(DISTINCT c.id), COUNT(ct.content_id) "
+                        + "FROM terms t "
+                        + "LEFT JOIN content_terms ct ON ct.term_id = t.id "
+                        + "LEFT JOIN content c ON c.id = ct.content_id AND c.published = TRUE "
+                        + "WHERE t.id BETWEEN ? AND ? GROUP BY t.id")) {
+            statement.setLong(1, firstTermId);
+            statement.setLong(2, firstTermId + terms - 1);
+            statement.executeUpdate();
+        }
+        connection.commit();
+    }
+
+    private long insertArticles(Connection connection, long firstId, long firstUserId, long firstTermId)
+            throws SQLException {
+        long span = ChronoUnit.MINUTES.between(FIRST_PUBLICATION, LAST_PUBLICATION);
+        Set<Long> articleTerms = new HashSet<>();
+        try (MultiRowInsert contentRows = new MultiRowInsert(connection, "content", batchSize,
+                "id", "title", "body", "teaser", "rendered_body", "rendered_teaser", "render_version",
+                "publication_date", "published", "created_at", "updated_at", "version", "author_id");
+             // Sized so join rows are only written after their articles: see the flush below.
+             MultiRowInsert termRows = new MultiRowInsert(connection, "content_terms",
+                     batchSize * maxTagsPerArticle, "content_id", "term_id")) {
+            for (int i = 0; i < articles; i++) {
+                long id = firstId + i;
+                // Ids grow with the publication date, with some jitter, like the imported archive.
+                long offset = span * i / Math.max(1, articles) + random.nextInt(720);
+                LocalDateTime published = FIRST_PUBLICATION.plusMinutes(Math.min(offset, span));
+                LocalDateTime updated = published.plusMinutes(random.nextInt(3) == 0 ? random.nextInt(43_200) : 0);
+                String body = body();
+                String teaser = sentence(8 + random.nextInt(20));
+                // Generated markup is already what the sanitizer would produce, so store it as rendered.
+                contentRows.add(id, title(id), body, teaser, body, teaser, renderVersion,
+                        published, random.nextDouble() < publishedRatio, published, updated, 0L,
+                        firstUserId + authorRanks.sample(random) - 1);
+
+                articleTerms.clear();
+                articleTerms.add(firstTermId + categoryRanks.sample(random) - 1);
+                int tags = tagsPerArticle.sample(random) - 1;
+                while (articleTerms.size() < tags + 1) {
+                    articleTerms.add(firstTermId + categories + tagRanks.sample(random) - 1);
+                }
+                for (Long termId : articleTerms) {
+                    termRows.add(id, termId);
+                }
+                // contentRows has just written this batch of articles; write their join rows too.
+                if ((i + 1) % batchSize == 0) {
+                    termRows.flush();
+                }
+                if ((i + 1) % 100_000 == 0) {
+                    System.out.printf("  %,d / %,d articles%n", i + 1, articles);
+                }
+            }
+            contentRows.flush();
+            termRows.flush();
+            return termRows.written();
+        }
+    }
+
+    private String title(long id) {
+        String title = "#" + id + " " + sentence(3 + random.nextInt(5));
+        return title.length() <= 50 ? title : title.substring(0, 50).trim();
+    }
+
+    private String body() {
+        // Skewed length: most articles are short, some are long reads.
+        int target = (int) (bodyChars * (0.3 + -Math.log(1 - random.nextDouble()) * 0.7));
+        StringBuilder body = new StringBuilder(target + 200);
+        while (body.length() < target) {
+            body.append("<p>").append(sentence(10 + random.nextInt(25))).append(' ')
+                    .append(sentence(6 + random.nextInt(15))).append("</p>\n");
+        }
+        return body.toString();
+    }
+
+    private String sentence(int words) {
+        StringBuilder sentence = new StringBuilder(words * 10);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        sentence.setCharAt(0, Character.toUpperCase(sentence.charAt(0)));
+        return sentence.append('.').toString();
+    }
+
+    private static long nextId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            result.next();
+            return result.getLong(1) + 1;
+        }
+    }
+
+    private static long roleId(Connection connection, String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT id FROM roles WHERE name = ?")) {
+            statement.setString(1, name);
+            try (ResultSet result = statement.executeQuery()) {
+                if (!result.next()) {
+                    throw new IllegalStateException("Role " + name + " not found; run the Flyway migrations first");
+                }
+                return result.getLong(1);
+            }
+        }
+    }
+
+    private static void report(String table, long rows, long startedNanos) {
+        double seconds = (System.nanoTime() - startedNanos) / 1e9;
+        System.out.printf("%s: %,d rows in %.1f s (%,.0f rows/s)%n", table, rows, seconds, rows / seconds);
+    }
+}
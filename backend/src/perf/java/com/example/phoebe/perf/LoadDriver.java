@@ -0,0 +1,206 @@
+package com.example.phoebe.perf;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Replays a mixed public/admin traffic profile against a running instance and reports
+ * throughput and latency percentiles per endpoint.
+ *
+ * <p>Run with {@code ./gradlew loadTest -Pperf.baseUrl=http://localhost:8080 -Pperf.articleIds=1-1000000}.
+ * Each of {@code perf.concurrency} virtual-thread clients sends requests back to back (closed model) for
+ * {@code perf.warmupSeconds}, whose results are discarded, and then for {@code perf.durationSeconds}.
+ * Article ids and pages are picked with a Zipf distribution, so recent and popular content is hit most,
+ * the way caches see it in production.</p>
+ *
+ * <p>Settings ({@code -Pperf.<name>=value}): baseUrl, articleIds (first-last, as printed by generateCorpus),
+ * termIds (first-last), concurrency, warmupSeconds, durationSeconds, adminUser, adminPassword, seed.</p>
+ */
+public final class LoadDriver {
+
+    /**
+     * One endpoint of the traffic mix.
+     *
+     * @param name    Label in the report.
+     * @param weight  Relative share of requests.
+     * @param admin   Whether the request is sent with the admin credentials.
+     * @param path    Builds the request path from the client's random source.
+     */
+    private record Endpoint(String name, int weight, boolean admin, Function<Random, String> path) {}
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final String adminAuthorization;
+    private final List<Endpoint> endpoints;
+    private final int totalWeight;
+    private final LatencyHistogram[] histograms;
+    private final AtomicLong[] errors;
+    private volatile boolean recording;
+    private volatile boolean running = true;
+
+    private LoadDriver(PerfSettings settings) {
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        this.baseUrl = settings.string("baseUrl", "http://localhost:8080").replaceAll("/+$", "");
+        String credentials = settings.string("adminUser", "admin") + ":" + settings.string("adminPassword", "admin");
+        this.adminAuthorization = "Basic "
+                + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
+        this.endpoints = trafficMix(range(settings.string("articleIds", "1-1000")),
+                range(settings.string("termIds", "1-100")));
+        this.totalWeight = endpoints.stream().mapToInt(Endpoint::weight).sum();
+        this.histograms = new LatencyHistogram[endpoints.size()];
+        this.errors = new AtomicLong[endpoints.size()];
+        for (int i = 0; i < endpoints.size(); i++) {
+            histograms[i] = new LatencyHistogram();
+            errors[i] = new AtomicLong();
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        PerfSettings settings = new PerfSettings("perf");
+        new LoadDriver(settings).run(settings.integer("concurrency", 32), settings.integer("warmupSeconds", 30),
+                settings.integer("durationSeconds", 120), settings.longValue("seed", 42));
+    }
+
+    /**
+     * Read-heavy mix of a news site: public listing and article pages dominate, with syndication,
+     * navigation and a small share of editors working in the admin panel.
+     */
+    private static List<Endpoint> trafficMix(long[] articleIds, long[] termIds) {
+        ZipfDistribution pages = new ZipfDistribution(200, 1.2);
+        int articleCount = (int) Math.min(Integer.MAX_VALUE, articleIds[1] - articleIds[0] + 1);
+        ZipfDistribution articles = new ZipfDistribution(articleCount, 0.9);
+        int termCount = (int) (termIds[1] - termIds[0] + 1);
+        ZipfDistribution terms = new ZipfDistribution(termCount, 1.07);
+        // Rank 1 is the newest article, so recent ids are the hottest.
+        Function<Random, String> article =
+                random -> "/api/public/news/" + (articleIds[1] - articles.sample(random) + 1);
+
+        List<Endpoint> mix = new ArrayList<>();
+        mix.add(new Endpoint("GET /api/public/news", 35, false,
+                random -> "/api/public/news?page=" + (pages.sample(random) - 1) + "&size=20"));
+        mix.add(new Endpoint("GET /api/public/news/{id}", 40, false, article));
+        mix.add(new Endpoint("GET /api/public/navigation/main-menu", 8, false,
+                random -> "/api/public/navigation/main-menu"));
+        mix.add(new Endpoint("GET /api/public/channel-settings", 4, false,
+                random -> "/api/public/channel-settings"));
+        mix.add(new Endpoint("GET /feeds/rss.xml", 3, false, random -> "/feeds/rss.xml"));
+        mix.add(new Endpoint("GET /feeds/terms/{id}/rss.xml", 2, false,
+                random -> "/feeds/terms/" + (termIds[0] + terms.sample(random) - 1) + "/rss.xml"));
+        mix.add(new Endpoint("GET /sitemap.xml", 1, false, random -> "/sitemap.xml"));
+        mix.add(new Endpoint("GET /api/admin/news", 5, true,
+                random -> "/api/admin/news?page=" + random.nextInt(5) + "&size=20"));
+        mix.add(new Endpoint("GET /api/admin/terms", 2, true, random -> "/api/admin/terms"));
+        return mix;
+    }
+
+    private void run(int concurrency, int warmupSeconds, int durationSeconds, long seed)
+            throws InterruptedException {
+        System.out.printf("Target %s, %d clients, %d s warm-up, %d s measurement%n",
+                baseUrl, concurrency, warmupSeconds, durationSeconds);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                Random random = new Random(seed + i);
+                executor.submit(() -> clientLoop(random));
+            }
+            TimeUnit.SECONDS.sleep(warmupSeconds);
+            recording = true;
+            long started = System.nanoTime();
+            TimeUnit.SECONDS.sleep(durationSeconds);
+            recording = false;
+            double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+            running = false;
+            report(elapsedSeconds);
+        }
+    }
+
+    private void clientLoop(Random random) {
+        while (running) {
+            int index = pick(random);
+            Endpoint endpoint = endpoints.get(index);
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + endpoint.path().apply(random)))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Accept-Encoding", "gzip");
+            if (endpoint.admin()) {
+                request.header("Authorization", adminAuthorization);
+            }
+            long started = System.nanoTime();
+            boolean failed;
+            try {
+                HttpResponse<Void> response = client.send(request.build(), HttpResponse.BodyHandlers.discarding());
+                // A missing article is a valid outcome for a sampled id; anything else is an error.
+                failed = response.statusCode() >= 400 && response.statusCode() != 404;
+            } catch (IOException e) {
+                failed = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (recording) {
+                histograms[index].record((System.nanoTime() - started) / 1_000);
+                if (failed) {
+                    errors[index].incrementAndGet();
+                }
+            }
+        }
+    }
+
+    private int pick(Random random) {
+        int ticket = random.nextInt(totalWeight);
+        for (int i = 0; i < endpoints.size(); i++) {
+            ticket -= endpoints.get(i).weight();
+            if (ticket < 0) {
+                return i;
+            }
+        }
+        return endpoints.size() - 1;
+    }
+
+    private void report(double elapsedSeconds) {
+        String format = "%-40s %10s %8s %10s %10s %10s %10s%n";
+        System.out.printf(format, "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p99 ms", "p99.9 ms");
+        long totalRequests = 0;
+        long totalErrors = 0;
+        for (int i = 0; i < endpoints.size(); i++) {
+            LatencyHistogram histogram = histograms[i];
+            long requests = histogram.count();
+            totalRequests += requests;
+            totalErrors += errors[i].get();
+            System.out.printf(format, endpoints.get(i).name(), requests, errors[i].get(),
+                    String.format("%.1f", requests / elapsedSeconds), millis(histogram.percentile(50)),
+                    millis(histogram.percentile(99)), millis(histogram.percentile(99.9)));
+        }
+        System.out.printf("%nTotal: %,d requests, %,d errors, %.1f req/s%n",
+                totalRequests, totalErrors, totalRequests / elapsedSeconds);
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.2f", micros / 1000.0);
+    }
+
+    private static long[] range(String value) {
+        String[] bounds = value.split("-");
+        long first = Long.parseLong(bounds[0].trim());
+        long last = bounds.length > 1 ? Long.parseLong(bounds[1].trim()) : first;
+        if (last < first) {
+            throw new IllegalArgumentException("Invalid range: " + value);
+        }
+        return new long[]{first, last};
+    }
+}
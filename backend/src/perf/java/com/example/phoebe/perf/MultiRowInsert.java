@@ -0,0 +1,95 @@
+package com.example.phoebe.perf;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Buffers rows and writes them as multi-row INSERT statements
+ * ({@code INSERT INTO t (a, b) VALUES (?, ?), (?, ?), ...}), committing after each statement.
+ */
+final class MultiRowInsert implements AutoCloseable {
+
+    private final Connection connection;
+    private final String table;
+    private final String[] columns;
+    private final int rowsPerStatement;
+    private final List<Object[]> rows;
+    private PreparedStatement fullStatement;
+    private long written;
+
+    MultiRowInsert(Connection connection, String table, int rowsPerStatement, String... columns) {
+        this.connection = connection;
+        this.table = table;
+        this.columns = columns;
+        this.rowsPerStatement = rowsPerStatement;
+        this.rows = new ArrayList<>(rowsPerStatement);
+    }
+
+    void add(Object... values) throws SQLException {
+        if (values.length != columns.length) {
+            throw new IllegalArgumentException("Expected " + columns.length + " values for " + table);
+        }
+        rows.add(values);
+        if (rows.size() == rowsPerStatement) {
+            flush();
+        }
+    }
+
+    long written() {
+        return written;
+    }
+
+    void flush() throws SQLException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        if (rows.size() == rowsPerStatement) {
+            if (fullStatement == null) {
+                fullStatement = connection.prepareStatement(sql(rowsPerStatement));
+            }
+            execute(fullStatement);
+        } else {
+            try (PreparedStatement partial = connection.prepareStatement(sql(rows.size()))) {
+                execute(partial);
+            }
+        }
+        connection.commit();
+        written += rows.size();
+        rows.clear();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        flush();
+        if (fullStatement != null) {
+            fullStatement.close();
+        }
+    }
+
+    private void execute(PreparedStatement statement) throws SQLException {
+        int parameter = 1;
+        for (Object[] row : rows) {
+            for (Object value : row) {
+                statement.setObject(parameter++, value);
+            }
+        }
+        statement.executeUpdate();
+    }
+
+    private String sql(int rowCount) {
+        String placeholders = "(" + "?, ".repeat(columns.length - 1) + "?)";
+        StringBuilder sql = new StringBuilder(64 + rowCount * (placeholders.length() + 2))
+                .append("INSERT INTO ").append(table)
+                .append(" (").append(String.join(", ", columns)).append(") VALUES ");
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(placeholders);
+        }
+        return sql.toString();
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.phoebe.perf;
+
+/**
+ * Reads tool settings from system properties; the Gradle tasks forward {@code -P<prefix>.*} to them.
+ */
+final class PerfSettings {
+
+    private final String prefix;
+
+    PerfSettings(String prefix) {
+        this.prefix = prefix;
+    }
+
+    String string(String name, String defaultValue) {
+        String value = System.getProperty(prefix + "." + name);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    int integer(String name, int defaultValue) {
+        return Integer.parseInt(string(name, Integer.toString(defaultValue)).replace("_", ""));
+    }
+
+    long longValue(String name, long defaultValue) {
+        return Long.parseLong(string(name, Long.toString(defaultValue)).replace("_", ""));
+    }
+
+    double decimal(String name, double defaultValue) {
+        return Double.parseDouble(string(name, Double.toString(defaultValue)));
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.phoebe.perf;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Zipf distribution over ranks 1..n: rank k is drawn with probability proportional to 1 / k^exponent.
+ * The cumulative table is built once, so each sample is a binary search.
+ */
+final class ZipfDistribution {
+
+    private final double[] cumulative;
+
+    ZipfDistribution(int n, double exponent) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be positive: " + n);
+        }
+        cumulative = new double[n];
+        double sum = 0;
+        for (int k = 1; k <= n; k++) {
+            sum += 1.0 / Math.pow(k, exponent);
+            cumulative[k - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    /**
+     * Returns a rank between 1 and n.
+     */
+    int sample(Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index + 1 : -index;
+        return Math.min(rank, cumulative.length);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.phoebe.config;
+
+import com.example.phoebe.compression.CompressedVariantCache;
+import com.example.phoebe.compression.ResponseCompressor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Beans needed by the servlet filters and controller advice that {@code @WebMvcTest} slices pick up.
+ * Import it in every MVC slice test, and add the dependencies of a new filter or advice here together
+ * with the filter, so that the slices keep loading.
+ */
+@TestConfiguration
+@Import({CompressionConfig.class, ResponseCompressor.class, CompressedVariantCache.class,
+        DiagnosticsConfig.class, TracingConfig.class, CdnConfig.class})
+public class WebSliceTestConfig {
+}
@@ -0,0 +1,148 @@
+package com.example.phoebe.service.impl;
+
+import com.example.phoebe.config.CacheInvalidationProperties;
+import com.example.phoebe.entity.CacheInvalidationEvent;
+import com.example.phoebe.entity.Term;
+import com.example.phoebe.integration.BaseIntegrationTest;
+import com.example.phoebe.repository.CacheInvalidationEventRepository;
+import com.example.phoebe.repository.TermRepository;
+import com.example.phoebe.service.CacheInvalidationService;
+import com.example.phoebe.service.TermService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Integration tests for cross-replica cache invalidation.
+ * The application context is replica A; replicas B and C are further {@link CacheInvalidationServiceImpl}
+ * instances with their own caches over the same database. Writes must commit to become visible, so these
+ * tests do not run in the test transaction.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CacheInvalidationIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private TermService termService;
+
+    @Autowired
+    private TermRepository termRepository;
+
+    @Autowired
+    private CacheInvalidationService replicaA;
+
+    @Autowired
+    private CacheManager cacheManagerA;
+
+    @Autowired
+    private CacheInvalidationEventRepository eventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private CacheManager cacheManagerB;
+    private CacheManager cacheManagerC;
+    private CacheInvalidationService replicaB;
+    private CacheInvalidationService replicaC;
+
+    @BeforeEach
+    void setUp() {
+        CacheInvalidationProperties properties = CacheInvalidationProperties.defaults();
+        cacheManagerB = new ConcurrentMapCacheManager("news-by-id", "main-menu");
+        cacheManagerC = new ConcurrentMapCacheManager("news-by-id", "main-menu");
+        replicaB = new CacheInvalidationServiceImpl(eventRepository, cacheManagerB, entityManagerFactory, properties);
+        replicaC = new CacheInvalidationServiceImpl(eventRepository, cacheManagerC, entityManagerFactory, properties);
+        replicaB.applyRemoteEvents();
+        replicaC.applyRemoteEvents();
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventRepository.deleteAll();
+        termRepository.deleteAll();
+    }
+
+    @Test
+    void shouldEvictOnOtherReplicasAfterCommit() {
+        // Given
+        cacheManagerB.getCache("main-menu").put("main", "menu of B");
+        cacheManagerC.getCache("main-menu").put("main", "menu of C");
+        cacheManagerC.getCache("news-by-id").put(7L, "article of C");
+
+        // When: a write on replica A
+        termService.save(new Term("Cluster", "category"));
+        int appliedByB = replicaB.applyRemoteEvents();
+        int appliedByC = replicaC.applyRemoteEvents();
+
+        // Then: the menu and the saved term in the second-level cache
+        assertEquals(2, appliedByB);
+        assertEquals(2, appliedByC);
+        assertNull(cacheManagerB.getCache("main-menu").get("main"));
+        assertNull(cacheManagerC.getCache("main-menu").get("main"));
+        assertNotNull(cacheManagerC.getCache("news-by-id").get(7L));
+    }
+
+    @Test
+    void shouldIgnoreEventsOfRolledBackWrites() {
+        // Given
+        cacheManagerB.getCache("news-by-id").put(7L, "article of B");
+
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            replicaA.evict("news-by-id", 7L);
+            status.setRollbackOnly();
+        });
+        int applied = replicaB.applyRemoteEvents();
+
+        // Then
+        assertEquals(0, applied);
+        assertNotNull(cacheManagerB.getCache("news-by-id").get(7L));
+    }
+
+    @Test
+    void shouldNotEvictOnWritingReplica() {
+        // Given
+        replicaA.applyRemoteEvents();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> replicaA.evict("news-by-id", 7L));
+        cacheManagerA.getCache("news-by-id").put(7L, "reloaded on A");
+
+        // When
+        replicaA.applyRemoteEvents();
+
+        // Then
+        assertNotNull(cacheManagerA.getCache("news-by-id").get(7L));
+        cacheManagerA.getCache("news-by-id").evict(7L);
+    }
+
+    @Test
+    void shouldDeleteExpiredEvents() {
+        // Given
+        eventRepository.save(new CacheInvalidationEvent("news-by-id", 1L, "replica-x",
+                LocalDateTime.now().minus(Duration.ofHours(2))));
+        eventRepository.save(new CacheInvalidationEvent("news-by-id", 2L, "replica-x", LocalDateTime.now()));
+
+        // When
+        int deleted = replicaA.deleteExpiredEvents();
+
+        // Then
+        assertEquals(1, deleted);
+        assertEquals(1, eventRepository.count());
+    }
+}
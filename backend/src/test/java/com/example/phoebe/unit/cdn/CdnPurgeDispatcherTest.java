@@ -0,0 +1,200 @@
+package com.example.phoebe.cdn;
+
+import com.example.phoebe.config.CdnProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the dispatcher against a local HTTP stub of the purge endpoint.
+ */
+class CdnPurgeDispatcherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<List<String>> purged = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> tokens = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger failuresLeft = new AtomicInteger();
+    private final AtomicReference<Runnable> duringNextRequest = new AtomicReference<>();
+    private HttpServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/purge", exchange -> {
+            JsonNode body = objectMapper.readTree(new String(exchange.getRequestBody().readAllBytes(),
+                    StandardCharsets.UTF_8));
+            tokens.add(exchange.getRequestHeaders().getFirst("Fastly-Key"));
+            Runnable action = duringNextRequest.getAndSet(null);
+            if (action != null) {
+                action.run();
+            }
+            int status = failuresLeft.getAndDecrement() > 0 ? 503 : 200;
+            if (status == 200) {
+                purged.add(objectMapper.convertValue(body.get("surrogate_keys"),
+                        objectMapper.getTypeFactory().constructCollectionType(List.class, String.class)));
+            }
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldCoalesceRepeatedKeysIntoOneRequest() {
+        // Given
+        CdnPurgeDispatcher dispatcher = dispatcher(256, Duration.ZERO, 5);
+        dispatcher.purge(List.of("front-page", "article-1"));
+        dispatcher.purge(List.of("front-page", "article-2", "article-1"));
+
+        // When
+        dispatcher.flush();
+
+        // Then
+        assertEquals(List.of(List.of("front-page", "article-1", "article-2")), purged);
+        assertEquals(List.of("secret"), tokens);
+        assertEquals(0, dispatcher.pendingCount());
+    }
+
+    @Test
+    void shouldSplitKeysIntoBatches() {
+        // Given
+        CdnPurgeDispatcher dispatcher = dispatcher(2, Duration.ZERO, 5);
+        dispatcher.purge(List.of("article-1", "article-2", "article-3"));
+
+        // When
+        dispatcher.flush();
+
+        // Then
+        assertEquals(List.of(List.of("article-1", "article-2"), List.of("article-3")), purged);
+    }
+
+    @Test
+    void shouldRetryFailedBatch() {
+        // Given
+        CdnPurgeDispatcher dispatcher = dispatcher(256, Duration.ZERO, 5);
+        failuresLeft.set(1);
+        dispatcher.purge(List.of("article-1"));
+
+        // When
+        dispatcher.flush();
+        dispatcher.flush();
+
+        // Then
+        assertEquals(2, tokens.size());
+        assertEquals(List.of(List.of("article-1")), purged);
+        assertEquals(0, dispatcher.pendingCount());
+    }
+
+    @Test
+    void shouldHoldBackFailedBatchDuringBackoff() {
+        // Given
+        CdnPurgeDispatcher dispatcher = dispatcher(256, Duration.ofHours(1), 5);
+        failuresLeft.set(1);
+        dispatcher.purge(List.of("article-1"));
+
+        // When
+        dispatcher.flush();
+        dispatcher.flush();
+
+        // Then
+        assertEquals(1, tokens.size());
+        assertTrue(purged.isEmpty());
+        assertEquals(1, dispatcher.pendingCount());
+    }
+
+    @Test
+    void shouldDropKeysAfterMaxAttempts() {
+        // Given
+        CdnPurgeDispatcher dispatcher = dispatcher(256, Duration.ZERO, 2);
+        failuresLeft.set(10);
+        dispatcher.purge(List.of("article-1"));
+
+        // When
+        dispatcher.flush();
+        dispatcher.flush();
+        dispatcher.flush();
+
+        // Then
+        assertEquals(2, tokens.size());
+        assertEquals(0, dispatcher.pendingCount());
+    }
+
+    @Test
+    void shouldPurgeAgainKeyQueuedWhileItsRequestWasInFlight() {
+        // Given
+        CdnPurgeDispatcher dispatcher = dispatcher(256, Duration.ZERO, 5);
+        dispatcher.purge(List.of("article-1"));
+        duringNextRequest.set(() -> dispatcher.purge(List.of("article-1")));
+
+        // When
+        dispatcher.flush();
+
+        // Then
+        assertEquals(List.of(List.of("article-1"), List.of("article-1")), purged);
+        assertEquals(0, dispatcher.pendingCount());
+    }
+
+    @Test
+    void shouldKeepKeyQueuedWhileItsFailedRequestWasInFlight() {
+        // Given
+        CdnPurgeDispatcher dispatcher = dispatcher(256, Duration.ofHours(1), 1);
+        failuresLeft.set(1);
+        dispatcher.purge(List.of("article-1"));
+        duringNextRequest.set(() -> dispatcher.purge(List.of("article-1")));
+
+        // When
+        dispatcher.flush();
+
+        // Then: the failed attempt is dropped, the newer purge waits for the backoff
+        assertEquals(1, tokens.size());
+        assertEquals(1, dispatcher.pendingCount());
+    }
+
+    @Test
+    void shouldQueueKeysOnlyAfterCommit() {
+        // Given
+        CdnPurgeDispatcher dispatcher = dispatcher(256, Duration.ZERO, 5);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        dispatcher.purge(List.of("article-1"));
+
+        // Then
+        assertEquals(0, dispatcher.pendingCount());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, dispatcher.pendingCount());
+    }
+
+    private CdnPurgeDispatcher dispatcher(int batchSize, Duration retryBackoff, int maxAttempts) {
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/purge";
+        CdnProperties properties = new CdnProperties(true, url, "Fastly-Key", "secret", batchSize,
+                Duration.ofSeconds(1), Duration.ofSeconds(5), maxAttempts, retryBackoff, Duration.ofHours(1));
+        return new CdnPurgeDispatcher(properties, objectMapper);
+    }
+}
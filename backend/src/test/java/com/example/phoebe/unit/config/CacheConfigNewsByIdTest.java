@@ -0,0 +1,173 @@
+package com.example.phoebe.config;
+
+import com.example.phoebe.dto.response.NewsDto;
+import com.example.phoebe.service.NewsService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CacheConfigNewsByIdTest {
+
+    @Mock
+    private ObjectProvider<NewsService> newsServiceProvider;
+
+    @Mock
+    private NewsService newsService;
+
+    private Cache newsCache(Duration refreshAfter) {
+        NewsCacheProperties properties = new NewsCacheProperties(100, Duration.ofMinutes(15), 0.1, refreshAfter);
+        return new CacheConfig().cacheManager(properties, newsServiceProvider).getCache("news-by-id");
+    }
+
+    @Test
+    void shouldLoadOnceForConcurrentMisses() throws Exception {
+        // Given
+        Cache cache = newsCache(Duration.ofMinutes(10));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        NewsDto article = article(7L);
+
+        // When
+        List<Future<NewsDto>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get(7L, () -> {
+                        loads.incrementAndGet();
+                        Thread.sleep(50);
+                        return article;
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<NewsDto> result : results) {
+                assertSame(article, result.get());
+            }
+        }
+
+        // Then
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void shouldServeStaleCopyWhileRefreshingInBackground() throws Exception {
+        // Given
+        Cache cache = newsCache(Duration.ofMillis(20));
+        NewsDto stale = article(7L);
+        NewsDto fresh = article(7L);
+        fresh.setTitle("Updated");
+        when(newsServiceProvider.getObject()).thenReturn(newsService);
+        // The reload is held until the first read has returned, so it cannot complete within that read.
+        CountDownLatch reloadReleased = new CountDownLatch(1);
+        when(newsService.loadPublishedById(7L)).thenAnswer(invocation -> {
+            reloadReleased.await();
+            return Optional.of(fresh);
+        });
+        cache.put(7L, stale);
+        Thread.sleep(40);
+
+        // When
+        Cache.ValueWrapper first = cache.get(7L);
+
+        // Then
+        assertSame(stale, first.get());
+        reloadReleased.countDown();
+        verify(newsService, timeout(2000)).loadPublishedById(7L);
+        assertTrue(waitFor(() -> cache.get(7L) != null && cache.get(7L).get() == fresh));
+    }
+
+    @Test
+    void shouldDropArticleThatIsNoLongerPublishedOnRefresh() throws Exception {
+        // Given
+        Cache cache = newsCache(Duration.ofMillis(20));
+        when(newsServiceProvider.getObject()).thenReturn(newsService);
+        when(newsService.loadPublishedById(7L)).thenReturn(Optional.empty());
+        cache.put(7L, article(7L));
+        Thread.sleep(40);
+
+        // When
+        cache.get(7L);
+
+        // Then
+        verify(newsService, timeout(2000)).loadPublishedById(7L);
+        assertTrue(waitFor(() -> !isCached(cache, 7L)));
+    }
+
+    @Test
+    void shouldSpreadLifetimesWithinJitter() {
+        // Given
+        JitteredExpiry expiry = new JitteredExpiry(Duration.ofMinutes(10), 0.1);
+        long base = Duration.ofMinutes(10).toNanos();
+
+        // When / Then
+        long distinct = IntStream.range(0, 100)
+                .mapToLong(i -> expiry.expireAfterCreate(i, "value", 0L))
+                .peek(lifetime -> assertTrue(Math.abs(lifetime - base) <= base / 10))
+                .distinct()
+                .count();
+        assertTrue(distinct > 1);
+        assertEquals(123L, expiry.expireAfterRead(1, "value", 0L, 123L));
+    }
+
+    @Test
+    void shouldEvictImmediately() {
+        // Given
+        Cache cache = newsCache(Duration.ofMinutes(10));
+        cache.put(7L, article(7L));
+
+        // When
+        cache.evict(7L);
+
+        // Then
+        assertFalse(isCached(cache, 7L));
+    }
+
+    private static NewsDto article(Long id) {
+        NewsDto dto = new NewsDto();
+        dto.setId(id);
+        dto.setTitle("Breaking");
+        return dto;
+    }
+
+    /**
+     * Checks the native cache directly: a lookup through the Spring cache would load a missing entry.
+     */
+    private static boolean isCached(Cache cache, Long id) {
+        return ((com.github.benmanes.caffeine.cache.Cache<?, ?>) cache.getNativeCache()).asMap().containsKey(id);
+    }
+
+    private static boolean waitFor(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(10);
+        }
+        return false;
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.phoebe.controller;
 
 import com.example.phoebe.dto.response.NewsDto;
+import com.example.phoebe.dto.response.RelatedArticleDto;
 import com.example.phoebe.service.NewsService;
+import com.example.phoebe.service.RelatedArticleService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -10,6 +12,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -25,6 +28,9 @@ class PublicNewsControllerTest {
     @Mock
     private NewsService newsService;
 
+    @Mock
+    private RelatedArticleService relatedArticleService;
+
     @InjectMocks
     private PublicNewsController controller;
 
@@ -65,8 +71,18 @@ class PublicNewsControllerTest {
         );
         when(newsService.findPublishedById(1L)).thenReturn(newsDto);
 
-        NewsDto result = controller.findPublishedById(1L);
+        NewsDto result = controller.findPublishedById(1L, new MockHttpServletRequest());
 
         assertEquals("Single News", result.getTitle());
     }
+
+    @Test
+    void findRelatedShouldReturnRelatedArticles() {
+        RelatedArticleDto related = new RelatedArticleDto(2L, "Related", null, LocalDateTime.now());
+        when(relatedArticleService.findRelated(1L, 5)).thenReturn(List.of(related));
+
+        List<RelatedArticleDto> result = controller.findRelated(1L, 5);
+
+        assertEquals(List.of(related), result);
+    }
 }
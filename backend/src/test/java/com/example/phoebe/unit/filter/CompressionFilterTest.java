@@ -0,0 +1,135 @@
+package com.example.phoebe.filter;
+
+import com.example.phoebe.compression.CompressedVariantCache;
+import com.example.phoebe.compression.ContentEncoding;
+import com.example.phoebe.compression.ResponseCompressor;
+import com.example.phoebe.config.CompressionProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CompressionFilterTest {
+
+    private static final String LARGE_BODY = "{\"body\":\"" + "<p>Статья</p>".repeat(400) + "\"}";
+
+    private ResponseCompressor compressor;
+    private CompressedVariantCache variantCache;
+    private CompressionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        CompressionProperties properties = CompressionProperties.defaults();
+        compressor = new ResponseCompressor(properties);
+        variantCache = new CompressedVariantCache(compressor, properties);
+        filter = new CompressionFilter(properties, compressor, variantCache);
+    }
+
+    @Test
+    void shouldGzipLargeResponsesAndReuseCachedVariant() throws ServletException, IOException {
+        // Given
+        Object cachedArticle = new Object();
+        MockHttpServletRequest first = publicRequest("gzip, deflate");
+        MockHttpServletRequest second = publicRequest("gzip");
+        CompressedVariantCache.markCacheable(first, cachedArticle);
+        CompressedVariantCache.markCacheable(second, cachedArticle);
+
+        // When
+        MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+        MockHttpServletResponse secondResponse = new MockHttpServletResponse();
+        filter.doFilter(first, firstResponse, writing(LARGE_BODY));
+        filter.doFilter(second, secondResponse, writing(LARGE_BODY));
+
+        // Then
+        assertEquals("gzip", firstResponse.getHeader("Content-Encoding"));
+        assertEquals("Accept-Encoding", firstResponse.getHeader("Vary"));
+        assertEquals(LARGE_BODY, gunzip(firstResponse.getContentAsByteArray()));
+        assertArrayEquals(firstResponse.getContentAsByteArray(), secondResponse.getContentAsByteArray());
+        assertEquals(1, variantCache.size());
+    }
+
+    @Test
+    void shouldCompressUnmarkedResponsesWithoutCachingThem() throws ServletException, IOException {
+        // Given: a listing, not rendered from a cache entry
+        MockHttpServletRequest request = publicRequest("gzip");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, writing(LARGE_BODY));
+
+        // Then
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+        assertEquals(LARGE_BODY, gunzip(response.getContentAsByteArray()));
+        assertEquals(0, variantCache.size());
+    }
+
+    @Test
+    void shouldNotCompressBelowThreshold() throws ServletException, IOException {
+        // Given
+        MockHttpServletRequest request = publicRequest("gzip");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, writing("{\"id\":1}"));
+
+        // Then
+        assertNull(response.getHeader("Content-Encoding"));
+        assertEquals("{\"id\":1}", response.getContentAsString());
+    }
+
+    @Test
+    void shouldSkipPathsOutsidePublicApi() throws ServletException, IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/admin/news");
+        request.addHeader("Accept-Encoding", "gzip");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, writing(LARGE_BODY));
+
+        // Then
+        assertNull(response.getHeader("Content-Encoding"));
+        assertNull(response.getHeader("Vary"));
+    }
+
+    @Test
+    void shouldNegotiateEncodingByQuality() {
+        ContentEncoding preferred = compressor.isBrotliAvailable() ? ContentEncoding.BROTLI : ContentEncoding.GZIP;
+
+        assertEquals(preferred, compressor.negotiate("gzip, br"));
+        assertEquals(ContentEncoding.GZIP, compressor.negotiate("br;q=0, gzip"));
+        assertEquals(preferred, compressor.negotiate("*"));
+        assertNull(compressor.negotiate("identity, gzip;q=0"));
+        assertNull(compressor.negotiate(null));
+    }
+
+    private static MockHttpServletRequest publicRequest(String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/public/news/1");
+        request.addHeader("Accept-Encoding", acceptEncoding);
+        return request;
+    }
+
+    private static FilterChain writing(String body) {
+        return (request, response) -> {
+            response.setContentType("application/json;charset=UTF-8");
+            response.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private static String gunzip(byte[] data) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
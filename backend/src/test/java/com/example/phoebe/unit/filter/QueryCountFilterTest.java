@@ -0,0 +1,117 @@
+package com.example.phoebe.filter;
+
+import com.example.phoebe.config.QueryDiagnosticsProperties;
+import com.example.phoebe.diagnostics.QueryBudget;
+import com.example.phoebe.diagnostics.QueryBudgetExceededException;
+import com.example.phoebe.diagnostics.QueryCountingStatementInspector;
+import com.example.phoebe.diagnostics.QueryStatistics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class QueryCountFilterTest {
+
+    private static final String SELECT_AUTHOR = "select u.id, u.username from users u where u.id=?";
+
+    private final QueryCountingStatementInspector inspector = new QueryCountingStatementInspector();
+
+    @Test
+    void shouldReportStatementCountInHeader() throws ServletException, IOException {
+        // Given
+        QueryCountFilter filter = new QueryCountFilter(new QueryDiagnosticsProperties(true, true, 5, false));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/public/news/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, executing(3));
+
+        // Then
+        assertEquals("3", response.getHeader(QueryCountFilter.QUERY_COUNT_HEADER));
+        assertEquals("{\"id\":1}", response.getContentAsString());
+        assertNull(QueryStatistics.current());
+    }
+
+    @Test
+    void shouldFailRequestOverBudgetWhenConfigured() {
+        // Given
+        QueryCountFilter filter = new QueryCountFilter(new QueryDiagnosticsProperties(true, false, 5, true));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/public/news/1");
+
+        // When / Then
+        assertThrows(QueryBudgetExceededException.class,
+                () -> filter.doFilter(request, new MockHttpServletResponse(), executing(4)));
+        assertNull(QueryStatistics.current());
+    }
+
+    @Test
+    void shouldPassThroughWhenDisabled() throws ServletException, IOException {
+        // Given
+        QueryCountFilter filter = new QueryCountFilter(QueryDiagnosticsProperties.defaults());
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/public/news/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, executing(10));
+
+        // Then
+        assertNull(response.getHeader(QueryCountFilter.QUERY_COUNT_HEADER));
+        assertEquals("{\"id\":1}", response.getContentAsString());
+    }
+
+    @Test
+    void shouldGroupStatementsByShape() {
+        // Given
+        QueryStatistics statistics = QueryStatistics.begin();
+        try {
+            // When
+            inspector.inspect("select * from terms where id in (?, ?, ?)");
+            inspector.inspect("select *\n  from terms where id in (?,?)");
+            inspector.inspect(SELECT_AUTHOR);
+        } finally {
+            QueryStatistics.end();
+        }
+
+        // Then
+        assertEquals(3, statistics.total());
+        assertEquals(Map.of("select * from terms where id in (?)", 2), statistics.repeatedShapes(2));
+    }
+
+    /**
+     * Chain that resolves the request to {@link Endpoints#budgeted()} and executes the given number of statements.
+     */
+    private FilterChain executing(int statements) {
+        return (request, response) -> {
+            try {
+                request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/public/news/{id}");
+                request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                        new HandlerMethod(new Endpoints(), Endpoints.class.getMethod("budgeted")));
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(e);
+            }
+            for (int i = 0; i < statements; i++) {
+                inspector.inspect(SELECT_AUTHOR);
+            }
+            response.setContentType("application/json");
+            response.getOutputStream().write("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    static class Endpoints {
+
+        @QueryBudget(3)
+        public void budgeted() {
+        }
+    }
+}
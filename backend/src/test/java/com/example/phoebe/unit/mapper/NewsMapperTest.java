@@ -13,6 +13,7 @@ import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 /**
  * Unit tests for {@link NewsMapper}.
@@ -75,4 +76,28 @@ class NewsMapperTest {
         assertEquals(req.getContent(), entity.getBody());
         assertEquals(req.getTeaser(), entity.getTeaser());
     }
+
+    @Test
+    void shouldServeRenderedFieldsInPublicDto() {
+        // Given
+        News rendered = new News();
+        rendered.setBody("raw https://youtu.be/ABC123def45");
+        rendered.setTeaser("raw teaser");
+        rendered.setRenderedBody("<p>rendered</p>");
+        rendered.setRenderVersion(1);
+
+        News notRenderedYet = new News();
+        notRenderedYet.setBody("raw body");
+        notRenderedYet.setTeaser("raw teaser");
+
+        // When
+        NewsDto renderedDto = newsMapper.toPublicDto(rendered);
+        NewsDto fallbackDto = newsMapper.toPublicDto(notRenderedYet);
+
+        // Then
+        assertEquals("<p>rendered</p>", renderedDto.getBody());
+        assertNull(renderedDto.getTeaser());
+        assertEquals("raw body", fallbackDto.getBody());
+        assertEquals("raw teaser", fallbackDto.getTeaser());
+    }
 }
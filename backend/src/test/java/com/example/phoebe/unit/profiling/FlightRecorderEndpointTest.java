@@ -0,0 +1,76 @@
+package com.example.phoebe.profiling;
+
+import com.example.phoebe.config.ProfilingProperties;
+import com.example.phoebe.exception.ResourceNotFoundException;
+import com.example.phoebe.exception.ValidationException;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlightRecorderEndpointTest {
+
+    @TempDir
+    Path directory;
+
+    private FlightRecorderEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        endpoint = new FlightRecorderEndpoint(new ProfilingProperties(List.of("default", "profile"), "default",
+                Duration.ofMinutes(1), Duration.ofMinutes(5), DataSize.ofMegabytes(16), directory.toString()));
+    }
+
+    @Test
+    void shouldRecordCacheLookupsAndStreamRecording() throws IOException {
+        // Given
+        FlightRecorderCaffeineCache cache = new FlightRecorderCaffeineCache("news-by-id",
+                Caffeine.newBuilder().build(), true);
+        cache.put(1L, "cached");
+
+        // When
+        RecordingDto started = endpoint.start(null, null);
+        cache.get(1L);
+        cache.get(2L);
+        RecordingDto stopped = endpoint.stop(started.id());
+        Resource file = endpoint.download(started.id());
+
+        // Then
+        assertEquals("RUNNING", started.state());
+        assertEquals("STOPPED", stopped.state());
+        List<RecordedEvent> lookups = RecordingFile.readAllEvents(file.getFile().toPath()).stream()
+                .filter(event -> event.getEventType().getName().equals("com.example.phoebe.CacheLookup"))
+                .toList();
+        assertEquals(2, lookups.size());
+        assertTrue(lookups.stream().anyMatch(event -> event.getBoolean("hit") && "1".equals(event.getString("key"))));
+        assertTrue(lookups.stream().anyMatch(event -> !event.getBoolean("hit")));
+
+        endpoint.close(started.id());
+        assertFalse(file.exists());
+    }
+
+    @Test
+    void shouldRejectUnknownTemplateAndTooLongDuration() {
+        assertThrows(ValidationException.class, () -> endpoint.start("everything", null));
+        assertThrows(ValidationException.class, () -> endpoint.start("default", Duration.ofHours(1)));
+    }
+
+    @Test
+    void shouldReportUnknownRecording() {
+        assertThrows(ResourceNotFoundException.class, () -> endpoint.stop(-1));
+    }
+}
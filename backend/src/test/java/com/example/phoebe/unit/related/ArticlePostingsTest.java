@@ -0,0 +1,113 @@
+package com.example.phoebe.related;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArticlePostingsTest {
+
+    private static final long POLITICS = 1L;
+    private static final long ELECTIONS = 2L;
+    private static final long FRANCE = 3L;
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    private final ArticlePostings postings = new ArticlePostings(Duration.ofDays(30));
+
+    @Test
+    void shouldRankByWeightedOverlapWithRareTermsFirst() {
+        // Given: "Politics" is on most articles, "Elections" on few
+        postings.put(1, List.of(POLITICS, ELECTIONS), NOW);
+        postings.put(2, List.of(POLITICS), NOW);
+        postings.put(3, List.of(POLITICS), NOW);
+        postings.put(4, List.of(POLITICS, ELECTIONS), NOW);
+        postings.put(5, List.of(ELECTIONS), NOW);
+        postings.put(6, List.of(FRANCE), NOW);
+
+        // When
+        List<Integer> related = ids(postings.related(1, 10));
+
+        // Then: both shared terms, then the rare one alone, then the common one alone (newer id first)
+        assertEquals(List.of(4, 5, 3, 2), related);
+    }
+
+    @Test
+    void shouldPreferRecentArticlesAtEqualOverlap() {
+        // Given
+        postings.put(1, List.of(FRANCE), NOW);
+        postings.put(2, List.of(FRANCE), NOW.minusDays(60));
+        postings.put(3, List.of(FRANCE), NOW.minusDays(1));
+
+        // When / Then
+        assertEquals(List.of(3, 2), ids(postings.related(1, 10)));
+    }
+
+    @Test
+    void shouldTradeOverlapAgainstAgeByHalfLife() {
+        // Given: article 2 shares twice the weight of article 3 but is two half-lives older
+        postings.put(1, List.of(POLITICS, ELECTIONS), NOW);
+        postings.put(2, List.of(POLITICS, ELECTIONS), NOW.minusDays(60));
+        postings.put(3, List.of(POLITICS), NOW);
+        postings.put(4, List.of(ELECTIONS), NOW.minusYears(1));
+
+        // When
+        List<ArticlePostings.Match> related = postings.related(1, 10);
+
+        // Then
+        assertEquals(List.of(3, 2, 4), ids(related));
+        assertEquals(Math.log(2), related.get(0).score() - related.get(1).score(), 1e-9);
+    }
+
+    @Test
+    void shouldKeepPostingListsSortedAcrossUpdates() {
+        // Given
+        postings.put(7, List.of(FRANCE), NOW);
+        postings.put(3, List.of(FRANCE, POLITICS), NOW);
+        postings.put(5, List.of(FRANCE), NOW);
+
+        // When
+        postings.put(3, List.of(POLITICS), NOW);
+        postings.remove(7);
+
+        // Then
+        assertArrayEquals(new int[] {5}, postings.articlesOf(FRANCE));
+        assertArrayEquals(new int[] {3}, postings.articlesOf(POLITICS));
+        assertEquals(2, postings.size());
+    }
+
+    @Test
+    void shouldScoreLikeRelated() {
+        // Given
+        postings.put(1, List.of(POLITICS, ELECTIONS, FRANCE), NOW);
+        postings.put(2, List.of(ELECTIONS, FRANCE), NOW.minusDays(3));
+        postings.put(3, List.of(POLITICS), NOW.minusDays(1));
+
+        // When
+        List<ArticlePostings.Match> related = postings.related(1, 10);
+
+        // Then
+        related.forEach(match -> assertEquals(match.score(), postings.score(1, match.articleId()), 1e-9));
+        assertEquals(Double.NEGATIVE_INFINITY, postings.score(2, 9));
+    }
+
+    @Test
+    void shouldReturnNothingForUnknownOrUntaggedArticles() {
+        // Given
+        postings.put(1, List.of(FRANCE), NOW);
+        postings.put(2, List.of(), NOW);
+
+        // When / Then
+        assertTrue(postings.related(9, 10).isEmpty());
+        assertTrue(postings.related(1, 10).isEmpty());
+        assertEquals(1, postings.size());
+    }
+
+    private static List<Integer> ids(List<ArticlePostings.Match> matches) {
+        return matches.stream().map(ArticlePostings.Match::articleId).toList();
+    }
+}
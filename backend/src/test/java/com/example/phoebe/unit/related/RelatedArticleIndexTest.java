@@ -0,0 +1,166 @@
+package com.example.phoebe.related;
+
+import com.example.phoebe.config.RelatedArticlesProperties;
+import com.example.phoebe.dto.response.ArticleTermDto;
+import com.example.phoebe.dto.response.ChangeEventDto;
+import com.example.phoebe.dto.response.ChangeFeedDto;
+import com.example.phoebe.entity.ChangeEvent;
+import com.example.phoebe.repository.NewsRepository;
+import com.example.phoebe.service.ChangeFeedService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RelatedArticleIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 12, 0);
+    private static final LocalDateTime EARLIER = NOW.minusDays(20);
+
+    @Mock
+    private NewsRepository newsRepository;
+
+    @Mock
+    private ChangeFeedService changeFeedService;
+
+    private RelatedArticleIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new RelatedArticleIndex(newsRepository, changeFeedService,
+                new RelatedArticlesProperties(2, 100, Duration.ofDays(30), Duration.ofSeconds(1), Duration.ofHours(6),
+                        2));
+        when(changeFeedService.currentCursor()).thenReturn(10L);
+        when(newsRepository.findPublishedArticleTerms()).thenReturn(List.of(
+                row(1L, 5L, EARLIER), row(1L, 6L, EARLIER),
+                row(2L, 5L, EARLIER.minusDays(2)),
+                row(3L, 6L, EARLIER.minusDays(1)),
+                row(4L, 7L, EARLIER)));
+        index.rebuild();
+    }
+
+    @Test
+    void shouldServeTopRelatedCappedAtMaxResults() {
+        // When / Then
+        assertEquals(List.of(3L, 2L), index.related(1L, 10));
+        assertEquals(List.of(3L), index.related(1L, 1));
+        assertEquals(List.of(), index.related(4L, 10));
+        assertEquals(List.of(), index.related(Long.MAX_VALUE, 10));
+    }
+
+    @Test
+    void shouldApplyPublishedArticleToCachedLists() {
+        // Given: 8 is newer than the cached entries, so it enters both lists
+        assertEquals(List.of(1L), index.related(2L, 10));
+        assertEquals(List.of(3L, 2L), index.related(1L, 10));
+        feed(10L, event(11L, ChangeEvent.EntityType.ARTICLE, 8L, ChangeEvent.ChangeType.PUBLISHED));
+        when(newsRepository.findPublishedArticleTermsIn(List.of(8L)))
+                .thenReturn(List.of(row(8L, 5L, NOW), row(8L, 6L, NOW)));
+
+        // When
+        index.refresh();
+
+        // Then
+        assertEquals(List.of(8L, 1L), index.related(2L, 10));
+        assertEquals(List.of(8L, 3L), index.related(1L, 10));
+        assertEquals(List.of(1L, 3L), index.related(8L, 10));
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    void shouldDropUnpublishedArticleAndRecomputeListsItLeaves() {
+        // Given
+        assertEquals(List.of(3L, 2L), index.related(1L, 10));
+        feed(10L, event(11L, ChangeEvent.EntityType.ARTICLE, 3L, ChangeEvent.ChangeType.UNPUBLISHED));
+        when(newsRepository.findPublishedArticleTermsIn(List.of(3L))).thenReturn(List.of());
+
+        // When
+        index.refresh();
+
+        // Then
+        assertEquals(List.of(2L), index.related(1L, 10));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void shouldReloadArticlesOfDeletedTerm() {
+        // Given
+        feed(10L, event(11L, ChangeEvent.EntityType.TERM, 6L, ChangeEvent.ChangeType.DELETED));
+        when(newsRepository.findPublishedArticleTermsIn(List.of(1L, 3L))).thenReturn(List.of(row(1L, 5L, EARLIER)));
+
+        // When
+        index.refresh();
+
+        // Then
+        assertEquals(List.of(2L), index.related(1L, 10));
+    }
+
+    @Test
+    void shouldClearCachedListsWhenTooManyArticlesChanged() {
+        // Given: three changed articles, above the limit of two adjusted in place
+        assertEquals(List.of(3L, 2L), index.related(1L, 10));
+        when(changeFeedService.getChanges(10L, 500)).thenReturn(new ChangeFeedDto(List.of(
+                event(11L, ChangeEvent.EntityType.ARTICLE, 8L, ChangeEvent.ChangeType.PUBLISHED),
+                event(12L, ChangeEvent.EntityType.ARTICLE, 3L, ChangeEvent.ChangeType.UNPUBLISHED),
+                event(13L, ChangeEvent.EntityType.ARTICLE, 4L, ChangeEvent.ChangeType.UPDATED)), 13L, false, false));
+        when(newsRepository.findPublishedArticleTermsIn(List.of(8L, 3L, 4L)))
+                .thenReturn(List.of(row(8L, 5L, NOW), row(8L, 6L, NOW), row(4L, 7L, EARLIER)));
+
+        // When
+        index.refresh();
+
+        // Then
+        assertEquals(0, index.cachedCount());
+        assertEquals(List.of(8L, 2L), index.related(1L, 10));
+    }
+
+    @Test
+    void shouldRebuildWhenChangesWereDeletedBeforeBeingApplied() {
+        // Given
+        when(changeFeedService.getChanges(10L, 500)).thenReturn(new ChangeFeedDto(List.of(), 10L, false, true));
+
+        // When
+        index.refresh();
+
+        // Then
+        verify(newsRepository, times(2)).findPublishedArticleTerms();
+    }
+
+    @Test
+    void shouldKeepPreviousIndexWhenRebuildFails() {
+        // Given
+        when(newsRepository.findPublishedArticleTerms()).thenThrow(new QueryTimeoutException("timeout"));
+
+        // When
+        index.rebuild();
+
+        // Then
+        assertEquals(List.of(3L, 2L), index.related(1L, 10));
+    }
+
+    private void feed(long since, ChangeEventDto event) {
+        when(changeFeedService.getChanges(since, 500))
+                .thenReturn(new ChangeFeedDto(List.of(event), event.id(), false, false));
+    }
+
+    private static ChangeEventDto event(long id, ChangeEvent.EntityType type, long entityId,
+                                        ChangeEvent.ChangeType change) {
+        return new ChangeEventDto(id, type, entityId, change, NOW);
+    }
+
+    private static ArticleTermDto row(Long newsId, Long termId, LocalDateTime publicationDate) {
+        return new ArticleTermDto(newsId, termId, publicationDate);
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.phoebe.security;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PermissionSecurityAspectTest {
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private MethodSignature signature;
+
+    private PermissionDictionary dictionary;
+    private PermissionSecurityAspect aspect;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        dictionary = new PermissionDictionary();
+        aspect = new PermissionSecurityAspect(dictionary);
+        lenient().when(joinPoint.getSignature()).thenReturn(signature);
+        lenient().when(signature.getMethod()).thenReturn(Guarded.class.getDeclaredMethod("createTerm"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldProceedWhenUserHoldsAllRequiredPermissions() throws Throwable {
+        // Given
+        authenticate(new AuthenticatedUser(1L, "admin", "secret", true, Set.of(RoleConstants.ADMIN),
+                dictionary.compile(List.of("terms:read", "terms:create", "roles:read"))));
+
+        // When
+        aspect.checkPermission(joinPoint, requirement());
+
+        // Then
+        verify(joinPoint).proceed();
+    }
+
+    @Test
+    void shouldDenyWhenOnePermissionIsMissing() throws Throwable {
+        // Given
+        authenticate(new AuthenticatedUser(2L, "editor", "secret", true, Set.of(RoleConstants.EDITOR),
+                dictionary.compile(List.of("terms:read", "news:create"))));
+
+        // When / Then
+        assertThrows(AccessDeniedException.class, () -> aspect.checkPermission(joinPoint, requirement()));
+        verify(joinPoint, never()).proceed();
+    }
+
+    @Test
+    void shouldDenyPrincipalsWithoutCompiledPermissions() {
+        // Given
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "admin", "secret", List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+
+        // When / Then
+        assertThrows(AccessDeniedException.class, () -> aspect.checkPermission(joinPoint, requirement()));
+    }
+
+    @Test
+    void shouldTestBitsBeyondTheFirstWord() {
+        // Given
+        IntStream.range(0, 70).forEach(i -> dictionary.bitOf("filler:" + i));
+        PermissionSet granted = dictionary.compile(List.of("news:publish", "filler:3"));
+
+        // When / Then
+        assertTrue(granted.contains(dictionary.bitOf("NEWS:PUBLISH")));
+        assertTrue(granted.containsAll(dictionary.compile(List.of("filler:3"))));
+        assertFalse(granted.containsAll(dictionary.compile(List.of("news:publish", "filler:69"))));
+        assertFalse(PermissionSet.EMPTY.contains(dictionary.bitOf("news:publish")));
+    }
+
+    private static void authenticate(AuthenticatedUser user) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    private static RequirePermission requirement() throws NoSuchMethodException {
+        return Guarded.class.getDeclaredMethod("createTerm").getAnnotation(RequirePermission.class);
+    }
+
+    private static class Guarded {
+        @RequirePermission({PermissionConstants.TERMS_READ, PermissionConstants.TERMS_CREATE})
+        void createTerm() {
+            // Annotated method for the tests
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.phoebe.service;
 
+import com.example.phoebe.cdn.CdnPurgeDispatcher;
 import com.example.phoebe.dto.request.BulkActionRequestDto;
+import com.example.phoebe.entity.ChangeEvent;
 import com.example.phoebe.mapper.NewsMapper;
 import com.example.phoebe.repository.NewsRepository;
 import com.example.phoebe.repository.UserRepository;
@@ -21,6 +23,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -29,6 +32,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * Unit tests for NewsServiceImpl bulk operations logic.
@@ -46,6 +50,18 @@ class BulkOperationsTest {
     @Mock
     private NewsMapper newsMapper;
 
+    @Mock
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Mock
+    private ChangeFeedService changeFeedService;
+
+    @Mock
+    private CdnPurgeDispatcher cdnPurgeDispatcher;
+
+    @Mock
+    private TermHierarchyService termHierarchyService;
+
     @InjectMocks
     private NewsServiceImpl newsService;
 
@@ -113,6 +129,7 @@ class BulkOperationsTest {
         List<Long> capturedIds = idListCaptor.getValue();
         assertEquals(3, capturedIds.size());
         assertTrue(capturedIds.containsAll(List.of(1L, 2L, 3L)));
+        verify(termHierarchyService).articlesRemoved(capturedIds, true);
     }
 
     /**
@@ -138,6 +155,30 @@ class BulkOperationsTest {
         assertTrue(capturedIds.containsAll(List.of(1L, 2L, 3L)));
     }
 
+    /**
+     * Tests that only the articles that were published enter the public change feed.
+     */
+    @Test
+    void performBulkActionShouldRecordOnlyPublishedArticlesInChangeFeed() {
+        Authentication adminAuth = mockAuthWithRole("ROLE_ADMIN");
+
+        BulkActionRequestDto request = new BulkActionRequestDto();
+        request.setAction(BulkActionRequestDto.ActionType.UNPUBLISH);
+        request.setFilterType(BulkActionRequestDto.FilterType.BY_IDS);
+        request.setItemIds(new HashSet<>(Arrays.asList(1L, 2L, 3L)));
+        request.setConfirmed(true);
+        when(newsRepository.findPublishedIdsIn(anyList())).thenReturn(List.of(2L));
+        when(newsRepository.findAuthorIdsIn(List.of(2L))).thenReturn(List.of(7L));
+        when(newsRepository.findTermIdsIn(List.of(2L))).thenReturn(List.of(3L, 4L));
+
+        newsService.performBulkAction(request, adminAuth);
+
+        verify(changeFeedService).recordArticles(List.of(2L), ChangeEvent.ChangeType.UNPUBLISHED);
+        verify(termHierarchyService).articlesRemoved(List.of(2L), false);
+        verify(cacheInvalidationService).clear("news-by-id");
+        verify(cdnPurgeDispatcher).purge(Set.of("front-page", "article-2", "author-7", "term-3", "term-4"));
+    }
+
     /**
      * Tests that an editor (non-admin) is denied access to bulk operations.
      */
@@ -0,0 +1,158 @@
+package com.example.phoebe.service;
+
+import com.example.phoebe.config.CacheInvalidationProperties;
+import com.example.phoebe.entity.CacheInvalidationEvent;
+import com.example.phoebe.repository.CacheInvalidationEventRepository;
+import com.example.phoebe.service.impl.CacheInvalidationServiceImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationServiceTest {
+
+    @Mock
+    private CacheInvalidationEventRepository repository;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private org.hibernate.Cache secondLevelCache;
+
+    private ConcurrentMapCacheManager cacheManager;
+    private CacheInvalidationServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager("news-by-id", "main-menu");
+        CacheInvalidationProperties properties = new CacheInvalidationProperties(true, Duration.ofSeconds(1), 2,
+                Duration.ofSeconds(30), Duration.ofHours(1), Duration.ofMinutes(10));
+        service = new CacheInvalidationServiceImpl(repository, cacheManager, entityManagerFactory, properties);
+        lenient().when(repository.findMaxId()).thenReturn(10L);
+    }
+
+    @Test
+    void shouldStartAtEndOfLog() {
+        // When
+        int applied = service.applyRemoteEvents();
+
+        // Then
+        assertEquals(0, applied);
+        verify(repository, never()).findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    void shouldEvictEntriesNamedByOtherReplicasInBatches() {
+        // Given
+        service.applyRemoteEvents();
+        cache("news-by-id").put(7L, "article");
+        cache("main-menu").put("main", "menu");
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Pageable.class)))
+                .thenReturn(List.of(event(11L, "news-by-id", 7L, "replica-b"), event(12L, "main-menu", null, "replica-b")));
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(12L), any(Pageable.class))).thenReturn(List.of());
+
+        // When
+        int applied = service.applyRemoteEvents();
+
+        // Then
+        assertEquals(2, applied);
+        assertNull(cache("news-by-id").get(7L));
+        assertNull(cache("main-menu").get("main"));
+    }
+
+    @Test
+    void shouldEvictEntitiesNamedByOtherReplicasFromSecondLevelCache() {
+        // Given
+        service.applyRemoteEvents();
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(secondLevelCache);
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Pageable.class)))
+                .thenReturn(List.of(event(11L, "entity:com.example.phoebe.entity.Term", 5L, "replica-b")));
+
+        // When
+        int applied = service.applyRemoteEvents();
+
+        // Then
+        assertEquals(1, applied);
+        verify(secondLevelCache).evictEntityData("com.example.phoebe.entity.Term", 5L);
+        verify(secondLevelCache).evictQueryRegions();
+    }
+
+    @Test
+    void shouldSkipOwnEvents() {
+        // Given
+        service.applyRemoteEvents();
+        ArgumentCaptor<CacheInvalidationEvent> written = ArgumentCaptor.forClass(CacheInvalidationEvent.class);
+        service.evict("news-by-id", 7L);
+        verify(repository).save(written.capture());
+        cache("news-by-id").put(7L, "reloaded after the local eviction");
+        ReflectionTestUtils.setField(written.getValue(), "id", 11L);
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Pageable.class)))
+                .thenReturn(List.of(written.getValue()));
+
+        // When
+        int applied = service.applyRemoteEvents();
+
+        // Then
+        assertEquals(0, applied);
+        assertNotNull(cache("news-by-id").get(7L));
+    }
+
+    @Test
+    void shouldPickUpEventCommittedOutOfIdOrder() {
+        // Given: id 11 is still uncommitted when 12 is read
+        service.applyRemoteEvents();
+        cache("news-by-id").put(5L, "article");
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Pageable.class)))
+                .thenReturn(List.of(event(12L, "main-menu", null, "replica-b")));
+        service.applyRemoteEvents();
+        when(repository.findByIdIn(Set.of(11L))).thenReturn(List.of(event(11L, "news-by-id", 5L, "replica-c")));
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(12L), any(Pageable.class))).thenReturn(List.of());
+
+        // When
+        int applied = service.applyRemoteEvents();
+
+        // Then
+        assertEquals(1, applied);
+        assertNull(cache("news-by-id").get(5L));
+    }
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+
+    private static CacheInvalidationEvent event(Long id, String cacheName, Long key, String origin) {
+        CacheInvalidationEvent event = new CacheInvalidationEvent(cacheName, key, origin, LocalDateTime.now());
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.phoebe.service;
+
+import com.example.phoebe.config.ChangeFeedProperties;
+import com.example.phoebe.dto.response.ChangeFeedDto;
+import com.example.phoebe.entity.ChangeEvent;
+import com.example.phoebe.repository.ChangeEventRepository;
+import com.example.phoebe.repository.ChangeFeedCompactionRepository;
+import com.example.phoebe.service.impl.ChangeFeedServiceImpl;
+import com.example.phoebe.webhook.WebhookDispatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeFeedServiceTest {
+
+    @Mock
+    private ChangeEventRepository repository;
+
+    @Mock
+    private ChangeFeedCompactionRepository compactionRepository;
+
+    @Mock
+    private WebhookDispatcher webhookDispatcher;
+
+    private ChangeFeedServiceImpl changeFeedService;
+
+    @BeforeEach
+    void setUp() {
+        changeFeedService = new ChangeFeedServiceImpl(repository, compactionRepository,
+                new ChangeFeedProperties(Duration.ofSeconds(30), 2, 3, Duration.ofDays(30), Duration.ofHours(1)),
+                webhookDispatcher);
+    }
+
+    @Test
+    void shouldReturnEventsAfterCursorWithNextCursor() {
+        // Given
+        ArgumentCaptor<Pageable> page = ArgumentCaptor.forClass(Pageable.class);
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(40L), page.capture()))
+                .thenReturn(List.of(event(41L, ChangeEvent.ChangeType.PUBLISHED, LocalDateTime.now()),
+                        event(42L, ChangeEvent.ChangeType.UPDATED, LocalDateTime.now())));
+        when(compactionRepository.findCompactedThroughId()).thenReturn(0L);
+
+        // When
+        ChangeFeedDto feed = changeFeedService.getChanges(40L, null);
+
+        // Then
+        assertEquals(2, feed.events().size());
+        assertEquals(ChangeEvent.ChangeType.PUBLISHED, feed.events().get(0).change());
+        assertEquals(42L, feed.nextCursor());
+        assertTrue(feed.hasMore());
+        assertFalse(feed.resyncRequired());
+        assertEquals(2, page.getValue().getPageSize());
+    }
+
+    @Test
+    void shouldStopBeforeMissingIdWhileItMayStillCommit() {
+        // Given: id 42 belongs to a transaction that has not committed yet
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(40L), any()))
+                .thenReturn(List.of(event(41L, ChangeEvent.ChangeType.PUBLISHED, LocalDateTime.now()),
+                        event(43L, ChangeEvent.ChangeType.UPDATED, LocalDateTime.now().minusSeconds(10))));
+        when(compactionRepository.findCompactedThroughId()).thenReturn(0L);
+
+        // When
+        ChangeFeedDto feed = changeFeedService.getChanges(40L, null);
+
+        // Then
+        assertEquals(1, feed.events().size());
+        assertEquals(41L, feed.nextCursor());
+        assertFalse(feed.hasMore());
+    }
+
+    @Test
+    void shouldSkipMissingIdAfterGapTimeout() {
+        // Given: id 41 was rolled back
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(40L), any()))
+                .thenReturn(List.of(event(42L, ChangeEvent.ChangeType.PUBLISHED, LocalDateTime.now().minusMinutes(1)),
+                        event(44L, ChangeEvent.ChangeType.UPDATED, LocalDateTime.now())));
+        when(compactionRepository.findCompactedThroughId()).thenReturn(0L);
+
+        // When
+        ChangeFeedDto feed = changeFeedService.getChanges(40L, 50);
+
+        // Then
+        assertEquals(1, feed.events().size());
+        assertEquals(42L, feed.nextCursor());
+    }
+
+    @Test
+    void shouldKeepCursorAndAskForResyncWhenEventsWereCompacted() {
+        // Given
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(5L), any())).thenReturn(List.of());
+        when(compactionRepository.findCompactedThroughId()).thenReturn(100L);
+
+        // When
+        ChangeFeedDto feed = changeFeedService.getChanges(5L, 50);
+
+        // Then
+        assertEquals(5L, feed.nextCursor());
+        assertFalse(feed.hasMore());
+        assertTrue(feed.resyncRequired());
+    }
+
+    @Test
+    void shouldNotAskForResyncOverIdGapAboveCompactionWatermark() {
+        // Given: ids 6-9 were never committed, nothing after 3 was compacted
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(5L), any()))
+                .thenReturn(List.of(event(10L, ChangeEvent.ChangeType.UPDATED, LocalDateTime.now().minusMinutes(1))));
+        when(compactionRepository.findCompactedThroughId()).thenReturn(3L);
+
+        // When
+        ChangeFeedDto feed = changeFeedService.getChanges(5L, 50);
+
+        // Then
+        assertEquals(10L, feed.nextCursor());
+        assertFalse(feed.resyncRequired());
+    }
+
+    @Test
+    void shouldRecordBoundaryBeforeDeletingExpiredEvents() {
+        // Given
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(repository.findMaxIdCreatedBefore(cutoff.capture())).thenReturn(70L);
+        when(repository.deleteUpTo(70L)).thenReturn(12);
+
+        // When
+        int deleted = changeFeedService.deleteExpiredEvents();
+
+        // Then
+        assertEquals(12, deleted);
+        InOrder order = inOrder(compactionRepository, repository);
+        order.verify(compactionRepository).advanceTo(70L);
+        order.verify(repository).deleteUpTo(70L);
+        assertTrue(cutoff.getValue().isBefore(LocalDateTime.now().minusDays(29)));
+    }
+
+    @Test
+    void shouldAskForResyncWhenCompactionEmptiedTheFeed() {
+        // Given
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(5L), any())).thenReturn(List.of());
+        when(compactionRepository.findCompactedThroughId()).thenReturn(80L);
+
+        // When
+        ChangeFeedDto feed = changeFeedService.getChanges(5L, 50);
+
+        // Then
+        assertTrue(feed.resyncRequired());
+        assertEquals(5L, feed.nextCursor());
+    }
+
+    @Test
+    void shouldCapLimitAndRejectNegativeCursor() {
+        // Given
+        ArgumentCaptor<Pageable> page = ArgumentCaptor.forClass(Pageable.class);
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(0L), page.capture())).thenReturn(List.of());
+
+        // When
+        changeFeedService.getChanges(0L, 1000);
+
+        // Then
+        assertEquals(3, page.getValue().getPageSize());
+        assertThrows(IllegalArgumentException.class, () -> changeFeedService.getChanges(-1L, null));
+    }
+
+    @Test
+    void shouldStartCurrentCursorBeforeGapsThatMayStillFill() {
+        // Given
+        ArgumentCaptor<LocalDateTime> settled = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(repository.findMaxIdCreatedBefore(settled.capture())).thenReturn(42L);
+
+        // When
+        long cursor = changeFeedService.currentCursor();
+
+        // Then
+        assertEquals(42L, cursor);
+        assertTrue(settled.getValue().isBefore(LocalDateTime.now().minusSeconds(29)));
+    }
+
+    @Test
+    void shouldLeaveArticleTimestampsToTheirInserts() {
+        // Given
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ChangeEvent>> saved = ArgumentCaptor.forClass(List.class);
+
+        // When
+        changeFeedService.recordArticles(List.of(1L, 2L), ChangeEvent.ChangeType.DELETED);
+
+        // Then
+        verify(repository).saveAll(saved.capture());
+        assertEquals(2, saved.getValue().size());
+        assertEquals(ChangeEvent.EntityType.ARTICLE, saved.getValue().get(1).getEntityType());
+        assertNull(saved.getValue().get(0).getCreatedAt());
+        assertNull(saved.getValue().get(1).getCreatedAt());
+        verify(webhookDispatcher).articlesChanged(List.of(1L, 2L), ChangeEvent.ChangeType.DELETED);
+    }
+
+    private static ChangeEvent event(Long id, ChangeEvent.ChangeType change, LocalDateTime createdAt) {
+        ChangeEvent event = new ChangeEvent(ChangeEvent.EntityType.ARTICLE, id * 10, change, createdAt);
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+}
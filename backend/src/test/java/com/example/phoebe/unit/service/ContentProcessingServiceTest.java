@@ -1,12 +1,15 @@
 package com.example.phoebe.service;
 
+import com.example.phoebe.config.ContentRenderingProperties;
+import com.example.phoebe.entity.News;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ContentProcessingServiceTest {
 
-    private final ContentProcessingService service = new ContentProcessingService();
+    private final ContentProcessingService service = new ContentProcessingService(ContentRenderingProperties.defaults());
 
     @Test
     void testProcessContentWithYouTubeLink() {
@@ -33,4 +36,34 @@ class ContentProcessingServiceTest {
         String result = service.processContent(content);
         assertEquals(content, result); // HTML остается без изменений
     }
-}
\ No newline at end of file
+
+    @Test
+    void testRenderSanitizesBodyAndConvertsEmbeds() {
+        News news = new News();
+        news.setBody("<p onclick=\"x()\">Видео https://youtu.be/ABC123def45</p><script>alert(1)</script>");
+        news.setTeaser("<b>Тизер</b><span>!</span>");
+
+        service.render(news);
+
+        assertTrue(news.getRenderedBody().startsWith("<p>Видео <div style="));
+        assertTrue(news.getRenderedBody().endsWith("</iframe></div></p>"));
+        assertEquals("<b>Тизер</b>!", news.getRenderedTeaser());
+        assertEquals(1, news.getRenderVersion());
+        // Сырые поля не изменяются
+        assertTrue(news.getBody().contains("<script>"));
+    }
+
+    @Test
+    void testRenderGeneratesExcerptOnlyWhenEnabled() {
+        ContentProcessingService excerptService = new ContentProcessingService(
+                new ContentRenderingProperties(2, true, 12, true, 100));
+        String body = "<p>Первый <b>абзац</b></p><p>второй абзац текста</p>";
+
+        ContentProcessingService.RenderedContent withExcerpt = excerptService.render(body, " ");
+        ContentProcessingService.RenderedContent withoutExcerpt = service.render(body, null);
+
+        assertEquals("Первый абзац…", withExcerpt.teaser());
+        assertEquals(2, withExcerpt.version());
+        assertNull(withoutExcerpt.teaser());
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.phoebe.service;
+
+import com.example.phoebe.dto.response.MenuItemDto;
+import com.example.phoebe.entity.ChannelSettings;
+import com.example.phoebe.repository.ChannelSettingsRepository;
+import com.example.phoebe.repository.TermRepository;
+import com.example.phoebe.service.impl.NavigationServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NavigationServiceTest {
+
+    @Mock
+    private ChannelSettingsRepository channelSettingsRepository;
+
+    @Mock
+    private TermRepository termRepository;
+
+    private NavigationServiceImpl navigationService;
+
+    @BeforeEach
+    void setUp() {
+        navigationService = new NavigationServiceImpl(channelSettingsRepository, termRepository, new ObjectMapper());
+    }
+
+    @Test
+    void shouldResolveMenuInConfiguredOrder() {
+        // Given
+        ChannelSettings settings = new ChannelSettings();
+        settings.setMainMenuTermIds("[3, 1, 2, 3]");
+        when(channelSettingsRepository.findSingletonSettings()).thenReturn(Optional.of(settings));
+        when(termRepository.findMenuItemsByIds(Set.of(3L, 1L, 2L))).thenReturn(List.of(
+                new MenuItemDto(1L, "Politics", "category", 4),
+                new MenuItemDto(3L, "Sports", "category", 0)
+        ));
+
+        // When
+        List<MenuItemDto> menu = navigationService.getMainMenu();
+
+        // Then - unknown id 2 is skipped, duplicate 3 collapsed
+        assertEquals(2, menu.size());
+        assertEquals("Sports", menu.get(0).name());
+        assertEquals("Politics", menu.get(1).name());
+        assertEquals(4, menu.get(1).publishedCount());
+    }
+
+    @Test
+    void shouldReturnEmptyMenuForMalformedSettings() {
+        // Given
+        ChannelSettings settings = new ChannelSettings();
+        settings.setMainMenuTermIds("not-json");
+        when(channelSettingsRepository.findSingletonSettings()).thenReturn(Optional.of(settings));
+
+        // When
+        List<MenuItemDto> menu = navigationService.getMainMenu();
+
+        // Then
+        assertTrue(menu.isEmpty());
+        verify(termRepository, never()).findMenuItemsByIds(any());
+    }
+}
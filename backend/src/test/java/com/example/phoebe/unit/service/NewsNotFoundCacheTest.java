@@ -0,0 +1,123 @@
+package com.example.phoebe.service;
+
+import com.example.phoebe.cdn.CdnPurgeDispatcher;
+import com.example.phoebe.dto.response.NewsDto;
+import com.example.phoebe.entity.News;
+import com.example.phoebe.exception.NewsNotFoundException;
+import com.example.phoebe.mapper.NewsMapper;
+import com.example.phoebe.repository.NewsRepository;
+import com.example.phoebe.repository.TermRepository;
+import com.example.phoebe.repository.UserRepository;
+import com.example.phoebe.service.impl.NewsServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NewsNotFoundCacheTest {
+
+    @Mock
+    private NewsRepository newsRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TermRepository termRepository;
+
+    @Mock
+    private NewsMapper newsMapper;
+
+    @Mock
+    private ContentProcessingService contentProcessingService;
+
+    @Mock
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Mock
+    private ChangeFeedService changeFeedService;
+
+    @Mock
+    private CdnPurgeDispatcher cdnPurgeDispatcher;
+
+    @Mock
+    private TermHierarchyService termHierarchyService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ConcurrentMapCacheManager cacheManager;
+    private NewsServiceImpl newsService;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager("news-not-found");
+        newsService = new NewsServiceImpl(newsRepository, userRepository, termRepository, newsMapper,
+                contentProcessingService, cacheManager, cacheInvalidationService, changeFeedService,
+                cdnPurgeDispatcher, termHierarchyService, transactionManager);
+    }
+
+    @Test
+    void shouldAnswerRepeatedMissWithoutDatabase() {
+        // Given
+        when(newsRepository.findByIdAndPublished(404L, true)).thenReturn(Optional.empty());
+        assertThrows(NewsNotFoundException.class, () -> newsService.findPublishedById(404L));
+
+        // When
+        NewsNotFoundException ex = assertThrows(NewsNotFoundException.class,
+                () -> newsService.findPublishedById(404L));
+
+        // Then
+        verify(newsRepository, times(1)).findByIdAndPublished(404L, true);
+        verify(transactionManager, times(1)).getTransaction(any());
+        assertEquals("News not found with id : '404'", ex.getMessage());
+        assertEquals(0, ex.getStackTrace().length);
+    }
+
+    @Test
+    void shouldLoadPublishedArticleAndNotRememberIt() {
+        // Given
+        News news = new News();
+        NewsDto dto = new NewsDto();
+        when(newsRepository.findByIdAndPublished(7L, true)).thenReturn(Optional.of(news));
+        when(newsMapper.toPublicDto(news)).thenReturn(dto);
+
+        // When
+        NewsDto result = newsService.findPublishedById(7L);
+
+        // Then
+        assertSame(dto, result);
+        assertNull(cacheManager.getCache("news-not-found").get(7L));
+    }
+
+    @Test
+    void shouldQueryAgainOnceMissIsEvicted() {
+        // Given
+        when(newsRepository.findByIdAndPublished(5L, true)).thenReturn(Optional.empty());
+        assertThrows(NewsNotFoundException.class, () -> newsService.findPublishedById(5L));
+
+        // When: what create/update do for a published or newly created id
+        cacheManager.getCache("news-not-found").evict(5L);
+        assertThrows(NewsNotFoundException.class, () -> newsService.findPublishedById(5L));
+
+        // Then
+        verify(newsRepository, times(2)).findByIdAndPublished(5L, true);
+        verifyNoInteractions(userRepository);
+    }
+}
@@ -1,9 +1,14 @@
 package com.example.phoebe.service;
 
+import com.example.phoebe.cdn.CdnPurgeDispatcher;
 import com.example.phoebe.entity.News;
+import com.example.phoebe.entity.Term;
 import com.example.phoebe.entity.User;
+import com.example.phoebe.mapper.NewsMapper;
 import com.example.phoebe.repository.NewsRepository;
 import com.example.phoebe.repository.UserRepository;
+import com.example.phoebe.security.AuthenticatedUser;
+import com.example.phoebe.security.PermissionSet;
 import com.example.phoebe.service.impl.NewsServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,15 +16,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import java.util.Collections;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +41,21 @@ class NewsServiceAuthorizationTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private NewsMapper newsMapper;
+
+    @Mock
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Mock
+    private ChangeFeedService changeFeedService;
+
+    @Mock
+    private CdnPurgeDispatcher cdnPurgeDispatcher;
+
+    @Mock
+    private TermHierarchyService termHierarchyService;
+
     @InjectMocks
     private NewsServiceImpl newsService;
 
@@ -44,6 +69,9 @@ class NewsServiceAuthorizationTest {
         adminUser = new User("admin", "pass", "admin@test.com", true);
         editorUser = new User("editor", "pass", "editor@test.com", true);
         anotherUser = new User("another", "pass", "another@test.com", true);
+        adminUser.setId(10L);
+        editorUser.setId(11L);
+        anotherUser.setId(12L);
 
         editorsNews = new News();
         editorsNews.setId(1L);
@@ -58,6 +86,12 @@ class NewsServiceAuthorizationTest {
         );
     }
 
+    private Authentication createPrincipalAuth(User user, String role) {
+        AuthenticatedUser principal = new AuthenticatedUser(user.getId(), user.getUsername(), "password", true,
+                Set.of(role), PermissionSet.EMPTY);
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
     @Test
     void adminShouldHaveAccessToAnyNews() {
         // Given
@@ -71,7 +105,7 @@ class NewsServiceAuthorizationTest {
     void authorShouldHaveAccessToOwnNews() {
         // Given
         Authentication authorAuth = createAuth(editorUser, "EDITOR");
-        when(userRepository.findByUsername("editor")).thenReturn(Optional.of(editorUser));
+        when(userRepository.findIdByUsername("editor")).thenReturn(Optional.of(editorUser.getId()));
         when(newsRepository.existsByIdAndAuthorId(editorsNews.getId(), editorUser.getId())).thenReturn(true);
 
         // When & Then
@@ -82,10 +116,52 @@ class NewsServiceAuthorizationTest {
     void nonAuthorShouldNotHaveAccess() {
         // Given
         Authentication anotherUserAuth = createAuth(anotherUser, "EDITOR");
-        when(userRepository.findByUsername("another")).thenReturn(Optional.of(anotherUser));
+        when(userRepository.findIdByUsername("another")).thenReturn(Optional.of(anotherUser.getId()));
         when(newsRepository.existsByIdAndAuthorId(editorsNews.getId(), anotherUser.getId())).thenReturn(false);
 
         // When & Then
         assertFalse(newsService.isAuthor(editorsNews.getId(), anotherUserAuth));
     }
+
+    @Test
+    void authorShouldDeleteOwnPublishedNewsAndPurgeItsAuthorAndTermTags() {
+        // Given
+        Authentication authorAuth = createPrincipalAuth(editorUser, "EDITOR");
+        Term term = new Term("Science", "category");
+        term.setId(3L);
+        editorsNews.setPublished(true);
+        editorsNews.setTerms(Set.of(term));
+        when(newsRepository.findById(editorsNews.getId())).thenReturn(Optional.of(editorsNews));
+
+        // When
+        newsService.delete(editorsNews.getId(), authorAuth);
+
+        // Then
+        verify(newsRepository).delete(editorsNews);
+        verify(cdnPurgeDispatcher).purge(Set.of("front-page", "article-1", "author-11", "term-3"));
+    }
+
+    @Test
+    void authorShouldViewOwnNewsWithoutUserLookup() {
+        // Given
+        Authentication authorAuth = createPrincipalAuth(editorUser, "EDITOR");
+        when(newsRepository.findById(editorsNews.getId())).thenReturn(Optional.of(editorsNews));
+
+        // When
+        newsService.findById(editorsNews.getId(), authorAuth);
+
+        // Then
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void nonAuthorShouldNotViewNewsAndNoUserIsLookedUp() {
+        // Given
+        Authentication anotherUserAuth = createPrincipalAuth(anotherUser, "EDITOR");
+        when(newsRepository.findById(editorsNews.getId())).thenReturn(Optional.of(editorsNews));
+
+        // When & Then
+        assertThrows(AccessDeniedException.class, () -> newsService.findById(editorsNews.getId(), anotherUserAuth));
+        verifyNoInteractions(userRepository);
+    }
 }
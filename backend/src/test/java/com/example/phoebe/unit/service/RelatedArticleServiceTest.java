@@ -0,0 +1,65 @@
+package com.example.phoebe.service;
+
+import com.example.phoebe.dto.response.RelatedArticleDto;
+import com.example.phoebe.exception.NewsNotFoundException;
+import com.example.phoebe.related.RelatedArticleIndex;
+import com.example.phoebe.repository.NewsRepository;
+import com.example.phoebe.service.impl.RelatedArticleServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RelatedArticleServiceTest {
+
+    @Mock
+    private NewsService newsService;
+
+    @Mock
+    private NewsRepository newsRepository;
+
+    @Mock
+    private RelatedArticleIndex relatedArticleIndex;
+
+    @InjectMocks
+    private RelatedArticleServiceImpl relatedArticleService;
+
+    @Test
+    void shouldKeepIndexOrderAndSkipArticlesNoLongerPublished() {
+        // Given
+        RelatedArticleDto second = article(7L);
+        RelatedArticleDto first = article(9L);
+        when(relatedArticleIndex.related(1L, 5)).thenReturn(List.of(9L, 4L, 7L));
+        when(newsRepository.findRelatedArticles(List.of(9L, 4L, 7L))).thenReturn(List.of(second, first));
+
+        // When
+        List<RelatedArticleDto> related = relatedArticleService.findRelated(1L, 5);
+
+        // Then
+        assertEquals(List.of(first, second), related);
+    }
+
+    @Test
+    void shouldRejectUnpublishedArticle() {
+        // Given
+        when(newsService.findPublishedById(1L)).thenThrow(new NewsNotFoundException(1L));
+
+        // When / Then
+        assertThrows(NewsNotFoundException.class, () -> relatedArticleService.findRelated(1L, 5));
+        verifyNoInteractions(relatedArticleIndex, newsRepository);
+    }
+
+    private static RelatedArticleDto article(Long id) {
+        return new RelatedArticleDto(id, "Article " + id, null, LocalDateTime.of(2024, 5, 1, 12, 0));
+    }
+}
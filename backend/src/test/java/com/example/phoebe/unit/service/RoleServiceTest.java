@@ -0,0 +1,66 @@
+package com.example.phoebe.service;
+
+import com.example.phoebe.entity.Role;
+import com.example.phoebe.exception.ResourceNotFoundException;
+import com.example.phoebe.mapper.RoleMapper;
+import com.example.phoebe.repository.PermissionRepository;
+import com.example.phoebe.repository.RoleRepository;
+import com.example.phoebe.service.impl.RoleServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoleServiceTest {
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @Mock
+    private PermissionRepository permissionRepository;
+
+    @Mock
+    private RoleMapper roleMapper;
+
+    @Mock
+    private CacheInvalidationService cacheInvalidationService;
+
+    private RoleServiceImpl roleService;
+
+    @BeforeEach
+    void setUp() {
+        roleService = new RoleServiceImpl(roleRepository, permissionRepository, roleMapper, cacheInvalidationService);
+    }
+
+    @Test
+    void shouldEvictDeletedRoleOnOtherReplicas() {
+        // Given
+        when(roleRepository.existsById(3L)).thenReturn(true);
+
+        // When
+        roleService.deleteRole(3L);
+
+        // Then
+        verify(roleRepository).deleteById(3L);
+        verify(cacheInvalidationService).evictEntity(Role.class, 3L);
+    }
+
+    @Test
+    void shouldNotTouchCacheWhenRoleDoesNotExist() {
+        // Given
+        when(roleRepository.existsById(3L)).thenReturn(false);
+
+        // When / Then
+        assertThrows(ResourceNotFoundException.class, () -> roleService.deleteRole(3L));
+        verify(roleRepository, never()).deleteById(3L);
+        verifyNoInteractions(cacheInvalidationService);
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.phoebe.service;
+
+import com.example.phoebe.compression.ContentEncoding;
+import com.example.phoebe.compression.ResponseCompressor;
+import com.example.phoebe.config.SyndicationProperties;
+import com.example.phoebe.dto.response.ContentFingerprintDto;
+import com.example.phoebe.dto.response.FeedItemDto;
+import com.example.phoebe.dto.response.SitemapKeyDto;
+import com.example.phoebe.dto.response.SitemapUrlDto;
+import com.example.phoebe.entity.ChannelSettings;
+import com.example.phoebe.entity.Term;
+import com.example.phoebe.exception.ResourceNotFoundException;
+import com.example.phoebe.repository.ChannelSettingsRepository;
+import com.example.phoebe.repository.NewsRepository;
+import com.example.phoebe.repository.TermRepository;
+import com.example.phoebe.service.impl.SyndicationServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SyndicationServiceTest {
+
+    private static final LocalDateTime UPDATED = LocalDateTime.of(2024, 5, 1, 10, 0);
+
+    @Mock
+    private NewsRepository newsRepository;
+
+    @Mock
+    private TermRepository termRepository;
+
+    @Mock
+    private ChannelSettingsRepository channelSettingsRepository;
+
+    @Mock
+    private ResponseCompressor compressor;
+
+    private SyndicationServiceImpl syndicationService;
+
+    @BeforeEach
+    void setUp() {
+        syndicationService = new SyndicationServiceImpl(newsRepository, termRepository, channelSettingsRepository,
+                compressor, new SyndicationProperties("https://configured.example"));
+        ChannelSettings settings = new ChannelSettings();
+        settings.setSiteUrl("https://dniester.ru/");
+        settings.setSiteTitle("Dniester");
+        lenient().when(channelSettingsRepository.findSingletonSettings()).thenReturn(Optional.of(settings));
+    }
+
+    @Test
+    void shouldListOneShardPer50kArticles() {
+        // Given
+        when(newsRepository.findPublishedFingerprint()).thenReturn(new ContentFingerprintDto(120_000, UPDATED));
+
+        // When
+        String index = new String(syndicationService.getSitemapIndex(), StandardCharsets.UTF_8);
+
+        // Then
+        assertTrue(index.contains("<loc>https://dniester.ru/sitemap-3.xml</loc>"));
+        assertFalse(index.contains("sitemap-4.xml"));
+    }
+
+    @Test
+    void shouldStreamShardAndCacheItUntilFingerprintChanges() {
+        // Given
+        when(newsRepository.findPublishedFingerprint()).thenReturn(new ContentFingerprintDto(2, UPDATED));
+        when(newsRepository.findPublishedForSitemap(PageRequest.of(0, 1000)))
+                .thenReturn(List.of(new SitemapUrlDto(7L, UPDATED, UPDATED), new SitemapUrlDto(9L, UPDATED, UPDATED)));
+
+        // When
+        byte[] first = syndicationService.getSitemapShard(1, null);
+        byte[] second = syndicationService.getSitemapShard(1, null);
+
+        // Then
+        String xml = new String(first, StandardCharsets.UTF_8);
+        assertTrue(xml.contains("<url><loc>https://dniester.ru/node/7</loc><lastmod>2024-05-01T10:00:00"));
+        assertTrue(xml.contains("https://dniester.ru/node/9"));
+        assertArrayEquals(first, second);
+        verify(newsRepository, times(1)).findPublishedForSitemap(PageRequest.of(0, 1000));
+        verify(newsRepository, never()).findPublishedForSitemapAfter(any(), any(), any());
+    }
+
+    @Test
+    void shouldCompressShardOncePerEncoding() {
+        // Given
+        byte[] gzipped = {31, -117, 8};
+        when(newsRepository.findPublishedFingerprint()).thenReturn(new ContentFingerprintDto(1, UPDATED));
+        when(newsRepository.findPublishedForSitemap(PageRequest.of(0, 1000)))
+                .thenReturn(List.of(new SitemapUrlDto(7L, UPDATED, UPDATED)));
+        when(compressor.compress(any(), eq(ContentEncoding.GZIP))).thenReturn(gzipped);
+
+        // When
+        byte[] first = syndicationService.getSitemapShard(1, ContentEncoding.GZIP);
+        byte[] second = syndicationService.getSitemapShard(1, ContentEncoding.GZIP);
+        byte[] plain = syndicationService.getSitemapShard(1, null);
+
+        // Then
+        assertArrayEquals(gzipped, first);
+        assertArrayEquals(gzipped, second);
+        assertTrue(new String(plain, StandardCharsets.UTF_8).contains("https://dniester.ru/node/7"));
+        verify(compressor, times(1)).compress(plain, ContentEncoding.GZIP);
+    }
+
+    @Test
+    void shouldStartLaterShardsAfterTheLastArticleOfThePreviousOne() {
+        // Given
+        LocalDateTime firstEnd = LocalDateTime.of(2021, 3, 4, 8, 0);
+        LocalDateTime secondEnd = LocalDateTime.of(2022, 6, 7, 9, 0);
+        PageRequest lastOfShard = PageRequest.of(49_999, 1);
+        when(newsRepository.findPublishedFingerprint()).thenReturn(new ContentFingerprintDto(120_000, UPDATED));
+        when(newsRepository.findPublishedSitemapKeys(lastOfShard)).thenReturn(List.of(new SitemapKeyDto(firstEnd, 50L)));
+        when(newsRepository.findPublishedSitemapKeysAfter(firstEnd, 50L, lastOfShard))
+                .thenReturn(List.of(new SitemapKeyDto(secondEnd, 100L)));
+        when(newsRepository.findPublishedForSitemapAfter(secondEnd, 100L, PageRequest.of(0, 1000)))
+                .thenReturn(List.of(new SitemapUrlDto(101L, UPDATED, UPDATED)));
+
+        // When
+        String xml = new String(syndicationService.getSitemapShard(3, null), StandardCharsets.UTF_8);
+
+        // Then
+        assertTrue(xml.contains("https://dniester.ru/node/101"));
+        verify(newsRepository, never()).findPublishedForSitemap(any());
+    }
+
+    @Test
+    void shouldReadShardInKeysetPages() {
+        // Given
+        LocalDateTime published = LocalDateTime.of(2023, 1, 2, 3, 0);
+        List<SitemapUrlDto> fullPage = LongStream.rangeClosed(1, 1000)
+                .mapToObj(id -> new SitemapUrlDto(id, published, UPDATED))
+                .toList();
+        when(newsRepository.findPublishedFingerprint()).thenReturn(new ContentFingerprintDto(1001, UPDATED));
+        when(newsRepository.findPublishedForSitemap(PageRequest.of(0, 1000))).thenReturn(fullPage);
+        when(newsRepository.findPublishedForSitemapAfter(published, 1000L, PageRequest.of(0, 1000)))
+                .thenReturn(List.of(new SitemapUrlDto(1001L, published, UPDATED)));
+
+        // When
+        String xml = new String(syndicationService.getSitemapShard(1, null), StandardCharsets.UTF_8);
+
+        // Then
+        assertTrue(xml.contains("https://dniester.ru/node/1000</loc>"));
+        assertTrue(xml.contains("https://dniester.ru/node/1001</loc>"));
+        verify(newsRepository, times(1)).findPublishedForSitemapAfter(any(), any(), any());
+    }
+
+    @Test
+    void shouldUseConfiguredBaseUrlWhenSiteUrlIsNotSet() {
+        // Given
+        when(channelSettingsRepository.findSingletonSettings()).thenReturn(Optional.empty());
+        when(newsRepository.findPublishedFingerprint()).thenReturn(new ContentFingerprintDto(1, UPDATED));
+
+        // When
+        String index = new String(syndicationService.getSitemapIndex(), StandardCharsets.UTF_8);
+
+        // Then
+        assertTrue(index.contains("<loc>https://configured.example/sitemap-1.xml</loc>"));
+    }
+
+    @Test
+    void shouldFailWithoutAnyBaseUrl() {
+        // Given
+        SyndicationServiceImpl unconfigured = new SyndicationServiceImpl(newsRepository, termRepository,
+                channelSettingsRepository, compressor, SyndicationProperties.defaults());
+        when(channelSettingsRepository.findSingletonSettings()).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> unconfigured.getRssFeed(null));
+    }
+
+    @Test
+    void shouldRewriteCachedShardWhenSiteUrlChanges() {
+        // Given
+        ChannelSettings moved = new ChannelSettings();
+        moved.setSiteUrl("https://new.dniester.ru");
+        when(newsRepository.findPublishedFingerprint()).thenReturn(new ContentFingerprintDto(1, UPDATED));
+        when(newsRepository.findPublishedForSitemap(PageRequest.of(0, 1000)))
+                .thenReturn(List.of(new SitemapUrlDto(7L, UPDATED, UPDATED)));
+        syndicationService.getSitemapShard(1, null);
+        when(channelSettingsRepository.findSingletonSettings()).thenReturn(Optional.of(moved));
+
+        // When
+        String xml = new String(syndicationService.getSitemapShard(1, null), StandardCharsets.UTF_8);
+
+        // Then
+        assertTrue(xml.contains("https://new.dniester.ru/node/7"));
+        verify(newsRepository, times(2)).findPublishedForSitemap(PageRequest.of(0, 1000));
+    }
+
+    @Test
+    void shouldRejectShardOutOfRange() {
+        // Given
+        when(newsRepository.findPublishedFingerprint()).thenReturn(new ContentFingerprintDto(10, UPDATED));
+
+        // When / Then
+        assertThrows(ResourceNotFoundException.class, () -> syndicationService.getSitemapShard(2, null));
+    }
+
+    @Test
+    void shouldWriteTermRssFeedWithEscapedSummary() {
+        // Given
+        Term term = new Term("Politics", "category");
+        term.setId(5L);
+        when(termRepository.findById(5L)).thenReturn(Optional.of(term));
+        when(newsRepository.streamLatestForTermFeed(5L, PageRequest.of(0, 50))).thenReturn(Stream.of(
+                new FeedItemDto(3L, "Budget & tax", "<b>Teaser</b>", UPDATED, UPDATED, "editor")));
+
+        // When
+        String rss = new String(syndicationService.getRssFeed(5L), StandardCharsets.UTF_8);
+
+        // Then
+        assertTrue(rss.contains("<title>Dniester - Politics</title>"));
+        assertTrue(rss.contains("<link>https://dniester.ru/category/5</link>"));
+        assertTrue(rss.contains("<title>Budget &amp; tax</title>"));
+        assertTrue(rss.contains("<guid isPermaLink=\"true\">https://dniester.ru/node/3</guid>"));
+        assertTrue(rss.contains("<description>&lt;b&gt;Teaser&lt;/b&gt;</description>"));
+    }
+}
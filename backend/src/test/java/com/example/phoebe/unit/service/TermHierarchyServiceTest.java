@@ -0,0 +1,253 @@
+package com.example.phoebe.service;
+
+import com.example.phoebe.dto.response.TermCountDto;
+import com.example.phoebe.entity.TermClosure;
+import com.example.phoebe.entity.TermCounter;
+import com.example.phoebe.exception.BusinessException;
+import com.example.phoebe.repository.TermClosureRepository;
+import com.example.phoebe.repository.TermCounterRepository;
+import com.example.phoebe.service.impl.TermHierarchyServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TermHierarchyServiceTest {
+
+    @Mock
+    private TermClosureRepository closureRepository;
+
+    @Mock
+    private TermCounterRepository counterRepository;
+
+    @Mock
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private TermHierarchyServiceImpl termHierarchyService;
+
+    @Test
+    void shouldCountSharedAncestorsOnce() {
+        // Given: France (3) and Europe (2) are both below World (1)
+        when(closureRepository.findAncestorIds(Set.of(3L, 2L))).thenReturn(List.of(3L, 2L, 1L));
+
+        // When
+        termHierarchyService.articleTermsChanged(List.of(), false, List.of(3L, 2L), true);
+
+        // Then
+        verify(counterRepository).addTotal(Set.of(2L, 3L), 1);
+        verify(counterRepository).addPublished(Set.of(2L, 3L), 1);
+        verify(counterRepository).addSubtreePublished(Set.of(1L, 2L, 3L), 1);
+        verifyNoMoreInteractions(counterRepository);
+    }
+
+    @Test
+    void shouldAdjustOnlyTermsEnteredOrLeft() {
+        // Given: an article moves from France (3) to Asia (4); World (1) keeps it
+        when(closureRepository.findAncestorIds(Set.of(3L))).thenReturn(List.of(3L, 2L, 1L));
+        when(closureRepository.findAncestorIds(Set.of(4L))).thenReturn(List.of(4L, 1L));
+
+        // When
+        termHierarchyService.articleTermsChanged(List.of(3L), true, List.of(4L), true);
+
+        // Then
+        verify(counterRepository).addTotal(Set.of(4L), 1);
+        verify(counterRepository).addTotal(Set.of(3L), -1);
+        verify(counterRepository).addPublished(Set.of(4L), 1);
+        verify(counterRepository).addPublished(Set.of(3L), -1);
+        verify(counterRepository).addSubtreePublished(Set.of(4L), 1);
+        verify(counterRepository).addSubtreePublished(Set.of(2L, 3L), -1);
+    }
+
+    @Test
+    void shouldCountDraftsInTotalOnly() {
+        // When
+        termHierarchyService.articleTermsChanged(List.of(), false, List.of(3L), false);
+
+        // Then
+        verify(counterRepository).addTotal(Set.of(3L), 1);
+        verifyNoMoreInteractions(counterRepository);
+        verifyNoInteractions(closureRepository);
+    }
+
+    @Test
+    void shouldDecrementBulkDeletedArticlesOncePerDistinctCount() {
+        // Given: of articles 10 and 11, France (3) and Europe (2) tag both, Asia (4) one; only 10 is published
+        List<Long> newsIds = List.of(10L, 11L);
+        when(counterRepository.countTaggedPerTerm(newsIds)).thenReturn(List.of(
+                new TermCountDto(2L, 2L), new TermCountDto(3L, 2L), new TermCountDto(4L, 1L)));
+        when(counterRepository.countPublishedPerTerm(newsIds)).thenReturn(List.of(
+                new TermCountDto(2L, 1L), new TermCountDto(3L, 1L)));
+        when(closureRepository.countPublishedPerAncestor(newsIds)).thenReturn(List.of(
+                new TermCountDto(1L, 1L), new TermCountDto(2L, 1L), new TermCountDto(3L, 1L)));
+
+        // When
+        termHierarchyService.articlesRemoved(newsIds, true);
+
+        // Then
+        verify(counterRepository).addTotal(List.of(2L, 3L), -2);
+        verify(counterRepository).addTotal(List.of(4L), -1);
+        verify(counterRepository).addPublished(List.of(2L, 3L), -1);
+        verify(counterRepository).addSubtreePublished(List.of(1L, 2L, 3L), -1);
+    }
+
+    @Test
+    void shouldKeepTotalsWhenUnpublishingInBulk() {
+        // Given
+        List<Long> newsIds = List.of(10L);
+        when(counterRepository.countPublishedPerTerm(newsIds)).thenReturn(List.of(new TermCountDto(3L, 1L)));
+        when(closureRepository.countPublishedPerAncestor(newsIds)).thenReturn(List.of(new TermCountDto(3L, 1L)));
+
+        // When
+        termHierarchyService.articlesRemoved(newsIds, false);
+
+        // Then
+        verify(counterRepository, never()).countTaggedPerTerm(any());
+        verify(counterRepository, never()).addTotal(any(), anyLong());
+        verify(counterRepository).addPublished(List.of(3L), -1);
+        verify(counterRepository).addSubtreePublished(List.of(3L), -1);
+    }
+
+    @Test
+    void shouldRepairDriftedCountersOfTheBatch() {
+        // Given: Europe (2) is correct, France (3) lost a decrement and World (1) missed an increment
+        TermCounter world = counter(1L, 0, 0, 3);
+        TermCounter europe = counter(2L, 2, 3, 2);
+        TermCounter france = counter(3L, 5, 6, 5);
+        List<Long> termIds = List.of(1L, 2L, 3L);
+        when(counterRepository.lockBatchAfter(0L, PageRequest.of(0, 3))).thenReturn(List.of(world, europe, france));
+        when(counterRepository.countPublished(termIds)).thenReturn(List.of(
+                new TermCountDto(2L, 2L), new TermCountDto(3L, 1L)));
+        when(counterRepository.countTagged(termIds)).thenReturn(List.of(
+                new TermCountDto(2L, 3L), new TermCountDto(3L, 1L)));
+        when(closureRepository.countPublishedInSubtrees(termIds)).thenReturn(List.of(
+                new TermCountDto(1L, 4L), new TermCountDto(2L, 2L), new TermCountDto(3L, 1L)));
+
+        // When
+        List<Long> checked = termHierarchyService.reconcileCounters(0L, 3);
+
+        // Then
+        assertEquals(termIds, checked);
+        assertEquals(4, world.getSubtreePublished());
+        assertEquals(2, europe.getPublishedCount());
+        assertEquals(1, france.getPublishedCount());
+        assertEquals(1, france.getTotalCount());
+        assertEquals(1, france.getSubtreePublished());
+    }
+
+    @Test
+    void shouldCreateAndRecountMissingCounters() {
+        // Given: Asia (4) was imported without a counter row
+        when(counterRepository.findTermIdsWithoutCounterAfter(3L, PageRequest.of(0, 3))).thenReturn(List.of(4L));
+        TermCounter asia = new TermCounter(4L);
+        when(counterRepository.lockBatchAfter(3L, PageRequest.of(0, 3))).thenReturn(List.of(asia));
+        when(counterRepository.countPublished(List.of(4L))).thenReturn(List.of(new TermCountDto(4L, 2L)));
+        when(counterRepository.countTagged(List.of(4L))).thenReturn(List.of(new TermCountDto(4L, 3L)));
+        when(closureRepository.countPublishedInSubtrees(List.of(4L))).thenReturn(List.of(new TermCountDto(4L, 2L)));
+
+        // When
+        List<Long> checked = termHierarchyService.reconcileCounters(3L, 3);
+
+        // Then: the counters are created and committed before the batch is locked and counted
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TermCounter>> created = ArgumentCaptor.forClass(List.class);
+        InOrder order = inOrder(transactionManager, counterRepository);
+        order.verify(counterRepository).findTermIdsWithoutCounterAfter(3L, PageRequest.of(0, 3));
+        order.verify(counterRepository).saveAllAndFlush(created.capture());
+        order.verify(transactionManager).commit(any());
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(counterRepository).lockBatchAfter(3L, PageRequest.of(0, 3));
+        assertEquals(List.of(4L), created.getValue().stream().map(TermCounter::getTermId).toList());
+        assertEquals(List.of(4L), checked);
+        assertEquals(2, asia.getPublishedCount());
+        assertEquals(3, asia.getTotalCount());
+        assertEquals(2, asia.getSubtreePublished());
+    }
+
+    @Test
+    void shouldRejectMovingTermBelowItsDescendant() {
+        // Given
+        when(closureRepository.findSubtreeIds(2L)).thenReturn(List.of(2L, 3L));
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> termHierarchyService.moveTerm(2L, 3L));
+        verify(closureRepository, never()).deleteOuterPaths(any());
+    }
+
+    @Test
+    void shouldRecountOldAndNewAncestorsOnMoveUnderLock() {
+        // Given: Europe (2) moves from World (1) to Sports (5)
+        when(closureRepository.findSubtreeIds(2L)).thenReturn(List.of(2L, 3L));
+        when(closureRepository.existsById(new TermClosure.Key(5L, 5L))).thenReturn(true);
+        when(closureRepository.findAncestorIds(List.of(2L))).thenReturn(List.of(2L, 1L));
+        when(closureRepository.findAncestorIds(List.of(5L))).thenReturn(List.of(5L));
+
+        // When
+        termHierarchyService.moveTerm(2L, 5L);
+
+        // Then
+        InOrder order = inOrder(closureRepository, counterRepository);
+        order.verify(closureRepository).deleteOuterPaths(List.of(2L, 3L));
+        order.verify(closureRepository).insertSubtreePaths(2L, 5L);
+        order.verify(counterRepository).lockAll(Set.of(1L, 5L));
+        order.verify(counterRepository).recountSubtreePublished(Set.of(1L, 5L));
+        verify(closureRepository, never()).countPublishedInSubtrees(any());
+        verify(cacheInvalidationService).clear("term-tree");
+    }
+
+    @Test
+    void shouldRecountFormerAncestorsOnRemoveUnderLock() {
+        // Given: France (3) below Europe (2) and World (1)
+        when(closureRepository.findAncestorIds(List.of(3L))).thenReturn(List.of(3L, 2L, 1L));
+
+        // When
+        termHierarchyService.removeTerm(3L);
+
+        // Then
+        InOrder order = inOrder(closureRepository, counterRepository);
+        order.verify(closureRepository).deleteTerm(3L);
+        order.verify(counterRepository).lockAll(Set.of(1L, 2L));
+        order.verify(counterRepository).recountSubtreePublished(Set.of(1L, 2L));
+    }
+
+    @Test
+    void shouldRefuseToRemoveTermWithChildren() {
+        // Given
+        when(closureRepository.existsByAncestorIdAndDepth(1L, 1)).thenReturn(true);
+
+        // When / Then
+        assertThrows(BusinessException.class, () -> termHierarchyService.removeTerm(1L));
+        verify(closureRepository, never()).deleteTerm(1L);
+    }
+
+    private static TermCounter counter(Long termId, long published, long total, long subtreePublished) {
+        TermCounter counter = new TermCounter(termId);
+        counter.setPublishedCount(published);
+        counter.setTotalCount(total);
+        counter.setSubtreePublished(subtreePublished);
+        return counter;
+    }
+}
@@ -1,9 +1,11 @@
 package com.example.phoebe.service;
 
+import com.example.phoebe.cdn.CdnPurgeDispatcher;
 import com.example.phoebe.entity.Term;
 import com.example.phoebe.exception.ResourceNotFoundException;
 import com.example.phoebe.repository.TermRepository;
 import com.example.phoebe.service.impl.TermServiceImpl;
+import com.example.phoebe.taxonomy.TermSuggestionIndex;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -21,7 +23,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +34,21 @@ class TermServiceTest {
     @Mock
     private TermRepository termRepository;
 
+    @Mock
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Mock
+    private ChangeFeedService changeFeedService;
+
+    @Mock
+    private TermHierarchyService termHierarchyService;
+
+    @Mock
+    private TermSuggestionIndex termSuggestionIndex;
+
+    @Mock
+    private CdnPurgeDispatcher cdnPurgeDispatcher;
+
     @InjectMocks
     private TermServiceImpl termService;
 
@@ -49,6 +68,84 @@ class TermServiceTest {
         assertNotNull(result);
         assertEquals("Technology", result.getName());
         assertEquals(1L, result.getId());
+        verify(cacheInvalidationService).clear("main-menu");
+        verify(cacheInvalidationService).evictEntity(Term.class, 1L);
+        verify(termSuggestionIndex).termSaved(savedTerm);
+        verifyNoInteractions(cdnPurgeDispatcher);
+    }
+
+    @Test
+    void shouldAddNewTermToHierarchy() {
+        // Given
+        Term term = new Term("Europe", "category");
+        term.setParentId(1L);
+        Term savedTerm = new Term("Europe", "category");
+        savedTerm.setId(2L);
+        savedTerm.setParentId(1L);
+
+        when(termRepository.existsById(1L)).thenReturn(true);
+        when(termRepository.save(term)).thenReturn(savedTerm);
+
+        // When
+        termService.save(term);
+
+        // Then
+        verify(termHierarchyService).addTerm(2L, 1L);
+    }
+
+    @Test
+    void shouldRejectUnknownParent() {
+        // Given
+        Term term = new Term("Europe", "category");
+        term.setParentId(99L);
+        when(termRepository.existsById(99L)).thenReturn(false);
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> termService.save(term));
+        verify(termRepository, never()).save(term);
+    }
+
+    @Test
+    void shouldMoveTermBelowNewParent() {
+        // Given
+        Term term = new Term("Europe", "category");
+        term.setId(2L);
+        when(termRepository.findById(2L)).thenReturn(Optional.of(term));
+
+        // When
+        Term result = termService.move(2L, 5L);
+
+        // Then
+        verify(termHierarchyService).moveTerm(2L, 5L);
+        assertEquals(5L, result.getParentId());
+        verify(cdnPurgeDispatcher).purge(List.of("term-2"));
+    }
+
+    @Test
+    void shouldPurgeArticlesTaggedWithRenamedTerm() {
+        // Given
+        Term term = new Term("Science", "category");
+        term.setId(3L);
+        when(termRepository.save(term)).thenReturn(term);
+
+        // When
+        termService.save(term);
+
+        // Then
+        verify(cdnPurgeDispatcher).purge(List.of("term-3"));
+    }
+
+    @Test
+    void shouldPurgeArticlesTaggedWithDeletedTerm() {
+        // Given
+        when(termRepository.existsById(4L)).thenReturn(true);
+
+        // When
+        termService.deleteById(4L);
+
+        // Then
+        verify(termRepository).deleteById(4L);
+        verify(cdnPurgeDispatcher).purge(List.of("term-4"));
     }
 
     @Test
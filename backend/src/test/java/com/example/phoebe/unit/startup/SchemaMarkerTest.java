@@ -0,0 +1,86 @@
+package com.example.phoebe.startup;
+
+import com.example.phoebe.config.StartupProperties;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SchemaMarkerTest {
+
+    private static final String FINGERPRINT = "3f2a";
+    private static final String SELECT_SQL = "SELECT fingerprint FROM schema_marker WHERE id = ?";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private Flyway flyway;
+
+    @Test
+    void shouldSkipMigrationWhenMarkerMatches() {
+        // Given
+        SchemaMarker marker = new SchemaMarker(jdbcTemplate, new StartupProperties(true, false), FINGERPRINT);
+        when(jdbcTemplate.queryForList(SELECT_SQL, String.class, 1)).thenReturn(List.of(FINGERPRINT));
+
+        // When
+        marker.migrate(flyway);
+        marker.recordVerifiedSchema();
+
+        // Then
+        verify(flyway, never()).migrate();
+        assertTrue(marker.isSchemaVerified());
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    void shouldMigrateAndRecordMarkerOnFreshDatabase() {
+        // Given
+        SchemaMarker marker = new SchemaMarker(jdbcTemplate, new StartupProperties(true, false), FINGERPRINT);
+        when(jdbcTemplate.queryForList(SELECT_SQL, String.class, 1))
+                .thenThrow(new BadSqlGrammarException("select", SELECT_SQL, new SQLException("no table")));
+        when(jdbcTemplate.update(eq("UPDATE schema_marker SET fingerprint = ?, verified_at = ? WHERE id = ?"),
+                any(Object[].class))).thenReturn(0);
+
+        // When
+        marker.migrate(flyway);
+        boolean verifiedBeforeStart = marker.isSchemaVerified();
+        marker.recordVerifiedSchema();
+
+        // Then
+        verify(flyway).migrate();
+        assertFalse(verifiedBeforeStart);
+        verify(jdbcTemplate).update(eq("INSERT INTO schema_marker (id, fingerprint, verified_at) VALUES (?, ?, ?)"),
+                any(Object[].class));
+    }
+
+    @Test
+    void shouldNotTouchDatabaseInTrainingRun() {
+        // Given
+        SchemaMarker marker = new SchemaMarker(jdbcTemplate, new StartupProperties(true, true), FINGERPRINT);
+
+        // When
+        marker.migrate(flyway);
+        marker.recordVerifiedSchema();
+
+        // Then
+        verifyNoInteractions(flyway, jdbcTemplate);
+    }
+}
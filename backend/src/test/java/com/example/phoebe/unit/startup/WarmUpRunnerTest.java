@@ -0,0 +1,109 @@
+package com.example.phoebe.startup;
+
+import com.example.phoebe.compression.ResponseCompressor;
+import com.example.phoebe.config.CompressionProperties;
+import com.example.phoebe.config.WarmUpProperties;
+import com.example.phoebe.dto.response.ChannelSettingsDto;
+import com.example.phoebe.dto.response.NewsDto;
+import com.example.phoebe.service.ChannelSettingsService;
+import com.example.phoebe.service.NavigationService;
+import com.example.phoebe.service.NewsService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WarmUpRunnerTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private NewsService newsService;
+
+    @Mock
+    private NavigationService navigationService;
+
+    @Mock
+    private ChannelSettingsService channelSettingsService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final ResponseCompressor compressor = new ResponseCompressor(CompressionProperties.defaults());
+
+    @Test
+    void shouldPreloadRecentArticlesAndRunConfiguredIterations() {
+        // Given
+        WarmUpRunner runner = runner(new WarmUpProperties(true, 2, 3, true));
+        when(newsService.findAllPublished(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(news(7L), news(9L)), PageRequest.of(0, 2), 2));
+        when(newsService.findPublishedById(any())).thenAnswer(invocation -> news(invocation.getArgument(0)));
+        when(navigationService.getMainMenu()).thenReturn(List.of());
+        when(channelSettingsService.getSettings()).thenReturn(new ChannelSettingsDto(
+                "Dniester", null, null, null, null, null, "[]", null));
+
+        // When
+        List<Long> cached = runner.preloadCaches();
+        int iterations = runner.exerciseReadPaths(cached);
+
+        // Then
+        assertEquals(List.of(7L, 9L), cached);
+        assertEquals(3, iterations);
+        verify(newsService).findAllPublished(PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "publicationDate")));
+        verify(newsService, times(3)).findPublishedById(7L);
+        verify(newsService, times(2)).findPublishedById(9L);
+        verify(channelSettingsService, times(4)).getSettings();
+    }
+
+    @Test
+    void shouldNotFailStartupWhenDatabaseIsUnavailable() {
+        // Given
+        WarmUpRunner runner = runner(WarmUpProperties.defaults());
+        when(newsService.findAllPublished(any(Pageable.class))).thenThrow(new IllegalStateException("db down"));
+
+        // When / Then
+        assertDoesNotThrow(() -> runner.run(new DefaultApplicationArguments()));
+    }
+
+    @Test
+    void shouldDoNothingWhenDisabled() {
+        // Given
+        WarmUpRunner runner = runner(new WarmUpProperties(false, 100, 50, true));
+
+        // When
+        runner.run(new DefaultApplicationArguments());
+
+        // Then
+        verifyNoInteractions(dataSource, newsService, navigationService, channelSettingsService);
+    }
+
+    private WarmUpRunner runner(WarmUpProperties properties) {
+        return new WarmUpRunner(properties, dataSource, newsService, navigationService, channelSettingsService,
+                objectMapper, compressor);
+    }
+
+    private static NewsDto news(Long id) {
+        NewsDto dto = new NewsDto();
+        dto.setId(id);
+        dto.setTitle("Article " + id);
+        return dto;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.phoebe.taxonomy;
+
+import com.example.phoebe.config.TermSuggestionProperties;
+import com.example.phoebe.dto.response.TermSuggestionDto;
+import com.example.phoebe.entity.Term;
+import com.example.phoebe.repository.TermRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TermSuggestionIndexTest {
+
+    private static final TermSuggestionDto SPORTS = new TermSuggestionDto(1L, "Sports", "category", 30);
+    private static final TermSuggestionDto SPACE = new TermSuggestionDto(2L, "Space", "tag", 70);
+    private static final TermSuggestionDto SPAIN = new TermSuggestionDto(3L, "Spain", "tag", 10);
+
+    @Mock
+    private TermRepository termRepository;
+
+    private TermSuggestionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TermSuggestionIndex(termRepository, TermSuggestionProperties.defaults());
+        when(termRepository.findSuggestions()).thenReturn(List.of(SPORTS, SPACE, SPAIN));
+        index.rebuild();
+    }
+
+    @Test
+    void shouldSuggestWithinOneVocabulary() {
+        // When / Then
+        assertEquals(List.of(SPACE, SPAIN), index.suggest("sp", "TAG", 10));
+        assertEquals(List.of(SPORTS), index.suggest("sp", "category", 10));
+        assertTrue(index.suggest("sp", "region", 10).isEmpty());
+    }
+
+    @Test
+    void shouldMergeVocabulariesByRank() {
+        // When / Then
+        assertEquals(List.of(SPACE, SPORTS), index.suggest("sp", null, 2));
+    }
+
+    @Test
+    void shouldApplySavedAndDeletedTermsKeepingUsage() {
+        // When
+        index.termSaved(new Term(3L, "España", "tag"));
+        index.termSaved(new Term(4L, "Spanish", "tag"));
+        index.termDeleted(2L);
+
+        // Then
+        assertEquals(List.of(new TermSuggestionDto(3L, "España", "tag", 10)), index.suggest("espa", "tag", 10));
+        assertEquals(List.of(new TermSuggestionDto(4L, "Spanish", "tag", 0)), index.suggest("sp", "tag", 10));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void shouldKeepPreviousIndexWhenRebuildFails() {
+        // Given
+        when(termRepository.findSuggestions()).thenThrow(new QueryTimeoutException("timeout"));
+
+        // When
+        index.rebuild();
+
+        // Then
+        assertEquals(List.of(SPORTS), index.suggest("spo", null, 10));
+    }
+}
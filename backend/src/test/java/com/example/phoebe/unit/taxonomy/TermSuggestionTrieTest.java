@@ -0,0 +1,71 @@
+package com.example.phoebe.taxonomy;
+
+import com.example.phoebe.dto.response.TermSuggestionDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TermSuggestionTrieTest {
+
+    private static final TermSuggestionDto EUROPE = new TermSuggestionDto(1L, "Europe", "category", 40);
+    private static final TermSuggestionDto EURO = new TermSuggestionDto(2L, "Euro 2024", "category", 90);
+    private static final TermSuggestionDto IVORY_COAST = new TermSuggestionDto(3L, "Côte d'Ivoire", "category", 5);
+    private static final TermSuggestionDto NEW_YORK = new TermSuggestionDto(4L, "New York", "category", 12);
+
+    private final TermSuggestionTrie trie = TermSuggestionTrie.of(List.of(EUROPE, EURO, IVORY_COAST, NEW_YORK), 10);
+
+    @Test
+    void shouldRankMatchesByUsage() {
+        // When
+        List<TermSuggestionDto> suggestions = trie.suggest("eur", 10);
+
+        // Then
+        assertEquals(List.of(EURO, EUROPE), suggestions);
+    }
+
+    @Test
+    void shouldIgnoreCaseAndAccents() {
+        // When / Then
+        assertEquals(List.of(IVORY_COAST), trie.suggest("COTE", 10));
+        assertEquals(List.of(IVORY_COAST), trie.suggest("côte d", 10));
+    }
+
+    @Test
+    void shouldMatchTheStartOfAnyWord() {
+        // When / Then
+        assertEquals(List.of(NEW_YORK), trie.suggest("york", 10));
+        assertEquals(List.of(IVORY_COAST), trie.suggest("ivo", 10));
+        assertTrue(trie.suggest("ork", 10).isEmpty());
+    }
+
+    @Test
+    void shouldKeepOnlyTheBestTermsPerPrefix() {
+        // Given
+        List<TermSuggestionDto> tags = IntStream.rangeClosed(1, 50)
+                .mapToObj(i -> new TermSuggestionDto((long) i, "Tag " + i, "tag", i))
+                .toList();
+
+        // When
+        TermSuggestionTrie tagTrie = TermSuggestionTrie.of(tags, 5);
+
+        // Then
+        assertEquals(List.of(50L, 49L, 48L), tagTrie.suggest("tag", 3).stream().map(TermSuggestionDto::id).toList());
+        assertEquals(5, tagTrie.suggest("", 20).size());
+    }
+
+    @Test
+    void shouldListTermMatchingThroughTwoWordsOnce() {
+        // Given
+        TermSuggestionDto arts = new TermSuggestionDto(5L, "Art of Arts", "tag", 1);
+
+        // When
+        TermSuggestionTrie tagTrie = TermSuggestionTrie.of(List.of(arts), 10);
+
+        // Then
+        assertEquals(List.of(arts), tagTrie.suggest("art", 10));
+    }
+}
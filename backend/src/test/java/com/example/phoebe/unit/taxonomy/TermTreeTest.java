@@ -0,0 +1,66 @@
+package com.example.phoebe.taxonomy;
+
+import com.example.phoebe.entity.TermClosure;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TermTreeTest {
+
+    // World (1) > Europe (2) > France (3); World (1) > Asia (4); Sports (5)
+    private static final List<TermClosure> ROWS = List.of(
+            new TermClosure(1L, 1L, 0), new TermClosure(2L, 2L, 0), new TermClosure(3L, 3L, 0),
+            new TermClosure(4L, 4L, 0), new TermClosure(5L, 5L, 0),
+            new TermClosure(1L, 2L, 1), new TermClosure(2L, 3L, 1), new TermClosure(1L, 3L, 2),
+            new TermClosure(1L, 4L, 1));
+
+    @Test
+    void shouldExpandSubtreeIncludingTheTermItself() {
+        // When
+        TermTree tree = TermTree.of(ROWS);
+
+        // Then
+        assertEquals(List.of(1L, 2L, 3L, 4L), tree.subtreeOf(1L));
+        assertEquals(List.of(2L, 3L), tree.subtreeOf(2L));
+        assertEquals(List.of(5L), tree.subtreeOf(5L));
+        assertEquals(5, tree.size());
+    }
+
+    @Test
+    void shouldResolveParentsAndChildren() {
+        // When
+        TermTree tree = TermTree.of(ROWS);
+
+        // Then
+        assertEquals(Optional.of(2L), tree.parentOf(3L));
+        assertEquals(Optional.empty(), tree.parentOf(1L));
+        assertEquals(List.of(2L, 4L), tree.childrenOf(1L));
+        assertEquals(List.of(), tree.childrenOf(3L));
+    }
+
+    @Test
+    void shouldMergeOverlappingSubtreesWithoutDuplicates() {
+        // When
+        TermTree tree = TermTree.of(ROWS);
+
+        // Then
+        assertEquals(List.of(2L, 3L, 5L), tree.subtreesOf(List.of(5L, 3L, 2L)));
+        assertEquals(List.of(1L, 2L, 3L, 4L), tree.subtreesOf(List.of(2L, 1L)));
+    }
+
+    @Test
+    void shouldReturnNothingForUnknownTerms() {
+        // When
+        TermTree tree = TermTree.of(ROWS);
+
+        // Then
+        assertFalse(tree.contains(99L));
+        assertTrue(tree.subtreeOf(99L).isEmpty());
+        assertTrue(TermTree.empty().subtreesOf(List.of(1L)).isEmpty());
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.phoebe.tracing;
+
+import com.example.phoebe.config.TracingProperties;
+import com.example.phoebe.filter.TracingFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TracingTest {
+
+    interface ArticleRepository extends Repository<Object, Long> {
+        String findTitle(Long id);
+    }
+
+    /**
+     * A named class rather than a lambda: AspectJ cannot always resolve a lambda's hidden class by name,
+     * and then silently matches no advice.
+     */
+    static class InMemoryArticleRepository implements ArticleRepository {
+        @Override
+        public String findTitle(Long id) {
+            return "Title " + id;
+        }
+    }
+
+    @Test
+    void shouldReturnNoopSpanWhenRequestIsNotSampled() {
+        assertFalse(Tracing.isActive());
+        assertSame(Span.NOOP, Tracing.start("db"));
+    }
+
+    @Test
+    void shouldRecordRepositoryCallsThroughAspect() {
+        // Given
+        AspectJProxyFactory factory = new AspectJProxyFactory(new InMemoryArticleRepository());
+        factory.addInterface(ArticleRepository.class);
+        factory.addAspect(new TracingAspect());
+        ArticleRepository repository = factory.getProxy();
+        RequestTrace trace = new RequestTrace("GET", "/api/public/news/1");
+
+        // When
+        Tracing.begin(trace);
+        try {
+            repository.findTitle(1L);
+            repository.findTitle(2L);
+        } finally {
+            Tracing.end();
+        }
+
+        // Then
+        List<SpanRecord> spans = trace.toRecord(200).spans();
+        assertEquals(2, spans.size());
+        assertEquals("db", spans.get(0).name());
+        assertEquals("ArticleRepository.findTitle", spans.get(0).detail());
+        assertTrue(trace.serverTiming().startsWith("db;desc=\"2 calls\";dur="));
+    }
+
+    @Test
+    void shouldAddServerTimingAndExportSampledRequests() throws ServletException, IOException {
+        // Given
+        TracingProperties properties = new TracingProperties(true, 0.0, true, true,
+                TracingProperties.Exporter.MEMORY, 10, "traces.jsonl");
+        InMemoryTraceExporter exporter = new InMemoryTraceExporter(10);
+        TracingFilter filter = new TracingFilter(properties, exporter);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/public/news/1");
+        request.addHeader(TracingFilter.SAMPLE_HEADER, "true");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, handling());
+
+        // Then
+        String serverTiming = response.getHeader(TracingFilter.SERVER_TIMING_HEADER);
+        assertTrue(serverTiming.startsWith("service;dur="), serverTiming);
+        assertTrue(serverTiming.contains(", total;dur="), serverTiming);
+        assertEquals("{\"id\":1}", response.getContentAsString());
+        TraceRecord trace = exporter.recent().get(0);
+        assertEquals(response.getHeader(TracingFilter.TRACE_ID_HEADER), trace.traceId());
+        assertEquals(List.of("db", "service"), trace.spans().stream().map(SpanRecord::name).toList());
+        assertEquals(1, trace.spans().get(0).depth());
+        assertFalse(Tracing.isActive());
+    }
+
+    @Test
+    void shouldNotTouchUnsampledRequests() throws ServletException, IOException {
+        // Given
+        InMemoryTraceExporter exporter = new InMemoryTraceExporter(10);
+        TracingFilter filter = new TracingFilter(TracingProperties.defaults(), exporter);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/public/news/1");
+        request.addHeader(TracingFilter.SAMPLE_HEADER, "true");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, handling());
+
+        // Then
+        assertNull(response.getHeader(TracingFilter.SERVER_TIMING_HEADER));
+        assertTrue(exporter.recent().isEmpty());
+    }
+
+    private static FilterChain handling() {
+        return (request, response) -> {
+            try (Span service = Tracing.start("service")) {
+                try (Span db = Tracing.start("db", "NewsRepository.findByIdAndPublished")) {
+                    response.setContentType("application/json");
+                }
+            }
+            response.getOutputStream().write("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.phoebe.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AfterCommitTest {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldRunImmediatelyOutsideTransaction() {
+        // Given
+        AtomicInteger runs = new AtomicInteger();
+
+        // When
+        AfterCommit.run(runs::incrementAndGet);
+
+        // Then
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void shouldRunOnlyAfterCommit() {
+        // Given
+        AtomicInteger runs = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        AfterCommit.run(runs::incrementAndGet);
+
+        // Then
+        assertEquals(0, runs.get());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, runs.get());
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.phoebe.validation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HtmlSanitizerTest {
+
+    private final HtmlSanitizer articlePolicy = HtmlSanitizer.builder()
+            .allowTags("p", "b", "em", "a", "div", "iframe")
+            .allowAttributes("a", "href")
+            .convertYouTubeLinks()
+            .build();
+
+    private final HtmlSanitizer headerPolicy = HtmlSanitizer.builder()
+            .allowTags("p", "b")
+            .convertYouTubeLinks()
+            .build();
+
+    @Test
+    void shouldDropDisallowedTagsAndScriptBodies() {
+        // Given
+        String input = "<P class=\"x\">Hi <script>alert('x')</script><span>there</span></P>";
+
+        // When
+        HtmlSanitizer.Result result = articlePolicy.sanitize(input);
+
+        // Then
+        assertFalse(result.clean());
+        assertEquals("<p>Hi there</p>", result.html());
+    }
+
+    @Test
+    void shouldKeepAllowedAttributesWithSafeUrlsOnly() {
+        // Given
+        String input = "<a href=\"https://example.com/?q=1\" onclick=\"x()\">ok</a>"
+                + "<a href=\" javascript:alert(1)\">bad</a>";
+
+        // When
+        HtmlSanitizer.Result result = articlePolicy.sanitize(input);
+
+        // Then - dropping attributes is not a tag violation
+        assertTrue(result.clean());
+        assertEquals("<a href=\"https://example.com/?q=1\">ok</a><a>bad</a>", result.html());
+    }
+
+    @Test
+    void shouldKeepSlashesInUnquotedAttributeValues() {
+        // Given
+        String input = "<a href=http://example.com/path>ok</a><a href=/relative/>self-closed</a>";
+
+        // When
+        HtmlSanitizer.Result result = articlePolicy.sanitize(input);
+
+        // Then
+        assertEquals("<a href=\"http://example.com/path\">ok</a><a href=\"/relative\">self-closed</a>",
+                result.html());
+    }
+
+    @Test
+    void shouldRewriteYouTubeLinksInTheSamePass() {
+        // Given
+        String input = "<p>Watch https://youtu.be/Q_eG_S-oJ6w now</p>";
+
+        // When
+        HtmlSanitizer.Result result = articlePolicy.sanitize(input);
+
+        // Then
+        assertTrue(result.clean());
+        assertEquals(1, result.embedCount());
+        assertTrue(result.html().contains("https://www.youtube.com/embed/Q_eG_S-oJ6w\""));
+        assertTrue(result.html().endsWith("</iframe></div> now</p>"));
+    }
+
+    @Test
+    void shouldTreatEmbedOutsideAllowlistAsViolation() {
+        // Given
+        String input = "<p>https://www.youtube.com/watch?v=Q_eG_S-oJ6w</p>";
+
+        // When / Then
+        assertFalse(headerPolicy.isSafe(input));
+        assertEquals(input, headerPolicy.sanitize(input).html());
+    }
+
+    @Test
+    void shouldEscapeStrayAngleBrackets() {
+        // Given
+        String input = "1 < 2 and <!-- note --> <b>x</b> <unterminated";
+
+        // When
+        HtmlSanitizer.Result result = headerPolicy.sanitize(input);
+
+        // Then
+        assertTrue(result.clean());
+        assertEquals("1 &lt; 2 and &lt;!-- note --> <b>x</b> &lt;unterminated", result.html());
+    }
+
+    @Test
+    void shouldConvertLinksWithoutTouchingMarkup() {
+        // Given
+        String input = "<span>https://youtu.be/Q_eG_S-oJ6w</span> https://youtu.be/short";
+
+        // When
+        String result = HtmlSanitizer.convertYouTubeLinks(input);
+
+        // Then
+        assertTrue(result.startsWith("<span><div style="));
+        assertTrue(result.endsWith("</iframe></div></span> https://youtu.be/short"));
+    }
+}
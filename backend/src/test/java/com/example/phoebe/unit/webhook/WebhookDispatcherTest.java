@@ -0,0 +1,273 @@
+package com.example.phoebe.webhook;
+
+import com.example.phoebe.config.WebhookProperties;
+import com.example.phoebe.entity.ChangeEvent;
+import com.example.phoebe.entity.WebhookSubscription;
+import com.example.phoebe.repository.WebhookSubscriptionRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the dispatcher against a local HTTP stub of the receivers.
+ */
+@ExtendWith(MockitoExtension.class)
+class WebhookDispatcherTest {
+
+    @Mock
+    private WebhookSubscriptionRepository repository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final List<Received> received = Collections.synchronizedList(new ArrayList<>());
+    private final Set<String> failingPaths = ConcurrentHashMap.newKeySet();
+    private HttpServer server;
+
+    private record Received(String path, JsonNode payload, String signature, byte[] body) {
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = exchange.getRequestBody().readAllBytes();
+            String path = exchange.getRequestURI().getPath();
+            received.add(new Received(path, objectMapper.readTree(body),
+                    exchange.getRequestHeaders().getFirst(WebhookDispatcher.SIGNATURE_HEADER), body));
+            exchange.sendResponseHeaders(failingPaths.contains(path) ? 503 : 204, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldCoalesceChangesOfAnArticleIntoOneSignedDelivery() throws Exception {
+        // Given
+        subscriptions(subscription(1L, "/partner", "secret"));
+        WebhookDispatcher dispatcher = dispatcher(Duration.ZERO, 100, 10, 5, Duration.ZERO);
+        dispatcher.articlesChanged(List.of(1L), ChangeEvent.ChangeType.UPDATED);
+        dispatcher.articlesChanged(List.of(2L), ChangeEvent.ChangeType.PUBLISHED);
+        dispatcher.articlesChanged(List.of(1L), ChangeEvent.ChangeType.UNPUBLISHED);
+
+        // When
+        flushUntil(dispatcher, () -> received.size() == 1);
+
+        // Then
+        JsonNode events = received.get(0).payload().get("events");
+        assertEquals(2, events.size());
+        assertEquals(1L, events.get(0).get("articleId").asLong());
+        assertEquals("UNPUBLISHED", events.get(0).get("change").asText());
+        assertEquals("PUBLISHED", events.get(1).get("change").asText());
+        assertFalse(received.get(0).payload().get("resyncRequired").asBoolean());
+        assertEquals("sha256=" + WebhookDispatcher.sign(received.get(0).body(), "secret"), received.get(0).signature());
+    }
+
+    @Test
+    void shouldKeepPublishedWhenArticleIsEditedRightAfterPublishing() throws Exception {
+        // Given
+        subscriptions(subscription(1L, "/partner", null));
+        WebhookDispatcher dispatcher = dispatcher(Duration.ZERO, 100, 10, 5, Duration.ZERO);
+        dispatcher.articlesChanged(List.of(1L), ChangeEvent.ChangeType.PUBLISHED);
+        dispatcher.articlesChanged(List.of(1L), ChangeEvent.ChangeType.UPDATED);
+
+        // When
+        flushUntil(dispatcher, () -> received.size() == 1);
+
+        // Then
+        JsonNode events = received.get(0).payload().get("events");
+        assertEquals(1, events.size());
+        assertEquals("PUBLISHED", events.get(0).get("change").asText());
+    }
+
+    @Test
+    void shouldNotAnnounceArticlePublishedAndRemovedWithinWindow() throws Exception {
+        // Given
+        subscriptions(subscription(1L, "/partner", null));
+        WebhookDispatcher dispatcher = dispatcher(Duration.ZERO, 100, 10, 5, Duration.ZERO);
+        dispatcher.articlesChanged(List.of(1L), ChangeEvent.ChangeType.PUBLISHED);
+        dispatcher.articlesChanged(List.of(1L), ChangeEvent.ChangeType.DELETED);
+        dispatcher.articlesChanged(List.of(2L), ChangeEvent.ChangeType.UNPUBLISHED);
+        dispatcher.articlesChanged(List.of(2L), ChangeEvent.ChangeType.PUBLISHED);
+
+        // When
+        flushUntil(dispatcher, () -> received.size() == 1);
+
+        // Then
+        JsonNode events = received.get(0).payload().get("events");
+        assertEquals(1, events.size());
+        assertEquals(2L, events.get(0).get("articleId").asLong());
+        assertEquals("UPDATED", events.get(0).get("change").asText());
+    }
+
+    @Test
+    void shouldHoldChangesDuringCoalescingWindow() {
+        // Given
+        subscriptions(subscription(1L, "/partner", null));
+        WebhookDispatcher dispatcher = dispatcher(Duration.ofHours(1), 100, 10, 5, Duration.ZERO);
+        dispatcher.articlesChanged(List.of(1L), ChangeEvent.ChangeType.UPDATED);
+
+        // When
+        dispatcher.flush();
+
+        // Then
+        assertTrue(received.isEmpty());
+        assertEquals(1, dispatcher.pendingCount());
+    }
+
+    @Test
+    void shouldSendQueuedEventsInBatchesOneAtATime() throws Exception {
+        // Given
+        subscriptions(subscription(1L, "/partner", null));
+        WebhookDispatcher dispatcher = dispatcher(Duration.ZERO, 2, 10, 5, Duration.ZERO);
+        dispatcher.articlesChanged(List.of(1L, 2L, 3L), ChangeEvent.ChangeType.DELETED);
+
+        // When
+        flushUntil(dispatcher, () -> received.size() == 2);
+
+        // Then
+        assertEquals(2, received.get(0).payload().get("events").size());
+        assertEquals(3L, received.get(1).payload().get("events").get(0).get("articleId").asLong());
+        assertEquals(0, dispatcher.pendingCount());
+    }
+
+    @Test
+    void shouldIsolateFailingEndpointAndAskItToResyncAfterDroppingEvents() throws Exception {
+        // Given
+        subscriptions(subscription(1L, "/healthy", null), subscription(2L, "/failing", null));
+        failingPaths.add("/failing");
+        WebhookDispatcher dispatcher = dispatcher(Duration.ZERO, 100, 10, 2, Duration.ofMillis(200));
+        dispatcher.articlesChanged(List.of(1L), ChangeEvent.ChangeType.PUBLISHED);
+
+        // When: the failing endpoint is retried once, then its event is dropped; the backoff delays the next round
+        flushUntil(dispatcher, () -> countFor("/failing") == 2 && dispatcher.pendingCount() == 0);
+        failingPaths.clear();
+        flushUntil(dispatcher, () -> countFor("/failing") == 3);
+
+        // Then
+        assertEquals(1, countFor("/healthy"));
+        JsonNode resync = received.stream().filter(request -> request.path().equals("/failing"))
+                .reduce((first, second) -> second).orElseThrow().payload();
+        assertTrue(resync.get("resyncRequired").asBoolean());
+        assertEquals(0, resync.get("events").size());
+    }
+
+    @Test
+    void shouldMergeChangesQueuedWhileEndpointFails() throws Exception {
+        // Given
+        subscriptions(subscription(1L, "/failing", null));
+        failingPaths.add("/failing");
+        WebhookDispatcher dispatcher = dispatcher(Duration.ZERO, 100, 10, 5, Duration.ofMillis(200));
+        dispatcher.articlesChanged(List.of(1L), ChangeEvent.ChangeType.PUBLISHED);
+        flushUntil(dispatcher, () -> countFor("/failing") == 1);
+        failingPaths.clear();
+
+        // When: the article is edited while its announcement waits to be retried
+        dispatcher.articlesChanged(List.of(1L), ChangeEvent.ChangeType.UPDATED);
+        flushUntil(dispatcher, () -> countFor("/failing") == 2);
+
+        // Then: the receiver never saw the article, so it is still announced as published
+        JsonNode events = received.get(1).payload().get("events");
+        assertEquals(1, events.size());
+        assertEquals("PUBLISHED", events.get(0).get("change").asText());
+    }
+
+    @Test
+    void shouldDropChangesBeyondQueueBoundAndAskForResync() throws Exception {
+        // Given
+        subscriptions(subscription(1L, "/partner", null));
+        WebhookDispatcher dispatcher = dispatcher(Duration.ZERO, 100, 1, 5, Duration.ZERO);
+        dispatcher.articlesChanged(List.of(1L, 2L), ChangeEvent.ChangeType.PUBLISHED);
+
+        // When
+        flushUntil(dispatcher, () -> received.size() == 1);
+
+        // Then
+        JsonNode payload = received.get(0).payload();
+        assertEquals(1, payload.get("events").size());
+        assertTrue(payload.get("resyncRequired").asBoolean());
+    }
+
+    @Test
+    void shouldQueueChangesOnlyAfterCommit() {
+        // Given
+        WebhookDispatcher dispatcher = dispatcher(Duration.ofHours(1), 100, 10, 5, Duration.ZERO);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        dispatcher.articlesChanged(List.of(1L), ChangeEvent.ChangeType.CREATED);
+
+        // Then
+        assertEquals(0, dispatcher.pendingCount());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, dispatcher.pendingCount());
+    }
+
+    private WebhookDispatcher dispatcher(Duration coalesceWindow, int batchSize, int maxQueued, int maxAttempts,
+                                         Duration retryBackoff) {
+        WebhookProperties properties = new WebhookProperties(true, coalesceWindow, Duration.ofSeconds(1), batchSize,
+                maxQueued, maxQueued, Duration.ofSeconds(5), maxAttempts, retryBackoff, Duration.ofSeconds(1),
+                Duration.ofMinutes(1));
+        return new WebhookDispatcher(repository, properties, objectMapper);
+    }
+
+    private void subscriptions(WebhookSubscription... subscriptions) {
+        when(repository.findByActiveTrue()).thenReturn(List.of(subscriptions));
+    }
+
+    private WebhookSubscription subscription(Long id, String path, String secret) {
+        WebhookSubscription subscription = new WebhookSubscription("partner", "http://127.0.0.1:"
+                + server.getAddress().getPort() + path, secret, true, LocalDateTime.now());
+        ReflectionTestUtils.setField(subscription, "id", id);
+        return subscription;
+    }
+
+    private long countFor(String path) {
+        synchronized (received) {
+            return received.stream().filter(request -> request.path().equals(path)).count();
+        }
+    }
+
+    /**
+     * Runs dispatch rounds until the condition holds; a round sends nothing while a delivery is in flight.
+     */
+    private static void flushUntil(WebhookDispatcher dispatcher, BooleanSupplier condition)
+            throws InterruptedException {
+        for (int i = 0; i < 300 && !condition.getAsBoolean(); i++) {
+            dispatcher.flush();
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
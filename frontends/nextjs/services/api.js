@@ -17,6 +17,10 @@ export const getNewsById = (id) => {
   return api.get(`/news/${id}`);
 };
 
+export const getRelatedNews = (id, limit = 5) => {
+  return api.get(`/news/${id}/related?limit=${limit}`);
+};
+
 export const getNewsByTerm = (termId, page = 0, size = 10) => {
   return api.get(`/news/term/${termId}?page=${page}&size=${size}`);
 };
@@ -55,6 +59,8 @@ export const admin = {
   // Taxonomy
   getTerms: () => api.get('/admin/terms'),
   getTermById: (id) => api.get(`/admin/terms/${id}`),
+  suggestTerms: (q, vocabulary, limit = 10) =>
+    api.get('/admin/terms/suggest', { params: { q, vocabulary, limit } }),
   createTerm: (data) => api.post('/admin/terms', data),
   updateTerm: (id, data) => api.put(`/admin/terms/${id}`, data),
   deleteTerm: (id) => api.delete(`/admin/terms/${id}`),